@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# [플랫폼 스레드 vs 가상 스레드 부하 테스트 비교]
+# - 같은 jar를 기본 모드와 virtual 프로파일로 한 번씩 띄우고, 각각 food-lookup.js를 실행해서 결과를 표로 비교합니다.
+# - 필요: Java 21, k6, jq, Redis(localhost:6379, 음식 조회 2차 캐시)
+# 실행: loadtest/compare.sh            (기본: VUS=2000, DURATION=60s)
+#       VUS=5000 DURATION=120s loadtest/compare.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+VUS=${VUS:-2000}
+DURATION=${DURATION:-60s}
+PORT=${PORT:-8080}
+OUT=build/loadtest
+mkdir -p "$OUT"
+
+# 파일 디스크립터 제한은 자식 프로세스가 시작할 때 물려받으므로, JVM(연결 수천 개)과 k6를 띄우기 전에 올려둠
+ulimit -n 65535 || true
+
+./gradlew -q bootJar -PjavaVersion=21
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+
+run() {
+    local mode=$1
+    local profiles=$2
+    echo "=== ${mode} (profiles: ${profiles:-default}) ==="
+
+    # 시작할 때 foodJob을 실행해서 부하 테스트 대상 데이터를 적재 (H2 메모리 DB 기준)
+    java -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profiles" \
+        --spring.batch.job.enabled=true --spring.batch.job.name=foodJob > "$OUT/${mode}.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    until curl -sf "http://localhost:${PORT}/actuator/health/ping" > /dev/null; do
+        sleep 1
+    done
+    k6 run --quiet -e BASE_URL="http://localhost:${PORT}" -e VUS="$VUS" -e DURATION="$DURATION" \
+        -e SUMMARY="$OUT/${mode}.json" loadtest/food-lookup.js
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run platform ""
+run virtual virtual
+
+printf '\n%-10s %10s %8s %12s %12s %12s\n' mode rps fail% p50\(ms\) p99\(ms\) lookup-p99
+for mode in platform virtual; do
+    jq -r --arg mode "$mode" \
+        '[$mode, (.rps|floor), (.failRate*100*100|floor/100), (.all["p(50)"]*10|floor/10), (.all["p(99)"]*10|floor/10), ((.lookup["p(99)"] // 0)*10|floor/10)] | @tsv' \
+        "$OUT/${mode}.json" | awk -F'\t' '{ printf "%-10s %10s %8s %12s %12s %12s\n", $1, $2, $3, $4, $5, $6 }'
+done
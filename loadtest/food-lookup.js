@@ -0,0 +1,83 @@
+// [음식 조회 API 부하 테스트 (k6)]
+// - /foods/{foodCode}, /foods, /foods/search 를 섞어서 동시 접속 VUS명이 DURATION 동안 계속 호출합니다.
+// - 결과 요약(처리량, p99 지연)은 SUMMARY 파일(JSON)로 남깁니다. (compare.sh에서 플랫폼/가상 스레드 결과 비교에 사용)
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e VUS=2000 -e DURATION=60s loadtest/food-lookup.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SUMMARY = __ENV.SUMMARY || 'build/loadtest/summary.json';
+
+export const options = {
+    scenarios: {
+        lookup: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 2000),
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    // 요청 종류별 지연 분포를 따로 보기 위한 태그별 지표
+    thresholds: {
+        'http_req_duration{api:lookup}': ['p(99)>=0'],
+        'http_req_duration{api:list}': ['p(99)>=0'],
+        'http_req_duration{api:search}': ['p(99)>=0'],
+    },
+};
+
+const SEARCH_TERMS = ['김치', '밥', '국', '찌개', '닭', '우유', '라면', '빵'];
+
+// 테스트 시작 전에 실제 식품코드를 한 번 가져와서 조회 대상으로 사용
+export function setup() {
+    const codes = [];
+    let cursor = null;
+    while (codes.length < 1000) {
+        const res = http.get(`${BASE_URL}/foods?size=100${cursor ? `&cursor=${cursor}` : ''}`);
+        if (res.status !== 200) {
+            break;
+        }
+        const page = res.json('data');
+        page.content.forEach((food) => codes.push(food.foodCode));
+        if (!page.cursorInfo.hasNext) {
+            break;
+        }
+        cursor = page.cursorInfo.nextCursor;
+    }
+    if (codes.length === 0) {
+        throw new Error('조회할 음식이 없습니다. 먼저 foodJob으로 데이터를 적재하세요.');
+    }
+    return { codes };
+}
+
+export default function (data) {
+    const r = Math.random();
+    let res;
+    if (r < 0.8) {
+        const code = data.codes[Math.floor(Math.random() * data.codes.length)];
+        res = http.get(`${BASE_URL}/foods/${code}`, { tags: { api: 'lookup' } });
+    } else if (r < 0.9) {
+        res = http.get(`${BASE_URL}/foods?size=20`, { tags: { api: 'list' } });
+    } else {
+        const q = SEARCH_TERMS[Math.floor(Math.random() * SEARCH_TERMS.length)];
+        res = http.get(`${BASE_URL}/foods/search?q=${encodeURIComponent(q)}`, { tags: { api: 'search' } });
+    }
+    check(res, { 'status 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    const m = data.metrics;
+    const trend = (name) => (m[name] ? m[name].values : {});
+    const result = {
+        rps: m.http_reqs.values.rate,
+        failRate: m.http_req_failed.values.rate,
+        all: trend('http_req_duration'),
+        lookup: trend('http_req_duration{api:lookup}'),
+        list: trend('http_req_duration{api:list}'),
+        search: trend('http_req_duration{api:search}'),
+    };
+    return {
+        [SUMMARY]: JSON.stringify(result, null, 2),
+        stdout: `\nrps=${result.rps.toFixed(0)} fail=${(result.failRate * 100).toFixed(2)}% `
+            + `p99=${result.all['p(99)'].toFixed(1)}ms (lookup p99=${(result.lookup['p(99)'] || 0).toFixed(1)}ms)\n`,
+    };
+}
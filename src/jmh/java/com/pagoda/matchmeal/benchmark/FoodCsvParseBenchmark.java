@@ -0,0 +1,120 @@
+package com.pagoda.matchmeal.benchmark;
+
+import com.pagoda.matchmeal.batch.processor.FoodCsvItemProcessor;
+import com.pagoda.matchmeal.batch.reader.FoodCsvLineMapper;
+import com.pagoda.matchmeal.common.config.FoodBatchConfig;
+import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.batch.item.file.mapping.DefaultLineMapper;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [음식 CSV 파싱 벤치마크]
+ * - legacy: DelimitedLineTokenizer + BeanWrapperFieldSetMapper + 정규식(replaceAll) 기반 숫자 변환 (기존 방식)
+ * - current: FoodCsvLineMapper + FoodCsvItemProcessor (한 번 훑기 + 정규식 없는 숫자 변환)
+ * - 한 줄을 읽어서 Food 엔티티를 만들기까지의 비용(ns/row)을 비교합니다.
+ * - 할당량 비교: ./gradlew jmh -Pjmh.includes=FoodCsvParseBenchmark (gc 프로파일러 결과의 gc.alloc.rate.norm 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FoodCsvParseBenchmark {
+
+    private static final int LINE_POOL = 1024;
+
+    private String[] lines;
+    private int next;
+
+    private DefaultLineMapper<FoodCsvDto> legacyLineMapper;
+    private FoodCsvLineMapper lineMapper;
+    private FoodCsvItemProcessor processor;
+
+    @Setup
+    public void setUp() throws Exception {
+        lines = new String[LINE_POOL];
+        for (int i = 0; i < LINE_POOL; i++) {
+            lines[i] = SyntheticFoodCsv.line(i);
+        }
+
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+        tokenizer.setIncludedFields(Arrays.stream(FoodBatchConfig.FOOD_CSV_INCLUDED_FIELDS).mapToInt(Integer::intValue).toArray());
+        tokenizer.setNames(FoodBatchConfig.FOOD_CSV_FIELD_NAMES);
+
+        BeanWrapperFieldSetMapper<FoodCsvDto> fieldSetMapper = new BeanWrapperFieldSetMapper<>();
+        fieldSetMapper.setTargetType(FoodCsvDto.class);
+        fieldSetMapper.afterPropertiesSet();
+
+        legacyLineMapper = new DefaultLineMapper<>();
+        legacyLineMapper.setLineTokenizer(tokenizer);
+        legacyLineMapper.setFieldSetMapper(fieldSetMapper);
+
+        lineMapper = new FoodCsvLineMapper(FoodBatchConfig.FOOD_CSV_INCLUDED_FIELDS);
+        processor = new FoodCsvItemProcessor();
+    }
+
+    @Benchmark
+    public Food legacy() throws Exception {
+        String line = nextLine();
+        return legacyProcess(legacyLineMapper.mapLine(line, 0));
+    }
+
+    @Benchmark
+    public Food current() {
+        String line = nextLine();
+        return processor.process(lineMapper.mapLine(line, 0));
+    }
+
+    private String nextLine() {
+        String line = lines[next];
+        next = (next + 1) & (LINE_POOL - 1);
+        return line;
+    }
+
+    // ---------------- 기존(정규식) 변환 로직: 비교 기준용으로 그대로 옮겨둠 ----------------
+
+    private static Food legacyProcess(FoodCsvDto item) {
+        String rawServingSize = item.getServingSize();
+        String unit = "g";
+        if (rawServingSize != null && rawServingSize.toLowerCase().contains("ml")) {
+            unit = "ml";
+        }
+        return Food.builder()
+                .foodCode(item.getFoodCode())
+                .foodName(item.getFoodName().replace("_", " "))
+                .category(item.getCategory())
+                .servingSize(legacyParseDoubleSafe(rawServingSize))
+                .unit(unit)
+                .calories(legacyParseDoubleSafe(item.getCalories()))
+                .protein(legacyParseDoubleSafe(item.getProtein()))
+                .fat(legacyParseDoubleSafe(item.getFat()))
+                .carbohydrate(legacyParseDoubleSafe(item.getCarbohydrate()))
+                .build();
+    }
+
+    private static double legacyParseDoubleSafe(String value) {
+        if (value == null || value.trim().isEmpty() || value.equals("-") || value.equals("N/A")) {
+            return 0.0;
+        }
+        try {
+            String cleanValue = value.replace(",", "");
+            cleanValue = cleanValue.replaceAll("[^0-9.]", "");
+            if (cleanValue.isEmpty()) {
+                return 0.0;
+            }
+            return Double.parseDouble(cleanValue);
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.pagoda.matchmeal.benchmark;
+
+import com.pagoda.matchmeal.batch.reader.FoodCsvLineMapper;
+import com.pagoda.matchmeal.batch.reader.MappedFoodCsvItemReader;
+import com.pagoda.matchmeal.common.config.FoodBatchConfig;
+import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [음식 CSV Reader 처리량 벤치마크]
+ * - 가짜 CSV 파일(10k / 100k / 1M 행)을 처음부터 끝까지 읽는 시간(ms/파일)을 측정합니다.
+ * - flatFile: FlatFileItemReader + FoodCsvLineMapper (classpath CSV를 읽는 기본 Reader)
+ * - mapped: MappedFoodCsvItemReader (외부 파일 inputFile 파라미터용 Reader)
+ * - 실행: ./gradlew jmh -Pjmh.includes=FoodCsvReaderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FoodCsvReaderBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private Path csv;
+
+    @Setup
+    public void setUp() throws IOException {
+        csv = Files.createTempFile("food-bench-" + rows + "-", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            writer.write(SyntheticFoodCsv.HEADER);
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                writer.write(SyntheticFoodCsv.line(i));
+                writer.newLine();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csv);
+    }
+
+    @Benchmark
+    public int flatFile() throws Exception {
+        return readAll(new FlatFileItemReaderBuilder<FoodCsvDto>()
+                .name("foodReader")
+                .resource(new FileSystemResource(csv))
+                .encoding("UTF-8")
+                .linesToSkip(1)
+                .lineMapper(new FoodCsvLineMapper(FoodBatchConfig.FOOD_CSV_INCLUDED_FIELDS))
+                .build());
+    }
+
+    @Benchmark
+    public int mapped() throws Exception {
+        return readAll(new MappedFoodCsvItemReader(csv, new FoodCsvLineMapper(FoodBatchConfig.FOOD_CSV_INCLUDED_FIELDS)));
+    }
+
+    private static int readAll(ItemStreamReader<FoodCsvDto> reader) throws Exception {
+        reader.open(new ExecutionContext());
+        try {
+            int count = 0;
+            while (reader.read() != null) {
+                count++;
+            }
+            return count;
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.pagoda.matchmeal.benchmark;
+
+import com.pagoda.matchmeal.batch.writer.FoodMultiRowUpsertWriter;
+import com.pagoda.matchmeal.mapper.FoodBatchMapper;
+import com.pagoda.matchmeal.model.entity.Food;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.batch.builder.MyBatisBatchItemWriterBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [음식 Writer 벤치마크]
+ * - 기존 MyBatisBatchItemWriter(행 단위 Upsert JDBC 배치)와 FoodMultiRowUpsertWriter(multi-row Upsert)의
+ *      초당 저장 행 수(rows/sec)를 H2(MySQL 모드)에서 비교합니다.
+ * - 한 번의 호출이 Chunk 1개(1,000건)를 하나의 트랜잭션으로 저장하므로, 결과(ops/s)가 곧 rows/sec 입니다.
+ * - 실행: ./gradlew jmh -Pjmh.includes=FoodWriterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FoodWriterBenchmark {
+
+    private static final int CHUNK_SIZE = 1000;
+    /** 처음 한 바퀴는 INSERT, 그 이후로는 UPDATE가 섞이도록 Chunk 몇 개를 돌려가며 사용합니다. */
+    private static final int CHUNK_POOL = 20;
+
+    @Param({"batch", "multi-row"})
+    public String writerMode;
+
+    @Param({"500"})
+    public int rowsPerStatement;
+
+    private DriverManagerDataSource dataSource;
+    private TransactionTemplate transactionTemplate;
+    private ItemWriter<Food> writer;
+    private List<Chunk<Food>> chunks;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:foodWriterBench;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        SqlSessionFactory sqlSessionFactory = createSqlSessionFactory();
+        if ("multi-row".equals(writerMode)) {
+            FoodBatchMapper mapper = new SqlSessionTemplate(sqlSessionFactory).getMapper(FoodBatchMapper.class);
+            writer = new FoodMultiRowUpsertWriter(mapper, rowsPerStatement);
+        } else {
+            writer = new MyBatisBatchItemWriterBuilder<Food>()
+                    .sqlSessionFactory(sqlSessionFactory)
+                    .statementId("com.pagoda.matchmeal.mapper.FoodBatchMapper.insertFood")
+                    .build();
+        }
+
+        chunks = new ArrayList<>(CHUNK_POOL);
+        for (int c = 0; c < CHUNK_POOL; c++) {
+            chunks.add(createChunk(c));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new JdbcTemplate(dataSource).execute("DROP TABLE foods");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK_SIZE)
+    public void writeChunk() {
+        Chunk<Food> chunk = chunks.get(next);
+        next = (next + 1) % CHUNK_POOL;
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                writer.write(chunk);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private SqlSessionFactory createSqlSessionFactory() throws Exception {
+        org.apache.ibatis.session.Configuration configuration = new org.apache.ibatis.session.Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+
+        SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setConfiguration(configuration);
+        factoryBean.setMapperLocations(new ClassPathResource("mappers/FoodBatchMapper.xml"));
+        return factoryBean.getObject();
+    }
+
+    private Chunk<Food> createChunk(int chunkNo) {
+        List<Food> foods = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            int id = chunkNo * CHUNK_SIZE + i;
+            foods.add(Food.builder()
+                    .foodCode("BENCH-" + id)
+                    .foodName("벤치마크 음식 " + id)
+                    .category("곡류 및 그 제품")
+                    .servingSize(100.0)
+                    .unit("g")
+                    .calories(100.0 + (id % 500))
+                    .protein(id % 40)
+                    .fat(id % 30)
+                    .carbohydrate(id % 80)
+                    .build());
+        }
+        return new Chunk<>(foods);
+    }
+}
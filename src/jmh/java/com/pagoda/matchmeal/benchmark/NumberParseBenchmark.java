@@ -0,0 +1,41 @@
+package com.pagoda.matchmeal.benchmark;
+
+import com.pagoda.matchmeal.common.util.NumberParseUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [숫자 변환 벤치마크]
+ * - NumberParseUtil.parseDoubleSafe 한 번의 비용(ns/op)을 입력 형태별로 측정합니다.
+ * - 실행: ./gradlew jmh -Pjmh.includes=NumberParseBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NumberParseBenchmark {
+
+    /** 공공데이터 CSV에 실제로 섞여 있는 값의 형태 */
+    @Param({"123.45", "1,200", "200ml", "N/A", "-", "0.000123456789012345"})
+    public String value;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        // 상수 폴딩을 막기 위해 새 문자열로 복사
+        input = new String(value.toCharArray());
+    }
+
+    @Benchmark
+    public double parseDoubleSafe() {
+        return NumberParseUtil.parseDoubleSafe(input);
+    }
+}
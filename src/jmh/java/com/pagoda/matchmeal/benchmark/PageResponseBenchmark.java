@@ -0,0 +1,54 @@
+package com.pagoda.matchmeal.benchmark;
+
+import com.pagoda.matchmeal.common.response.CursorPageInfoResponseDto;
+import com.pagoda.matchmeal.common.response.PageInfoResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * [페이지 응답 생성 벤치마크]
+ * - PageInfoResponseDto.of (OFFSET 방식)와 CursorPageInfoResponseDto.of (커서 방식)의 응답 객체 생성 비용을 비교합니다.
+ * - DB 조회 비용은 포함하지 않습니다. (조회 결과 리스트는 미리 만들어 둠)
+ * - 실행: ./gradlew jmh -Pjmh.includes=PageResponseBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PageResponseBenchmark {
+
+    @Param({"20", "100"})
+    public int size;
+
+    private Pageable pageable;
+    private List<Integer> content;
+    private List<Integer> cursorContent;
+
+    @Setup
+    public void setUp() {
+        pageable = PageRequest.of(10, size);
+        content = IntStream.range(0, size).boxed().toList();
+        cursorContent = IntStream.range(0, size + 1).boxed().toList(); // 커서 방식은 size + 1개를 조회
+    }
+
+    @Benchmark
+    public PageInfoResponseDto<Integer> offsetPage() {
+        return PageInfoResponseDto.of(pageable, content, 100_000);
+    }
+
+    @Benchmark
+    public CursorPageInfoResponseDto<Integer> cursorPage() {
+        return CursorPageInfoResponseDto.of(cursorContent, size, String::valueOf);
+    }
+}
@@ -0,0 +1,156 @@
+package com.pagoda.matchmeal.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pagoda.matchmeal.common.json.ResponseBufferPool;
+import com.pagoda.matchmeal.common.json.ResponseJsonModule;
+import com.pagoda.matchmeal.common.response.CommonResponse;
+import com.pagoda.matchmeal.common.response.PageInfoResponseDto;
+import com.pagoda.matchmeal.common.util.ApiResponseUtil;
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * [응답 JSON 직렬화 벤치마크]
+ * - CommonResponse로 감싼 응답을 응답 스트림(버리는 OutputStream)에 쓰는 비용을 측정합니다.
+ * - single: 음식 1건 (/foods/{foodCode}), page: 음식 목록 페이지 (/foods), pageGzip: 목록 페이지를 gzip으로 압축
+ * - mapper
+ *      default: Spring Boot 기본 설정과 같은 ObjectMapper로 응답 스트림에 바로 씀 (기존 방식)
+ *      tuned: ResponseJsonModule(직접 작성한 직렬화기) + 공용 버퍼 풀, 풀링한 버퍼에 쓴 뒤 응답 스트림으로 복사 (PooledJsonHttpMessageConverter 방식)
+ * - 초당 처리 바이트는 bytes 보조 지표로, 응답당 할당량은 gc.alloc.rate.norm으로 비교합니다.
+ * - 실행: ./gradlew jmh -Pjmh.includes=ResponseSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"default", "tuned"})
+    public String mapper;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ResponseBufferPool bufferPool;
+    private CommonResponse<FoodResponseDto> single;
+    private CommonResponse<PageInfoResponseDto<FoodResponseDto>> page;
+
+    /**
+     * 쓴 바이트 수 (Throughput 모드에서 초당 값으로 보고됨)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class WrittenBytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        if ("tuned".equals(mapper)) {
+            objectMapper = Jackson2ObjectMapperBuilder.json()
+                    .factory(JsonFactory.builder().recyclerPool(JsonRecyclerPools.newConcurrentDequePool()).build())
+                    .modulesToInstall(new ResponseJsonModule())
+                    .build();
+            bufferPool = new ResponseBufferPool(64, 8 * 1024, 256 * 1024);
+        } else {
+            objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        }
+        single = ApiResponseUtil.success(food(0));
+        List<FoodResponseDto> foods = IntStream.range(0, pageSize).mapToObj(ResponseSerializationBenchmark::food).toList();
+        page = ApiResponseUtil.success(PageInfoResponseDto.of(PageRequest.of(0, pageSize), foods, 100_000));
+    }
+
+    @Benchmark
+    public void single(WrittenBytes written) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        write(single, out);
+        written.bytes += out.count;
+    }
+
+    @Benchmark
+    public void page(WrittenBytes written) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        write(page, out);
+        written.bytes += out.count;
+    }
+
+    @Benchmark
+    public void pageGzip(WrittenBytes written) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8 * 1024)) {
+            write(page, gzip);
+        }
+        written.bytes += out.count;
+    }
+
+    private void write(Object value, OutputStream out) throws IOException {
+        if (bufferPool == null) {
+            objectMapper.writeValue(out, value);
+            return;
+        }
+        ResponseBufferPool.ResponseBuffer buffer = bufferPool.acquire();
+        try {
+            objectMapper.writeValue(buffer, value);
+            buffer.writeTo(out);
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    private static FoodResponseDto food(int i) {
+        return FoodResponseDto.builder()
+                .foodCode("D" + (100000 + i))
+                .foodName("음식 " + i + " 구이")
+                .category("육류 및 그 제품")
+                .servingSize(100)
+                .unit("g")
+                .servingSizeText("100g")
+                .calories(250 + i % 300)
+                .carbohydrate(10.5)
+                .protein(20.25)
+                .fat(8.0)
+                .build();
+    }
+
+    /**
+     * 응답 스트림 대신 쓰는 OutputStream (바이트 수만 셈)
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.pagoda.matchmeal.benchmark;
+
+import com.pagoda.matchmeal.common.util.NumberParseUtil;
+import com.pagoda.matchmeal.nutrition.ServingSize;
+import com.pagoda.matchmeal.nutrition.ServingSizeNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [1회 제공량 정규화 벤치마크]
+ * - legacy: contains("ml")로 단위를 고르고 숫자만 뽑는 기존 방식 (kg, 컵 등은 환산하지 못함)
+ * - current: ServingSizeNormalizer (트라이로 단위 별칭을 찾고 기준 단위로 환산)
+ * - 실행: ./gradlew jmh -Pjmh.includes=ServingSizeNormalizeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ServingSizeNormalizeBenchmark {
+
+    @Param({"100g", "1.5kg", "250mL", "1/2컵", "1개(50g)", "2인분", "N/A"})
+    public String value;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        // 상수 폴딩을 막기 위해 새 문자열로 복사
+        input = new String(value.toCharArray());
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        blackhole.consume(NumberParseUtil.parseDoubleSafe(input));
+        blackhole.consume(input.toLowerCase().contains("ml") ? "ml" : "g");
+    }
+
+    @Benchmark
+    public ServingSize current() {
+        return ServingSizeNormalizer.DEFAULT.normalize(input);
+    }
+}
@@ -0,0 +1,29 @@
+package com.pagoda.matchmeal.benchmark;
+
+/**
+ * 벤치마크용 가짜 음식 CSV 데이터 생성기
+ * - 공공데이터 CSV와 같은 위치(0, 1, 7, 16, 17, 19, 20, 22)에 값을 넣고 나머지 컬럼은 채움값으로 둡니다.
+ * - 실제 데이터처럼 "1,200"(따옴표+쉼표), "N/A", "-", 단위가 붙은 기준량 등이 섞여 있습니다.
+ */
+final class SyntheticFoodCsv {
+
+    static final String HEADER = "식품코드,식품명,데이터구분코드,데이터구분명,식품기원코드,식품기원명,식품대분류코드,식품대분류명,"
+            + "대표식품코드,대표식품명,식품중분류코드,식품중분류명,식품소분류코드,식품소분류명,식품세분류코드,식품세분류명,"
+            + "영양성분함량기준량,에너지(kcal),수분(g),단백질(g),지방(g),회분(g),탄수화물(g),당류(g)";
+
+    private static final String[] CATEGORIES = {"곡류 및 그 제품", "육류 및 그 제품", "채소류", "과일류", "음료 및 차류", "밥류"};
+    private static final String[] SERVING_SIZES = {"100g", "200ml", "100 g", "1.5kg", "250mL", "1/2컵", "1개(50g)"};
+
+    private SyntheticFoodCsv() {
+    }
+
+    static String line(int i) {
+        String calories = (i % 17 == 0) ? "\"1,2" + (i % 10) + "0\"" : String.valueOf(50 + i % 700);
+        String protein = (i % 23 == 0) ? "N/A" : (i % 40) + "." + (i % 10);
+        String fat = (i % 29 == 0) ? "-" : (i % 30) + "." + (i % 7);
+        return "D" + (100000 + i) + ",음식_" + i + "_구이,01,가공식품,1,농산,01," + CATEGORIES[i % CATEGORIES.length]
+                + ",R1,대표,M1,중분류,S1,소분류,F1,세분류,"
+                + SERVING_SIZES[i % SERVING_SIZES.length] + "," + calories + ",70.1," + protein + "," + fat + ",1.2,"
+                + (i % 80) + "." + (i % 9) + ",3.4";
+    }
+}
@@ -0,0 +1,42 @@
+package com.pagoda.matchmeal.batch.delta;
+
+import com.pagoda.matchmeal.mapper.FoodBatchMapper;
+import com.pagoda.matchmeal.model.dto.FoodContentHashDto;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * [기존 음식 데이터 해시 스냅샷]
+ * - delta 모드 Job이 시작될 때 foods 테이블의 (food_code -> content_hash)를 한 번에 메모리로 읽어둡니다.
+ * - 이후 Processor는 행마다 DB를 조회하지 않고 이 스냅샷과 비교만 합니다.
+ * - 생성 이후에는 읽기 전용이므로 여러 파티션 스레드에서 함께 사용해도 안전합니다.
+ */
+@Slf4j
+public class FoodContentHashSnapshot {
+
+    private final Map<String, Long> hashes;
+
+    public FoodContentHashSnapshot(FoodBatchMapper foodBatchMapper) {
+        long start = System.currentTimeMillis();
+        Map<String, Long> loaded = new HashMap<>();
+        foodBatchMapper.findAllContentHashes(context -> {
+            FoodContentHashDto row = context.getResultObject();
+            loaded.put(row.getFoodCode(), row.getContentHash());
+        });
+        this.hashes = loaded;
+        log.info("음식 해시 스냅샷 로딩 완료: {}건 ({}ms)", hashes.size(), System.currentTimeMillis() - start);
+    }
+
+    /** 해당 코드의 음식이 DB에 있는지 확인합니다. */
+    public boolean contains(String foodCode) {
+        return hashes.containsKey(foodCode);
+    }
+
+    /** 해당 코드의 음식 해시가 주어진 해시와 같은지 확인합니다. (해시가 없던 예전 행은 항상 다름) */
+    public boolean isUnchanged(String foodCode, long contentHash) {
+        Long existing = hashes.get(foodCode);
+        return existing != null && existing == contentHash;
+    }
+}
@@ -0,0 +1,60 @@
+package com.pagoda.matchmeal.batch.delta;
+
+import com.pagoda.matchmeal.mapper.FoodBatchMapper;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [해시 스냅샷 제공자]
+ * - JobExecution 하나당 해시 스냅샷을 한 번만 로딩해서, 같은 Job의 모든 Step(파티션)이 공유하게 합니다.
+ * - 여러 파티션이 동시에 요청해도 로딩은 한 번만 일어나고, 나머지는 로딩이 끝날 때까지 기다립니다.
+ * - 로딩(DB 조회)은 ConcurrentHashMap.computeIfAbsent 안(내부 synchronized)이 아니라 Job별 Lock 안에서 실행합니다.
+ *      (가상 스레드에서 실행될 때 캐리어 스레드가 고정되지 않도록)
+ * - Job이 끝나면 스냅샷을 메모리에서 제거합니다.
+ */
+public class FoodContentHashSnapshotProvider implements JobExecutionListener {
+
+    private final FoodBatchMapper foodBatchMapper;
+    private final Map<Long, LazySnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public FoodContentHashSnapshotProvider(FoodBatchMapper foodBatchMapper) {
+        this.foodBatchMapper = foodBatchMapper;
+    }
+
+    public FoodContentHashSnapshot get(Long jobExecutionId) {
+        return snapshots.computeIfAbsent(jobExecutionId, id -> new LazySnapshot()).get(foodBatchMapper);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        snapshots.remove(jobExecution.getId());
+    }
+
+    /**
+     * 처음 get() 한 스레드만 로딩하고, 동시에 들어온 나머지 스레드는 Lock에서 기다립니다.
+     */
+    private static class LazySnapshot {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile FoodContentHashSnapshot snapshot;
+
+        FoodContentHashSnapshot get(FoodBatchMapper foodBatchMapper) {
+            FoodContentHashSnapshot loaded = snapshot;
+            if (loaded != null) {
+                return loaded;
+            }
+            lock.lock();
+            try {
+                if (snapshot == null) {
+                    snapshot = new FoodContentHashSnapshot(foodBatchMapper);
+                }
+                return snapshot;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.pagoda.matchmeal.batch.delta;
+
+import com.pagoda.matchmeal.model.entity.Food;
+
+/**
+ * [음식 데이터 내용 해시 계산기]
+ * - DB에 저장되는 내용 컬럼(이름, 분류, 기준량, 단위, 기준량 원본 표기, 영양성분)으로 64비트 FNV-1a 해시를 계산합니다.
+ * - 해시가 같으면 내용이 같다고 보고, delta 모드에서 해당 행을 DB에 다시 쓰지 않습니다.
+ * - 100g당 값 같은 파생 컬럼은 위 값에서 계산되므로 해시에 넣지 않습니다.
+ *      대신 저장 컬럼 구성이 바뀌면 FORMAT을 올려서, delta 모드에서도 모든 행을 한 번 다시 쓰게 합니다.
+ */
+public final class FoodContentHasher {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    /** 필드 구분자 (필드 경계가 달라지면 해시도 달라지도록) */
+    private static final char SEPARATOR = '\u001F';
+    /** 저장 컬럼 구성 버전 (v2: 밀도 컬럼 추가) */
+    private static final String FORMAT = "v2";
+
+    private FoodContentHasher() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static long hash(Food food) {
+        return hash(food.getFoodName(), food.getCategory(), food.getUnit(), food.getServingSize(),
+                food.getServingSizeText(), food.getCalories(), food.getProtein(), food.getFat(), food.getCarbohydrate());
+    }
+
+    /**
+     * Food 객체를 만들기 전에 필드 값만으로 해시를 계산합니다. (Processor에서 객체를 한 번만 만들기 위해)
+     */
+    public static long hash(String foodName, String category, String unit, double servingSize,
+                            String servingSizeText, double calories, double protein, double fat, double carbohydrate) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, FORMAT);
+        hash = mix(hash, foodName);
+        hash = mix(hash, category);
+        hash = mix(hash, unit);
+        hash = mix(hash, servingSize);
+        hash = mix(hash, servingSizeText);
+        hash = mix(hash, calories);
+        hash = mix(hash, protein);
+        hash = mix(hash, fat);
+        hash = mix(hash, carbohydrate);
+        return hash;
+    }
+
+    private static long mix(long hash, String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+            }
+        }
+        return (hash ^ SEPARATOR) * FNV_PRIME;
+    }
+
+    private static long mix(long hash, double value) {
+        long bits = Double.doubleToLongBits(value);
+        for (int shift = 0; shift < 64; shift += 8) {
+            hash = (hash ^ ((bits >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
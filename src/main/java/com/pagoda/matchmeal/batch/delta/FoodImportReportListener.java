@@ -0,0 +1,43 @@
+package com.pagoda.matchmeal.batch.delta;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * [음식 등록 Job 결과 리포트]
+ * - Job이 끝나면 모든 Step(파티션 포함)의 추가/변경/동일 건수를 합산해서
+ *      JobExecution의 ExecutionContext에 기록하고 로그로 남깁니다.
+ * - full 모드에서는 추가/변경을 구분하지 않으므로 저장(write) 건수만 의미가 있습니다.
+ */
+@Slf4j
+public class FoodImportReportListener implements JobExecutionListener {
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        long inserted = 0;
+        long updated = 0;
+        long unchanged = 0;
+        long written = 0;
+
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            ExecutionContext context = stepExecution.getExecutionContext();
+            inserted += context.getLong(FoodDeltaProcessor.INSERTED_COUNT_KEY, 0L);
+            updated += context.getLong(FoodDeltaProcessor.UPDATED_COUNT_KEY, 0L);
+            unchanged += context.getLong(FoodDeltaProcessor.UNCHANGED_COUNT_KEY, 0L);
+            written += context.getLong(FoodDeltaProcessor.WRITTEN_COUNT_KEY, 0L);
+        }
+
+        ExecutionContext jobContext = jobExecution.getExecutionContext();
+        jobContext.putLong(FoodDeltaProcessor.INSERTED_COUNT_KEY, inserted);
+        jobContext.putLong(FoodDeltaProcessor.UPDATED_COUNT_KEY, updated);
+        jobContext.putLong(FoodDeltaProcessor.UNCHANGED_COUNT_KEY, unchanged);
+        jobContext.putLong(FoodDeltaProcessor.WRITTEN_COUNT_KEY, written);
+
+        log.info("[{}] {} - 저장: {}, 추가: {}, 변경: {}, 동일(건너뜀): {}",
+                jobExecution.getJobInstance().getJobName(), jobExecution.getStatus(),
+                written, inserted, updated, unchanged);
+    }
+}
@@ -0,0 +1,18 @@
+package com.pagoda.matchmeal.batch.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.batch.core.BatchStatus;
+
+/**
+ * 음식 등록 Job(foodJob, foodPartitionedJob, foodRemotePartitionedJob)이 끝났을 때 발행되는 이벤트
+ * - foods 테이블을 메모리에 올려두고 쓰는 컴포넌트(검색 인덱스 등)가 이 이벤트를 받아 다시 로딩합니다.
+ * - 실패한 Job도 이미 커밋된 Chunk가 있을 수 있으므로, 결과와 상관없이 발행합니다.
+ * - 다른 서버가 실행한 Job은 JobLeaseListener가 임대 행의 반납을 보고 각 서버에서 발행합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FoodImportCompletedEvent {
+    private final String jobName;      // 실행된 Job 이름 (다른 서버의 실행이면 임대 이름)
+    private final BatchStatus status;  // Job 결과
+}
@@ -0,0 +1,19 @@
+package com.pagoda.matchmeal.batch.lease;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * [Job 실행 임대(lease) 상태]
+ * - batch_job_lease 테이블의 한 행을 읽은 값입니다.
+ * - owner가 null이면 아무도 임대를 가지고 있지 않은 상태입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class JobLease {
+    private final String leaseName;    // 임대 이름 (같은 데이터를 쓰는 Job끼리 공유)
+    private final String owner;        // 임대를 가진 서버 (없으면 null)
+    private final long fencingToken;   // 임대를 얻을 때마다 1씩 늘어나는 번호
+    private final boolean expired;     // 만료 시각이 지났는지 (조회 시점의 DB 시각 기준)
+    private final String lastStatus;   // 마지막으로 반납한 Job의 결과 (없으면 null)
+}
@@ -0,0 +1,310 @@
+package com.pagoda.matchmeal.batch.lease;
+
+import com.pagoda.matchmeal.batch.event.FoodImportCompletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [여러 서버 중 한 대만 Job을 실행하게 하는 임대(lease) Listener]
+ * - Job 시작 시 임대를 가져오지 못하면(다른 서버가 실행 중), Step을 하나도 실행하지 않고 STOPPED(LEASE_HELD)로 끝냅니다.
+ * - 임대를 가진 동안에는 ttl/3 간격으로 heartbeat를 보내 만료 시각을 늘리고, Job이 끝나면 반납합니다.
+ *      (다른 Listener의 afterJob이 예외를 던지면 이 Listener의 afterJob이 호출되지 않으므로,
+ *       heartbeat가 Job 종료(endTime)를 확인하면 직접 반납하고 멈춥니다.)
+ * - 서버가 죽어서 heartbeat가 끊기면 ttl 뒤에 다른 서버가 임대를 가져갈 수 있습니다. (fencing token 증가)
+ * - 쓰기를 커밋하기 직전(afterWrite / Tasklet Step은 beforeChunk)에 같은 트랜잭션에서 fencing token을 확인하므로,
+ *      멈춰 있다가 깨어난 예전 서버가 새 서버의 데이터를 덮어쓰지 못합니다. (다른 서버에서 실행되는 원격 파티션도 동일)
+ * - 모든 서버가 heartbeat 간격으로 임대 행을 확인하다가, 다른 서버가 임대를 반납(또는 만료)하면
+ *      FoodImportCompletedEvent를 직접 발행해서 자기 메모리 인덱스/스냅샷을 새 데이터로 다시 만듭니다.
+ *      (Job을 실행하려다 임대를 가져오지 못한 서버뿐 아니라 Job과 무관한 서버도 갱신되도록, fencing token이 바뀐 것으로 판단)
+ */
+@Slf4j
+public class JobLeaseListener implements JobExecutionListener, ChunkListener, ItemWriteListener<Object>,
+        SmartLifecycle, AutoCloseable {
+
+    /** 임대를 가져오지 못한 실행에 남기는 ExecutionContext 키 (값: 임대를 가진 서버) */
+    public static final String LEASE_REJECTED_KEY = "food.lease.rejected";
+    /** 임대를 가진 실행에 남기는 ExecutionContext 키 (값: fencing token) */
+    public static final String FENCING_TOKEN_KEY = "food.lease.fencingToken";
+    /** 임대를 가져오지 못한 실행의 종료 코드 */
+    public static final String LEASE_HELD_EXIT_CODE = "LEASE_HELD";
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String leaseName;
+    private final String nodeId;
+    private final Duration ttl;
+    private final long heartbeatIntervalMs;
+
+    /** heartbeat와 다른 서버의 실행 확인용 (이벤트 처리로 heartbeat가 밀리지 않도록 2개) */
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "job-lease");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** JobExecution id -> 이 서버가 가진 임대 */
+    private final Map<Long, HeldLease> heldLeases = new ConcurrentHashMap<>();
+    /** 메모리 데이터에 이미 반영한 마지막 실행의 fencing token (아직 처음 확인 전이면 -1) */
+    private final AtomicLong handledFencingToken = new AtomicLong(-1);
+    private volatile ScheduledFuture<?> watch;
+
+    /**
+     * @param leaseName 임대 이름 (같은 테이블에 쓰는 Job들은 같은 이름을 사용)
+     * @param nodeId    이 서버를 구분하는 값 (호스트명:PID 등)
+     * @param ttl       heartbeat 없이 임대가 유지되는 시간
+     */
+    public JobLeaseListener(JobLeaseRepository jobLeaseRepository, ApplicationEventPublisher eventPublisher,
+                            String leaseName, String nodeId, Duration ttl) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.eventPublisher = eventPublisher;
+        this.leaseName = leaseName;
+        this.nodeId = nodeId;
+        this.ttl = ttl;
+        this.heartbeatIntervalMs = Math.max(1, ttl.toMillis() / 3);
+    }
+
+    /**
+     * 임대를 가져오지 못해서 실행하지 않은 Job인지 확인합니다.
+     */
+    public static boolean isRejected(JobExecution jobExecution) {
+        return jobExecution.getExecutionContext().containsKey(LEASE_REJECTED_KEY);
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        String owner = nodeId + "#" + jobExecution.getId();
+        JobLease lease = jobLeaseRepository.tryAcquire(leaseName, owner, jobExecution.getId(), ttl);
+        if (lease == null) {
+            JobLease current = jobLeaseRepository.find(leaseName);
+            String holder = current == null ? "unknown" : current.getOwner();
+            log.warn("Job 실행 임대 획득 실패: {} (실행 중인 서버: {}) - {} 실행을 건너뜁니다.",
+                    leaseName, holder, jobExecution.getJobInstance().getJobName());
+            jobExecution.getExecutionContext().putString(LEASE_REJECTED_KEY, String.valueOf(holder));
+            // 첫 Step 실행 전에 STOPPING을 확인하므로, Step을 하나도 실행하지 않고 STOPPED로 끝남
+            jobExecution.setStatus(BatchStatus.STOPPING);
+            return;
+        }
+
+        HeldLease held = new HeldLease(lease, jobExecution);
+        held.heartbeat = scheduler.scheduleWithFixedDelay(
+                () -> heartbeat(held), heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+        heldLeases.put(jobExecution.getId(), held);
+        jobExecution.getExecutionContext().putLong(FENCING_TOKEN_KEY, lease.getFencingToken());
+        log.info("Job 실행 임대 획득: {} (owner: {}, fencing token: {})", leaseName, owner, lease.getFencingToken());
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (isRejected(jobExecution)) {
+            jobExecution.setExitStatus(new ExitStatus(LEASE_HELD_EXIT_CODE,
+                    "다른 서버가 실행 중: " + jobExecution.getExecutionContext().getString(LEASE_REJECTED_KEY)));
+            return;
+        }
+        HeldLease held = heldLeases.get(jobExecution.getId());
+        if (held != null) {
+            release(held);
+        }
+    }
+
+    /**
+     * Tasklet Step용: Chunk 트랜잭션 시작 시 임대를 확인합니다. (트랜잭션이 끝날 때까지 임대 행 잠금 유지)
+     */
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        fence(context.getStepContext().getStepExecution());
+    }
+
+    /**
+     * Chunk Step용: 쓰기가 끝나고 커밋하기 직전, 같은 트랜잭션에서 임대를 확인합니다.
+     * - 잠금은 커밋까지의 짧은 시간만 유지되므로, 여러 파티션이 동시에 써도 서로 오래 기다리지 않습니다.
+     */
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context != null) {
+            fence(context.getStepExecution());
+        }
+    }
+
+    /**
+     * 다른 서버의 실행 종료 확인을 시작합니다. (heartbeat 간격)
+     */
+    @Override
+    public void start() {
+        watch = scheduler.scheduleWithFixedDelay(this::watch, 0, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledFuture<?> current = watch;
+        if (current != null) {
+            current.cancel(false);
+            watch = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return watch != null;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 임대를 갱신하고, 임대를 잃었으면 예외를 던져 쓰기를 롤백시킵니다.
+     * - 다른 서버의 Job 실행에 속한 Worker Step(원격 파티션)은 그 Job 실행이 아직 임대를 가지고 있는지로 확인합니다.
+     */
+    private void fence(StepExecution stepExecution) {
+        Long jobExecutionId = stepExecution.getJobExecutionId();
+        HeldLease held = heldLeases.get(jobExecutionId);
+        if (held == null) {
+            if (!jobLeaseRepository.renewForJob(leaseName, jobExecutionId, ttl)) {
+                throw new JobLeaseLostException("Job 실행 임대를 잃었습니다: " + leaseName + " (Job 실행: " + jobExecutionId + ")");
+            }
+            return;
+        }
+        if (held.lost || !jobLeaseRepository.renew(held.lease, ttl)) {
+            held.lost = true;
+            throw new JobLeaseLostException("Job 실행 임대를 잃었습니다: " + leaseName
+                    + " (owner: " + held.lease.getOwner() + ", fencing token: " + held.lease.getFencingToken() + ")");
+        }
+    }
+
+    private void heartbeat(HeldLease held) {
+        if (held.jobExecution.getEndTime() != null) {
+            // Job은 끝났는데 아직 반납하지 않음 (다른 Listener의 afterJob 예외로 이 Listener가 호출되지 않은 경우 등)
+            try {
+                release(held);
+            } catch (DataAccessException e) {
+                // heartbeat는 멈췄으므로 ttl 뒤에 만료됨
+                log.warn("Job 실행 임대 반납 실패: {} - ttl 뒤에 만료됩니다.", leaseName, e);
+            }
+            return;
+        }
+        if (held.lost) {
+            return;
+        }
+        try {
+            if (!jobLeaseRepository.renew(held.lease, ttl)) {
+                held.lost = true;
+                log.error("Job 실행 임대를 잃었습니다: {} (fencing token: {}) - 다음 쓰기에서 Step이 실패합니다.",
+                        leaseName, held.lease.getFencingToken());
+            }
+        } catch (DataAccessException e) {
+            // 일시적인 DB 오류: 만료 전에 다음 heartbeat가 성공하면 임대는 유지됨
+            log.warn("Job 실행 임대 heartbeat 실패: {}", leaseName, e);
+        }
+    }
+
+    /**
+     * heartbeat를 멈추고 임대를 반납합니다. (afterJob과 heartbeat 중 먼저 호출한 쪽만 반납)
+     */
+    private void release(HeldLease held) {
+        if (!heldLeases.remove(held.jobExecution.getId(), held)) {
+            return;
+        }
+        held.heartbeat.cancel(false);
+        BatchStatus status = held.jobExecution.getStatus();
+        // 이 서버가 실행한 Job은 다른 서버의 실행 종료로 보지 않음 (반납 전에 기록해야 watch가 먼저 보지 않음)
+        advance(held.lease.getFencingToken());
+        jobLeaseRepository.release(held.lease, status.name());
+        log.info("Job 실행 임대 반납: {} (fencing token: {}, 결과: {})", leaseName, held.lease.getFencingToken(), status);
+    }
+
+    /**
+     * 임대 행을 읽어서, 아직 반영하지 않은 실행이 끝났으면(반납 또는 만료) FoodImportCompletedEvent를 발행합니다.
+     * - 이 서버가 실행한 Job은 FoodImportEventPublishingListener가 이미 발행했으므로 건너뜁니다. (release에서 기록)
+     * - 처음 확인할 때는 기준만 잡습니다. (시작할 때 이미 DB를 읽었으므로, 그때 실행 중이던 Job의 종료만 반영)
+     * - 실행 중이던 서버가 죽어서 임대가 만료되어도, 이미 커밋된 Chunk가 있을 수 있으므로 발행합니다. (결과는 UNKNOWN)
+     */
+    void watch() {
+        JobLease current;
+        try {
+            current = jobLeaseRepository.find(leaseName);
+        } catch (DataAccessException e) {
+            log.warn("Job 실행 임대 조회 실패: {} ({})", leaseName, e.toString());
+            return;
+        }
+        if (current == null) {
+            handledFencingToken.compareAndSet(-1, 0);
+            return;
+        }
+        boolean finished = current.getOwner() == null || current.isExpired();
+        long token = current.getFencingToken();
+        if (handledFencingToken.compareAndSet(-1, finished ? token : token - 1)) {
+            return;
+        }
+        if (!finished || !advance(token)) {
+            return;
+        }
+
+        BatchStatus status;
+        if (current.getOwner() != null) {
+            log.warn("Job 실행 임대가 만료되었습니다: {} (owner: {}) - 실행 중이던 서버가 중단된 것으로 보고 메모리 데이터를 다시 만듭니다.",
+                    leaseName, current.getOwner());
+            status = BatchStatus.UNKNOWN;
+        } else {
+            status = current.getLastStatus() == null ? BatchStatus.UNKNOWN : BatchStatus.valueOf(current.getLastStatus());
+            log.info("다른 서버의 Job 실행 종료 확인: {} ({}) - 메모리 데이터를 다시 만듭니다.", leaseName, status);
+        }
+        try {
+            eventPublisher.publishEvent(new FoodImportCompletedEvent(leaseName, status));
+        } catch (RuntimeException e) {
+            log.error("다른 서버의 Job 실행 종료 후 메모리 데이터 갱신 실패: {}", leaseName, e);
+        }
+    }
+
+    /**
+     * 반영한 fencing token을 token으로 올립니다.
+     * @return 올렸으면 true (이미 반영한 실행이면 false)
+     */
+    private boolean advance(long token) {
+        long handled;
+        do {
+            handled = handledFencingToken.get();
+            if (token <= handled) {
+                return false;
+            }
+        } while (!handledFencingToken.compareAndSet(handled, token));
+        return true;
+    }
+
+    /**
+     * 이 서버가 가진 임대와 heartbeat 작업
+     */
+    private static class HeldLease {
+        private final JobLease lease;
+        private final JobExecution jobExecution;
+        private volatile ScheduledFuture<?> heartbeat;
+        private volatile boolean lost;
+
+        HeldLease(JobLease lease, JobExecution jobExecution) {
+            this.lease = lease;
+            this.jobExecution = jobExecution;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.pagoda.matchmeal.batch.lease;
+
+/**
+ * 실행 중인 Job이 임대를 잃었을 때(만료 후 다른 서버가 가져감) 발생하는 예외
+ * - Chunk 트랜잭션 안에서 던지므로, 해당 Chunk의 쓰기는 롤백되고 Step은 실패합니다.
+ */
+public class JobLeaseLostException extends RuntimeException {
+
+    public JobLeaseLostException(String message) {
+        super(message);
+    }
+}
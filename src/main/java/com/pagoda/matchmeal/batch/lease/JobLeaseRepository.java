@@ -0,0 +1,121 @@
+package com.pagoda.matchmeal.batch.lease;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * [Job 실행 임대(lease) 저장소]
+ * - batch_job_lease 테이블의 행 하나를 여러 서버가 조건부 UPDATE로 주고받습니다.
+ * - 만료 판단은 각 서버의 시계가 아니라 DB 시각(LOCALTIMESTAMP)으로 하므로, 서버 간 시계 차이의 영향을 받지 않습니다.
+ * - MyBatis 매퍼가 아니라 JdbcTemplate을 사용합니다.
+ *      Chunk 트랜잭션 안(BATCH 실행기를 쓰는 Writer와 같은 트랜잭션)에서도 호출되는데,
+ *      MyBatis는 한 트랜잭션 안에서 실행기 종류(SIMPLE/BATCH)를 바꿀 수 없기 때문입니다.
+ *      (Spring Batch 메타 테이블(BATCH_*)도 같은 방식으로 JdbcTemplate을 사용합니다.)
+ */
+public class JobLeaseRepository {
+
+    private static final String INSERT_LEASE =
+            "INSERT INTO batch_job_lease (lease_name, fencing_token) VALUES (?, 0)";
+
+    private static final String ACQUIRE =
+            "UPDATE batch_job_lease"
+            + " SET owner = ?, job_execution_id = ?, fencing_token = fencing_token + 1,"
+            + " expires_at = TIMESTAMPADD(MICROSECOND, ?, LOCALTIMESTAMP(3)), heartbeat_at = LOCALTIMESTAMP(3)"
+            + " WHERE lease_name = ? AND (owner IS NULL OR expires_at < LOCALTIMESTAMP(3))";
+
+    private static final String RENEW =
+            "UPDATE batch_job_lease"
+            + " SET expires_at = TIMESTAMPADD(MICROSECOND, ?, LOCALTIMESTAMP(3)), heartbeat_at = LOCALTIMESTAMP(3)"
+            + " WHERE lease_name = ? AND owner = ? AND fencing_token = ?";
+
+    private static final String RENEW_FOR_JOB =
+            "UPDATE batch_job_lease"
+            + " SET expires_at = TIMESTAMPADD(MICROSECOND, ?, LOCALTIMESTAMP(3)), heartbeat_at = LOCALTIMESTAMP(3)"
+            + " WHERE lease_name = ? AND job_execution_id = ? AND owner IS NOT NULL";
+
+    private static final String RELEASE =
+            "UPDATE batch_job_lease"
+            + " SET owner = NULL, expires_at = NULL, last_status = ?, released_at = LOCALTIMESTAMP(3)"
+            + " WHERE lease_name = ? AND owner = ? AND fencing_token = ?";
+
+    private static final String FIND =
+            "SELECT lease_name, owner, fencing_token,"
+            + " CASE WHEN expires_at < LOCALTIMESTAMP(3) THEN 1 ELSE 0 END AS expired, last_status"
+            + " FROM batch_job_lease WHERE lease_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobLeaseRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 임대가 비어 있거나 만료되었으면 가져옵니다.
+     * @param leaseName 임대 이름
+     * @param owner     임대를 가질 서버 (Job 실행마다 다른 값)
+     * @param jobExecutionId 임대를 가질 Job 실행
+     * @param ttl       heartbeat 없이 임대가 유지되는 시간
+     * @return          가져온 임대 (다른 서버가 가지고 있으면 null)
+     */
+    public JobLease tryAcquire(String leaseName, String owner, long jobExecutionId, Duration ttl) {
+        if (find(leaseName) == null) {
+            try {
+                jdbcTemplate.update(INSERT_LEASE, leaseName);
+            } catch (DuplicateKeyException e) {
+                // 다른 서버가 먼저 만든 경우
+            }
+        }
+        if (jdbcTemplate.update(ACQUIRE, owner, jobExecutionId, toMicros(ttl), leaseName) == 0) {
+            return null;
+        }
+        JobLease acquired = find(leaseName);
+        // UPDATE와 조회 사이에 다른 서버가 가져갔으면 (ttl이 아주 짧은 경우) 얻지 못한 것으로 봄
+        return acquired != null && owner.equals(acquired.getOwner()) ? acquired : null;
+    }
+
+    /**
+     * 임대의 만료 시각을 지금부터 ttl 뒤로 늘립니다.
+     * - Chunk 트랜잭션 안에서 호출하면 커밋까지 임대 행에 잠금이 걸리므로, 그 사이에는 다른 서버가 임대를 가져갈 수 없습니다.
+     * @return  아직 이 임대를 가지고 있으면 true (다른 서버가 가져갔으면 false)
+     */
+    public boolean renew(JobLease lease, Duration ttl) {
+        return jdbcTemplate.update(RENEW, toMicros(ttl), lease.getLeaseName(), lease.getOwner(), lease.getFencingToken()) == 1;
+    }
+
+    /**
+     * 다른 서버에서 실행 중인 Worker Step(원격 파티션)용: 해당 Job 실행이 아직 임대를 가지고 있으면 만료 시각을 늘립니다.
+     * - 임대가 다른 실행으로 넘어갔으면(job_execution_id가 바뀜) false를 반환합니다.
+     */
+    public boolean renewForJob(String leaseName, long jobExecutionId, Duration ttl) {
+        return jdbcTemplate.update(RENEW_FOR_JOB, toMicros(ttl), leaseName, jobExecutionId) == 1;
+    }
+
+    /**
+     * 임대를 반납합니다. (이미 다른 서버가 가져갔으면 아무것도 하지 않음)
+     * @param lastStatus    반납하는 Job의 결과 (다른 서버가 새 데이터를 다시 읽을지 판단하는 데 사용)
+     */
+    public void release(JobLease lease, String lastStatus) {
+        jdbcTemplate.update(RELEASE, lastStatus, lease.getLeaseName(), lease.getOwner(), lease.getFencingToken());
+    }
+
+    /**
+     * 임대 상태를 조회합니다.
+     * @return  임대 상태 (한 번도 사용한 적 없으면 null)
+     */
+    public JobLease find(String leaseName) {
+        List<JobLease> leases = jdbcTemplate.query(FIND, (rs, rowNum) -> new JobLease(
+                rs.getString("lease_name"),
+                rs.getString("owner"),
+                rs.getLong("fencing_token"),
+                rs.getInt("expired") == 1,
+                rs.getString("last_status")), leaseName);
+        return leases.isEmpty() ? null : leases.get(0);
+    }
+
+    private static long toMicros(Duration ttl) {
+        return ttl.toNanos() / 1_000;
+    }
+}
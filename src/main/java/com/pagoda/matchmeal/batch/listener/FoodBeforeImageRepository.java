@@ -0,0 +1,54 @@
+package com.pagoda.matchmeal.batch.listener;
+
+import com.pagoda.matchmeal.model.entity.Food;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * [저장 전 음식 조회 저장소]
+ * - 변경 피드를 만들기 위해 Chunk를 저장하기 직전에 DB의 현재 값을 한 번에 읽습니다.
+ * - MyBatis 매퍼가 아니라 JdbcTemplate을 사용합니다.
+ *      Chunk 트랜잭션 안에서 BATCH 실행기를 쓰는 Writer(MyBatisBatchItemWriter)보다 먼저 호출되는데,
+ *      MyBatis는 한 트랜잭션 안에서 실행기 종류(SIMPLE/BATCH)를 바꿀 수 없기 때문입니다. (JobLeaseRepository와 같은 이유)
+ */
+public class FoodBeforeImageRepository {
+
+    private static final String FIND_BY_FOOD_CODES =
+            "SELECT food_code, food_name, category, serving_size, unit, serving_size_text, calories, protein, fat, carbohydrate"
+            + " FROM foods WHERE food_code IN (%s)";
+
+    private static final RowMapper<Food> FOOD_ROW_MAPPER = (rs, rowNum) -> Food.builder()
+            .foodCode(rs.getString("food_code"))
+            .foodName(rs.getString("food_name"))
+            .category(rs.getString("category"))
+            .servingSize(rs.getDouble("serving_size"))
+            .unit(rs.getString("unit"))
+            .servingSizeText(rs.getString("serving_size_text"))
+            .calories(rs.getDouble("calories"))
+            .protein(rs.getDouble("protein"))
+            .fat(rs.getDouble("fat"))
+            .carbohydrate(rs.getDouble("carbohydrate"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FoodBeforeImageRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 식품코드 목록에 해당하는 음식을 한 번에 조회합니다. (없는 코드는 결과에서 빠짐)
+     * @param foodCodes 조회할 식품코드 목록 (Chunk 크기 이하)
+     */
+    public List<Food> findByFoodCodes(Collection<String> foodCodes) {
+        if (foodCodes.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(foodCodes.size(), "?"));
+        return jdbcTemplate.query(String.format(FIND_BY_FOOD_CODES, placeholders), FOOD_ROW_MAPPER, foodCodes.toArray());
+    }
+}
@@ -0,0 +1,93 @@
+package com.pagoda.matchmeal.batch.listener;
+
+import com.pagoda.matchmeal.feed.FoodChange;
+import com.pagoda.matchmeal.model.entity.Food;
+import com.pagoda.matchmeal.service.FoodChangeFeedService;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [음식 변경 피드 Listener]
+ * - 저장(write) 직전에 같은 트랜잭션에서 기존 값을 한 번에 읽어서, 저장할 음식과 비교한 변경 기록을 만듭니다.
+ *      (Writer가 MyBatis BATCH 실행기를 쓰므로 기존 값은 JdbcTemplate으로 읽음: FoodBeforeImageRepository)
+ *      (full 모드에서 내용이 같은 행은 변경 기록이 생기지 않음)
+ * - 변경 기록은 Chunk가 커밋된 뒤(afterChunk)에 발행하고, 롤백되면 버립니다.
+ * - 재시도/건너뛰기로 같은 Chunk를 다시 저장해도, 성공한 write의 기록만 남습니다.
+ * - Step마다 별도 인스턴스(@StepScope)로 사용합니다.
+ */
+public class FoodChangeFeedListener implements ItemWriteListener<Food>, ChunkListener {
+
+    private final FoodBeforeImageRepository foodBeforeImageRepository;
+    private final FoodChangeFeedService foodChangeFeedService;
+
+    /** 지금 저장 중인 write의 변경 기록 */
+    private List<FoodChange> pending = List.of();
+    /** 이번 Chunk(트랜잭션)에서 저장에 성공한 변경 기록 */
+    private final List<FoodChange> written = new ArrayList<>();
+
+    public FoodChangeFeedListener(FoodBeforeImageRepository foodBeforeImageRepository, FoodChangeFeedService foodChangeFeedService) {
+        this.foodBeforeImageRepository = foodBeforeImageRepository;
+        this.foodChangeFeedService = foodChangeFeedService;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        written.clear();
+    }
+
+    @Override
+    public void beforeWrite(Chunk<? extends Food> items) {
+        pending = List.of();
+        if (items.isEmpty()) {
+            return;
+        }
+        List<String> foodCodes = new ArrayList<>(items.size());
+        for (Food food : items) {
+            foodCodes.add(food.getFoodCode());
+        }
+        Map<String, Food> before = new HashMap<>();
+        for (Food food : foodBeforeImageRepository.findByFoodCodes(foodCodes)) {
+            before.put(food.getFoodCode(), food);
+        }
+
+        List<FoodChange> changes = new ArrayList<>();
+        for (Food food : items) {
+            FoodChange change = FoodChange.diff(before.get(food.getFoodCode()), food);
+            if (change != null) {
+                changes.add(change);
+            }
+        }
+        pending = changes;
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends Food> items) {
+        written.addAll(pending);
+        pending = List.of();
+    }
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<? extends Food> items) {
+        pending = List.of();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        if (!written.isEmpty()) {
+            foodChangeFeedService.publish(written);
+            written.clear();
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        written.clear();
+    }
+}
@@ -0,0 +1,139 @@
+package com.pagoda.matchmeal.batch.listener;
+
+import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.file.FlatFileParseException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * [건너뛴 행 기록 Listener (dead-letter)]
+ * - 음식 등록 Step에서 건너뛴(skip) 행을 줄 번호, 단계(read/process/write), 사유와 함께 CSV 파일로 남깁니다.
+ * - 파일은 첫 skip이 발생할 때 만들어지며, 이름은 {Job 이름}-{JobExecution ID}-{Step 이름}.csv 입니다.
+ * - 건너뛴 행이 생길 때마다 바로 파일에 쓰므로, Step이 도중에 실패해도 그때까지의 기록은 남습니다.
+ * - Step마다 별도 인스턴스(@StepScope)로 사용합니다.
+ */
+@Slf4j
+public class FoodDeadLetterListener implements SkipListener<FoodCsvDto, Food>, StepExecutionListener {
+
+    /** dead-letter 파일 경로를 기록하는 StepExecution ExecutionContext 키 */
+    public static final String DEAD_LETTER_FILE_KEY = "food.deadLetter.file";
+
+    static final String HEADER = "line_number,phase,reason,content";
+
+    private final Path directory;
+
+    private String fileName;
+    private Path file;
+    private BufferedWriter writer;
+    private long count;
+
+    public FoodDeadLetterListener(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        // 파티션 Step 이름(foodWorkerStep:partition0)의 ':'는 파일명에 쓸 수 없는 OS가 있으므로 치환
+        fileName = String.format("%s-%d-%s.csv",
+                stepExecution.getJobExecution().getJobInstance().getJobName(),
+                stepExecution.getJobExecutionId(),
+                stepExecution.getStepName().replace(':', '-'));
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        if (t instanceof FlatFileParseException outer) {
+            // 파티션 Reader(foodRangeReader)는 파일 기준 줄 번호를 안쪽 예외에 담음
+            FlatFileParseException e = outer.getCause() instanceof FlatFileParseException inner ? inner : outer;
+            write(String.valueOf(e.getLineNumber()), "read", e.getCause() != null ? e.getCause() : e, e.getInput());
+        } else {
+            write("", "read", t, "");
+        }
+    }
+
+    @Override
+    public void onSkipInProcess(FoodCsvDto item, Throwable t) {
+        write(String.valueOf(item.getLineNumber()), "process", t, String.join(",",
+                nullToEmpty(item.getFoodCode()), nullToEmpty(item.getFoodName()), nullToEmpty(item.getCategory()),
+                nullToEmpty(item.getServingSize()), nullToEmpty(item.getCalories()), nullToEmpty(item.getProtein()),
+                nullToEmpty(item.getFat()), nullToEmpty(item.getCarbohydrate())));
+    }
+
+    @Override
+    public void onSkipInWrite(Food item, Throwable t) {
+        // Writer 단계에서는 원본 줄 번호를 알 수 없으므로 식품코드로 식별
+        write("", "write", t, String.join(",",
+                nullToEmpty(item.getFoodCode()), nullToEmpty(item.getFoodName()), nullToEmpty(item.getCategory())));
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.error("dead-letter 파일을 닫을 수 없습니다: {}", file, e);
+            }
+            writer = null;
+            stepExecution.getExecutionContext().putString(DEAD_LETTER_FILE_KEY, file.toString());
+            log.warn("[{}] 건너뛴 행 {}건을 기록했습니다: {}", stepExecution.getStepName(), count, file);
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    private void write(String lineNumber, String phase, Throwable reason, String content) {
+        try {
+            if (writer == null) {
+                open();
+            }
+            writer.write(lineNumber + "," + phase + "," + escape(reason.getClass().getSimpleName() + ": " + reason.getMessage())
+                    + "," + escape(content));
+            writer.newLine();
+            writer.flush();
+            count++;
+        } catch (IOException e) {
+            // 건너뛴 행을 기록하지 못하면 데이터가 조용히 사라지므로 Step을 실패시킴
+            throw new UncheckedIOException("dead-letter 파일에 쓸 수 없습니다: " + file, e);
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        file = directory.resolve(fileName != null ? fileName : "food-dead-letter.csv");
+        boolean exists = Files.exists(file);
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (!exists) {
+            writer.write(HEADER);
+            writer.newLine();
+        }
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 "" 로 바꿉니다.
+     */
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
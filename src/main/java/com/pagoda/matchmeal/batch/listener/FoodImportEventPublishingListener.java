@@ -0,0 +1,39 @@
+package com.pagoda.matchmeal.batch.listener;
+
+import com.pagoda.matchmeal.batch.event.FoodImportCompletedEvent;
+import com.pagoda.matchmeal.batch.lease.JobLeaseListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * [음식 등록 완료 이벤트 발행 Listener]
+ * - Job이 끝나면 FoodImportCompletedEvent를 발행해서, 메모리 인덱스들이 새 데이터를 다시 읽게 합니다.
+ * - 다른 서버가 실행 중이라 건너뛴 Job은 발행하지 않습니다. (그 서버가 끝나면 모든 서버의 JobLeaseListener가 임대 행을 보고 발행)
+ * - 이벤트는 동기로 처리되고 한 Listener가 예외를 던지면 나머지가 호출되지 않으므로,
+ *      각 @EventListener(검색 인덱스, 스냅샷 등)가 자기 실패를 직접 로그로 남기고 삼킵니다.
+ * - 그래도 빠져나온 예외는 여기서 로그만 남깁니다. (afterJob에서 예외가 나면 뒤에 호출될 Listener(임대 반납 등)가 실행되지 않기 때문)
+ */
+@Slf4j
+public class FoodImportEventPublishingListener implements JobExecutionListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FoodImportEventPublishingListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (JobLeaseListener.isRejected(jobExecution)) {
+            return;
+        }
+        String jobName = jobExecution.getJobInstance().getJobName();
+        try {
+            eventPublisher.publishEvent(new FoodImportCompletedEvent(jobName, jobExecution.getStatus()));
+        } catch (RuntimeException e) {
+            log.error("음식 등록 완료 후 메모리 데이터 갱신 실패: {}", jobName, e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.pagoda.matchmeal.batch.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [음식 등록 배치 지표]
+ * - Micrometer에 기록하는 지표 이름/태그를 한곳에 모아두고, 최근 실행 요약(FoodImportRunSummary)을 보관합니다.
+ * - food.import.chunk{job, phase}        : Chunk 하나의 read/process/write 단계별 소요 시간 (히스토그램)
+ * - food.import.items{job, result}       : read/written/filtered/skipped 건수
+ * - food.import.parse.fallback{job, column}: 숫자로 바꾸지 못해 0.0으로 대체한 건수
+ * - food.import.throughput{job}          : Job 한 번의 초당 처리 행 수
+ * - food.import.duration{job, status}    : Job 한 번의 전체 소요 시간
+ */
+public class FoodImportMetrics {
+
+    public static final String PHASE_READ = "read";
+    public static final String PHASE_PROCESS = "process";
+    public static final String PHASE_WRITE = "write";
+
+    /** 보관할 최근 실행 요약 개수 */
+    private static final int HISTORY_SIZE = 20;
+
+    private final MeterRegistry registry;
+    private final Deque<FoodImportRunSummary> history = new ArrayDeque<>(HISTORY_SIZE);
+
+    public FoodImportMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Chunk 하나의 단계별 소요 시간을 기록합니다.
+     */
+    public void recordChunk(String jobName, long readNanos, long processNanos, long writeNanos) {
+        chunkTimer(jobName, PHASE_READ).record(readNanos, TimeUnit.NANOSECONDS);
+        chunkTimer(jobName, PHASE_PROCESS).record(processNanos, TimeUnit.NANOSECONDS);
+        chunkTimer(jobName, PHASE_WRITE).record(writeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Step 하나의 처리 건수와 컬럼별 0.0 대체 건수를 누적합니다.
+     */
+    public void recordStep(String jobName, long read, long written, long filtered, long skipped,
+                           Map<String, Long> parseFallbacks) {
+        itemCounter(jobName, "read").increment(read);
+        itemCounter(jobName, "written").increment(written);
+        itemCounter(jobName, "filtered").increment(filtered);
+        itemCounter(jobName, "skipped").increment(skipped);
+        parseFallbacks.forEach((column, count) -> Counter.builder("food.import.parse.fallback")
+                .description("숫자 변환 실패로 0.0을 저장한 건수")
+                .tags("job", jobName, "column", column)
+                .register(registry)
+                .increment(count));
+    }
+
+    /**
+     * Job 한 번의 요약을 기록하고 최근 실행 목록에 보관합니다.
+     */
+    public void recordRun(FoodImportRunSummary summary) {
+        DistributionSummary.builder("food.import.throughput")
+                .description("Job 한 번의 초당 처리 행 수")
+                .baseUnit("rows/s")
+                .tags("job", summary.getJobName())
+                .register(registry)
+                .record(summary.getRowsPerSecond());
+        Timer.builder("food.import.duration")
+                .description("Job 한 번의 전체 소요 시간")
+                .tags("job", summary.getJobName(), "status", summary.getStatus())
+                .register(registry)
+                .record(summary.getDurationMillis(), TimeUnit.MILLISECONDS);
+
+        synchronized (history) {
+            if (history.size() == HISTORY_SIZE) {
+                history.removeLast();
+            }
+            history.addFirst(summary);
+        }
+    }
+
+    /**
+     * 최근 실행 요약 목록 (최신순)
+     */
+    public List<FoodImportRunSummary> recentRuns() {
+        synchronized (history) {
+            return new ArrayList<>(history);
+        }
+    }
+
+    private Timer chunkTimer(String jobName, String phase) {
+        return Timer.builder("food.import.chunk")
+                .description("Chunk 하나의 단계별 소요 시간")
+                .tags("job", jobName, "phase", phase)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter itemCounter(String jobName, String result) {
+        return Counter.builder("food.import.items")
+                .description("음식 등록 배치 처리 건수")
+                .tags("job", jobName, "result", result)
+                .register(registry);
+    }
+}
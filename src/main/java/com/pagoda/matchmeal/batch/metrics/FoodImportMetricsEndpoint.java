@@ -0,0 +1,26 @@
+package com.pagoda.matchmeal.batch.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * [음식 등록 배치 Actuator 엔드포인트]
+ * - GET /actuator/foodimport : 최근 Job 실행 요약 목록 (최신순)
+ * - Chunk 단계별 히스토그램 등 세부 지표는 /actuator/metrics/food.import.chunk 등에서 확인합니다.
+ */
+@Endpoint(id = "foodimport")
+public class FoodImportMetricsEndpoint {
+
+    private final FoodImportMetrics metrics;
+
+    public FoodImportMetricsEndpoint(FoodImportMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @ReadOperation
+    public List<FoodImportRunSummary> runs() {
+        return metrics.recentRuns();
+    }
+}
@@ -0,0 +1,167 @@
+package com.pagoda.matchmeal.batch.metrics;
+
+import com.pagoda.matchmeal.batch.processor.ParseFallbackRecorder;
+import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * [음식 등록 Step 지표 Listener]
+ * - 아이템마다 read/process/write 직전·직후 시각을 재서 Chunk 단위로 합산하고, Chunk가 끝날 때 Micrometer에 기록합니다.
+ *      (CSV 토크나이저, Processor, DB Upsert 중 어디가 병목인지 구분하기 위함)
+ * - FoodCsvItemProcessor의 숫자 변환 실패(0.0 대체)를 컬럼별로 셉니다.
+ *      행별로 모아 두었다가 Chunk가 커밋될 때(afterChunk) 합산하므로, 롤백된 뒤 커밋되지 않은 행은 세지 않습니다.
+ *      롤백 후 같은 행을 다시 가공하면 그 행의 기록을 새로 쓰고, 가공 결과를 재사용하면(processorNonTransactional) 그대로 둡니다.
+ * - Step이 끝나면 합계를 StepExecution의 ExecutionContext에 남겨서, Job 종료 시 FoodImportSummaryListener가 합산합니다.
+ * - Step마다 별도 인스턴스(@StepScope)로 사용합니다. (하나의 Step은 한 스레드에서만 실행됨)
+ */
+public class FoodImportMetricsListener implements StepExecutionListener, ChunkListener,
+        ItemReadListener<FoodCsvDto>, ItemProcessListener<FoodCsvDto, Food>, ItemWriteListener<Food>,
+        ParseFallbackRecorder {
+
+    public static final String CHUNK_COUNT_KEY = "food.metrics.chunks";
+    public static final String READ_NANOS_KEY = "food.metrics.read.nanos";
+    public static final String PROCESS_NANOS_KEY = "food.metrics.process.nanos";
+    public static final String WRITE_NANOS_KEY = "food.metrics.write.nanos";
+    public static final String PARSE_FALLBACK_KEY_PREFIX = "food.metrics.fallback.";
+
+    private final FoodImportMetrics metrics;
+
+    private String jobName;
+    private long phaseStart;
+
+    // 현재 Chunk
+    private long chunkReadNanos;
+    private long chunkProcessNanos;
+    private long chunkWriteNanos;
+    /** 가공 중인 행 */
+    private FoodCsvDto processing;
+    /** 아직 커밋되지 않은 행 -> 0.0으로 대체한 컬럼 */
+    private final Map<FoodCsvDto, List<String>> chunkParseFallbacks = new IdentityHashMap<>();
+
+    // Step 전체
+    private long chunkCount;
+    private long readNanos;
+    private long processNanos;
+    private long writeNanos;
+    private final Map<String, Long> parseFallbacks = new TreeMap<>();
+
+    public FoodImportMetricsListener(FoodImportMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+    }
+
+    // --- read ---
+    @Override
+    public void beforeRead() {
+        phaseStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterRead(FoodCsvDto item) {
+        chunkReadNanos += System.nanoTime() - phaseStart;
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+        chunkReadNanos += System.nanoTime() - phaseStart;
+    }
+
+    // --- process ---
+    @Override
+    public void beforeProcess(FoodCsvDto item) {
+        phaseStart = System.nanoTime();
+        processing = item;
+        chunkParseFallbacks.remove(item); // 롤백 후 다시 가공하는 행은 이전 기록을 지움
+    }
+
+    @Override
+    public void afterProcess(FoodCsvDto item, Food result) {
+        chunkProcessNanos += System.nanoTime() - phaseStart;
+    }
+
+    @Override
+    public void onProcessError(FoodCsvDto item, Exception e) {
+        chunkProcessNanos += System.nanoTime() - phaseStart;
+        chunkParseFallbacks.remove(item); // 가공 결과가 버려지므로 기록도 버림
+    }
+
+    // --- write ---
+    @Override
+    public void beforeWrite(Chunk<? extends Food> items) {
+        phaseStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends Food> items) {
+        chunkWriteNanos += System.nanoTime() - phaseStart;
+    }
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<? extends Food> items) {
+        chunkWriteNanos += System.nanoTime() - phaseStart;
+    }
+
+    // --- chunk ---
+    @Override
+    public void afterChunk(ChunkContext context) {
+        metrics.recordChunk(jobName, chunkReadNanos, chunkProcessNanos, chunkWriteNanos);
+        chunkCount++;
+        readNanos += chunkReadNanos;
+        processNanos += chunkProcessNanos;
+        writeNanos += chunkWriteNanos;
+        chunkParseFallbacks.values().forEach(columns ->
+                columns.forEach(column -> parseFallbacks.merge(column, 1L, Long::sum)));
+        chunkParseFallbacks.clear();
+        resetChunk();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        resetChunk(); // 롤백된 Chunk의 시간은 집계하지 않음 (0.0 대체 기록은 다시 시도한 Chunk가 커밋될 때 합산)
+    }
+
+    @Override
+    public void onFallback(String column, String rawValue) {
+        chunkParseFallbacks.computeIfAbsent(processing, item -> new ArrayList<>()).add(column);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.putLong(CHUNK_COUNT_KEY, chunkCount);
+        context.putLong(READ_NANOS_KEY, readNanos);
+        context.putLong(PROCESS_NANOS_KEY, processNanos);
+        context.putLong(WRITE_NANOS_KEY, writeNanos);
+        parseFallbacks.forEach((column, count) -> context.putLong(PARSE_FALLBACK_KEY_PREFIX + column, count));
+
+        metrics.recordStep(jobName, stepExecution.getReadCount(), stepExecution.getWriteCount(),
+                stepExecution.getFilterCount(), stepExecution.getSkipCount(), parseFallbacks);
+        return stepExecution.getExitStatus();
+    }
+
+    private void resetChunk() {
+        chunkReadNanos = 0;
+        chunkProcessNanos = 0;
+        chunkWriteNanos = 0;
+    }
+}
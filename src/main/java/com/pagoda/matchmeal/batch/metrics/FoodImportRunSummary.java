@@ -0,0 +1,61 @@
+package com.pagoda.matchmeal.batch.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * [음식 등록 Job 실행 요약]
+ * - Job이 끝날 때 모든 Step(파티션 포함)의 지표를 합산한 결과입니다.
+ * - Actuator 엔드포인트(/actuator/foodimport)로 최근 실행 목록을 조회할 수 있습니다.
+ * - 단계별 시간(readMillis 등)은 파티션 스레드의 시간을 합친 값이므로, 병렬 Job에서는 전체 소요 시간보다 클 수 있습니다.
+ */
+@Getter
+@Builder
+public class FoodImportRunSummary {
+    private final Long jobExecutionId;
+    private final String jobName;
+    private final String status;
+    private final LocalDateTime startTime;
+    private final long durationMillis;
+
+    private final long readCount;
+    private final long writeCount;
+    private final long filterCount;
+    private final long skipCount;
+    private final double rowsPerSecond;
+
+    private final long chunkCount;
+    private final long readMillis;
+    private final long processMillis;
+    private final long writeMillis;
+
+    /** 컬럼별 숫자 변환 실패(0.0 대체) 건수 */
+    private final Map<String, Long> parseFallbacks;
+
+    /**
+     * 로그용 요약 표를 만듭니다. (단계별 시간 비율로 병목 구간을 바로 확인)
+     */
+    public String toTable() {
+        long phaseTotal = Math.max(1, readMillis + processMillis + writeMillis);
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n[%s #%d] %s, %,dms, %,.0f행/초, Chunk %,d개%n",
+                jobName, jobExecutionId, status, durationMillis, rowsPerSecond, chunkCount));
+        sb.append("+---------+------------+--------+\n");
+        sb.append("| 단계    |   시간(ms) |   비율 |\n");
+        sb.append("+---------+------------+--------+\n");
+        appendRow(sb, "read", readMillis, phaseTotal);
+        appendRow(sb, "process", processMillis, phaseTotal);
+        appendRow(sb, "write", writeMillis, phaseTotal);
+        sb.append("+---------+------------+--------+\n");
+        sb.append(String.format("읽기 %,d / 저장 %,d / 필터 %,d / 건너뜀 %,d%n", readCount, writeCount, filterCount, skipCount));
+        sb.append("숫자 변환 실패(0.0 대체): ").append(parseFallbacks.isEmpty() ? "없음" : parseFallbacks);
+        return sb.toString();
+    }
+
+    private static void appendRow(StringBuilder sb, String phase, long millis, long total) {
+        sb.append(String.format("| %-7s | %,10d | %5.1f%% |%n", phase, millis, millis * 100.0 / total));
+    }
+}
@@ -0,0 +1,88 @@
+package com.pagoda.matchmeal.batch.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [음식 등록 Job 실행 요약 Listener]
+ * - Job이 끝나면 FoodImportMetricsListener가 각 Step(파티션 포함)에 남긴 지표를 합산해서
+ *      실행 요약 표를 로그로 남기고, FoodImportMetrics에 보관합니다. (/actuator/foodimport 로 조회)
+ * - 파티셔닝 Job의 Manager Step은 Worker 건수를 다시 합산하므로, 지표가 기록된 Step만 합산해서 중복 집계를 막습니다.
+ */
+@Slf4j
+public class FoodImportSummaryListener implements JobExecutionListener {
+
+    private final FoodImportMetrics metrics;
+
+    public FoodImportSummaryListener(FoodImportMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        long read = 0;
+        long written = 0;
+        long filtered = 0;
+        long skipped = 0;
+        long chunks = 0;
+        long readNanos = 0;
+        long processNanos = 0;
+        long writeNanos = 0;
+        Map<String, Long> parseFallbacks = new TreeMap<>();
+
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            ExecutionContext context = stepExecution.getExecutionContext();
+            if (!context.containsKey(FoodImportMetricsListener.CHUNK_COUNT_KEY)) {
+                continue;
+            }
+            read += stepExecution.getReadCount();
+            written += stepExecution.getWriteCount();
+            filtered += stepExecution.getFilterCount();
+            skipped += stepExecution.getSkipCount();
+            chunks += context.getLong(FoodImportMetricsListener.CHUNK_COUNT_KEY);
+            readNanos += context.getLong(FoodImportMetricsListener.READ_NANOS_KEY, 0L);
+            processNanos += context.getLong(FoodImportMetricsListener.PROCESS_NANOS_KEY, 0L);
+            writeNanos += context.getLong(FoodImportMetricsListener.WRITE_NANOS_KEY, 0L);
+            for (Map.Entry<String, Object> entry : context.entrySet()) {
+                if (entry.getKey().startsWith(FoodImportMetricsListener.PARSE_FALLBACK_KEY_PREFIX)) {
+                    String column = entry.getKey().substring(FoodImportMetricsListener.PARSE_FALLBACK_KEY_PREFIX.length());
+                    parseFallbacks.merge(column, ((Number) entry.getValue()).longValue(), Long::sum);
+                }
+            }
+        }
+
+        LocalDateTime start = jobExecution.getStartTime();
+        LocalDateTime end = jobExecution.getEndTime() != null ? jobExecution.getEndTime() : LocalDateTime.now();
+        long durationMillis = start == null ? 0 : Duration.between(start, end).toMillis();
+
+        FoodImportRunSummary summary = FoodImportRunSummary.builder()
+                .jobExecutionId(jobExecution.getId())
+                .jobName(jobExecution.getJobInstance().getJobName())
+                .status(jobExecution.getStatus().name())
+                .startTime(start)
+                .durationMillis(durationMillis)
+                .readCount(read)
+                .writeCount(written)
+                .filterCount(filtered)
+                .skipCount(skipped)
+                .rowsPerSecond(durationMillis == 0 ? 0 : read * 1000.0 / durationMillis)
+                .chunkCount(chunks)
+                .readMillis(TimeUnit.NANOSECONDS.toMillis(readNanos))
+                .processMillis(TimeUnit.NANOSECONDS.toMillis(processNanos))
+                .writeMillis(TimeUnit.NANOSECONDS.toMillis(writeNanos))
+                .parseFallbacks(parseFallbacks)
+                .build();
+
+        metrics.recordRun(summary);
+        log.info("음식 등록 Job 실행 요약{}", summary.toTable());
+    }
+}
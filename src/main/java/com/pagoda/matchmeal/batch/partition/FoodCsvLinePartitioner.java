@@ -0,0 +1,147 @@
+package com.pagoda.matchmeal.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * [음식 CSV 라인 범위 파티셔너]
+ * - CSV 파일의 데이터 라인 수를 센 뒤, 이를 N개의 연속된 라인 범위로 나눕니다.
+ * - 각 파티션은 [startIndex, endIndex) 범위의 데이터 라인(헤더 제외, 0부터 시작)만 담당합니다.
+ * - 각 파티션의 첫 줄이 시작하는 바이트 위치(startOffset)도 함께 기록하므로, Reader는 앞쪽 줄을 다시 읽지 않고 바로 이동합니다.
+ * - 범위 정보는 파티션별 ExecutionContext에 저장되므로, 실패한 파티션만 따로 재시작할 수 있습니다.
+ */
+@Slf4j
+public class FoodCsvLinePartitioner implements Partitioner {
+
+    /** 파티션 ExecutionContext 키: 시작 라인 인덱스 (포함) */
+    public static final String START_INDEX_KEY = "startIndex";
+    /** 파티션 ExecutionContext 키: 끝 라인 인덱스 (미포함) */
+    public static final String END_INDEX_KEY = "endIndex";
+    /** 파티션 ExecutionContext 키: 시작 라인이 시작하는 바이트 위치 (헤더 포함 파일 기준) */
+    public static final String START_OFFSET_KEY = "startOffset";
+    /** 파티셔너가 기록하는 키 전체 (나머지는 Step 실행 중에 Reader 등이 기록한 값) */
+    public static final Set<String> PARTITION_KEYS = Set.of(START_INDEX_KEY, END_INDEX_KEY, START_OFFSET_KEY);
+
+    private static final String PARTITION_PREFIX = "partition";
+
+    private final Resource resource;
+    private final int linesToSkip;
+    /** Job 파라미터로 지정한 파티션 개수 (null이면 Step에 설정된 gridSize 사용) */
+    private final Integer partitionCount;
+
+    public FoodCsvLinePartitioner(Resource resource, int linesToSkip, Integer partitionCount) {
+        this.resource = resource;
+        this.linesToSkip = linesToSkip;
+        this.partitionCount = partitionCount;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int dataLines = Math.max(0, countLines() - linesToSkip);
+        int requested = (partitionCount != null && partitionCount > 0) ? partitionCount : gridSize;
+        // 데이터보다 파티션이 많으면 빈 파티션만 생기므로 데이터 라인 수로 제한
+        int partitions = Math.max(1, Math.min(requested, dataLines));
+
+        int rangeSize = dataLines / partitions;
+        int remainder = dataLines % partitions;
+
+        int[] starts = new int[partitions];
+        int start = 0;
+        for (int i = 0; i < partitions; i++) {
+            starts[i] = start;
+            // 나머지 라인은 앞쪽 파티션부터 하나씩 더 나눠 가집니다.
+            start += rangeSize + (i < remainder ? 1 : 0);
+        }
+        long[] startOffsets = lineOffsets(starts);
+
+        Map<String, ExecutionContext> result = new LinkedHashMap<>();
+        for (int i = 0; i < partitions; i++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(START_INDEX_KEY, starts[i]);
+            context.putInt(END_INDEX_KEY, i + 1 < partitions ? starts[i + 1] : dataLines);
+            context.putLong(START_OFFSET_KEY, startOffsets[i]);
+            result.put(PARTITION_PREFIX + i, context);
+        }
+
+        log.info("음식 CSV 파티셔닝 완료: 데이터 {}줄 -> {}개 파티션", dataLines, partitions);
+        return result;
+    }
+
+    /**
+     * 파일 전체의 라인 수를 셉니다.
+     * - 문자열로 디코딩하지 않고 바이트 단위로 개행(\n)만 세기 때문에 빠릅니다.
+     * - 마지막 줄이 개행 없이 끝나는 경우도 한 줄로 셉니다.
+     */
+    private int countLines() {
+        byte[] buffer = new byte[64 * 1024];
+        int lines = 0;
+        byte last = '\n';
+        try (InputStream in = resource.getInputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        lines++;
+                    }
+                }
+                if (read > 0) {
+                    last = buffer[read - 1];
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("음식 CSV 파일을 읽을 수 없습니다: " + resource.getDescription(), e);
+        }
+        return last == '\n' ? lines : lines + 1;
+    }
+
+    /**
+     * 데이터 라인 인덱스(오름차순)마다 그 줄이 시작하는 바이트 위치를 찾습니다.
+     * - countLines와 같이 개행(\n) 바이트만 세면서 훑고, 마지막 인덱스를 찾으면 멈춥니다.
+     * - 파일 끝을 넘는 인덱스(데이터가 없는 경우)는 파일 크기를 돌려줍니다.
+     */
+    private long[] lineOffsets(int[] dataLineIndexes) {
+        long[] offsets = new long[dataLineIndexes.length];
+        byte[] buffer = new byte[64 * 1024];
+        long line = 0;     // 지금까지 지나간 개행 수 = 다음 바이트가 속한 줄 (헤더 포함, 0부터)
+        long position = 0; // 버퍼 첫 바이트의 파일 내 위치
+        int found = record(offsets, 0, dataLineIndexes, line, 0);
+        try (InputStream in = resource.getInputStream()) {
+            int read;
+            while (found < offsets.length && (read = in.read(buffer)) != -1) {
+                for (int i = 0; i < read && found < offsets.length; i++) {
+                    if (buffer[i] == '\n') {
+                        line++;
+                        found = record(offsets, found, dataLineIndexes, line, position + i + 1);
+                    }
+                }
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("음식 CSV 파일을 읽을 수 없습니다: " + resource.getDescription(), e);
+        }
+        while (found < offsets.length) {
+            offsets[found++] = position;
+        }
+        return offsets;
+    }
+
+    /**
+     * line번째 줄(position에서 시작)이 찾는 데이터 라인이면 위치를 기록합니다.
+     * @return 지금까지 찾은 개수
+     */
+    private int record(long[] offsets, int found, int[] dataLineIndexes, long line, long position) {
+        while (found < offsets.length && linesToSkip + (long) dataLineIndexes[found] == line) {
+            offsets[found++] = position;
+        }
+        return found;
+    }
+}
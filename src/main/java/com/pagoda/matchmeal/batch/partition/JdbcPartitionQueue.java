@@ -0,0 +1,146 @@
+package com.pagoda.matchmeal.batch.partition;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * [DB 기반 원격 파티션 작업 큐]
+ * - batch_partition_task 테이블을 여러 서버가 함께 사용합니다. (Spring Batch 메타 테이블과 같은 DB)
+ * - 작업 가져가기는 "status = 'PENDING'" 조건부 UPDATE로 하므로, 같은 작업을 두 서버가 가져가지 않습니다.
+ * - heartbeat 만료 판단은 DB 시각(LOCALTIMESTAMP) 기준이라 서버 간 시계 차이의 영향을 받지 않습니다.
+ * - JobLeaseRepository와 같은 이유로 JdbcTemplate을 사용합니다.
+ */
+public class JdbcPartitionQueue implements PartitionQueue {
+
+    /** 한 번에 살펴볼 PENDING 작업 수 (다른 서버와 경쟁해서 놓치면 다음 작업을 시도) */
+    private static final int CLAIM_CANDIDATES = 8;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String COLUMNS =
+            "task_id, job_execution_id, step_execution_id, step_name, status, worker, attempt, read_count, write_count, error";
+
+    private static final String INSERT_TASK =
+            "INSERT INTO batch_partition_task (job_execution_id, step_execution_id, step_name, status, attempt)"
+            + " VALUES (?, ?, ?, 'PENDING', 0)";
+
+    private static final String FIND_PENDING =
+            "SELECT task_id FROM batch_partition_task WHERE status = 'PENDING' ORDER BY task_id LIMIT " + CLAIM_CANDIDATES;
+
+    private static final String CLAIM =
+            "UPDATE batch_partition_task"
+            + " SET status = 'RUNNING', worker = ?, attempt = attempt + 1, heartbeat_at = LOCALTIMESTAMP(3), error = NULL"
+            + " WHERE task_id = ? AND status = 'PENDING'";
+
+    private static final String FIND_BY_ID =
+            "SELECT " + COLUMNS + " FROM batch_partition_task WHERE task_id = ?";
+
+    private static final String FIND_BY_JOB =
+            "SELECT " + COLUMNS + " FROM batch_partition_task WHERE job_execution_id = ? ORDER BY task_id";
+
+    private static final String HEARTBEAT =
+            "UPDATE batch_partition_task SET heartbeat_at = LOCALTIMESTAMP(3), read_count = ?, write_count = ?"
+            + " WHERE task_id = ? AND worker = ? AND attempt = ? AND status = 'RUNNING'";
+
+    /** Chunk 트랜잭션 안에서 소유 확인 (행 잠금은 커밋까지 유지) */
+    private static final String FENCE =
+            "UPDATE batch_partition_task SET heartbeat_at = LOCALTIMESTAMP(3)"
+            + " WHERE task_id = ? AND worker = ? AND attempt = ? AND status = 'RUNNING'";
+
+    private static final String COMPLETE =
+            "UPDATE batch_partition_task"
+            + " SET status = ?, read_count = ?, write_count = ?, error = ?, heartbeat_at = LOCALTIMESTAMP(3)"
+            + " WHERE task_id = ? AND worker = ? AND attempt = ? AND status = 'RUNNING'";
+
+    /** heartbeat가 끊긴 작업 (시도 횟수가 남음) -> PENDING */
+    private static final String REQUEUE_STALE =
+            "UPDATE batch_partition_task SET status = 'PENDING', worker = NULL, error = 'worker heartbeat timeout'"
+            + " WHERE job_execution_id = ? AND status = 'RUNNING'"
+            + " AND heartbeat_at < TIMESTAMPADD(MICROSECOND, ?, LOCALTIMESTAMP(3)) AND attempt < ?";
+
+    /** heartbeat가 끊긴 작업 (시도 횟수를 다 씀) -> FAILED */
+    private static final String FAIL_STALE =
+            "UPDATE batch_partition_task SET status = 'FAILED', error = 'worker heartbeat timeout'"
+            + " WHERE job_execution_id = ? AND status = 'RUNNING'"
+            + " AND heartbeat_at < TIMESTAMPADD(MICROSECOND, ?, LOCALTIMESTAMP(3)) AND attempt >= ?";
+
+    /** 실패한 작업 (시도 횟수가 남음) -> PENDING */
+    private static final String REQUEUE_FAILED =
+            "UPDATE batch_partition_task SET status = 'PENDING', worker = NULL"
+            + " WHERE job_execution_id = ? AND status = 'FAILED' AND attempt < ?";
+
+    private static final RowMapper<PartitionTask> TASK_ROW_MAPPER = (rs, rowNum) -> new PartitionTask(
+            rs.getLong("task_id"),
+            rs.getLong("job_execution_id"),
+            rs.getLong("step_execution_id"),
+            rs.getString("step_name"),
+            PartitionTaskStatus.valueOf(rs.getString("status")),
+            rs.getString("worker"),
+            rs.getInt("attempt"),
+            rs.getLong("read_count"),
+            rs.getLong("write_count"),
+            rs.getString("error"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPartitionQueue(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void dispatch(long jobExecutionId, String stepName, Collection<Long> stepExecutionIds) {
+        List<Object[]> rows = new ArrayList<>(stepExecutionIds.size());
+        for (Long stepExecutionId : stepExecutionIds) {
+            rows.add(new Object[]{jobExecutionId, stepExecutionId, stepName});
+        }
+        jdbcTemplate.batchUpdate(INSERT_TASK, rows);
+    }
+
+    @Override
+    public PartitionTask claim(String worker) {
+        for (Long taskId : jdbcTemplate.queryForList(FIND_PENDING, Long.class)) {
+            if (jdbcTemplate.update(CLAIM, worker, taskId) == 1) {
+                return jdbcTemplate.queryForObject(FIND_BY_ID, TASK_ROW_MAPPER, taskId);
+            }
+            // 다른 서버가 먼저 가져감
+        }
+        return null;
+    }
+
+    @Override
+    public boolean heartbeat(PartitionTask task, long readCount, long writeCount) {
+        return jdbcTemplate.update(HEARTBEAT, readCount, writeCount, task.getTaskId(), task.getWorker(), task.getAttempt()) == 1;
+    }
+
+    @Override
+    public boolean fence(PartitionTask task) {
+        return jdbcTemplate.update(FENCE, task.getTaskId(), task.getWorker(), task.getAttempt()) == 1;
+    }
+
+    @Override
+    public void complete(PartitionTask task, PartitionTaskStatus status, long readCount, long writeCount, String error) {
+        jdbcTemplate.update(COMPLETE, status.name(), readCount, writeCount, truncate(error),
+                task.getTaskId(), task.getWorker(), task.getAttempt());
+    }
+
+    @Override
+    public int requeue(long jobExecutionId, Duration workerTimeout, int maxAttempts) {
+        long staleBefore = -workerTimeout.toNanos() / 1_000;
+        int requeued = jdbcTemplate.update(REQUEUE_STALE, jobExecutionId, staleBefore, maxAttempts);
+        jdbcTemplate.update(FAIL_STALE, jobExecutionId, staleBefore, maxAttempts);
+        return requeued + jdbcTemplate.update(REQUEUE_FAILED, jobExecutionId, maxAttempts);
+    }
+
+    @Override
+    public List<PartitionTask> findByJobExecution(long jobExecutionId) {
+        return jdbcTemplate.query(FIND_BY_JOB, TASK_ROW_MAPPER, jobExecutionId);
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,52 @@
+package com.pagoda.matchmeal.batch.partition;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * [원격 파티션 작업 큐]
+ * - Manager(QueuePartitionHandler)가 파티션을 넣고, 각 서버의 Worker(PartitionTaskWorker)가 하나씩 가져가 실행합니다.
+ * - 운영에서는 DB 테이블(JdbcPartitionQueue), 테스트에서는 메모리 구현을 사용합니다.
+ */
+public interface PartitionQueue {
+
+    /**
+     * 파티션(Worker StepExecution)들을 PENDING 작업으로 넣습니다.
+     */
+    void dispatch(long jobExecutionId, String stepName, Collection<Long> stepExecutionIds);
+
+    /**
+     * PENDING 작업 하나를 RUNNING으로 바꾸고 가져옵니다. (같은 작업을 두 Worker가 가져가지 않음)
+     * @param worker    가져가는 서버
+     * @return          가져온 작업 (없으면 null)
+     */
+    PartitionTask claim(String worker);
+
+    /**
+     * 실행 중인 작업의 진행 상황을 기록합니다.
+     * @return  아직 이 Worker의 작업이면 true (heartbeat가 늦어 다른 Worker에게 재분배되었으면 false)
+     */
+    boolean heartbeat(PartitionTask task, long readCount, long writeCount);
+
+    /**
+     * 현재 트랜잭션 안에서, 이 Worker의 이 시도(attempt)가 아직 작업을 가지고 있는지 확인합니다.
+     * - 작업 행을 커밋까지 잠그므로, 확인한 Chunk가 커밋되기 전에는 재분배되지 않습니다.
+     * @return  아직 이 시도의 작업이면 true (재분배되었으면 false)
+     */
+    boolean fence(PartitionTask task);
+
+    /**
+     * 실행이 끝난 작업의 결과를 기록합니다. (이미 재분배된 작업이면 무시)
+     */
+    void complete(PartitionTask task, PartitionTaskStatus status, long readCount, long writeCount, String error);
+
+    /**
+     * 재분배: heartbeat가 workerTimeout보다 오래 끊긴 작업과 실패한 작업을 다시 PENDING으로 돌립니다.
+     * - 시도 횟수가 maxAttempts에 도달한 작업은 FAILED로 남깁니다.
+     * @return  다시 PENDING으로 돌린 작업 수
+     */
+    int requeue(long jobExecutionId, Duration workerTimeout, int maxAttempts);
+
+    List<PartitionTask> findByJobExecution(long jobExecutionId);
+}
@@ -0,0 +1,32 @@
+package com.pagoda.matchmeal.batch.partition;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * [원격 파티션 작업]
+ * - Worker StepExecution 하나를 다른 서버에서 실행하기 위한 작업 큐의 한 항목입니다.
+ * - 실행할 내용(읽을 범위 등)은 StepExecution의 ExecutionContext에 있으므로, 작업에는 식별자만 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PartitionTask {
+    private final long taskId;
+    private final long jobExecutionId;
+    private final long stepExecutionId;
+    private final String stepName;              // 실행할 Worker Step 이름
+    private final PartitionTaskStatus status;
+    private final String worker;                // 실행 중인 서버 (없으면 null)
+    private final int attempt;                  // 지금까지 가져간 횟수
+    private final long readCount;               // 진행 상황 (마지막 heartbeat 기준)
+    private final long writeCount;
+    private final String error;                 // 마지막 실패 사유
+
+    /**
+     * 더 이상 상태가 바뀌지 않는 작업인지 (완료, 또는 시도 횟수를 다 쓴 실패)
+     */
+    public boolean isFinished(int maxAttempts) {
+        return status == PartitionTaskStatus.COMPLETED
+                || (status == PartitionTaskStatus.FAILED && attempt >= maxAttempts);
+    }
+}
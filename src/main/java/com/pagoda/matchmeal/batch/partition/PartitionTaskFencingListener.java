@@ -0,0 +1,48 @@
+package com.pagoda.matchmeal.batch.partition;
+
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * [원격 파티션 작업 소유 확인 Listener]
+ * - 원격 파티션으로 실행 중인 Worker Step은 쓰기를 커밋하기 직전(afterWrite), 같은 트랜잭션에서
+ *      이 Worker의 이 시도가 아직 작업을 가지고 있는지 확인합니다. (PartitionQueue.fence)
+ * - 재분배되었으면 예외를 던져 Chunk를 롤백하고 Step을 중단(terminateOnly)하므로,
+ *      새로 가져간 Worker와 같은 파티션을 동시에 쓰지 않습니다.
+ * - 임대(JobLeaseListener)는 Job 실행 단위로만 확인하므로, 파티션 작업 단위는 이 Listener가 확인합니다.
+ * - 이 서버의 스레드로 실행하는 파티션(foodPartitionedJob)은 등록되지 않으므로 아무것도 하지 않습니다.
+ */
+public class PartitionTaskFencingListener implements ItemWriteListener<Object> {
+
+    /** StepExecution id -> 작업 소유 확인 (PartitionTaskWorker가 실행하는 동안만 등록) */
+    private final Map<Long, BooleanSupplier> fences = new ConcurrentHashMap<>();
+
+    public void register(long stepExecutionId, BooleanSupplier fence) {
+        fences.put(stepExecutionId, fence);
+    }
+
+    public void unregister(long stepExecutionId) {
+        fences.remove(stepExecutionId);
+    }
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            return;
+        }
+        StepExecution stepExecution = context.getStepExecution();
+        BooleanSupplier fence = fences.get(stepExecution.getId());
+        if (fence != null && !fence.getAsBoolean()) {
+            stepExecution.setTerminateOnly();
+            throw new PartitionTaskLostException("원격 파티션이 다른 Worker로 재분배되었습니다: " + stepExecution.getStepName());
+        }
+    }
+}
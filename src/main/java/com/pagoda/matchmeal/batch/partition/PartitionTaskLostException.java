@@ -0,0 +1,12 @@
+package com.pagoda.matchmeal.batch.partition;
+
+/**
+ * 실행 중인 원격 파티션이 다른 Worker(또는 같은 Worker의 새 시도)로 재분배되었을 때 발생하는 예외
+ * - Chunk 트랜잭션 안에서 던지므로, 해당 Chunk의 쓰기는 롤백되고 Step은 중단됩니다.
+ */
+public class PartitionTaskLostException extends RuntimeException {
+
+    public PartitionTaskLostException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.pagoda.matchmeal.batch.partition;
+
+/**
+ * 원격 파티션 작업 상태
+ */
+public enum PartitionTaskStatus {
+    PENDING,    // Worker가 가져가기를 기다리는 중
+    RUNNING,    // Worker가 실행 중 (heartbeat가 끊기면 다시 PENDING으로)
+    COMPLETED,  // 완료
+    FAILED      // 실패 (시도 횟수가 남아 있으면 다시 PENDING으로)
+}
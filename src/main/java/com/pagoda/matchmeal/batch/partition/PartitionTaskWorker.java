@@ -0,0 +1,238 @@
+package com.pagoda.matchmeal.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [원격 파티션 Worker]
+ * - 모든 서버에서 실행되며, 작업 큐에서 PENDING 작업을 가져와 해당 Worker StepExecution을 이 서버에서 실행합니다.
+ * - 실행 중에는 heartbeat로 진행 상황(읽기/쓰기 건수)을 큐에 기록합니다. (끊기면 Manager가 다른 서버로 재분배)
+ * - 재분배된 것을 알게 되면(heartbeat 실패, Chunk 커밋 전 소유 확인 실패) Step을 중단해서 새 Worker와 동시에 쓰지 않습니다.
+ * - 재분배된 작업은 이전 시도의 건수와 읽기 위치를 지우고 파티션 범위를 처음부터 다시 실행합니다. (resetForRetry)
+ * - Job 단위 Listener(afterJob)는 Manager 서버에서만 실행되므로, 이 서버에서 Job 단위로 만든 자원
+ *      (해시 스냅샷 등)은 해당 Job이 끝난 것을 확인한 뒤 finishedJobListeners로 정리합니다.
+ */
+@Slf4j
+public class PartitionTaskWorker implements SmartLifecycle {
+
+    private final PartitionQueue partitionQueue;
+    private final JobExplorer jobExplorer;
+    /** Step 이름 -> 실행할 Worker Step */
+    private final Map<String, Step> steps;
+    /** 파티셔너가 기록한 ExecutionContext 키 (다시 시도할 때 이 키만 남김) */
+    private final Set<String> partitionKeys;
+    private final List<JobExecutionListener> finishedJobListeners;
+    private final PartitionTaskFencingListener fencingListener;
+    private final String workerId;
+    private final int concurrency;
+    private final Duration pollInterval;
+    private final Duration heartbeatInterval;
+    private final boolean autoStartup;
+
+    /** 이 서버에서 파티션을 실행한 Job 실행 (끝나면 정리) */
+    private final Set<Long> servedJobExecutions = ConcurrentHashMap.newKeySet();
+    private ExecutorService pollers;
+    private ScheduledExecutorService heartbeats;
+    private volatile boolean running;
+
+    public PartitionTaskWorker(PartitionQueue partitionQueue, JobExplorer jobExplorer,
+                               Map<String, Step> steps, Set<String> partitionKeys,
+                               List<JobExecutionListener> finishedJobListeners, PartitionTaskFencingListener fencingListener,
+                               String workerId, int concurrency,
+                               Duration pollInterval, Duration heartbeatInterval, boolean autoStartup) {
+        this.partitionQueue = partitionQueue;
+        this.jobExplorer = jobExplorer;
+        this.steps = steps;
+        this.partitionKeys = partitionKeys;
+        this.finishedJobListeners = finishedJobListeners;
+        this.fencingListener = fencingListener;
+        this.workerId = workerId;
+        this.concurrency = concurrency;
+        this.pollInterval = pollInterval;
+        this.heartbeatInterval = heartbeatInterval;
+        this.autoStartup = autoStartup;
+    }
+
+    @Override
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        pollers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "partition-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "partition-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < concurrency; i++) {
+            pollers.submit(this::pollLoop);
+        }
+        log.info("원격 파티션 Worker 시작: {} (동시 실행 {}개)", workerId, concurrency);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (pollers != null) {
+            pollers.shutdownNow();
+            heartbeats.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                PartitionTask task = partitionQueue.claim(workerId);
+                if (task == null) {
+                    cleanupFinishedJobs();
+                    Thread.sleep(pollInterval.toMillis());
+                    continue;
+                }
+                execute(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (DataAccessException e) {
+                log.warn("원격 파티션 작업 큐 조회 실패", e);
+                sleepQuietly();
+            } catch (RuntimeException e) {
+                log.error("원격 파티션 Worker 오류", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * 작업에 해당하는 Worker StepExecution을 이 서버에서 실행하고 결과를 큐에 기록합니다.
+     */
+    void execute(PartitionTask task) {
+        Step step = steps.get(task.getStepName());
+        StepExecution stepExecution = jobExplorer.getStepExecution(task.getJobExecutionId(), task.getStepExecutionId());
+        if (step == null || stepExecution == null) {
+            partitionQueue.complete(task, PartitionTaskStatus.FAILED, 0, 0,
+                    "실행할 수 없는 작업: step=" + task.getStepName() + ", stepExecution=" + task.getStepExecutionId());
+            return;
+        }
+        servedJobExecutions.add(task.getJobExecutionId());
+        if (task.getAttempt() > 1) {
+            resetForRetry(stepExecution);
+        }
+        log.info("원격 파티션 실행: {} (Job 실행 {}, {}번째 시도)", stepExecution.getStepName(), task.getJobExecutionId(), task.getAttempt());
+
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleWithFixedDelay(() -> {
+            try {
+                if (!partitionQueue.heartbeat(task, stepExecution.getReadCount(), stepExecution.getWriteCount())) {
+                    // 다음 Chunk 경계에서 Step이 멈춤 (그 전에 커밋하려는 Chunk는 fencingListener가 롤백)
+                    stepExecution.setTerminateOnly();
+                    log.warn("원격 파티션이 다른 Worker로 재분배되어 중단합니다: {}", stepExecution.getStepName());
+                }
+            } catch (DataAccessException e) {
+                log.warn("원격 파티션 heartbeat 실패: {}", stepExecution.getStepName(), e);
+            }
+        }, heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        fencingListener.register(stepExecution.getId(), () -> partitionQueue.fence(task));
+        String error = null;
+        try {
+            step.execute(stepExecution);
+        } catch (Exception e) {
+            // Step 내부 오류는 보통 StepExecution의 실패 예외로 남고, 여기로 오는 것은 JobInterruptedException 등
+            error = e.toString();
+        } finally {
+            heartbeat.cancel(false);
+            fencingListener.unregister(stepExecution.getId());
+        }
+
+        PartitionTaskStatus status = stepExecution.getStatus() == BatchStatus.COMPLETED
+                ? PartitionTaskStatus.COMPLETED : PartitionTaskStatus.FAILED;
+        if (error == null && !stepExecution.getFailureExceptions().isEmpty()) {
+            error = stepExecution.getFailureExceptions().get(0).toString();
+        }
+        partitionQueue.complete(task, status, stepExecution.getReadCount(), stepExecution.getWriteCount(), error);
+        log.info("원격 파티션 종료: {} ({}, 읽기 {}건, 쓰기 {}건)",
+                stepExecution.getStepName(), status, stepExecution.getReadCount(), stepExecution.getWriteCount());
+    }
+
+    /**
+     * 재분배된 작업의 StepExecution을 처음 실행할 때의 상태로 되돌립니다.
+     * - JobRepository에서 읽은 StepExecution에는 이전 시도가 커밋한 건수가 남아 있으므로, 그대로 실행하면
+     *      Step/Job 요약에 이전 시도의 건수가 더해집니다.
+     * - 건수만 지우고 저장된 위치부터 이어서 읽으면 앞부분의 건수가 빠지고, Step 안에서 세는 값(delta 건수 등)도
+     *      이번 시도 것만 남으므로, Reader가 기록한 위치도 지워서 범위 전체를 다시 읽습니다. (저장은 upsert라 결과가 같음)
+     */
+    void resetForRetry(StepExecution stepExecution) {
+        stepExecution.setReadCount(0);
+        stepExecution.setWriteCount(0);
+        stepExecution.setFilterCount(0);
+        stepExecution.setReadSkipCount(0);
+        stepExecution.setProcessSkipCount(0);
+        stepExecution.setWriteSkipCount(0);
+        stepExecution.setCommitCount(0);
+        stepExecution.setRollbackCount(0);
+
+        ExecutionContext context = stepExecution.getExecutionContext();
+        List<String> staleKeys = context.entrySet().stream()
+                .map(Map.Entry::getKey)
+                .filter(key -> !partitionKeys.contains(key))
+                .toList();
+        staleKeys.forEach(context::remove);
+        log.info("원격 파티션 재실행 준비: {} (이전 시도의 건수와 읽기 위치 {}개 초기화)", stepExecution.getStepName(), staleKeys.size());
+    }
+
+    /**
+     * 이 서버에서 파티션을 실행했던 Job 중 끝난 Job의 자원을 정리합니다.
+     */
+    private void cleanupFinishedJobs() {
+        for (Long jobExecutionId : servedJobExecutions) {
+            JobExecution jobExecution = jobExplorer.getJobExecution(jobExecutionId);
+            if (jobExecution != null && jobExecution.isRunning()) {
+                continue;
+            }
+            servedJobExecutions.remove(jobExecutionId);
+            if (jobExecution != null) {
+                finishedJobListeners.forEach(listener -> listener.afterJob(jobExecution));
+            }
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.pagoda.matchmeal.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.PartitionHandler;
+import org.springframework.batch.core.partition.StepExecutionSplitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * [작업 큐 기반 원격 PartitionHandler (Manager)]
+ * - 파티션(Worker StepExecution)을 만든 뒤 직접 실행하지 않고 작업 큐에 넣습니다.
+ *      실제 실행은 각 서버의 PartitionTaskWorker가 큐에서 가져가서 합니다. (Manager 서버도 Worker로 참여)
+ * - pollInterval마다 큐를 확인해서 진행 상황을 로그로 남기고, 다음 작업을 재분배합니다.
+ *      - heartbeat가 workerTimeout보다 오래 끊긴 작업 (Worker 서버 중단)
+ *      - 실패한 작업 (maxAttempts까지, 다시 실행하면 건수를 초기화하고 파티션 범위를 처음부터 읽음)
+ * - 모든 작업이 끝나면 JobRepository에서 Worker StepExecution을 다시 읽어 반환합니다. (건수/상태는 PartitionStep이 합산)
+ */
+@Slf4j
+public class QueuePartitionHandler implements PartitionHandler {
+
+    private final PartitionQueue partitionQueue;
+    private final JobExplorer jobExplorer;
+    /** Worker가 실행할 Step 이름 (PartitionTaskWorker에 같은 이름으로 등록되어 있어야 함) */
+    private final String stepName;
+    private final int gridSize;
+    private final Duration pollInterval;
+    private final Duration workerTimeout;
+    private final int maxAttempts;
+    /** 모든 작업이 끝나기를 기다리는 최대 시간 */
+    private final Duration timeout;
+
+    public QueuePartitionHandler(PartitionQueue partitionQueue, JobExplorer jobExplorer, String stepName, int gridSize,
+                                 Duration pollInterval, Duration workerTimeout, int maxAttempts, Duration timeout) {
+        this.partitionQueue = partitionQueue;
+        this.jobExplorer = jobExplorer;
+        this.stepName = stepName;
+        this.gridSize = gridSize;
+        this.pollInterval = pollInterval;
+        this.workerTimeout = workerTimeout;
+        this.maxAttempts = maxAttempts;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Collection<StepExecution> handle(StepExecutionSplitter stepSplitter, StepExecution managerStepExecution) throws Exception {
+        Set<StepExecution> partitions = stepSplitter.split(managerStepExecution, gridSize);
+        if (partitions.isEmpty()) {
+            return partitions;
+        }
+        long jobExecutionId = managerStepExecution.getJobExecutionId();
+        List<Long> stepExecutionIds = partitions.stream().map(StepExecution::getId).toList();
+        partitionQueue.dispatch(jobExecutionId, stepName, stepExecutionIds);
+        log.info("원격 파티션 {}개 분배: Job 실행 {}", partitions.size(), jobExecutionId);
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long lastFinished = -1;
+        while (true) {
+            Thread.sleep(pollInterval.toMillis());
+
+            int requeued = partitionQueue.requeue(jobExecutionId, workerTimeout, maxAttempts);
+            if (requeued > 0) {
+                log.warn("원격 파티션 {}개 재분배 (Worker 중단 또는 실패): Job 실행 {}", requeued, jobExecutionId);
+            }
+
+            List<PartitionTask> tasks = partitionQueue.findByJobExecution(jobExecutionId).stream()
+                    .filter(task -> stepExecutionIds.contains(task.getStepExecutionId()))
+                    .toList();
+            long finished = tasks.stream().filter(task -> task.isFinished(maxAttempts)).count();
+            if (finished != lastFinished) {
+                long read = tasks.stream().mapToLong(PartitionTask::getReadCount).sum();
+                long written = tasks.stream().mapToLong(PartitionTask::getWriteCount).sum();
+                log.info("원격 파티션 진행: {}/{} 완료 (읽기 {}건, 쓰기 {}건)", finished, tasks.size(), read, written);
+                lastFinished = finished;
+            }
+            if (finished == tasks.size()) {
+                break;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException("원격 파티션이 " + timeout + " 안에 끝나지 않았습니다: "
+                        + finished + "/" + tasks.size() + " 완료 (Job 실행 " + jobExecutionId + ")");
+            }
+        }
+
+        List<StepExecution> results = new ArrayList<>(partitions.size());
+        for (Long stepExecutionId : stepExecutionIds) {
+            results.add(jobExplorer.getStepExecution(jobExecutionId, stepExecutionId));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,111 @@
+package com.pagoda.matchmeal.batch.processor;
+
+import com.pagoda.matchmeal.batch.delta.FoodContentHasher;
+import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import com.pagoda.matchmeal.nutrition.NutrientDensity;
+import com.pagoda.matchmeal.nutrition.ServingSize;
+import com.pagoda.matchmeal.nutrition.ServingSizeNormalizer;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.util.StringUtils;
+
+import static com.pagoda.matchmeal.common.util.NumberParseUtil.parseDoubleOrNaN;
+
+/**
+ * [음식 CSV -> Food 엔티티 변환 Processor]
+ * - 읽어온 CSV 데이터(문자열 위주)를 DB 엔티티(올바른 타입)로 변환합니다.
+ * - "N/A", "-", 공백 등 더러운 데이터를 0.0으로 정제하는 로직이 포함됩니다.
+ * - 1회 제공량은 ServingSizeNormalizer로 기준 단위(g, ml) 값으로 바꾸고, 원본 표기도 함께 저장합니다. ("1.5kg" -> 1500g)
+ * - 밀도 순위 조회가 인덱스만 읽도록 100g(ml)당 값과 100kcal당 단백질도 미리 계산해 둡니다.
+ * - 변경 여부 판단을 위해 정제된 내용의 해시(contentHash)도 함께 계산합니다.
+ * - 식품코드나 식품명이 없는 행은 InvalidFoodRowException을 던집니다. (Step에서 해당 행만 건너뜀)
+ * - 숫자로 바꾸지 못해 0.0으로 대체한 값은 ParseFallbackRecorder로 컬럼별로 알립니다.
+ * - 상태가 없으므로 여러 스레드(파티션)에서 함께 사용해도 안전합니다.
+ */
+public class FoodCsvItemProcessor implements ItemProcessor<FoodCsvDto, Food> {
+
+    private final ParseFallbackRecorder fallbackRecorder;
+
+    public FoodCsvItemProcessor() {
+        this(ParseFallbackRecorder.NONE);
+    }
+
+    public FoodCsvItemProcessor(ParseFallbackRecorder fallbackRecorder) {
+        this.fallbackRecorder = fallbackRecorder;
+    }
+
+    @Override
+    public Food process(FoodCsvDto item) {
+        validate(item);
+
+        // 예: "200ml", "1.5kg", "1/2컵", "1개(50g)"
+        ServingSize normalized = ServingSizeNormalizer.DEFAULT.normalize(item.getServingSize());
+        String unit = normalized.getUnit();
+
+        String foodName = item.getFoodName().replace("_", " "); // foodName의 언더바(_) 공백 치환
+        // [데이터 정제]
+        // CSV에는 "1,200"(쉼표), "N/A"(문자), ""(공백) 등이 섞여 있습니다.
+        // 정규식 없이 문자를 한 번만 훑어서 Double(숫자)로 바꾸는 헬퍼 메소드를 사용합니다.
+        double servingSize = servingSize(normalized);
+        double calories = parse("calories", item.getCalories());
+        double protein = parse("protein", item.getProtein());
+        double fat = parse("fat", item.getFat());
+        double carbohydrate = parse("carbohydrate", item.getCarbohydrate());
+
+        // Builder 패턴을 사용하여 Food 엔티티 생성
+        return Food.builder()
+                .foodCode(item.getFoodCode())
+                .foodName(foodName)
+                .category(item.getCategory())
+                .servingSize(servingSize)
+                .unit(unit)
+                .servingSizeText(normalized.getText())
+                .calories(calories)
+                .protein(protein)
+                .fat(fat)
+                .carbohydrate(carbohydrate)
+                .caloriesPer100(NutrientDensity.per100(calories, servingSize, unit))
+                .proteinPer100(NutrientDensity.per100(protein, servingSize, unit))
+                .fatPer100(NutrientDensity.per100(fat, servingSize, unit))
+                .carbohydratePer100(NutrientDensity.per100(carbohydrate, servingSize, unit))
+                .proteinPer100kcal(NutrientDensity.proteinPer100kcal(protein, calories))
+                .contentHash(FoodContentHasher.hash(foodName, item.getCategory(), unit, servingSize,
+                        normalized.getText(), calories, protein, fat, carbohydrate))
+                .build();
+    }
+
+    /**
+     * 저장할 수 없는 행(필수 값 누락)을 걸러냅니다.
+     */
+    private static void validate(FoodCsvDto item) {
+        if (!StringUtils.hasText(item.getFoodCode())) {
+            throw new InvalidFoodRowException("식품코드가 비어 있습니다.");
+        }
+        if (!StringUtils.hasText(item.getFoodName())) {
+            throw new InvalidFoodRowException("식품명이 비어 있습니다.");
+        }
+    }
+
+    /**
+     * 정규화한 제공량에서 숫자를 찾지 못했으면 다른 컬럼과 같이 0.0으로 대체하고 기록합니다.
+     */
+    private double servingSize(ServingSize normalized) {
+        if (!normalized.isParsed()) {
+            fallbackRecorder.onFallback("servingSize", normalized.getText());
+            return 0.0;
+        }
+        return normalized.getAmount();
+    }
+
+    /**
+     * parseDoubleSafe와 같은 규칙으로 변환하고, 변환하지 못해 0.0으로 대체하면 기록합니다.
+     */
+    private double parse(String column, String rawValue) {
+        double value = parseDoubleOrNaN(rawValue);
+        if (Double.isNaN(value)) {
+            fallbackRecorder.onFallback(column, rawValue);
+            return 0.0;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,13 @@
+package com.pagoda.matchmeal.batch.processor;
+
+/**
+ * [잘못된 음식 CSV 행]
+ * - 필수 값(식품코드, 식품명)이 없는 등 저장할 수 없는 행을 Processor에서 발견했을 때 던집니다.
+ * - 음식 등록 Step에서는 건너뛸 수 있는(skip) 예외로 분류되어, 해당 행만 dead-letter 파일로 빠지고 나머지는 계속 처리됩니다.
+ */
+public class InvalidFoodRowException extends RuntimeException {
+
+    public InvalidFoodRowException(String message) {
+        super(message);
+    }
+}
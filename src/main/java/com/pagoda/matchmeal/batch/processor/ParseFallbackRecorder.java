@@ -0,0 +1,19 @@
+package com.pagoda.matchmeal.batch.processor;
+
+/**
+ * [숫자 변환 실패 기록기]
+ * - FoodCsvItemProcessor가 숫자 컬럼을 변환하지 못해 0.0으로 대체할 때마다 호출합니다.
+ * - 배치 지표(컬럼별 0.0 대체 건수) 집계에 사용합니다.
+ */
+@FunctionalInterface
+public interface ParseFallbackRecorder {
+
+    /** 아무것도 기록하지 않는 기본 구현 */
+    ParseFallbackRecorder NONE = (column, rawValue) -> { };
+
+    /**
+     * @param column   FoodCsvDto 필드명 (예: "calories")
+     * @param rawValue CSV에서 읽은 원본 값 (null 가능)
+     */
+    void onFallback(String column, String rawValue);
+}
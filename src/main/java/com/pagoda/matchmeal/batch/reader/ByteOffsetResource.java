@@ -0,0 +1,46 @@
+package com.pagoda.matchmeal.batch.reader;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * [지정한 바이트 위치부터 읽는 Resource]
+ * - 파티션 Reader가 자기 범위의 첫 줄부터 읽도록, 원본 Resource의 스트림을 열고 startOffset 바이트를 건너뛴 뒤 돌려줍니다.
+ * - 줄을 읽어서(디코딩/파싱) 건너뛰지 않으므로, 앞쪽 파티션의 데이터 양과 상관없이 빠르게 시작 위치로 이동합니다.
+ *      (파일은 seek, jar 안의 classpath 파일은 압축 해제만 하고 버림)
+ */
+public class ByteOffsetResource extends AbstractResource {
+
+    private final Resource delegate;
+    private final long startOffset;
+
+    public ByteOffsetResource(Resource delegate, long startOffset) {
+        this.delegate = delegate;
+        this.startOffset = startOffset;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        InputStream in = delegate.getInputStream();
+        try {
+            in.skipNBytes(startOffset);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return in;
+    }
+
+    @Override
+    public boolean exists() {
+        return delegate.exists();
+    }
+
+    @Override
+    public String getDescription() {
+        return delegate.getDescription() + " (" + startOffset + "바이트부터)";
+    }
+}
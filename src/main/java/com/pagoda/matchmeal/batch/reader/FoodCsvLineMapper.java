@@ -0,0 +1,154 @@
+package com.pagoda.matchmeal.batch.reader;
+
+import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.batch.item.file.transform.IncorrectTokenCountException;
+
+import java.util.Arrays;
+
+/**
+ * [음식 CSV 전용 LineMapper]
+ * - 기본 DelimitedLineTokenizer + BeanWrapperFieldSetMapper 조합은 한 줄의 모든 컬럼(20개 이상)을 String으로 자르고,
+ *      FieldSet/Properties를 거쳐 리플렉션으로 DTO에 값을 넣습니다.
+ * - 이 LineMapper는 한 줄을 한 번만 훑으면서 필요한 8개 컬럼만 잘라 FoodCsvDto의 setter를 직접 호출합니다.
+ * - 따옴표(")로 감싼 컬럼 안의 쉼표와 이스케이프된 따옴표("")도 기존 토크나이저와 동일하게 처리합니다.
+ */
+public class FoodCsvLineMapper implements LineMapper<FoodCsvDto> {
+
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+
+    // FoodBatchConfig.FOOD_CSV_FIELD_NAMES 순서와 동일한 슬롯 번호
+    private static final int FOOD_CODE = 0;
+    private static final int FOOD_NAME = 1;
+    private static final int CATEGORY = 2;
+    private static final int SERVING_SIZE = 3;
+    private static final int CALORIES = 4;
+    private static final int PROTEIN = 5;
+    private static final int FAT = 6;
+    private static final int CARBOHYDRATE = 7;
+
+    /** 컬럼 인덱스 -> 슬롯 번호 (사용하지 않는 컬럼은 -1) */
+    private final int[] slotByColumn;
+    /** 읽어야 하는 마지막 컬럼 인덱스 (이후 컬럼은 훑지 않음) */
+    private final int lastColumn;
+    private final int slotCount;
+
+    /**
+     * @param includedFields 읽을 컬럼 인덱스 (FoodCsvDto 필드 순서대로 8개)
+     */
+    public FoodCsvLineMapper(Integer... includedFields) {
+        if (includedFields.length != 8) {
+            throw new IllegalArgumentException("음식 CSV는 8개의 컬럼을 읽어야 합니다: " + Arrays.toString(includedFields));
+        }
+        int max = 0;
+        for (Integer column : includedFields) {
+            max = Math.max(max, column);
+        }
+        this.lastColumn = max;
+        this.slotCount = includedFields.length;
+        this.slotByColumn = new int[max + 1];
+        Arrays.fill(slotByColumn, -1);
+        for (int slot = 0; slot < includedFields.length; slot++) {
+            slotByColumn[includedFields[slot]] = slot;
+        }
+    }
+
+    @Override
+    public FoodCsvDto mapLine(String line, int lineNumber) {
+        FoodCsvDto dto = new FoodCsvDto();
+        dto.setLineNumber(lineNumber);
+        int length = line.length();
+        int column = 0;
+        int found = 0;
+        int pos = 0;
+
+        while (column <= lastColumn) {
+            boolean quoted = pos < length && line.charAt(pos) == QUOTE;
+            int end = quoted ? endOfQuotedField(line, pos) : indexOfDelimiter(line, pos);
+
+            int slot = slotByColumn[column];
+            if (slot >= 0) {
+                set(dto, slot, value(line, pos, end, quoted));
+                found++;
+            }
+
+            column++;
+            if (end >= length) {
+                break; // 마지막 컬럼
+            }
+            pos = end + 1;
+        }
+
+        if (found < slotCount) {
+            throw new IncorrectTokenCountException(slotCount, found, line);
+        }
+        return dto;
+    }
+
+    private int indexOfDelimiter(String line, int from) {
+        int next = line.indexOf(DELIMITER, from);
+        return next < 0 ? line.length() : next;
+    }
+
+    /**
+     * 따옴표로 시작하는 컬럼의 끝(다음 구분자 위치)을 찾습니다.
+     * - 따옴표 안의 쉼표는 구분자로 보지 않고, "" 는 이스케이프된 따옴표로 봅니다.
+     */
+    private int endOfQuotedField(String line, int from) {
+        int length = line.length();
+        int i = from + 1;
+        while (i < length) {
+            if (line.charAt(i) == QUOTE) {
+                if (i + 1 < length && line.charAt(i + 1) == QUOTE) {
+                    i += 2;
+                    continue;
+                }
+                break; // 닫는 따옴표
+            }
+            i++;
+        }
+        return indexOfDelimiter(line, Math.min(i + 1, length));
+    }
+
+    /**
+     * [from, to) 범위의 값을 앞뒤 공백을 제거한 문자열로 만듭니다. (기존 FieldSet의 trim 동작과 동일)
+     * - 따옴표로 감싼 값은 따옴표를 벗기고 "" 를 " 로 되돌립니다.
+     */
+    private String value(String line, int from, int to, boolean quoted) {
+        int start = from;
+        int end = to;
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (!quoted) {
+            return line.substring(start, end);
+        }
+
+        if (start < end && line.charAt(start) == QUOTE) {
+            start++;
+        }
+        if (end > start && line.charAt(end - 1) == QUOTE) {
+            end--;
+        }
+        String value = line.substring(start, end);
+        return value.indexOf(QUOTE) < 0 ? value.trim() : value.replace("\"\"", "\"").trim();
+    }
+
+    private void set(FoodCsvDto dto, int slot, String value) {
+        switch (slot) {
+            case FOOD_CODE -> dto.setFoodCode(value);
+            case FOOD_NAME -> dto.setFoodName(value);
+            case CATEGORY -> dto.setCategory(value);
+            case SERVING_SIZE -> dto.setServingSize(value);
+            case CALORIES -> dto.setCalories(value);
+            case PROTEIN -> dto.setProtein(value);
+            case FAT -> dto.setFat(value);
+            case CARBOHYDRATE -> dto.setCarbohydrate(value);
+            default -> throw new IllegalStateException("알 수 없는 슬롯: " + slot);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.pagoda.matchmeal.batch.reader;
+
+import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * [메모리 매핑(mmap) 기반 대용량 음식 CSV Reader]
+ * - 수 GB 단위의 외부 CSV 파일을 FileChannel로 일정 크기(segment)씩 메모리 매핑해서 읽습니다.
+ * - 줄 경계(\n)는 매핑된 버퍼에서 바이트 단위로 바로 찾고, 실제로 반환할 줄만 그때그때 UTF-8로 디코딩합니다.
+ * - 파일 내용은 힙이 아닌 OS 페이지 캐시에 올라가므로, 파일 크기가 커져도 힙 사용량은 일정합니다.
+ * - 다음에 읽을 바이트 위치를 ExecutionContext에 저장하므로, 실패 후 재시작하면 그 위치부터 이어서 읽습니다.
+ * - [startOffset, endOffset) 범위를 지정하면 그 범위에서 "시작하는" 줄만 읽습니다. (바이트 범위 파티셔닝용)
+ * - 스레드 안전하지 않으므로 Step(파티션)마다 별도 인스턴스를 사용해야 합니다.
+ */
+@Slf4j
+public class MappedFoodCsvItemReader extends ItemStreamSupport implements ItemStreamReader<FoodCsvDto> {
+
+    /** 기본 매핑 단위 (64MB) */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private static final String POSITION_KEY = "position";
+    private static final String LINE_COUNT_KEY = "line.count";
+
+    private final Path path;
+    private final LineMapper<FoodCsvDto> lineMapper;
+    private final long startOffset;
+    private final long endOffset;
+    private final int segmentSize;
+
+    private FileChannel channel;
+    private long fileSize;
+    private MappedByteBuffer segment;
+    private long segmentStart;
+
+    /** 다음에 읽을 줄의 시작 바이트 위치 */
+    private long position;
+    /** 지금까지 읽은 줄 수 (startOffset이 0이면 헤더를 포함한 파일 전체 기준 줄 번호와 같음) */
+    private int lineCount;
+    /** 한 줄을 디코딩하기 위해 재사용하는 바이트 버퍼 */
+    private byte[] lineBuffer = new byte[1024];
+
+    /**
+     * 파일 전체를 읽는 Reader를 생성합니다. (첫 줄은 헤더로 보고 건너뜀)
+     */
+    public MappedFoodCsvItemReader(Path path, LineMapper<FoodCsvDto> lineMapper) {
+        this(path, lineMapper, 0, Long.MAX_VALUE, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param path        읽을 CSV 파일 경로
+     * @param lineMapper  한 줄을 FoodCsvDto로 바꾸는 LineMapper
+     * @param startOffset 읽기 시작 바이트 위치 (0이면 첫 줄(헤더)을 건너뜀)
+     * @param endOffset   이 위치 이상에서 시작하는 줄은 읽지 않음 (Long.MAX_VALUE = 파일 끝까지)
+     * @param segmentSize 한 번에 메모리 매핑할 크기 (한 줄의 최대 길이보다 커야 함)
+     */
+    public MappedFoodCsvItemReader(Path path, LineMapper<FoodCsvDto> lineMapper,
+                                   long startOffset, long endOffset, int segmentSize) {
+        Assert.notNull(path, "path는 필수입니다.");
+        Assert.notNull(lineMapper, "lineMapper는 필수입니다.");
+        Assert.isTrue(startOffset >= 0 && startOffset <= endOffset, "잘못된 범위입니다: [" + startOffset + ", " + endOffset + ")");
+        Assert.isTrue(segmentSize > 0, "segmentSize는 1 이상이어야 합니다.");
+        this.path = path;
+        this.lineMapper = lineMapper;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.segmentSize = segmentSize;
+        setName("mappedFoodReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        super.open(executionContext);
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            fileSize = channel.size();
+
+            if (executionContext.containsKey(getExecutionContextKey(POSITION_KEY))) {
+                // 재시작: 마지막으로 커밋된 위치부터 이어서 읽기
+                position = executionContext.getLong(getExecutionContextKey(POSITION_KEY));
+                lineCount = executionContext.getInt(getExecutionContextKey(LINE_COUNT_KEY), 0);
+                log.info("음식 CSV 재시작: {} ({} 바이트, {}번째 줄부터)", path, position, lineCount + 1);
+            } else {
+                position = startOffset;
+                lineCount = 0;
+                if (startOffset == 0) {
+                    // 첫 줄은 헤더 (헤더도 한 줄로 세서, 줄 번호가 FlatFileItemReader와 같은 파일 기준 번호가 되도록)
+                    skipLine();
+                    lineCount = 1;
+                } else if (!isLineStart(startOffset)) {
+                    // 범위 중간에서 시작하면 잘린 줄은 앞 파티션의 몫이므로 건너뜀
+                    skipLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("음식 CSV 파일을 열 수 없습니다: " + path, e);
+        }
+    }
+
+    @Override
+    public FoodCsvDto read() {
+        while (position < endOffset && position < fileSize) {
+            long lineEnd = findLineEnd(position);
+            int length = (int) (lineEnd - position);
+            long lineStart = position;
+
+            position = Math.min(lineEnd + 1, fileSize);
+            lineCount++;
+
+            // 윈도우에서 만든 파일(\r\n) 대응
+            if (length > 0 && byteAt(lineStart + length - 1) == '\r') {
+                length--;
+            }
+            if (length == 0) {
+                continue; // 빈 줄은 건너뜀
+            }
+
+            String line = decode(lineStart, length);
+            try {
+                return lineMapper.mapLine(line, lineCount);
+            } catch (Exception e) {
+                throw new FlatFileParseException("음식 CSV 파싱 실패 (" + lineCount + "번째 줄): " + line, e, line, lineCount);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        super.update(executionContext);
+        executionContext.putLong(getExecutionContextKey(POSITION_KEY), position);
+        executionContext.putInt(getExecutionContextKey(LINE_COUNT_KEY), lineCount);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        super.close();
+        segment = null; // 매핑 해제는 GC에 맡김
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new ItemStreamException("음식 CSV 파일을 닫을 수 없습니다: " + path, e);
+            } finally {
+                channel = null;
+            }
+        }
+    }
+
+    // ---------------- 내부 처리 ----------------
+
+    /**
+     * from 위치에서 시작하는 줄의 끝(\n 위치 또는 파일 끝)을 찾습니다.
+     * - 현재 segment 안에서 줄이 끝나지 않으면, 줄 시작 위치부터 segment를 다시 매핑해서 찾습니다.
+     */
+    private long findLineEnd(long from) {
+        ensureMapped(from);
+        while (true) {
+            int limit = segment.limit();
+            for (int i = (int) (from - segmentStart); i < limit; i++) {
+                if (segment.get(i) == '\n') {
+                    return segmentStart + i;
+                }
+            }
+            long segmentEnd = segmentStart + limit;
+            if (segmentEnd >= fileSize) {
+                return fileSize; // 개행 없이 끝나는 마지막 줄
+            }
+            if (segmentStart == from) {
+                throw new ItemStreamException("한 줄이 매핑 단위(" + segmentSize + " 바이트)보다 깁니다: " + from + " 바이트 위치");
+            }
+            map(from);
+        }
+    }
+
+    private void skipLine() {
+        if (position >= fileSize) {
+            return;
+        }
+        position = Math.min(findLineEnd(position) + 1, fileSize);
+    }
+
+    /** 바로 앞 바이트가 개행이면 해당 위치는 줄의 시작입니다. */
+    private boolean isLineStart(long offset) {
+        return offset >= fileSize || byteAt(offset - 1) == '\n';
+    }
+
+    private byte byteAt(long offset) {
+        ensureMapped(offset);
+        return segment.get((int) (offset - segmentStart));
+    }
+
+    private String decode(long from, int length) {
+        if (lineBuffer.length < length) {
+            lineBuffer = new byte[Math.max(length, lineBuffer.length * 2)];
+        }
+        ensureMapped(from);
+        int index = (int) (from - segmentStart);
+        if (index + length <= segment.limit()) {
+            segment.get(index, lineBuffer, 0, length);
+        } else {
+            // \r 확인 등으로 segment가 바뀐 경우, 줄 시작부터 다시 매핑
+            map(from);
+            segment.get(0, lineBuffer, 0, length);
+        }
+        return new String(lineBuffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void ensureMapped(long offset) {
+        if (segment == null || offset < segmentStart || offset >= segmentStart + segment.limit()) {
+            map(offset);
+        }
+    }
+
+    private void map(long offset) {
+        try {
+            long size = Math.min(segmentSize, fileSize - offset);
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+            segmentStart = offset;
+        } catch (IOException e) {
+            throw new ItemStreamException("음식 CSV 파일을 매핑할 수 없습니다: " + path + " (" + offset + " 바이트 위치)", e);
+        }
+    }
+}
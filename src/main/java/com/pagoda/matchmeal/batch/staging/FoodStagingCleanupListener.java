@@ -0,0 +1,64 @@
+package com.pagoda.matchmeal.batch.staging;
+
+import com.pagoda.matchmeal.mapper.FoodBatchMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.dao.DataAccessException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * [스테이징 정리 Listener]
+ * - Job이 성공하면 중간 CSV 파일(과 발행하지 못하고 남은 변경 기록 파일)을 지우고 스테이징 테이블을 비웁니다.
+ * - 실패하면 그대로 남겨두어, 재시작 시 완료된 Step(CSV 생성 등)을 다시 하지 않고 이어서 실행할 수 있게 합니다.
+ */
+@Slf4j
+public class FoodStagingCleanupListener implements JobExecutionListener {
+
+    private final FoodBatchMapper foodBatchMapper;
+    private final Path directory;
+
+    public FoodStagingCleanupListener(FoodBatchMapper foodBatchMapper, Path directory) {
+        this.foodBatchMapper = foodBatchMapper;
+        this.directory = directory;
+    }
+
+    /**
+     * JobInstance 하나당 하나의 중간 CSV 파일 경로 (재시작해도 같은 파일을 사용)
+     */
+    public static Path stagingFile(Path directory, Long jobInstanceId) {
+        return directory.resolve("food-staging-" + jobInstanceId + ".csv");
+    }
+
+    /**
+     * 병합 Step이 커밋 후 발행할 변경 기록을 써두는 파일 경로 (중간 CSV 파일 옆)
+     */
+    public static Path changeFile(Path directory, Long jobInstanceId) {
+        return directory.resolve("food-staging-" + jobInstanceId + "-changes.tsv");
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return;
+        }
+        Long jobInstanceId = jobExecution.getJobInstance().getInstanceId();
+        for (Path file : new Path[]{stagingFile(directory, jobInstanceId), changeFile(directory, jobInstanceId)}) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("스테이징 파일을 지울 수 없습니다: {}", file, e);
+            }
+        }
+        try {
+            foodBatchMapper.clearStaging();
+        } catch (DataAccessException e) {
+            // 다음 실행의 적재 Step이 시작할 때 다시 비우므로 Job 결과에는 영향 없음
+            log.warn("스테이징 테이블을 비울 수 없습니다.", e);
+        }
+    }
+}
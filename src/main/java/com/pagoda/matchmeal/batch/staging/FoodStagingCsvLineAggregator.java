@@ -0,0 +1,60 @@
+package com.pagoda.matchmeal.batch.staging;
+
+import com.pagoda.matchmeal.model.entity.Food;
+import org.springframework.batch.item.file.transform.LineAggregator;
+
+/**
+ * [스테이징 적재용 CSV 한 줄 생성기]
+ * - 가공된 Food를 foods_staging 컬럼 순서대로 한 줄의 CSV로 만듭니다.
+ * - 문자열은 항상 큰따옴표로 감싸고 안의 "는 ""로 바꿉니다. (MySQL LOAD DATA와 H2 CSVREAD가 같은 파일을 읽을 수 있는 형식)
+ * - 숫자는 Java 기본 표기(Double.toString)를 그대로 씁니다. (두 DB 모두 지수 표기도 읽을 수 있음)
+ * - null인 밀도 컬럼은 따옴표 없이 비워 둡니다. (H2 CSVREAD는 NULL로, MySQL은 loadStaging의 NULLIF로 NULL 처리)
+ */
+public class FoodStagingCsvLineAggregator implements LineAggregator<Food> {
+
+    /** 첫 줄 (H2 CSVREAD는 이 이름으로 컬럼을 찾고, MySQL은 IGNORE 1 LINES로 건너뜀) */
+    public static final String HEADER =
+            "food_code,food_name,category,serving_size,unit,serving_size_text,calories,protein,fat,carbohydrate,"
+                    + "calories_per_100,protein_per_100,fat_per_100,carbohydrate_per_100,protein_per_100kcal,content_hash";
+
+    @Override
+    public String aggregate(Food food) {
+        StringBuilder sb = new StringBuilder(128);
+        quote(sb, food.getFoodCode()).append(',');
+        quote(sb, food.getFoodName()).append(',');
+        quote(sb, food.getCategory()).append(',');
+        sb.append(food.getServingSize()).append(',');
+        quote(sb, food.getUnit()).append(',');
+        quote(sb, food.getServingSizeText()).append(',');
+        sb.append(food.getCalories()).append(',');
+        sb.append(food.getProtein()).append(',');
+        sb.append(food.getFat()).append(',');
+        sb.append(food.getCarbohydrate()).append(',');
+        nullable(sb, food.getCaloriesPer100()).append(',');
+        nullable(sb, food.getProteinPer100()).append(',');
+        nullable(sb, food.getFatPer100()).append(',');
+        nullable(sb, food.getCarbohydratePer100()).append(',');
+        nullable(sb, food.getProteinPer100kcal()).append(',');
+        sb.append(food.getContentHash());
+        return sb.toString();
+    }
+
+    private static StringBuilder nullable(StringBuilder sb, Double value) {
+        return value == null ? sb : sb.append(value.doubleValue());
+    }
+
+    private static StringBuilder quote(StringBuilder sb, String value) {
+        sb.append('"');
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    sb.append('"');
+                }
+                // 값 안의 줄바꿈은 한 줄 = 한 행 규칙을 깨므로 공백으로 바꿈
+                sb.append(c == '\n' || c == '\r' ? ' ' : c);
+            }
+        }
+        return sb.append('"');
+    }
+}
@@ -0,0 +1,42 @@
+package com.pagoda.matchmeal.batch.staging;
+
+import com.pagoda.matchmeal.mapper.FoodBatchMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.nio.file.Path;
+
+/**
+ * [스테이징 테이블 적재 Tasklet]
+ * - 이전 실행에서 남은 데이터를 비우고, 앞 Step에서 만든 CSV 파일을 스테이징 테이블에 한 번에 적재합니다.
+ * - 스테이징 테이블에는 식품코드 기본 키 외에 인덱스가 없으므로 행마다 보조 인덱스를 갱신하는 비용이 없습니다.
+ *      (기본 키로 CSV 안의 중복 코드를 마지막 행 하나로 합치므로, 병합 건수와 변경 피드가 코드마다 한 번씩만 나옴)
+ * - 비우기와 적재는 임대를 확인한 Tasklet 트랜잭션 안에서 실행됩니다. (TRUNCATE는 암묵적으로 커밋하므로 사용하지 않음)
+ * - 실패 후 재시작하면 처음부터 다시 적재합니다. (비우고 다시 넣으므로 여러 번 실행해도 결과가 같음)
+ */
+@Slf4j
+public class FoodStagingLoadTasklet implements Tasklet {
+
+    private final FoodBatchMapper foodBatchMapper;
+    private final Path file;
+
+    public FoodStagingLoadTasklet(FoodBatchMapper foodBatchMapper, Path file) {
+        this.foodBatchMapper = foodBatchMapper;
+        this.file = file;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        long start = System.currentTimeMillis();
+        foodBatchMapper.clearStaging();
+        foodBatchMapper.loadStaging(file.toAbsolutePath().toString());
+
+        long loaded = foodBatchMapper.countStaging();
+        contribution.incrementWriteCount(loaded);
+        log.info("스테이징 테이블 적재 완료: {}건 ({}ms, {})", loaded, System.currentTimeMillis() - start, file);
+        return RepeatStatus.FINISHED;
+    }
+}
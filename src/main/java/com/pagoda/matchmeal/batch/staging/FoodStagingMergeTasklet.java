@@ -0,0 +1,153 @@
+package com.pagoda.matchmeal.batch.staging;
+
+import com.pagoda.matchmeal.batch.delta.FoodDeltaProcessor;
+import com.pagoda.matchmeal.feed.FoodChange;
+import com.pagoda.matchmeal.mapper.FoodBatchMapper;
+import com.pagoda.matchmeal.model.dto.FoodStagingChangeDto;
+import com.pagoda.matchmeal.model.entity.FoodChangeType;
+import com.pagoda.matchmeal.service.FoodChangeFeedService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [스테이징 -> foods 병합 Tasklet]
+ * - 병합 전에 추가/변경될 음식을 (스테이징 값, 현재 값) 쌍으로 읽어두고, 한 문장(INSERT ... SELECT ... ON DUPLICATE KEY UPDATE)으로 병합합니다.
+ * - 추가/변경/동일 건수는 delta 모드와 같은 키로 ExecutionContext에 기록합니다. (FoodImportReportListener가 합산)
+ * - 바뀐 음식의 변경 기록은 병합이 커밋된 뒤(afterChunk) 변경 피드로 발행합니다. (조회 캐시도 이 피드로 지워짐)
+ *      전체 재적재는 변경 기록이 수십만 건일 수 있으므로 메모리에 모으지 않고, 중간 CSV 옆의 파일(changeFile)에 한 줄씩 써두었다가
+ *      변경 피드 묶음 크기만큼씩 읽어서 발행합니다.
+ * - Step마다 별도 인스턴스(@StepScope)로 사용합니다.
+ */
+@Slf4j
+public class FoodStagingMergeTasklet implements Tasklet, ChunkListener {
+
+    private final FoodBatchMapper foodBatchMapper;
+    private final FoodChangeFeedService foodChangeFeedService;
+    /** 커밋 후 발행할 변경 기록 파일 (한 줄: op \t 식품코드 \t 바뀐 필드,...) */
+    private final Path changeFile;
+
+    /** changeFile에 쓴 변경 기록 수 */
+    private long spooled;
+
+    public FoodStagingMergeTasklet(FoodBatchMapper foodBatchMapper, FoodChangeFeedService foodChangeFeedService,
+                                   Path changeFile) {
+        this.foodBatchMapper = foodBatchMapper;
+        this.foodChangeFeedService = foodChangeFeedService;
+        this.changeFile = changeFile;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws IOException {
+        long start = System.currentTimeMillis();
+        long staged = foodBatchMapper.countStaging();
+        long inserted = foodBatchMapper.countNewStagingRows();
+        long[] changedRows = {0};
+        spooled = 0;
+        Files.createDirectories(changeFile.toAbsolutePath().getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(changeFile, StandardCharsets.UTF_8)) {
+            foodBatchMapper.findStagingChanges(context -> {
+                FoodStagingChangeDto row = context.getResultObject();
+                changedRows[0]++;
+                FoodChange change = FoodChange.diff(row.getCurrent(), row.getStaged());
+                if (change != null) {
+                    spool(writer, change); // 해시가 없던 예전 행은 값이 같으면 변경 기록을 남기지 않음
+                }
+            });
+        }
+
+        foodBatchMapper.mergeStaging();
+
+        long changed = changedRows[0];
+        contribution.incrementWriteCount(staged);
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        context.putLong(FoodDeltaProcessor.WRITTEN_COUNT_KEY, staged);
+        context.putLong(FoodDeltaProcessor.INSERTED_COUNT_KEY, inserted);
+        context.putLong(FoodDeltaProcessor.UPDATED_COUNT_KEY, changed - inserted);
+        context.putLong(FoodDeltaProcessor.UNCHANGED_COUNT_KEY, staged - changed);
+
+        log.info("스테이징 병합 완료: {}건 (추가: {}, 변경: {}, 동일: {}, {}ms)",
+                staged, inserted, changed - inserted, staged - changed, System.currentTimeMillis() - start);
+        return RepeatStatus.FINISHED;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        if (spooled == 0) {
+            deleteChangeFile();
+            return;
+        }
+        int batchSize = foodChangeFeedService.getBatchSize();
+        long published = 0;
+        try (BufferedReader reader = Files.newBufferedReader(changeFile, StandardCharsets.UTF_8)) {
+            List<FoodChange> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                batch.add(parse(line));
+                if (batch.size() == batchSize) {
+                    foodChangeFeedService.publish(batch);
+                    published += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                foodChangeFeedService.publish(batch);
+                published += batch.size();
+            }
+            log.info("[{}] 음식 변경 피드 발행: {}건", context.getStepContext().getStepName(), published);
+        } catch (IOException | RuntimeException e) {
+            // 병합은 이미 커밋됨: 남은 변경은 Job 종료 이벤트(로컬 캐시 비우기)와 캐시 TTL로 맞춰짐
+            log.error("[{}] 음식 변경 피드 발행 실패 ({} / {}건 발행): {}",
+                    context.getStepContext().getStepName(), published, spooled, changeFile, e);
+        } finally {
+            deleteChangeFile();
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        deleteChangeFile(); // 병합이 롤백되었으므로 발행하지 않음
+    }
+
+    private void spool(BufferedWriter writer, FoodChange change) {
+        try {
+            writer.write(change.getOp().name());
+            writer.write('\t');
+            writer.write(change.getFoodCode());
+            writer.write('\t');
+            writer.write(String.join(",", change.getChangedFields()));
+            writer.newLine();
+            spooled++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("변경 기록 파일에 쓸 수 없습니다: " + changeFile, e);
+        }
+    }
+
+    private static FoodChange parse(String line) {
+        String[] columns = line.split("\t", 3);
+        return new FoodChange(FoodChangeType.valueOf(columns[0]), columns[1], List.of(columns[2].split(",")));
+    }
+
+    private void deleteChangeFile() {
+        spooled = 0;
+        try {
+            Files.deleteIfExists(changeFile);
+        } catch (IOException e) {
+            log.warn("변경 기록 파일을 지울 수 없습니다: {}", changeFile, e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.pagoda.matchmeal.batch.writer;
+
+import com.pagoda.matchmeal.mapper.FoodBatchMapper;
+import com.pagoda.matchmeal.model.entity.Food;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [Multi-row Upsert Writer]
+ * - Chunk 전체를 rowsPerStatement 개씩 묶어서 INSERT ... VALUES (...), (...) ON DUPLICATE KEY UPDATE 한 번으로 저장합니다.
+ * - 예: Chunk 1000건, rowsPerStatement 500 -> 쿼리 2번
+ * - Chunk 트랜잭션 안에서 실행되므로 실패 시 Chunk 단위로 함께 롤백됩니다.
+ */
+public class FoodMultiRowUpsertWriter implements ItemWriter<Food> {
+
+    private final FoodBatchMapper foodBatchMapper;
+    /** 하나의 INSERT 문에 담을 최대 행 수 */
+    private final int rowsPerStatement;
+
+    public FoodMultiRowUpsertWriter(FoodBatchMapper foodBatchMapper, int rowsPerStatement) {
+        Assert.isTrue(rowsPerStatement > 0, "rowsPerStatement는 1 이상이어야 합니다.");
+        this.foodBatchMapper = foodBatchMapper;
+        this.rowsPerStatement = rowsPerStatement;
+    }
+
+    @Override
+    public void write(Chunk<? extends Food> chunk) {
+        List<? extends Food> items = chunk.getItems();
+        for (int from = 0; from < items.size(); from += rowsPerStatement) {
+            int to = Math.min(from + rowsPerStatement, items.size());
+            foodBatchMapper.upsertFoods(new ArrayList<>(items.subList(from, to)));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.pagoda.matchmeal.cache;
+
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * [음식 캐시 직렬화기]
+ * - FoodResponseDto를 Redis에 저장할 byte[]로 바꾸거나 되돌립니다.
+ * - JSON/JDK 직렬화 대신 필드 순서대로 값만 기록하므로, 필드 이름이나 클래스 정보가 저장되지 않아 크기가 작습니다.
+ * - 첫 바이트는 형식 버전입니다. 필드가 바뀌면 버전을 올리고, 이전 버전 값은 miss로 취급해서 DB에서 다시 읽습니다.
+ */
+public final class FoodCacheCodec {
+
+    static final byte VERSION = 2;
+
+    private FoodCacheCodec() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static byte[] encode(FoodResponseDto food) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, food.getFoodCode());
+            writeString(out, food.getFoodName());
+            writeString(out, food.getCategory());
+            out.writeDouble(food.getServingSize());
+            writeString(out, food.getUnit());
+            writeString(out, food.getServingSizeText());
+            out.writeDouble(food.getCalories());
+            out.writeDouble(food.getCarbohydrate());
+            out.writeDouble(food.getProtein());
+            out.writeDouble(food.getFat());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 메모리 스트림이므로 발생하지 않음
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param value Redis에서 읽은 값
+     * @return 복원한 DTO (다른 버전이거나 손상된 값이면 null)
+     */
+    public static FoodResponseDto decode(byte[] value) {
+        if (value == null || value.length == 0 || value[0] != VERSION) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(value, 1, value.length - 1))) {
+            return FoodResponseDto.builder()
+                    .foodCode(readString(in))
+                    .foodName(readString(in))
+                    .category(readString(in))
+                    .servingSize(in.readDouble())
+                    .unit(readString(in))
+                    .servingSizeText(readString(in))
+                    .calories(in.readDouble())
+                    .carbohydrate(in.readDouble())
+                    .protein(in.readDouble())
+                    .fat(in.readDouble())
+                    .build();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.pagoda.matchmeal.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [음식 원격 캐시]
+ * - 여러 서버가 함께 사용하는 2차 캐시입니다. (운영: Redis)
+ * - 값은 FoodCacheCodec으로 직렬화한 byte[] 입니다.
+ * - 캐시는 있으면 좋은 것이므로, 구현체는 원격 저장소 장애를 예외로 던지지 않고
+ *      조회는 miss(null), 저장/삭제는 무시하는 것으로 처리해야 합니다.
+ */
+public interface FoodRemoteCache {
+
+    /**
+     * @param foodCode 식품코드
+     * @return 캐시된 값 (없거나 조회 실패 시 null)
+     */
+    byte[] get(String foodCode);
+
+    /**
+     * 여러 식품코드를 한 번에 조회합니다. (운영: MGET 한 번)
+     * @param foodCodes 식품코드 목록
+     * @return 요청 순서와 같은 순서의 값 목록 (없거나 조회 실패 시 해당 위치는 null)
+     */
+    List<byte[]> getAll(List<String> foodCodes);
+
+    /**
+     * @param foodCode 식품코드
+     * @param value    직렬화된 값
+     */
+    void put(String foodCode, byte[] value);
+
+    /**
+     * 여러 값을 한 번에 저장합니다. (운영: 파이프라인으로 묶어서 한 번에 전송)
+     * @param values 식품코드 -> 직렬화된 값
+     */
+    void putAll(Map<String, byte[]> values);
+
+    /**
+     * 여러 식품코드의 캐시를 한 번에 삭제합니다.
+     * @param foodCodes 삭제할 식품코드 목록
+     */
+    void evictAll(Collection<String> foodCodes);
+}
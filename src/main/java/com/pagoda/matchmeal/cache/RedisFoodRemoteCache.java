@@ -0,0 +1,111 @@
+package com.pagoda.matchmeal.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [Redis 기반 음식 원격 캐시]
+ * - 키: "food:{식품코드}", 값: FoodCacheCodec으로 직렬화한 byte[] (TTL 적용)
+ * - Redis 장애 시 예외를 던지지 않고 경고 로그만 남겨서, 조회는 DB로 넘어가게 합니다.
+ * - 여러 건 조회는 MGET 한 번, 여러 건 저장은 SET(TTL) 명령들을 파이프라인 하나로 묶어서 보냅니다.
+ * - 대량 삭제는 DEL 명령 하나에 여러 키를 묶어서 보냅니다.
+ */
+@Slf4j
+public class RedisFoodRemoteCache implements FoodRemoteCache {
+
+    static final String KEY_PREFIX = "food:";
+    /** DEL 명령 하나에 담을 최대 키 수 (너무 크면 Redis가 오래 막힘) */
+    private static final int EVICT_BATCH_SIZE = 1000;
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final Duration ttl;
+
+    public RedisFoodRemoteCache(RedisTemplate<String, byte[]> redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public byte[] get(String foodCode) {
+        try {
+            return redisTemplate.opsForValue().get(KEY_PREFIX + foodCode);
+        } catch (DataAccessException e) {
+            log.warn("Redis 음식 캐시 조회 실패 (DB에서 조회): {}", foodCode, e);
+            return null;
+        }
+    }
+
+    @Override
+    public List<byte[]> getAll(List<String> foodCodes) {
+        List<String> keys = new ArrayList<>(foodCodes.size());
+        for (String foodCode : foodCodes) {
+            keys.add(KEY_PREFIX + foodCode);
+        }
+        try {
+            List<byte[]> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values != null && values.size() == keys.size()) {
+                return values;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Redis 음식 캐시 일괄 조회 실패 (DB에서 조회): {}건", foodCodes.size(), e);
+        }
+        return Arrays.asList(new byte[foodCodes.size()][]);
+    }
+
+    @Override
+    public void put(String foodCode, byte[] value) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + foodCode, value, ttl);
+        } catch (DataAccessException e) {
+            log.warn("Redis 음식 캐시 저장 실패: {}", foodCode, e);
+        }
+    }
+
+    @Override
+    public void putAll(Map<String, byte[]> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<String, byte[]> entry : values.entrySet()) {
+                    byte[] key = (KEY_PREFIX + entry.getKey()).getBytes(StandardCharsets.UTF_8);
+                    connection.stringCommands().setEx(key, ttl.toSeconds(), entry.getValue());
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Redis 음식 캐시 일괄 저장 실패: {}건", values.size(), e);
+        }
+    }
+
+    @Override
+    public void evictAll(Collection<String> foodCodes) {
+        List<String> keys = new ArrayList<>(Math.min(foodCodes.size(), EVICT_BATCH_SIZE));
+        try {
+            for (String foodCode : foodCodes) {
+                keys.add(KEY_PREFIX + foodCode);
+                if (keys.size() == EVICT_BATCH_SIZE) {
+                    redisTemplate.delete(keys);
+                    keys.clear();
+                }
+            }
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (DataAccessException e) {
+            // 삭제하지 못한 값은 TTL이 지나면 사라짐
+            log.warn("Redis 음식 캐시 삭제 실패 ({}건)", foodCodes.size(), e);
+        }
+    }
+}
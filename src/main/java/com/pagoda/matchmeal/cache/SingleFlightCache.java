@@ -0,0 +1,255 @@
+package com.pagoda.matchmeal.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * [요청 합치기(single-flight) 로컬 캐시]
+ * - 같은 키를 동시에 조회하다 캐시에 없으면, 한 요청만 loader를 실행하고 나머지는 같은 CompletableFuture의 결과를 기다립니다.
+ *      (인기 키가 만료되는 순간 모든 요청이 DB로 몰리는 thundering herd 방지)
+ * - 확률적 조기 갱신(XFetch): TTL이 끝나기 전에, 만료에 가까울수록 그리고 로딩이 오래 걸린 값일수록 높은 확률로
+ *      한 요청이 백그라운드 갱신을 시작하고, 자신은 기존 값으로 바로 응답합니다.
+ * - stale-while-revalidate: TTL이 지난 값도 staleTtl 동안은 보관하고, 다시 읽다가 실패(DB 장애 등)하면 이전 값으로 응답합니다.
+ * - loader가 null을 돌려주면(없는 키) 캐시하지 않고 보관 중인 값도 지웁니다.
+ * - 다른 경로(여러 건 조회)로 읽은 값은 읽기 전에 받은 세대(generation)와 함께 넣어서, 그 사이 무효화된 키의 값은 남기지 않습니다.
+ */
+@Slf4j
+public class SingleFlightCache<K, V> {
+
+    /** 무효화 세대를 나눠 기록하는 칸 수 (키 해시로 나눔, 같은 칸의 다른 키가 무효화되면 넣기를 한 번 건너뛸 뿐) */
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<K, Entry<V>> entries;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    /** 키(칸)별 무효화 세대 (무효화할 때마다 증가) */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final long ttlNanos;
+    /** 조기 갱신 강도 (0이면 조기 갱신하지 않음, 클수록 일찍 갱신) */
+    private final double earlyRefreshBeta;
+    private final Executor refreshExecutor;
+    private final Ticker ticker;
+
+    /**
+     * @param maximumSize       최대 보관 개수
+     * @param ttl               값을 새것으로 보는 시간
+     * @param staleTtl          TTL이 지난 뒤에도 장애 대비로 보관하는 시간
+     * @param earlyRefreshBeta  조기 갱신 강도 (XFetch의 beta, 기본 1.0)
+     * @param refreshExecutor   조기 갱신을 실행할 Executor
+     * @param ticker            시간 측정 (테스트에서 바꿔 끼우기 위함)
+     */
+    public SingleFlightCache(long maximumSize, Duration ttl, Duration staleTtl, double earlyRefreshBeta,
+                             Executor refreshExecutor, Ticker ticker) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl.plus(staleTtl))
+                .ticker(ticker)
+                .build();
+        this.ttlNanos = ttl.toNanos();
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.refreshExecutor = refreshExecutor;
+        this.ticker = ticker;
+    }
+
+    /**
+     * @param key    조회할 키
+     * @param loader 캐시에 없거나 TTL이 지났을 때 값을 읽는 함수 (null = 없는 키)
+     * @return 값 (없으면 null)
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Entry<V> entry = entries.getIfPresent(key);
+        if (entry == null) {
+            return join(load(key, loader));
+        }
+
+        long now = ticker.read();
+        if (now < entry.expiresAt) {
+            if (shouldRefreshEarly(entry, now)) {
+                refreshAsync(key, loader);
+            }
+            return entry.value;
+        }
+
+        // TTL이 지난 값: 다시 읽고, 실패하면 보관 중인 이전 값으로 응답
+        try {
+            return join(load(key, loader));
+        } catch (RuntimeException e) {
+            log.warn("캐시 값을 다시 읽지 못해 이전 값으로 응답합니다: {} ({})", key, e.toString());
+            return entry.value;
+        }
+    }
+
+    /**
+     * 로딩 없이 TTL이 지나지 않은 값만 꺼냅니다. (여러 키를 한 번에 읽는 쪽에서 사용)
+     * @return 값 (없거나 TTL이 지났으면 null)
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.getIfPresent(key);
+        return entry != null && ticker.read() < entry.expiresAt ? entry.value : null;
+    }
+
+    /**
+     * 키의 현재 무효화 세대를 읽습니다. (다른 경로로 값을 읽기 시작하기 전에 호출)
+     */
+    public long generation(K key) {
+        return generations.get(stripe(key));
+    }
+
+    /**
+     * 다른 경로(여러 건 조회 등)로 읽은 값을 넣습니다.
+     * - 값을 읽는 동안 해당 키가 무효화되었으면(세대가 바뀜) 바뀌기 전 값일 수 있으므로 넣지 않습니다.
+     * @param generation 값을 읽기 전에 generation(key)로 받은 세대
+     * @return 넣었으면 true
+     */
+    public boolean put(K key, V value, long generation) {
+        if (generations.get(stripe(key)) != generation) {
+            return false;
+        }
+        Entry<V> entry = new Entry<>(value, ticker.read() + ttlNanos, 0);
+        entries.put(key, entry);
+        if (generations.get(stripe(key)) != generation) {
+            // 넣는 사이에 무효화됨: 방금 넣은 값을 되돌림
+            entries.asMap().remove(key, entry);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 여러 키를 한 번에 지웁니다.
+     * - 지우기 전에 시작한 로딩의 결과(바뀌기 전 값)는 캐시에 남지 않습니다.
+     */
+    public void invalidateAll(Collection<? extends K> keys) {
+        for (K key : keys) {
+            generations.incrementAndGet(stripe(key));
+            inFlight.remove(key);
+        }
+        entries.invalidateAll(keys);
+    }
+
+    /**
+     * 모든 값을 지웁니다. (어떤 키가 바뀌었는지 모를 때 사용)
+     * - 지우기 전에 시작한 로딩의 결과는 캐시에 남지 않습니다.
+     */
+    public void invalidateAll() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        inFlight.clear();
+        entries.invalidateAll();
+    }
+
+    public long estimatedSize() {
+        return entries.estimatedSize();
+    }
+
+    // ---------------- 내부 처리 ----------------
+
+    /**
+     * 이미 진행 중인 로딩이 있으면 그 Future를, 없으면 호출한 스레드에서 직접 로딩한 결과를 돌려줍니다.
+     */
+    private CompletableFuture<V> load(K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return running;
+        }
+
+        long start = ticker.read();
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            return mine;
+        }
+
+        long loadedAt = ticker.read();
+        Entry<V> entry = null;
+        if (value == null) {
+            entries.invalidate(key);
+        } else {
+            entry = new Entry<>(value, loadedAt + ttlNanos, loadedAt - start);
+            entries.put(key, entry);
+        }
+        if (!inFlight.remove(key, mine) && entry != null) {
+            // 로딩 중에 무효화됨: 바뀌기 전 값일 수 있으므로 방금 넣은 값을 되돌림
+            entries.asMap().remove(key, entry);
+        }
+        mine.complete(value);
+        return mine;
+    }
+
+    private void refreshAsync(K key, Function<? super K, ? extends V> loader) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> load(key, loader).exceptionally(e -> {
+                log.warn("캐시 조기 갱신 실패 (기존 값 유지): {} ({})", key, e.toString());
+                return null;
+            }));
+        } catch (RejectedExecutionException e) {
+            // 다음 요청에서 다시 시도
+        }
+    }
+
+    /**
+     * XFetch: now - loadNanos * beta * ln(random) >= expiresAt 이면 갱신합니다.
+     * - ln(random)은 음수이므로, 로딩 시간이 길수록/만료에 가까울수록 갱신 확률이 올라갑니다.
+     */
+    private boolean shouldRefreshEarly(Entry<V> entry, long now) {
+        if (earlyRefreshBeta <= 0) {
+            return false;
+        }
+        double gap = -entry.loadNanos * earlyRefreshBeta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return now + gap >= entry.expiresAt;
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        /** 이 시각(ticker 기준)부터 TTL이 지난 값 */
+        private final long expiresAt;
+        /** 값을 읽는 데 걸린 시간 (조기 갱신 확률 계산용) */
+        private final long loadNanos;
+
+        private Entry(V value, long expiresAt, long loadNanos) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.loadNanos = loadNanos;
+        }
+    }
+}
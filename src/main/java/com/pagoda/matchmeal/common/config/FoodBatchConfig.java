@@ -1,41 +1,131 @@
 package com.pagoda.matchmeal.common.config;
 
+import com.pagoda.matchmeal.batch.delta.FoodContentHashSnapshotProvider;
+import com.pagoda.matchmeal.batch.delta.FoodDeltaProcessor;
+import com.pagoda.matchmeal.batch.delta.FoodImportReportListener;
+import com.pagoda.matchmeal.batch.lease.JobLeaseListener;
+import com.pagoda.matchmeal.batch.listener.FoodBeforeImageRepository;
+import com.pagoda.matchmeal.batch.listener.FoodChangeFeedListener;
+import com.pagoda.matchmeal.batch.listener.FoodDeadLetterListener;
+import com.pagoda.matchmeal.batch.listener.FoodImportEventPublishingListener;
+import com.pagoda.matchmeal.batch.metrics.FoodImportMetrics;
+import com.pagoda.matchmeal.batch.metrics.FoodImportMetricsListener;
+import com.pagoda.matchmeal.batch.metrics.FoodImportSummaryListener;
+import com.pagoda.matchmeal.batch.processor.FoodCsvItemProcessor;
+import com.pagoda.matchmeal.batch.processor.InvalidFoodRowException;
+import com.pagoda.matchmeal.batch.reader.FoodCsvLineMapper;
+import com.pagoda.matchmeal.batch.reader.MappedFoodCsvItemReader;
+import com.pagoda.matchmeal.batch.writer.FoodMultiRowUpsertWriter;
+import com.pagoda.matchmeal.mapper.FoodBatchMapper;
 import com.pagoda.matchmeal.model.entity.Food;
 import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import com.pagoda.matchmeal.service.FoodChangeFeedService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.ibatis.session.SqlSessionFactory;
-import org.mybatis.spring.batch.MyBatisBatchItemWriter;
 import org.mybatis.spring.batch.builder.MyBatisBatchItemWriterBuilder;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.skip.LimitCheckingItemSkipPolicy;
+import org.springframework.batch.core.step.skip.SkipPolicy;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.file.FlatFileParseException;
 import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.backoff.ExponentialBackOffPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 /**
  * [음식 데이터 대량 등록 배치 설정]
  * - 역할: CSV 파일을 읽어 데이터를 정제한 후, DB에 대량으로 Insert/Upsert 합니다.
  * - 구조: Reader(CSV 읽기) -> Processor(데이터 변환/정제) -> Writer(DB 저장)
+ * - Job 파라미터 importMode=delta 로 실행하면 내용이 바뀐 행만 저장합니다. (기본값: full)
+ * - 잘못된 행은 건너뛰고(dead-letter 파일에 기록), 데드락 등 일시적인 DB 오류는 간격을 늘려가며 재시도합니다.
  */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class FoodBatchConfig {
 
+    /** 음식 공공데이터 CSV 파일 경로 (classpath 기준) */
+    public static final String FOOD_CSV_PATH = "data/20250408_FoodDB.csv";
+    /** CSV에서 실제로 사용하는 컬럼 인덱스 (0:코드, 1:이름, 7:대분류, 16:기준량, 17:에너지, 19:단백질, 20:지방, 22:탄수화물) */
+    public static final Integer[] FOOD_CSV_INCLUDED_FIELDS = {0, 1, 7, 16, 17, 19, 20, 22};
+    /** 위 컬럼을 순서대로 매핑할 FoodCsvDto의 필드명 (FoodCsvLineMapper도 이 순서를 따릅니다) */
+    public static final String[] FOOD_CSV_FIELD_NAMES = {"foodCode", "foodName", "category", "servingSize", "calories", "protein", "fat", "carbohydrate"};
+
     /** 배치의 상태(시작, 종료, 실패 등)를 저장하고 관리하는 저장소 */
     private final JobRepository jobRepository;
     /** 데이터베이스 트랜잭션 관리자 (Chunk 단위로 커밋/롤백 처리) */
     private final PlatformTransactionManager transactionManager;
     /** MyBatis와 DB를 연결해주는 핵심 객체 */
     private final SqlSessionFactory sqlSessionFactory;
+    /** multi-row Writer에서 사용하는 매퍼 */
+    private final FoodBatchMapper foodBatchMapper;
+    /** Chunk 트랜잭션 안에서 MyBatis 실행기와 상관없이 읽기 위한 JdbcTemplate (변경 피드의 저장 전 값) */
+    private final JdbcTemplate jdbcTemplate;
+    /** 배치로 바뀐 음식의 변경 기록 발행 (조회 캐시 무효화도 이 피드로 처리) */
+    private final FoodChangeFeedService foodChangeFeedService;
+    /** Job 종료 이벤트 발행용 */
+    private final ApplicationEventPublisher eventPublisher;
+    /** 배치 지표 (Micrometer) 및 Job 실행 요약 */
+    private final FoodImportMetrics foodImportMetrics;
+    private final FoodImportSummaryListener foodImportSummaryListener;
+    /** 여러 서버 중 한 대만 실행하도록 하는 임대(lease) */
+    private final JobLeaseListener foodImportLeaseListener;
+
+    /** Writer 방식 (batch: 행 단위 JDBC 배치, multi-row: 여러 행을 하나의 INSERT 문으로) */
+    @Value("${batch.food.writer.mode:batch}")
+    private String writerMode;
+
+    /** multi-row 방식에서 하나의 INSERT 문에 담을 최대 행 수 */
+    @Value("${batch.food.writer.rows-per-statement:500}")
+    private int rowsPerStatement;
+
+    /** Step 하나에서 건너뛸 수 있는 최대 행 수 (넘으면 Step 실패) */
+    @Value("${batch.food.skip-limit:1000}")
+    private int skipLimit;
+
+    /** 일시적인 DB 오류의 최대 시도 횟수 (첫 시도 포함) */
+    @Value("${batch.food.retry.max-attempts:3}")
+    private int retryMaxAttempts;
+
+    /** 재시도 대기 시간 (첫 대기 시간부터 2배씩 늘어나며 최대 대기 시간을 넘지 않음) */
+    @Value("${batch.food.retry.initial-interval-ms:200}")
+    private long retryInitialInterval;
+
+    @Value("${batch.food.retry.max-interval-ms:2000}")
+    private long retryMaxInterval;
+
+    /** 건너뛴 행을 기록할 dead-letter 파일 디렉터리 */
+    @Value("${batch.food.dead-letter.dir:dead-letter}")
+    private String deadLetterDir;
 
     // --- 1. Job & Step ---
     /**
@@ -46,6 +136,11 @@ public class FoodBatchConfig {
     @Bean
     public Job foodJob() {
         return new JobBuilder("foodJob", jobRepository)
+                .listener(foodImportLeaseListener) // 가장 먼저: 임대를 못 얻으면 Step을 실행하지 않음
+                .listener(foodContentHashSnapshotProvider())
+                .listener(foodImportReportListener())
+                .listener(foodImportEventPublishingListener())
+                .listener(foodImportSummaryListener)
                 .start(foodStep())
                 .build();
     }
@@ -62,31 +157,48 @@ public class FoodBatchConfig {
                 // 데이터를 1,000개씩 끊어서 처리합니다.
                 // 즉, 1000개를 읽고 가공한 뒤 한 번에 DB에 커밋(Insert)합니다. (성능 최적화 핵심)
                 .<FoodCsvDto, Food>chunk(1000, transactionManager) // 1000개씩 처리
-                .reader(foodReader()) // 1. 읽기
-                .processor(foodProcessor()) // 2. 가공
+                .reader(foodReader(null)) // 1. 읽기
+                .processor(foodImportProcessor()) // 2. 가공 (+ delta 모드면 변경 없는 행 거르기)
                 .writer(foodWriter()) // 3. 쓰기
+                // [장애 허용 설정]
+                // 잘못된 행(파싱 실패, 필수 값 누락 등)은 그 행만 건너뛰고, 데드락/락 대기 시간 초과 등은 재시도합니다.
+                .faultTolerant()
+                .skipPolicy(foodSkipPolicy())
+                .retryPolicy(foodRetryPolicy())
+                .backOffPolicy(foodRetryBackOffPolicy())
+                .processorNonTransactional() // 재시도 시 Processor를 다시 실행하지 않음 (delta 건수 중복 집계 방지)
+                .listener((SkipListener<FoodCsvDto, Food>) foodDeadLetterListener()) // 건너뛴 행 기록
+                .listener((StepExecutionListener) foodDeadLetterListener())
+                .listener(foodDeltaProcessor(null, null)) // 추가/변경/동일 건수 기록
+                .listener((ItemWriteListener<Food>) foodChangeFeedListener()) // 저장 전/후 비교해서 변경 기록 생성
+                .listener((ChunkListener) foodChangeFeedListener()) // 커밋 후 변경 피드 발행 (바뀐 음식 캐시 삭제)
+                .listener((StepExecutionListener) foodImportMetricsListener()) // 단계별 시간, 숫자 변환 실패 건수 기록
+                .listener((ItemWriteListener<Object>) foodImportLeaseListener) // 커밋 직전 임대(fencing token) 확인
                 .build();
     }
 
     // --- 2. Reader (CSV 읽기) ---
     /**
      * CSV 파일을 한 줄씩 읽어와서 FoodCsvDto 객체로 변환합니다.
+     * - 기본: jar에 포함된 classpath CSV를 읽습니다.
+     * - Job 파라미터 'inputFile'(외부 파일 경로)이 있으면, 수 GB 파일도 힙 사용량 없이 읽을 수 있도록
+     *      메모리 매핑 기반 Reader(MappedFoodCsvItemReader)를 사용합니다.
+     * @param inputFile 외부 CSV 파일 경로 (없으면 classpath CSV 사용)
      */
     @Bean
-    public FlatFileItemReader<FoodCsvDto> foodReader() {
+    @StepScope
+    public ItemStreamReader<FoodCsvDto> foodReader(@Value("#{jobParameters['inputFile']}") String inputFile) {
+        if (StringUtils.hasText(inputFile)) {
+            return new MappedFoodCsvItemReader(Path.of(inputFile), new FoodCsvLineMapper(FOOD_CSV_INCLUDED_FIELDS));
+        }
         return new FlatFileItemReaderBuilder<FoodCsvDto>()
                 .name("foodReader")
-                .resource(new ClassPathResource("data/20250408_FoodDB.csv"))
+                .resource(new ClassPathResource(FOOD_CSV_PATH))
                 .encoding("UTF-8") // 한글 깨짐 방지
                 .linesToSkip(1) // 첫 번째 줄(헤더)은 데이터가 아니므로 건너뜀
-                .delimited() // 쉼표(,)로 구분된 파일임
-                // 0:코드, 1:이름, 7:대분류, 16:기준량, 17:에너지, 19:단백질, 20:지방, 22:탄수화물
-                .includedFields(0, 1, 7, 16, 17, 19, 20, 22)
-
-                // 위에서 뽑은 순서대로 DTO의 어떤 변수에 넣을지 지정합니다.
-                .names("foodCode", "foodName", "category", "servingSize", "calories", "protein", "fat", "carbohydrate")
-
-                .targetType(FoodCsvDto.class)
+                // 쉼표(,)로 구분된 한 줄에서
+                // 0:코드, 1:이름, 7:대분류, 16:기준량, 17:에너지, 19:단백질, 20:지방, 22:탄수화물 컬럼만 뽑아 DTO에 담습니다.
+                .lineMapper(new FoodCsvLineMapper(FOOD_CSV_INCLUDED_FIELDS))
                 .build();
     }
 
@@ -94,77 +206,140 @@ public class FoodBatchConfig {
     /**
      * 읽어온 CSV 데이터(문자열 위주)를 DB 엔티티(올바른 타입)로 변환합니다.
      * - "N/A", "-", 공백 등 더러운 데이터를 0.0으로 정제하는 로직이 포함됩니다.
+     * - 실제 변환 로직은 FoodCsvItemProcessor 에 있습니다.
+     * - 0.0으로 대체한 값은 실행 중인 Step의 FoodImportMetricsListener에 컬럼별로 기록됩니다.
      */
     @Bean
     public ItemProcessor<FoodCsvDto, Food> foodProcessor() {
-        return item -> {
-
-            String rawServingSize = item.getServingSize(); // 예: "200ml", "100g"
-            // 단위 판별 로직
-            String unit = "g"; // 기본값
-            if (rawServingSize != null && rawServingSize.toLowerCase().contains("ml")) {
-                 unit = "ml";
-            }
-
-            // Builder 패턴을 사용하여 Food 엔티티 생성
-            return Food.builder()
-                    .foodCode(item.getFoodCode())
-                    .foodName(item.getFoodName().replace("_", " ")) // foodName의 언더바(_) 공백 치환
-                    .category(item.getCategory())
-                    // [데이터 정제]
-                    // CSV에는 "1,200"(쉼표), "N/A"(문자), ""(공백) 등이 섞여 있습니다.
-                    // 이를 안전하게 Double(숫자)로 바꾸는 헬퍼 메소드를 사용합니다.
-                    .servingSize(parseDoubleSafe(rawServingSize))
-                    .unit(unit)
-                    .calories(parseDoubleSafe(item.getCalories()))
-                    .protein(parseDoubleSafe(item.getProtein()))
-                    .fat(parseDoubleSafe(item.getFat()))
-                    .carbohydrate(parseDoubleSafe(item.getCarbohydrate()))
-                    .build();
-        };
+        return new FoodCsvItemProcessor(foodImportMetricsListener());
+    }
+
+    /**
+     * delta(증분) 모드 Processor입니다.
+     * - Job 파라미터 importMode=delta 이면 기존 데이터와 내용 해시가 같은 행을 걸러냅니다.
+     * - 그 외(기본값 full)에는 모든 행을 그대로 통과시킵니다.
+     * @param importMode      Job 파라미터 (full | delta)
+     * @param jobExecutionId  해시 스냅샷을 Job 단위로 공유하기 위한 JobExecution ID
+     */
+    @Bean
+    @StepScope
+    public FoodDeltaProcessor foodDeltaProcessor(
+            @Value("#{jobParameters['importMode']}") String importMode,
+            @Value("#{stepExecution.jobExecution.id}") Long jobExecutionId) {
+        boolean delta = FoodDeltaProcessor.DELTA_MODE.equalsIgnoreCase(importMode);
+        return new FoodDeltaProcessor(delta ? foodContentHashSnapshotProvider().get(jobExecutionId) : null);
+    }
+
+    /**
+     * Step에서 실제로 사용하는 Processor입니다. (CSV 변환 -> delta 필터 순서로 실행)
+     */
+    @Bean
+    public ItemProcessor<FoodCsvDto, Food> foodImportProcessor() {
+        CompositeItemProcessor<FoodCsvDto, Food> processor = new CompositeItemProcessor<>();
+        processor.setDelegates(List.of(foodProcessor(), foodDeltaProcessor(null, null)));
+        return processor;
+    }
+
+    /**
+     * delta 모드에서 기존 데이터 해시 스냅샷을 Job 단위로 한 번만 로딩/해제합니다.
+     */
+    @Bean
+    public FoodContentHashSnapshotProvider foodContentHashSnapshotProvider() {
+        return new FoodContentHashSnapshotProvider(foodBatchMapper);
+    }
+
+    // --- 3. 장애 허용 (Skip / Retry) ---
+    /**
+     * 건너뛸 수 있는 예외: 데이터 자체가 잘못되어 다시 시도해도 실패하는 경우
+     * - FlatFileParseException: 컬럼 수가 모자라는 등 CSV 한 줄을 읽을 수 없음
+     * - InvalidFoodRowException: 식품코드/식품명 누락 등 저장할 수 없는 행
+     * - DataIntegrityViolationException: 컬럼 길이 초과 등 DB 제약 조건 위반 (해당 행만 건너뜀)
+     */
+    @Bean
+    public SkipPolicy foodSkipPolicy() {
+        return new LimitCheckingItemSkipPolicy(skipLimit, Map.of(
+                FlatFileParseException.class, true,
+                InvalidFoodRowException.class, true,
+                DataIntegrityViolationException.class, true));
+    }
+
+    /**
+     * 재시도할 예외: 데드락, 락 대기 시간 초과, 쿼리 타임아웃 등 잠시 후 다시 하면 성공할 수 있는 DB 오류
+     * - TransientDataAccessException 하위 예외 (DeadlockLoserDataAccessException, CannotAcquireLockException, QueryTimeoutException 등)
+     * - 원인(cause)에 감싸여 있어도 재시도합니다.
+     */
+    @Bean
+    public RetryPolicy foodRetryPolicy() {
+        return new SimpleRetryPolicy(retryMaxAttempts, Map.of(TransientDataAccessException.class, true), true);
+    }
+
+    @Bean
+    public BackOffPolicy foodRetryBackOffPolicy() {
+        ExponentialBackOffPolicy backOffPolicy = new ExponentialBackOffPolicy();
+        backOffPolicy.setInitialInterval(retryInitialInterval);
+        backOffPolicy.setMultiplier(2.0);
+        backOffPolicy.setMaxInterval(retryMaxInterval);
+        return backOffPolicy;
+    }
+
+    /**
+     * 건너뛴 행을 줄 번호, 사유와 함께 dead-letter CSV 파일로 남깁니다.
+     */
+    @Bean
+    @StepScope
+    public FoodDeadLetterListener foodDeadLetterListener() {
+        return new FoodDeadLetterListener(Path.of(deadLetterDir));
+    }
+
+    /**
+     * Chunk마다 저장 전 값과 비교해서 변경 기록(op, 식품코드, 바뀐 필드)을 만들고, 커밋 후 변경 피드로 발행합니다.
+     */
+    @Bean
+    @StepScope
+    public FoodChangeFeedListener foodChangeFeedListener() {
+        return new FoodChangeFeedListener(new FoodBeforeImageRepository(jdbcTemplate), foodChangeFeedService);
+    }
+
+    /**
+     * Chunk 단위 read/process/write 시간과 컬럼별 숫자 변환 실패 건수를 Micrometer에 기록합니다.
+     */
+    @Bean
+    @StepScope
+    public FoodImportMetricsListener foodImportMetricsListener() {
+        return new FoodImportMetricsListener(foodImportMetrics);
+    }
+
+    /**
+     * Job 종료 시 저장/추가/변경/동일 건수를 합산해서 기록합니다.
+     */
+    @Bean
+    public FoodImportReportListener foodImportReportListener() {
+        return new FoodImportReportListener();
+    }
+
+    /**
+     * Job 종료 시 FoodImportCompletedEvent를 발행합니다. (검색 인덱스 등 메모리 데이터 갱신용)
+     */
+    @Bean
+    public FoodImportEventPublishingListener foodImportEventPublishingListener() {
+        return new FoodImportEventPublishingListener(eventPublisher);
     }
 
     // --- 4. Writer (MyBatis Insert) ---
     /**
      * 가공된 Food 데이터를 MyBatis를 통해 DB에 저장합니다.
      * - 실제 쿼리는 resources/mappers/FoodBatchMapper.xml 에 있습니다.
+     * - batch.food.writer.mode=multi-row 이면 Chunk를 multi-row INSERT 문으로 묶어서 저장합니다.
+     *      (MySQL에서는 행 단위 Upsert보다 훨씬 빠릅니다.)
      */
     @Bean
-    public MyBatisBatchItemWriter<Food> foodWriter() {
+    public ItemWriter<Food> foodWriter() {
+        if ("multi-row".equalsIgnoreCase(writerMode)) {
+            return new FoodMultiRowUpsertWriter(foodBatchMapper, rowsPerStatement);
+        }
         return new MyBatisBatchItemWriterBuilder<Food>()
                 .sqlSessionFactory(sqlSessionFactory)
                 .statementId("com.pagoda.matchmeal.mapper.FoodBatchMapper.insertFood") // 매퍼 ID 확인
                 .build();
     }
-
-    /**
-     * [안전한 숫자 변환기]
-     * 공공데이터 특성상 숫자 컬럼에 문자나 특수문자가 섞여 있는 경우가 많습니다.
-     * 이를 에러 없이 0.0으로 처리해주는 메소드입니다.
-     * @param value CSV에서 읽은 문자열 값 (예: "1,500", "N/A", "-")
-     * @return 변환된 double 값 (변환 불가 시 0.0 반환)
-     */
-    private double parseDoubleSafe(String value) {
-        if (value == null || value.trim().isEmpty() || value.equals("-") || value.equals("N/A")) {
-            return 0.0;
-        }
-        try {
-            // 쉼표와 공백 제거
-            String cleanValue = value.replace(",", "");
-
-            // "[^0-9.]" 의 의미: "0부터 9까지의 숫자와 점(.)이 '아닌(^) 것'들"
-            // 즉, 숫자와 점을 제외한 모든 문자(g, ml, 공백, 한글 등)를 빈 문자열("")로 치환해서 지워버립니다.
-            cleanValue = cleanValue.replaceAll("[^0-9.]", "");
-
-            // 단위를 지웠더니 빈 문자열이 된 경우 (예: "g"만 있었던 오타 등)
-            if (cleanValue.isEmpty()) {
-                return 0.0;
-            }
-
-            return Double.parseDouble(cleanValue);
-        } catch (NumberFormatException e) {
-            log.warn("숫자 변환 실패: {}", value);
-            return 0.0; // 변환 실패 시 0.0 처리
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.pagoda.matchmeal.common.config;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.pagoda.matchmeal.cache.FoodRemoteCache;
+import com.pagoda.matchmeal.cache.RedisFoodRemoteCache;
+import com.pagoda.matchmeal.cache.SingleFlightCache;
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * [음식 조회 캐시 설정]
+ * - 1차: 서버 내 로컬 캐시 (Caffeine, 최대 개수 + TTL, 같은 키 동시 조회는 한 번만 로딩)
+ * - 2차: 서버 간 공유 캐시 (Redis, TTL)
+ */
+@Configuration
+public class FoodCacheConfig {
+
+    @Value("${food.cache.local.max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${food.cache.local.ttl:10m}")
+    private Duration localTtl;
+
+    @Value("${food.cache.local.stale-ttl:5m}")
+    private Duration localStaleTtl;
+
+    @Value("${food.cache.local.early-refresh-beta:1.0}")
+    private double localEarlyRefreshBeta;
+
+    /** 동시에 실행할 조기 갱신 수 (각 갱신이 Redis/DB를 한 번씩 읽음) */
+    @Value("${food.cache.local.refresh-threads:4}")
+    private int refreshThreads;
+
+    /** 실행을 기다릴 수 있는 조기 갱신 수 (넘으면 건너뛰고 다음 요청에서 다시 시도) */
+    @Value("${food.cache.local.refresh-queue-capacity:100}")
+    private int refreshQueueCapacity;
+
+    /** 가상 스레드 모드 (virtual 프로파일, Java 21 이상) */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${food.cache.remote.ttl:1h}")
+    private Duration remoteTtl;
+
+    /**
+     * - TTL이 지난 값은 stale-ttl 동안 더 보관해서, DB 장애 중에는 이전 값으로 응답합니다.
+     * - 조기 갱신은 전용 Executor(foodCacheRefreshExecutor)에서 실행합니다.
+     */
+    @Bean
+    public SingleFlightCache<String, FoodResponseDto> foodLocalCache() {
+        return new SingleFlightCache<>(localMaxSize, localTtl, localStaleTtl, localEarlyRefreshBeta,
+                foodCacheRefreshExecutor(), Ticker.systemTicker());
+    }
+
+    /**
+     * 로컬 캐시 조기 갱신 전용 Executor입니다.
+     * - 갱신은 Redis/DB를 기다리는 작업이므로, 공용 ForkJoinPool(병렬 스트림 등 CPU 작업용)을 막지 않도록 따로 둡니다.
+     * - 실행 중/대기 중인 갱신이 가득 차면 거절하고, 요청은 기존 값으로 응답합니다. (SingleFlightCache가 거절을 무시)
+     * - 가상 스레드 모드에서는 갱신마다 가상 스레드를 만들고, 동시에 실행되는 갱신 수만 refresh-threads로 제한합니다.
+     */
+    @Bean
+    public TaskExecutor foodCacheRefreshExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("food-cache-refresh-");
+            executor.setVirtualThreads(true);
+            // SimpleAsyncTaskExecutor의 동시 실행 제한은 호출한 스레드를 기다리게 하므로, 자리가 없으면 바로 거절
+            Semaphore permits = new Semaphore(refreshThreads);
+            return task -> {
+                if (!permits.tryAcquire()) {
+                    throw new RejectedExecutionException("조기 갱신이 이미 " + refreshThreads + "개 실행 중입니다.");
+                }
+                try {
+                    executor.execute(() -> {
+                        try {
+                            task.run();
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+            };
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(refreshThreads);
+        executor.setMaxPoolSize(refreshThreads);
+        executor.setQueueCapacity(refreshQueueCapacity);
+        executor.setThreadNamePrefix("food-cache-refresh-");
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 음식 캐시 전용 RedisTemplate (키: 문자열, 값: 직렬화된 byte[] 그대로 저장)
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> foodRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    @Bean
+    public FoodRemoteCache foodRemoteCache(RedisTemplate<String, byte[]> foodRedisTemplate) {
+        return new RedisFoodRemoteCache(foodRedisTemplate, remoteTtl);
+    }
+}
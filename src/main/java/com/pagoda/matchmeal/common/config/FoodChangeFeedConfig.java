@@ -0,0 +1,49 @@
+package com.pagoda.matchmeal.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pagoda.matchmeal.feed.FoodChangeStream;
+import com.pagoda.matchmeal.feed.FoodChangeStreamFollower;
+import com.pagoda.matchmeal.feed.RedisFoodChangeStream;
+import com.pagoda.matchmeal.service.FoodLookupService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * [음식 변경 피드 설정]
+ * - 변경 스트림은 Redis Stream에 저장합니다. (키와 최대 보관 항목 수)
+ * - 모든 서버가 변경 스트림을 따라 읽으며 자기 로컬 캐시를 지웁니다. (배치를 실행한 서버의 Spring 이벤트는 다른 서버에 전달되지 않음)
+ *      food.change-feed.follow.enabled=false면 따라 읽지 않습니다. (기본값 true, 테스트 프로파일에서는 끔)
+ */
+@Configuration
+public class FoodChangeFeedConfig {
+
+    @Value("${food.change-feed.stream-key:food:changes}")
+    private String streamKey;
+
+    /** 보관할 최대 항목(변경 기록 묶음) 수 */
+    @Value("${food.change-feed.max-length:10000}")
+    private long maxLength;
+
+    /** 변경 스트림을 따라 읽는 간격 (다른 서버의 로컬 캐시에 바뀌기 전 값이 남아 있을 수 있는 최대 시간) */
+    @Value("${food.change-feed.follow-interval:1s}")
+    private Duration followInterval;
+
+    @Value("${food.change-feed.follow.enabled:true}")
+    private boolean followEnabled;
+
+    @Bean
+    public FoodChangeStream foodChangeStream(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        return new RedisFoodChangeStream(redisTemplate, objectMapper, streamKey, maxLength);
+    }
+
+    @Bean
+    public FoodChangeStreamFollower foodChangeStreamFollower(FoodChangeStream foodChangeStream,
+                                                             FoodLookupService foodLookupService) {
+        return new FoodChangeStreamFollower(foodChangeStream, batch -> foodLookupService.evictLocal(batch.foodCodes()),
+                foodLookupService::clearLocal, followInterval, 100, followEnabled);
+    }
+}
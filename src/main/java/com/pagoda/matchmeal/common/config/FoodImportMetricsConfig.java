@@ -0,0 +1,35 @@
+package com.pagoda.matchmeal.common.config;
+
+import com.pagoda.matchmeal.batch.metrics.FoodImportMetrics;
+import com.pagoda.matchmeal.batch.metrics.FoodImportMetricsEndpoint;
+import com.pagoda.matchmeal.batch.metrics.FoodImportSummaryListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * [음식 등록 배치 지표 설정]
+ * - Micrometer 지표(food.import.*)와 실행 요약 Actuator 엔드포인트(/actuator/foodimport)를 등록합니다.
+ * - Step 단위 Listener(FoodImportMetricsListener)는 @StepScope가 필요하므로 FoodBatchConfig에 있습니다.
+ */
+@Configuration
+public class FoodImportMetricsConfig {
+
+    @Bean
+    public FoodImportMetrics foodImportMetrics(MeterRegistry meterRegistry) {
+        return new FoodImportMetrics(meterRegistry);
+    }
+
+    /**
+     * Job 종료 시 실행 요약 표를 로그로 남기고 보관합니다.
+     */
+    @Bean
+    public FoodImportSummaryListener foodImportSummaryListener(FoodImportMetrics foodImportMetrics) {
+        return new FoodImportSummaryListener(foodImportMetrics);
+    }
+
+    @Bean
+    public FoodImportMetricsEndpoint foodImportMetricsEndpoint(FoodImportMetrics foodImportMetrics) {
+        return new FoodImportMetricsEndpoint(foodImportMetrics);
+    }
+}
@@ -0,0 +1,232 @@
+package com.pagoda.matchmeal.common.config;
+
+import com.pagoda.matchmeal.batch.delta.FoodContentHashSnapshotProvider;
+import com.pagoda.matchmeal.batch.delta.FoodDeltaProcessor;
+import com.pagoda.matchmeal.batch.delta.FoodImportReportListener;
+import com.pagoda.matchmeal.batch.lease.JobLeaseListener;
+import com.pagoda.matchmeal.batch.listener.FoodChangeFeedListener;
+import com.pagoda.matchmeal.batch.listener.FoodDeadLetterListener;
+import com.pagoda.matchmeal.batch.listener.FoodImportEventPublishingListener;
+import com.pagoda.matchmeal.batch.metrics.FoodImportMetricsListener;
+import com.pagoda.matchmeal.batch.metrics.FoodImportSummaryListener;
+import com.pagoda.matchmeal.batch.partition.FoodCsvLinePartitioner;
+import com.pagoda.matchmeal.batch.partition.PartitionTaskFencingListener;
+import com.pagoda.matchmeal.batch.reader.ByteOffsetResource;
+import com.pagoda.matchmeal.batch.reader.FoodCsvLineMapper;
+import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * [음식 데이터 병렬(파티셔닝) 등록 배치 설정]
+ * - 역할: foodJob과 동일한 Reader/Processor/Writer 로직을 CSV 라인 범위별로 나눠 여러 스레드에서 동시에 실행합니다.
+ * - 구조: Manager Step(파티셔닝) -> Worker Step N개(각자 자신의 라인 범위만 읽기 -> 가공 -> 저장)
+ * - 실행: Job 파라미터 'partitionCount'로 파티션 개수를 지정할 수 있습니다. (미지정 시 CPU 코어 수)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class FoodPartitionBatchConfig {
+
+    /** 파티션 개수 기본값 (CPU 코어 수) */
+    private static final int DEFAULT_GRID_SIZE = Runtime.getRuntime().availableProcessors();
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    /** FoodBatchConfig에 등록된 Processor/Writer/Listener를 그대로 재사용합니다. */
+    private final ItemProcessor<FoodCsvDto, Food> foodImportProcessor;
+    private final ItemWriter<Food> foodWriter;
+    private final FoodDeltaProcessor foodDeltaProcessor;
+    private final FoodChangeFeedListener foodChangeFeedListener;
+    private final FoodContentHashSnapshotProvider foodContentHashSnapshotProvider;
+    private final FoodImportReportListener foodImportReportListener;
+    private final FoodImportEventPublishingListener foodImportEventPublishingListener;
+    private final FoodImportMetricsListener foodImportMetricsListener;
+    private final FoodImportSummaryListener foodImportSummaryListener;
+    private final JobLeaseListener foodImportLeaseListener;
+    private final FoodDeadLetterListener foodDeadLetterListener;
+    private final SkipPolicy foodSkipPolicy;
+    private final RetryPolicy foodRetryPolicy;
+    private final BackOffPolicy foodRetryBackOffPolicy;
+
+    /** Worker 스레드 풀 크기 (0 이하이면 CPU 코어 수) */
+    @Value("${batch.food.partition.pool-size:0}")
+    private int poolSize;
+
+    @Value("${batch.food.partition.queue-capacity:100}")
+    private int queueCapacity;
+
+    /** 가상 스레드 모드 (virtual 프로파일, Java 21 이상) */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // --- 1. Job & Manager Step ---
+    /**
+     * 파티셔닝 배치 작업(Job)을 생성합니다.
+     * - Job 이름: "foodPartitionedJob"
+     */
+    @Bean
+    public Job foodPartitionedJob() {
+        return new JobBuilder("foodPartitionedJob", jobRepository)
+                .listener(foodImportLeaseListener)
+                .listener(foodContentHashSnapshotProvider)
+                .listener(foodImportReportListener)
+                .listener(foodImportEventPublishingListener)
+                .listener(foodImportSummaryListener)
+                .start(foodManagerStep())
+                .build();
+    }
+
+    /**
+     * 파티션을 나누고 Worker Step들을 스레드 풀에 분배하는 Manager Step입니다.
+     * - 각 파티션은 "foodWorkerStep:partitionN" 이라는 별도 StepExecution으로 기록되므로 개별 재시작이 가능합니다.
+     */
+    @Bean
+    public Step foodManagerStep() {
+        return new StepBuilder("foodManagerStep", jobRepository)
+                .partitioner("foodWorkerStep", foodCsvLinePartitioner(null))
+                .step(foodWorkerStep())
+                .gridSize(DEFAULT_GRID_SIZE)
+                .taskExecutor(foodPartitionTaskExecutor())
+                .build();
+    }
+
+    /**
+     * 실제로 CSV의 일부 범위를 처리하는 Worker Step입니다.
+     * - Chunk 크기, Processor, Writer, Skip/Retry 정책은 단일 스레드 foodStep과 동일합니다.
+     */
+    @Bean
+    public Step foodWorkerStep() {
+        return new StepBuilder("foodWorkerStep", jobRepository)
+                .<FoodCsvDto, Food>chunk(1000, transactionManager)
+                .reader(foodRangeReader(null, null, null))
+                .processor(foodImportProcessor)
+                .writer(foodWriter)
+                .faultTolerant()
+                .skipPolicy(foodSkipPolicy)
+                .retryPolicy(foodRetryPolicy)
+                .backOffPolicy(foodRetryBackOffPolicy)
+                .processorNonTransactional()
+                .listener((SkipListener<FoodCsvDto, Food>) foodDeadLetterListener)
+                .listener((StepExecutionListener) foodDeadLetterListener)
+                .listener(foodDeltaProcessor)
+                .listener((ItemWriteListener<Food>) foodChangeFeedListener)
+                .listener((ChunkListener) foodChangeFeedListener)
+                .listener((StepExecutionListener) foodImportMetricsListener)
+                .listener((ItemWriteListener<Object>) foodImportLeaseListener)
+                .listener(foodPartitionTaskFencingListener())
+                .build();
+    }
+
+    /**
+     * 원격 파티션(PartitionTaskWorker)으로 실행될 때, Chunk를 커밋하기 전에 아직 이 Worker의 작업인지 확인하는 Listener입니다.
+     */
+    @Bean
+    public PartitionTaskFencingListener foodPartitionTaskFencingListener() {
+        return new PartitionTaskFencingListener();
+    }
+
+    // --- 2. Partitioner ---
+    /**
+     * CSV 파일을 라인 범위로 나누는 파티셔너입니다.
+     * @param partitionCount Job 파라미터로 전달된 파티션 개수 (없으면 gridSize 사용)
+     */
+    @Bean
+    @StepScope
+    public FoodCsvLinePartitioner foodCsvLinePartitioner(
+            @Value("#{jobParameters['partitionCount']}") Long partitionCount) {
+        return new FoodCsvLinePartitioner(
+                new ClassPathResource(FoodBatchConfig.FOOD_CSV_PATH),
+                1, // 헤더 1줄
+                partitionCount == null ? null : partitionCount.intValue());
+    }
+
+    // --- 3. Reader (파티션 범위 CSV 읽기) ---
+    /**
+     * 파티션에 할당된 [startIndex, endIndex) 범위의 라인만 읽는 Reader입니다.
+     * - 파티셔너가 기록한 바이트 위치(startOffset)에서 바로 읽기 시작하고, 범위의 라인 수만큼 읽으면 멈춥니다.
+     *      (앞쪽 라인을 읽어서 건너뛰면 파티션마다 파일 앞부분을 다시 읽게 됨)
+     * - 재시작 시에는 ExecutionContext에 저장된 read.count(파티션 안에서 읽은 수)부터 이어서 읽습니다.
+     * - 줄 번호(dead-letter 기록용)는 파티션 시작 라인만큼 더해서 파일 전체 기준(헤더 = 1번)으로 맞춥니다.
+     */
+    @Bean
+    @StepScope
+    public FlatFileItemReader<FoodCsvDto> foodRangeReader(
+            @Value("#{stepExecutionContext['" + FoodCsvLinePartitioner.START_INDEX_KEY + "']}") Integer startIndex,
+            @Value("#{stepExecutionContext['" + FoodCsvLinePartitioner.END_INDEX_KEY + "']}") Integer endIndex,
+            @Value("#{stepExecutionContext['" + FoodCsvLinePartitioner.START_OFFSET_KEY + "']}") Long startOffset) {
+        FoodCsvLineMapper lineMapper = new FoodCsvLineMapper(FoodBatchConfig.FOOD_CSV_INCLUDED_FIELDS);
+        int firstLineNumber = startIndex + 1; // 헤더 1줄
+        return new FlatFileItemReaderBuilder<FoodCsvDto>()
+                .name("foodRangeReader")
+                .resource(new ByteOffsetResource(new ClassPathResource(FoodBatchConfig.FOOD_CSV_PATH), startOffset))
+                .encoding("UTF-8")
+                .maxItemCount(endIndex - startIndex)
+                .lineMapper((line, lineNumber) -> {
+                    int fileLineNumber = firstLineNumber + lineNumber;
+                    try {
+                        return lineMapper.mapLine(line, fileLineNumber);
+                    } catch (Exception e) {
+                        // Reader가 파티션 기준 줄 번호로 한 번 더 감싸므로, 원래 예외와 파일 기준 줄 번호를 여기서 남김
+                        throw new FlatFileParseException("Parsing error at line: " + fileLineNumber, e, line, fileLineNumber);
+                    }
+                })
+                .build();
+    }
+
+    // --- 4. TaskExecutor ---
+    /**
+     * Worker Step을 실행할 고정 크기 스레드 풀입니다.
+     * - 풀과 큐가 모두 가득 차면 호출한 스레드(Manager)가 직접 실행하여 무한정 스레드가 늘어나지 않게 합니다.
+     * - 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 파티션마다 가상 스레드를 만들고,
+     *      동시에 실행되는 파티션 수만 pool-size로 제한합니다. (각 파티션이 DB 커넥션을 하나씩 잡기 때문)
+     */
+    @Bean
+    public TaskExecutor foodPartitionTaskExecutor() {
+        int threads = poolSize > 0 ? poolSize : DEFAULT_GRID_SIZE;
+
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("food-partition-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(threads);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("food-partition-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
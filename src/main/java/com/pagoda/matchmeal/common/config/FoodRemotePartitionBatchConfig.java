@@ -0,0 +1,139 @@
+package com.pagoda.matchmeal.common.config;
+
+import com.pagoda.matchmeal.batch.delta.FoodContentHashSnapshotProvider;
+import com.pagoda.matchmeal.batch.delta.FoodImportReportListener;
+import com.pagoda.matchmeal.batch.lease.JobLeaseListener;
+import com.pagoda.matchmeal.batch.listener.FoodImportEventPublishingListener;
+import com.pagoda.matchmeal.batch.metrics.FoodImportSummaryListener;
+import com.pagoda.matchmeal.batch.partition.FoodCsvLinePartitioner;
+import com.pagoda.matchmeal.batch.partition.JdbcPartitionQueue;
+import com.pagoda.matchmeal.batch.partition.PartitionQueue;
+import com.pagoda.matchmeal.batch.partition.PartitionTaskFencingListener;
+import com.pagoda.matchmeal.batch.partition.PartitionTaskWorker;
+import com.pagoda.matchmeal.batch.partition.QueuePartitionHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [음식 데이터 원격(여러 서버) 파티셔닝 배치 설정]
+ * - 역할: foodPartitionedJob과 같은 파티션(CSV 라인 범위)과 Worker Step을 사용하되, 파티션을 이 서버의 스레드가 아니라
+ *      DB 작업 큐(batch_partition_task)에 넣어서 여러 서버가 나눠 실행합니다.
+ * - 구조: Manager Step(파티셔닝 + 큐에 분배 + 진행 확인) -> 각 서버의 PartitionTaskWorker가 Worker Step 실행
+ * - Worker로 참여할 서버는 배포마다 batch.food.remote.worker.enabled=true로 켭니다. (기본값 false)
+ *      꺼진 서버도 Job(Manager)은 실행할 수 있지만, Worker가 한 대도 없으면 파티션이 실행되지 않고 timeout-ms 후 실패합니다.
+ * - 각 서버가 같은 입력을 읽을 수 있어야 하므로, 입력은 jar에 포함된 classpath CSV를 사용합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class FoodRemotePartitionBatchConfig {
+
+    /** Worker가 실행하는 Step 이름 (FoodPartitionBatchConfig의 foodWorkerStep을 그대로 사용) */
+    public static final String WORKER_STEP_NAME = "foodWorkerStep";
+
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final JdbcTemplate jdbcTemplate;
+    /** FoodPartitionBatchConfig에 등록된 파티셔너/Worker Step과 Job Listener를 그대로 재사용합니다. */
+    private final FoodCsvLinePartitioner foodCsvLinePartitioner;
+    private final Step foodWorkerStep;
+    private final PartitionTaskFencingListener foodPartitionTaskFencingListener;
+    private final JobLeaseListener foodImportLeaseListener;
+    private final FoodContentHashSnapshotProvider foodContentHashSnapshotProvider;
+    private final FoodImportReportListener foodImportReportListener;
+    private final FoodImportEventPublishingListener foodImportEventPublishingListener;
+    private final FoodImportSummaryListener foodImportSummaryListener;
+
+    /** 파티션 개수 기본값 (Job 파라미터 'partitionCount'로 바꿀 수 있음, 보통 서버 수 x Worker 동시 실행 수) */
+    @Value("${batch.food.remote.grid-size:8}")
+    private int gridSize;
+
+    /** Manager가 진행 상황을 확인하는 간격, Worker가 빈 큐를 다시 확인하는 간격 */
+    @Value("${batch.food.remote.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    /** 이 시간 동안 heartbeat가 없으면 Worker 서버가 중단된 것으로 보고 다른 서버로 재분배 (heartbeat는 1/3 간격) */
+    @Value("${batch.food.remote.worker-timeout-ms:60000}")
+    private long workerTimeoutMs;
+
+    /** 파티션 하나의 최대 시도 횟수 (첫 시도 + 재분배) */
+    @Value("${batch.food.remote.max-attempts:3}")
+    private int maxAttempts;
+
+    /** Manager가 모든 파티션이 끝나기를 기다리는 최대 시간 */
+    @Value("${batch.food.remote.timeout-ms:3600000}")
+    private long timeoutMs;
+
+    @Value("${batch.food.remote.worker.enabled:false}")
+    private boolean workerEnabled;
+
+    /** 이 서버에서 동시에 실행할 파티션 수 (파티션마다 DB 커넥션을 하나씩 사용) */
+    @Value("${batch.food.remote.worker.concurrency:2}")
+    private int workerConcurrency;
+
+    // --- 1. Job & Manager Step ---
+    /**
+     * 원격 파티셔닝 배치 작업(Job)을 생성합니다.
+     * - Job 이름: "foodRemotePartitionedJob"
+     */
+    @Bean
+    public Job foodRemotePartitionedJob() {
+        return new JobBuilder("foodRemotePartitionedJob", jobRepository)
+                .listener(foodImportLeaseListener)
+                .listener(foodContentHashSnapshotProvider)
+                .listener(foodImportReportListener)
+                .listener(foodImportEventPublishingListener)
+                .listener(foodImportSummaryListener)
+                .start(foodRemoteManagerStep())
+                .build();
+    }
+
+    /**
+     * 파티션을 나눠 작업 큐에 넣고, 모든 서버의 Worker가 끝낼 때까지 기다리는 Manager Step입니다.
+     */
+    @Bean
+    public Step foodRemoteManagerStep() {
+        return new StepBuilder("foodRemoteManagerStep", jobRepository)
+                .partitioner(WORKER_STEP_NAME, foodCsvLinePartitioner)
+                .partitionHandler(foodRemotePartitionHandler())
+                .build();
+    }
+
+    // --- 2. 작업 큐 ---
+    @Bean
+    public PartitionQueue foodPartitionQueue() {
+        return new JdbcPartitionQueue(jdbcTemplate);
+    }
+
+    @Bean
+    public QueuePartitionHandler foodRemotePartitionHandler() {
+        return new QueuePartitionHandler(foodPartitionQueue(), jobExplorer, WORKER_STEP_NAME, gridSize,
+                Duration.ofMillis(pollIntervalMs), Duration.ofMillis(workerTimeoutMs), maxAttempts, Duration.ofMillis(timeoutMs));
+    }
+
+    // --- 3. Worker ---
+    /**
+     * 작업 큐에서 파티션을 가져와 이 서버에서 실행하는 Worker입니다. (애플리케이션 시작 시 함께 시작)
+     * - Worker 서버에서 Job 단위로 로딩한 해시 스냅샷은 해당 Job이 끝나면 정리합니다.
+     */
+    @Bean
+    public PartitionTaskWorker foodPartitionTaskWorker() {
+        return new PartitionTaskWorker(foodPartitionQueue(), jobExplorer,
+                Map.of(WORKER_STEP_NAME, foodWorkerStep), FoodCsvLinePartitioner.PARTITION_KEYS,
+                List.of(foodContentHashSnapshotProvider), foodPartitionTaskFencingListener,
+                JobLeaseConfig.nodeId(), workerConcurrency,
+                Duration.ofMillis(pollIntervalMs), Duration.ofMillis(Math.max(1, workerTimeoutMs / 3)), workerEnabled);
+    }
+}
@@ -0,0 +1,170 @@
+package com.pagoda.matchmeal.common.config;
+
+import com.pagoda.matchmeal.batch.delta.FoodImportReportListener;
+import com.pagoda.matchmeal.batch.lease.JobLeaseListener;
+import com.pagoda.matchmeal.batch.listener.FoodDeadLetterListener;
+import com.pagoda.matchmeal.batch.listener.FoodImportEventPublishingListener;
+import com.pagoda.matchmeal.batch.metrics.FoodImportMetricsListener;
+import com.pagoda.matchmeal.batch.metrics.FoodImportSummaryListener;
+import com.pagoda.matchmeal.batch.staging.FoodStagingCleanupListener;
+import com.pagoda.matchmeal.batch.staging.FoodStagingCsvLineAggregator;
+import com.pagoda.matchmeal.batch.staging.FoodStagingLoadTasklet;
+import com.pagoda.matchmeal.batch.staging.FoodStagingMergeTasklet;
+import com.pagoda.matchmeal.mapper.FoodBatchMapper;
+import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import com.pagoda.matchmeal.service.FoodChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.file.FlatFileItemWriter;
+import org.springframework.batch.item.file.builder.FlatFileItemWriterBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+
+/**
+ * [음식 데이터 전체 재적재(스테이징) 배치 설정]
+ * - 역할: 운영 중인 foods 테이블에 행 단위 Upsert를 하는 대신, 보조 인덱스 없는 스테이징 테이블에 한 번에 적재한 뒤
+ *      한 문장으로 병합합니다. (전체 재적재가 빠르고, 조회하는 쪽은 병합이 커밋될 때까지 기존 데이터를 그대로 봄)
+ * - 구조: CSV 읽기 -> 가공 -> 중간 CSV 파일 (Step 1)
+ *        -> 스테이징 테이블 적재 (Step 2, MySQL: LOAD DATA LOCAL INFILE / H2: CSVREAD)
+ *        -> foods 병합 (Step 3, INSERT ... SELECT ... ON DUPLICATE KEY UPDATE)
+ * - Reader/Processor와 Skip 정책, dead-letter 기록은 foodJob과 같은 Bean을 사용합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class FoodStagingBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final FoodBatchMapper foodBatchMapper;
+    private final FoodChangeFeedService foodChangeFeedService;
+    /** FoodBatchConfig에 등록된 Reader/Processor/Listener를 그대로 재사용합니다. */
+    private final ItemStreamReader<FoodCsvDto> foodReader;
+    private final ItemProcessor<FoodCsvDto, Food> foodProcessor;
+    private final SkipPolicy foodSkipPolicy;
+    private final FoodDeadLetterListener foodDeadLetterListener;
+    private final FoodImportMetricsListener foodImportMetricsListener;
+    private final FoodImportReportListener foodImportReportListener;
+    private final FoodImportEventPublishingListener foodImportEventPublishingListener;
+    private final FoodImportSummaryListener foodImportSummaryListener;
+    private final JobLeaseListener foodImportLeaseListener;
+
+    /** 중간 CSV 파일을 만들 디렉터리 (MySQL 서버가 아니라 이 애플리케이션이 실행되는 서버 기준) */
+    @Value("${batch.food.staging.dir:${java.io.tmpdir}}")
+    private String stagingDir;
+
+    // --- 1. Job ---
+    /**
+     * 스테이징 재적재 Job을 생성합니다.
+     * - Job 이름: "foodStagingJob"
+     */
+    @Bean
+    public Job foodStagingJob() {
+        return new JobBuilder("foodStagingJob", jobRepository)
+                .listener(foodImportLeaseListener)
+                .listener(foodImportReportListener)
+                .listener(foodImportEventPublishingListener)
+                .listener(foodImportSummaryListener)
+                .listener(foodStagingCleanupListener())
+                .start(foodStagingExportStep())
+                .next(foodStagingLoadStep())
+                .next(foodStagingMergeStep())
+                .build();
+    }
+
+    // --- 2. Step 1: CSV 읽기 -> 가공 -> 중간 CSV 파일 ---
+    /**
+     * 원본 CSV를 가공해서 스테이징 테이블 형식의 CSV 파일로 씁니다.
+     * - DB에는 아무것도 쓰지 않으므로 Retry 정책은 없고, 잘못된 행만 건너뜁니다.
+     */
+    @Bean
+    public Step foodStagingExportStep() {
+        return new StepBuilder("foodStagingExportStep", jobRepository)
+                .<FoodCsvDto, Food>chunk(1000, transactionManager)
+                .reader(foodReader)
+                .processor(foodProcessor)
+                .writer(foodStagingFileWriter(null))
+                .faultTolerant()
+                .skipPolicy(foodSkipPolicy)
+                .listener((SkipListener<FoodCsvDto, Food>) foodDeadLetterListener)
+                .listener((StepExecutionListener) foodDeadLetterListener)
+                .listener((StepExecutionListener) foodImportMetricsListener)
+                .build();
+    }
+
+    /**
+     * 중간 CSV 파일 Writer (JobInstance마다 하나의 파일, 재시작 시 이어서 씀)
+     */
+    @Bean
+    @StepScope
+    public FlatFileItemWriter<Food> foodStagingFileWriter(
+            @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") Long jobInstanceId) {
+        return new FlatFileItemWriterBuilder<Food>()
+                .name("foodStagingFileWriter")
+                .resource(new FileSystemResource(FoodStagingCleanupListener.stagingFile(Path.of(stagingDir), jobInstanceId)))
+                .encoding("UTF-8")
+                .lineSeparator("\n") // LOAD DATA의 LINES TERMINATED BY '\n'과 맞춤 (OS와 무관하게)
+                .headerCallback(writer -> writer.write(FoodStagingCsvLineAggregator.HEADER))
+                .lineAggregator(new FoodStagingCsvLineAggregator())
+                .build();
+    }
+
+    // --- 3. Step 2: 스테이징 테이블 적재 ---
+    @Bean
+    public Step foodStagingLoadStep() {
+        return new StepBuilder("foodStagingLoadStep", jobRepository)
+                .tasklet(foodStagingLoadTasklet(null), transactionManager)
+                .listener((ChunkListener) foodImportLeaseListener) // 스테이징 테이블은 서버 간 공유하므로 적재 전에도 임대 확인
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public FoodStagingLoadTasklet foodStagingLoadTasklet(
+            @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") Long jobInstanceId) {
+        return new FoodStagingLoadTasklet(foodBatchMapper,
+                FoodStagingCleanupListener.stagingFile(Path.of(stagingDir), jobInstanceId));
+    }
+
+    // --- 4. Step 3: foods 병합 ---
+    @Bean
+    public Step foodStagingMergeStep() {
+        return new StepBuilder("foodStagingMergeStep", jobRepository)
+                .tasklet(foodStagingMergeTasklet(null), transactionManager)
+                .listener((ChunkListener) foodStagingMergeTasklet(null)) // 커밋 후 변경 피드 발행 (캐시 무효화)
+                .listener((ChunkListener) foodImportLeaseListener) // 병합과 같은 트랜잭션에서 임대 확인
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public FoodStagingMergeTasklet foodStagingMergeTasklet(
+            @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") Long jobInstanceId) {
+        return new FoodStagingMergeTasklet(foodBatchMapper, foodChangeFeedService,
+                FoodStagingCleanupListener.changeFile(Path.of(stagingDir), jobInstanceId));
+    }
+
+    /**
+     * Job 성공 시 중간 CSV 파일과 스테이징 테이블을 정리합니다.
+     */
+    @Bean
+    public FoodStagingCleanupListener foodStagingCleanupListener() {
+        return new FoodStagingCleanupListener(foodBatchMapper, Path.of(stagingDir));
+    }
+}
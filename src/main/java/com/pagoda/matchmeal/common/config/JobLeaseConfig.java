@@ -0,0 +1,56 @@
+package com.pagoda.matchmeal.common.config;
+
+import com.pagoda.matchmeal.batch.lease.JobLeaseListener;
+import com.pagoda.matchmeal.batch.lease.JobLeaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+
+/**
+ * [배치 Job 실행 임대(lease) 설정]
+ * - 여러 서버에서 같은 음식 등록 Job이 동시에 실행되지 않도록, DB 임대 테이블(batch_job_lease)로 실행 권한을 나눠 가집니다.
+ * - foodJob / foodPartitionedJob / foodRemotePartitionedJob / foodStagingJob은 모두 foods 테이블에 쓰므로 하나의 임대(food-import)를 공유합니다.
+ */
+@Configuration
+public class JobLeaseConfig {
+
+    /** 음식 등록 Job들이 공유하는 임대 이름 */
+    public static final String FOOD_IMPORT_LEASE = "food-import";
+
+    /** heartbeat 없이 임대가 유지되는 시간 (서버가 죽으면 이 시간 뒤에 다른 서버가 가져갈 수 있음) */
+    @Value("${batch.lease.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Bean
+    public JobLeaseRepository jobLeaseRepository(JdbcTemplate jdbcTemplate) {
+        return new JobLeaseRepository(jdbcTemplate);
+    }
+
+    /**
+     * Job에는 가장 먼저 등록해야 합니다. (beforeJob은 가장 먼저, afterJob은 가장 나중에 실행되도록)
+     */
+    @Bean
+    public JobLeaseListener foodImportLeaseListener(JobLeaseRepository jobLeaseRepository,
+                                                    ApplicationEventPublisher eventPublisher) {
+        return new JobLeaseListener(jobLeaseRepository, eventPublisher, FOOD_IMPORT_LEASE, nodeId(), Duration.ofMillis(ttlMs));
+    }
+
+    /**
+     * 이 서버를 구분하는 값 (호스트명:PID, 원격 파티션 Worker 이름으로도 사용)
+     */
+    static String nodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid();
+    }
+}
@@ -0,0 +1,62 @@
+package com.pagoda.matchmeal.common.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pagoda.matchmeal.common.json.PooledJsonHttpMessageConverter;
+import com.pagoda.matchmeal.common.json.ResponseBufferPool;
+import com.pagoda.matchmeal.common.json.ResponseJsonModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * [JSON 응답 설정]
+ * - 공통 응답/음식 DTO는 직접 작성한 직렬화기로 씁니다. (ResponseJsonModule)
+ * - Jackson 내부 버퍼는 공용 풀에서 돌려 씁니다. (기본 ThreadLocal 풀은 가상 스레드에서는 요청마다 새로 만들어짐)
+ * - 응답은 풀링한 버퍼에 직렬화한 뒤 Content-Length를 붙여 쓰고, 최소 크기 이상이면 gzip으로 압축합니다.
+ */
+@Configuration
+public class JsonResponseConfig {
+
+    /** 새 응답 버퍼의 처음 크기 (Tomcat 기본 응답 버퍼 크기와 같음) */
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    @Value("${response.json.compression.enabled:true}")
+    private boolean compressionEnabled;
+
+    @Value("${response.json.compression.min-size:2KB}")
+    private DataSize compressionMinSize;
+
+    @Value("${response.json.buffer.pool-size:64}")
+    private int bufferPoolSize;
+
+    @Value("${response.json.buffer.max-pooled-size:256KB}")
+    private DataSize maxPooledBufferSize;
+
+    @Bean
+    public Module responseJsonModule() {
+        return new ResponseJsonModule();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer jsonRecyclerPoolCustomizer() {
+        return builder -> builder.factory(JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.newConcurrentDequePool())
+                .build());
+    }
+
+    /**
+     * 기본 MappingJackson2HttpMessageConverter 대신 등록됩니다. (같은 타입의 Bean이 있으면 Spring Boot가 기본 컨버터를 만들지 않음)
+     */
+    @Bean
+    public PooledJsonHttpMessageConverter pooledJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        ResponseBufferPool bufferPool = new ResponseBufferPool(bufferPoolSize, INITIAL_BUFFER_SIZE,
+                (int) maxPooledBufferSize.toBytes());
+        return new PooledJsonHttpMessageConverter(objectMapper, bufferPool,
+                compressionEnabled ? compressionMinSize.toBytes() : Long.MAX_VALUE);
+    }
+}
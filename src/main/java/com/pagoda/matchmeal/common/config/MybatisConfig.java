@@ -1,9 +1,29 @@
 package com.pagoda.matchmeal.common.config;
 
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
 import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Properties;
+
 @Configuration
 @MapperScan(basePackages = "com.pagoda.matchmeal.mapper")
 public class MybatisConfig {
+
+    /**
+     * DB 종류별로 다른 쿼리가 필요한 경우 매퍼 XML에서 databaseId="mysql" / "h2" 로 구분합니다.
+     * - databaseId가 없는 쿼리는 모든 DB에서 공통으로 사용됩니다.
+     */
+    @Bean
+    public DatabaseIdProvider databaseIdProvider() {
+        Properties properties = new Properties();
+        properties.setProperty("MySQL", "mysql");
+        properties.setProperty("H2", "h2");
+
+        VendorDatabaseIdProvider provider = new VendorDatabaseIdProvider();
+        provider.setProperties(properties);
+        return provider;
+    }
 }
@@ -9,7 +9,18 @@ import org.springframework.http.HttpStatus;
 public enum ErrorResponseCode {
 
     //----------------------------공통코드----------------------------
-    SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 에러");
+    SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 에러"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서입니다."),
+    INVALID_SORT(HttpStatus.BAD_REQUEST, "지원하지 않는 정렬 기준입니다."),
+
+    //----------------------------음식----------------------------
+    FOOD_NOT_FOUND(HttpStatus.NOT_FOUND, "음식 정보를 찾을 수 없습니다."),
+    TOO_MANY_FOOD_CODES(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 식품코드 수를 넘었습니다."),
+    FOOD_SNAPSHOT_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "음식 카탈로그 스냅샷이 아직 준비되지 않았습니다."),
+    FOOD_CHANGE_FEED_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "음식 변경 피드를 읽을 수 없습니다."),
+
+    //----------------------------식단----------------------------
+    INVALID_MEAL_TARGET(HttpStatus.BAD_REQUEST, "목표 영양성분을 하나 이상 입력해야 합니다.");
 
     private final HttpStatus status; // 에러 HTTP 상태 코드
     private final String message; // 에러 메세지
@@ -0,0 +1,197 @@
+package com.pagoda.matchmeal.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.pagoda.matchmeal.common.response.CommonResponse;
+import com.pagoda.matchmeal.common.response.CursorPageInfoResponseDto;
+import com.pagoda.matchmeal.common.response.CursorPageResponseDto;
+import com.pagoda.matchmeal.common.response.PageInfoResponseDto;
+import com.pagoda.matchmeal.common.response.PageResponseDto;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * [공통 응답 직렬화기]
+ * - CommonResponse와 페이지 응답 DTO를 필드 순서대로 직접 씁니다. (리플렉션으로 getter를 찾는 BeanSerializer를 거치지 않음)
+ * - 필드 이름은 미리 인코딩해 둔 SerializedString을 그대로 복사합니다.
+ * - 출력은 기본 ObjectMapper와 같습니다. (필드 순서, null 필드 포함) DTO에 필드를 추가하면 여기도 함께 고쳐야 합니다.
+ */
+final class CommonResponseSerializers {
+
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGE_INFO = new SerializedString("pageInfo");
+    private static final SerializedString CURSOR_INFO = new SerializedString("cursorInfo");
+    private static final SerializedString PAGE_NO = new SerializedString("pageNo");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString NUMBER_OF_ELEMENTS = new SerializedString("numberOfElements");
+    private static final SerializedString TOTAL_COUNT = new SerializedString("totalCount");
+    private static final SerializedString TOTAL_PAGE = new SerializedString("totalPage");
+    private static final SerializedString NEXT_CURSOR = new SerializedString("nextCursor");
+    private static final SerializedString HAS_NEXT = new SerializedString("hasNext");
+
+    private CommonResponseSerializers() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    @SuppressWarnings("rawtypes")
+    static final class CommonResponseSerializer extends StdSerializer<CommonResponse> {
+
+        CommonResponseSerializer() {
+            super(CommonResponse.class);
+        }
+
+        @Override
+        public void serialize(CommonResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(STATUS);
+            writeNullableInt(gen, value.getStatus());
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(value.getMessage());
+            gen.writeFieldName(DATA);
+            // data는 타입이 정해져 있지 않으므로 Provider가 캐시해 둔 직렬화기에 맡김 (음식 DTO는 이 모듈의 직렬화기가 선택됨)
+            provider.defaultSerializeValue(value.getData(), gen);
+            gen.writeEndObject();
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    static final class PageInfoResponseSerializer extends StdSerializer<PageInfoResponseDto> {
+
+        PageInfoResponseSerializer() {
+            super(PageInfoResponseDto.class);
+        }
+
+        @Override
+        public void serialize(PageInfoResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(CONTENT);
+            writeList(value.getContent(), gen, provider);
+            gen.writeFieldName(PAGE_INFO);
+            PageResponseDto pageInfo = value.getPageInfo();
+            if (pageInfo == null) {
+                gen.writeNull();
+            } else {
+                PageResponseSerializer.INSTANCE.serialize(pageInfo, gen, provider);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class PageResponseSerializer extends StdSerializer<PageResponseDto> {
+
+        static final PageResponseSerializer INSTANCE = new PageResponseSerializer();
+
+        PageResponseSerializer() {
+            super(PageResponseDto.class);
+        }
+
+        @Override
+        public void serialize(PageResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(PAGE_NO);
+            gen.writeNumber(value.getPageNo());
+            gen.writeFieldName(SIZE);
+            gen.writeNumber(value.getSize());
+            gen.writeFieldName(NUMBER_OF_ELEMENTS);
+            gen.writeNumber(value.getNumberOfElements());
+            gen.writeFieldName(TOTAL_COUNT);
+            gen.writeNumber(value.getTotalCount());
+            gen.writeFieldName(TOTAL_PAGE);
+            gen.writeNumber(value.getTotalPage());
+            gen.writeFieldName(HAS_NEXT);
+            gen.writeBoolean(value.isHasNext());
+            gen.writeEndObject();
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    static final class CursorPageInfoResponseSerializer extends StdSerializer<CursorPageInfoResponseDto> {
+
+        CursorPageInfoResponseSerializer() {
+            super(CursorPageInfoResponseDto.class);
+        }
+
+        @Override
+        public void serialize(CursorPageInfoResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(CONTENT);
+            writeList(value.getContent(), gen, provider);
+            gen.writeFieldName(CURSOR_INFO);
+            CursorPageResponseDto cursorInfo = value.getCursorInfo();
+            if (cursorInfo == null) {
+                gen.writeNull();
+            } else {
+                CursorPageResponseSerializer.INSTANCE.serialize(cursorInfo, gen, provider);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class CursorPageResponseSerializer extends StdSerializer<CursorPageResponseDto> {
+
+        static final CursorPageResponseSerializer INSTANCE = new CursorPageResponseSerializer();
+
+        CursorPageResponseSerializer() {
+            super(CursorPageResponseDto.class);
+        }
+
+        @Override
+        public void serialize(CursorPageResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(SIZE);
+            gen.writeNumber(value.getSize());
+            gen.writeFieldName(NUMBER_OF_ELEMENTS);
+            gen.writeNumber(value.getNumberOfElements());
+            gen.writeFieldName(NEXT_CURSOR);
+            gen.writeString(value.getNextCursor());
+            gen.writeFieldName(HAS_NEXT);
+            gen.writeBoolean(value.isHasNext());
+            gen.writeEndObject();
+        }
+    }
+
+    // ---------------- 공통 처리 ----------------
+
+    /**
+     * 페이지의 content 목록을 씁니다.
+     * - 목록은 보통 한 가지 타입이므로, 직렬화기를 요소마다 찾지 않고 직전 요소와 타입이 같으면 다시 사용합니다.
+     */
+    static void writeList(List<?> list, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (list == null) {
+            gen.writeNull();
+            return;
+        }
+        int size = list.size();
+        gen.writeStartArray(list, size);
+        Class<?> lastType = null;
+        JsonSerializer<Object> lastSerializer = null;
+        for (int i = 0; i < size; i++) {
+            Object element = list.get(i);
+            if (element == null) {
+                provider.defaultSerializeNull(gen);
+                continue;
+            }
+            if (element.getClass() != lastType) {
+                lastType = element.getClass();
+                lastSerializer = provider.findTypedValueSerializer(lastType, true, null);
+            }
+            lastSerializer.serialize(element, gen, provider);
+        }
+        gen.writeEndArray();
+    }
+
+    static void writeNullableInt(JsonGenerator gen, Integer value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+}
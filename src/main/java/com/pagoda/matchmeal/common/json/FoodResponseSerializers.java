@@ -0,0 +1,139 @@
+package com.pagoda.matchmeal.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.pagoda.matchmeal.model.dto.FoodDensityResponseDto;
+import com.pagoda.matchmeal.model.dto.FoodLookupResultDto;
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+
+import java.io.IOException;
+
+/**
+ * [음식 응답 직렬화기]
+ * - 목록/조회 응답에서 가장 많이 쓰이는 음식 DTO를 필드 순서대로 직접 씁니다.
+ * - 출력은 기본 ObjectMapper와 같습니다. (필드 순서, null 필드 포함) DTO에 필드를 추가하면 여기도 함께 고쳐야 합니다.
+ */
+final class FoodResponseSerializers {
+
+    private static final SerializedString FOOD_CODE = new SerializedString("foodCode");
+    private static final SerializedString FOOD_NAME = new SerializedString("foodName");
+    private static final SerializedString CATEGORY = new SerializedString("category");
+    private static final SerializedString SERVING_SIZE = new SerializedString("servingSize");
+    private static final SerializedString UNIT = new SerializedString("unit");
+    private static final SerializedString SERVING_SIZE_TEXT = new SerializedString("servingSizeText");
+    private static final SerializedString CALORIES = new SerializedString("calories");
+    private static final SerializedString CARBOHYDRATE = new SerializedString("carbohydrate");
+    private static final SerializedString PROTEIN = new SerializedString("protein");
+    private static final SerializedString FAT = new SerializedString("fat");
+    private static final SerializedString CALORIES_PER_100 = new SerializedString("caloriesPer100");
+    private static final SerializedString PROTEIN_PER_100 = new SerializedString("proteinPer100");
+    private static final SerializedString FAT_PER_100 = new SerializedString("fatPer100");
+    private static final SerializedString CARBOHYDRATE_PER_100 = new SerializedString("carbohydratePer100");
+    private static final SerializedString PROTEIN_PER_100_KCAL = new SerializedString("proteinPer100kcal");
+    private static final SerializedString FOUND = new SerializedString("found");
+    private static final SerializedString FOOD = new SerializedString("food");
+
+    private FoodResponseSerializers() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static final class FoodResponseSerializer extends StdSerializer<FoodResponseDto> {
+
+        static final FoodResponseSerializer INSTANCE = new FoodResponseSerializer();
+
+        FoodResponseSerializer() {
+            super(FoodResponseDto.class);
+        }
+
+        @Override
+        public void serialize(FoodResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(FOOD_CODE);
+            gen.writeString(value.getFoodCode());
+            gen.writeFieldName(FOOD_NAME);
+            gen.writeString(value.getFoodName());
+            gen.writeFieldName(CATEGORY);
+            gen.writeString(value.getCategory());
+            gen.writeFieldName(SERVING_SIZE);
+            gen.writeNumber(value.getServingSize());
+            gen.writeFieldName(UNIT);
+            gen.writeString(value.getUnit());
+            gen.writeFieldName(SERVING_SIZE_TEXT);
+            gen.writeString(value.getServingSizeText());
+            gen.writeFieldName(CALORIES);
+            gen.writeNumber(value.getCalories());
+            gen.writeFieldName(CARBOHYDRATE);
+            gen.writeNumber(value.getCarbohydrate());
+            gen.writeFieldName(PROTEIN);
+            gen.writeNumber(value.getProtein());
+            gen.writeFieldName(FAT);
+            gen.writeNumber(value.getFat());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class FoodDensityResponseSerializer extends StdSerializer<FoodDensityResponseDto> {
+
+        FoodDensityResponseSerializer() {
+            super(FoodDensityResponseDto.class);
+        }
+
+        @Override
+        public void serialize(FoodDensityResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(FOOD_CODE);
+            gen.writeString(value.getFoodCode());
+            gen.writeFieldName(FOOD_NAME);
+            gen.writeString(value.getFoodName());
+            gen.writeFieldName(CATEGORY);
+            gen.writeString(value.getCategory());
+            gen.writeFieldName(UNIT);
+            gen.writeString(value.getUnit());
+            gen.writeFieldName(CALORIES_PER_100);
+            writeNullableDouble(gen, value.getCaloriesPer100());
+            gen.writeFieldName(PROTEIN_PER_100);
+            writeNullableDouble(gen, value.getProteinPer100());
+            gen.writeFieldName(FAT_PER_100);
+            writeNullableDouble(gen, value.getFatPer100());
+            gen.writeFieldName(CARBOHYDRATE_PER_100);
+            writeNullableDouble(gen, value.getCarbohydratePer100());
+            gen.writeFieldName(PROTEIN_PER_100_KCAL);
+            writeNullableDouble(gen, value.getProteinPer100kcal());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class FoodLookupResultSerializer extends StdSerializer<FoodLookupResultDto> {
+
+        FoodLookupResultSerializer() {
+            super(FoodLookupResultDto.class);
+        }
+
+        @Override
+        public void serialize(FoodLookupResultDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(FOOD_CODE);
+            gen.writeString(value.getFoodCode());
+            gen.writeFieldName(FOUND);
+            gen.writeBoolean(value.isFound());
+            gen.writeFieldName(FOOD);
+            FoodResponseDto food = value.getFood();
+            if (food == null) {
+                gen.writeNull();
+            } else {
+                FoodResponseSerializer.INSTANCE.serialize(food, gen, provider);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeNullableDouble(JsonGenerator gen, Double value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.pagoda.matchmeal.common.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pagoda.matchmeal.common.json.ResponseBufferPool.ResponseBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * [풀링 버퍼 + gzip JSON 메시지 컨버터]
+ * - 기본 Jackson 컨버터는 응답 스트림에 바로 쓰고 flush하므로 항상 chunked로 나가고, 크기를 모르니 압축 기준(최소 크기)도 적용할 수 없습니다.
+ * - 이 컨버터는 풀에서 꺼낸 버퍼에 먼저 직렬화한 뒤,
+ *      1) compressionMinSize보다 작거나 클라이언트가 gzip을 받지 않으면: Content-Length를 붙여 그대로 씁니다.
+ *      2) 크고 Accept-Encoding에 gzip이 있으면: 두 번째 버퍼에 gzip으로 압축해 Content-Encoding, Content-Length를 붙여 씁니다.
+ * - 응답 스트림에 직접 쓰는 엔드포인트(/foods/export, /foods/snapshot)는 이 컨버터를 거치지 않으므로 두 번 압축되지 않습니다.
+ * - 이미 헤더가 나간 응답(SSE 등 스트리밍)은 기본 방식 그대로 씁니다.
+ */
+public class PooledJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private static final String GZIP = "gzip";
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    private final ResponseBufferPool bufferPool;
+    /** 이 크기(byte) 이상인 응답만 압축 (Long.MAX_VALUE면 압축하지 않음) */
+    private final long compressionMinSize;
+
+    public PooledJsonHttpMessageConverter(ObjectMapper objectMapper, ResponseBufferPool bufferPool, long compressionMinSize) {
+        super(objectMapper);
+        this.bufferPool = bufferPool;
+        this.compressionMinSize = compressionMinSize;
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (!(outputMessage instanceof ServletServerHttpResponse servletResponse)
+                || servletResponse.getServletResponse().isCommitted()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        HttpHeaders headers = outputMessage.getHeaders();
+        ResponseBuffer json = bufferPool.acquire();
+        try {
+            super.writeInternal(object, type, new BufferedOutputMessage(headers, json));
+
+            if (json.size() < compressionMinSize) {
+                headers.setContentLength(json.size());
+                json.writeTo(outputMessage.getBody());
+                return;
+            }
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (!acceptsGzip(currentAcceptEncoding())) {
+                headers.setContentLength(json.size());
+                json.writeTo(outputMessage.getBody());
+                return;
+            }
+            writeGzip(json, headers, outputMessage);
+        } finally {
+            bufferPool.release(json);
+        }
+    }
+
+    private void writeGzip(ResponseBuffer json, HttpHeaders headers, HttpOutputMessage outputMessage) throws IOException {
+        ResponseBuffer compressed = bufferPool.acquire();
+        try {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed, GZIP_BUFFER_SIZE)) {
+                json.writeTo(gzip);
+            }
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            headers.setContentLength(compressed.size());
+            compressed.writeTo(outputMessage.getBody());
+        } finally {
+            bufferPool.release(compressed);
+        }
+    }
+
+    /**
+     * Accept-Encoding에 gzip(또는 *)이 q=0이 아닌 값으로 있는지 확인합니다.
+     * - 예: "gzip, deflate, br" -> true, "gzip;q=0, deflate" -> false
+     */
+    static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim();
+            if (!GZIP.equalsIgnoreCase(coding) && !"*".equals(coding)) {
+                continue;
+            }
+            return parts.length < 2 || !isZeroQuality(parts[1].trim());
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String parameter) {
+        if (!parameter.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(parameter.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @Nullable
+    private static String currentAcceptEncoding() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getHeader(HttpHeaders.ACCEPT_ENCODING);
+        }
+        return null;
+    }
+
+    /**
+     * 헤더는 실제 응답의 것을 쓰고(Content-Type 등), 본문만 버퍼로 받는 메시지
+     */
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers;
+        private final OutputStream body;
+
+        private BufferedOutputMessage(HttpHeaders headers, OutputStream body) {
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.pagoda.matchmeal.common.json;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * [응답 버퍼 풀]
+ * - JSON 응답을 직렬화할 byte 버퍼를 요청마다 새로 만들지 않고 돌려 씁니다.
+ * - ThreadLocal이 아닌 공용 큐이므로 가상 스레드(요청마다 새 스레드)에서도 재사용됩니다.
+ * - 큰 응답으로 maxPooledCapacity보다 커진 버퍼는 풀에 돌려놓지 않습니다. (메모리를 계속 붙잡지 않도록)
+ */
+public class ResponseBufferPool {
+
+    private final BlockingQueue<ResponseBuffer> pool;
+    private final int initialCapacity;
+    private final int maxPooledCapacity;
+
+    /**
+     * @param poolSize          풀에 보관할 최대 버퍼 수
+     * @param initialCapacity   새 버퍼의 처음 크기
+     * @param maxPooledCapacity 풀에 돌려놓을 수 있는 최대 버퍼 크기
+     */
+    public ResponseBufferPool(int poolSize, int initialCapacity, int maxPooledCapacity) {
+        this.pool = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+        this.initialCapacity = initialCapacity;
+        this.maxPooledCapacity = maxPooledCapacity;
+    }
+
+    /**
+     * 풀에서 빈 버퍼를 꺼냅니다. (풀이 비어 있으면 새로 만듦)
+     */
+    public ResponseBuffer acquire() {
+        ResponseBuffer buffer = pool.poll();
+        return buffer != null ? buffer : new ResponseBuffer(initialCapacity);
+    }
+
+    /**
+     * 다 쓴 버퍼를 풀에 돌려놓습니다. (풀이 가득 찼거나 버퍼가 너무 크면 버림)
+     */
+    public void release(ResponseBuffer buffer) {
+        if (buffer.capacity() > maxPooledCapacity) {
+            return;
+        }
+        buffer.reset();
+        pool.offer(buffer);
+    }
+
+    public int pooledCount() {
+        return pool.size();
+    }
+
+    /**
+     * 현재 배열 크기를 알 수 있는 ByteArrayOutputStream (writeTo로 복사 없이 응답 스트림에 씀)
+     */
+    public static final class ResponseBuffer extends ByteArrayOutputStream {
+
+        ResponseBuffer(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+}
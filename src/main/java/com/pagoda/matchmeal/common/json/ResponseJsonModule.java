@@ -0,0 +1,24 @@
+package com.pagoda.matchmeal.common.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * [응답 JSON 모듈]
+ * - CommonResponse, 페이지 응답 DTO, 음식 응답 DTO의 직접 작성한 직렬화기를 ObjectMapper에 등록합니다.
+ * - Spring Bean(Module)으로 등록하면 Spring Boot가 만드는 ObjectMapper에 자동으로 추가됩니다.
+ * - 직접 작성한 직렬화기는 @JsonProperty, @JsonInclude, 이름 전략(property-naming-strategy) 설정을 따르지 않습니다.
+ */
+public class ResponseJsonModule extends SimpleModule {
+
+    public ResponseJsonModule() {
+        super("ResponseJsonModule");
+        addSerializer(new CommonResponseSerializers.CommonResponseSerializer());
+        addSerializer(new CommonResponseSerializers.PageInfoResponseSerializer());
+        addSerializer(CommonResponseSerializers.PageResponseSerializer.INSTANCE);
+        addSerializer(new CommonResponseSerializers.CursorPageInfoResponseSerializer());
+        addSerializer(CommonResponseSerializers.CursorPageResponseSerializer.INSTANCE);
+        addSerializer(FoodResponseSerializers.FoodResponseSerializer.INSTANCE);
+        addSerializer(new FoodResponseSerializers.FoodDensityResponseSerializer());
+        addSerializer(new FoodResponseSerializers.FoodLookupResultSerializer());
+    }
+}
@@ -0,0 +1,61 @@
+package com.pagoda.matchmeal.common.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+/**
+ * 커서(keyset) 페이지네이션 공통 응답 DTO (Wrapper Class)
+ *
+ * PageInfoResponseDto의 커서 버전입니다.
+ * COUNT(*) 쿼리 없이 '데이터 리스트'와 '다음 커서 정보'만 반환하므로,
+ * 뒤쪽 페이지로 갈수록 느려지는 OFFSET 방식의 문제가 없습니다.
+ *
+ * @param <T> 반환할 데이터의 타입
+ */
+public class CursorPageInfoResponseDto<T> {
+
+    // 실제 데이터 리스트
+    private List<T> content;
+    // 커서 페이지네이션 정보
+    private CursorPageResponseDto cursorInfo;
+
+    /**
+     * 커서 페이지네이션 정보를 계산하고 DTO를 생성하는 정적 팩토리 메서드
+     * 다음 페이지 존재 여부를 COUNT 없이 알기 위해, 조회 쿼리는 size + 1개를 가져오도록 합니다.
+     * size보다 많이 조회되었으면 다음 페이지가 있는 것으로 보고, 초과분은 잘라냅니다.
+     *
+     * @param fetched       DB에서 조회한 데이터 리스트 (최대 size + 1개)
+     * @param size          요청한 페이지 크기
+     * @param cursorOf      현재 페이지의 마지막 데이터로 다음 커서를 만드는 함수
+     * @return              계산된 커서 정보와 데이터 리스트가 포함된 객체
+     * @param <T>           데이터 리스트에 담긴 객체의 타입
+     */
+    public static <T> CursorPageInfoResponseDto<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+
+        // 다음 페이지가 있을 때만 마지막 데이터 기준으로 커서 생성
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+
+        CursorPageResponseDto cursorInfo = new CursorPageResponseDto(size, content.size(), nextCursor, hasNext);
+        return new CursorPageInfoResponseDto<>(content, cursorInfo);
+    }
+
+    /**
+     * 커서 정보는 그대로 두고 데이터 타입만 바꿉니다. (엔티티 -> 응답 DTO 변환용)
+     *
+     * @param mapper    데이터 변환 함수
+     * @return          변환된 데이터가 담긴 새 객체
+     * @param <R>       변환 후 데이터 타입
+     */
+    public <R> CursorPageInfoResponseDto<R> map(Function<T, R> mapper) {
+        return new CursorPageInfoResponseDto<>(content.stream().map(mapper).toList(), cursorInfo);
+    }
+}
@@ -0,0 +1,28 @@
+package com.pagoda.matchmeal.common.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+/**
+ * 커서(keyset) 페이지네이션 메타데이터 클래스
+ *
+ * PageResponseDto와 달리 전체 개수(totalCount)나 페이지 번호가 없습니다.
+ * 다음 페이지를 요청할 때 nextCursor 값을 그대로 cursor 파라미터로 넘기면 됩니다.
+ * (무한 스크롤, "더보기" 버튼 용도)
+ */
+public class CursorPageResponseDto {
+
+    // 한 페이지당 보여줄 데이터의 최대 개수
+    private int size;
+    // 실제 현재 페이지에 조회된 데이터의 개수
+    private int numberOfElements;
+    // 다음 페이지 조회용 커서 (다음 페이지가 없으면 null)
+    private String nextCursor;
+    // 다음 페이지가 존재하는지 여부
+    private boolean hasNext;
+
+}
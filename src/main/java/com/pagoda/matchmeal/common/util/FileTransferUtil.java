@@ -0,0 +1,64 @@
+package com.pagoda.matchmeal.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * [파일 응답 전송 유틸]
+ * - 이미 만들어 둔 파일을 응답 본문으로 그대로 보냅니다.
+ * - 내장 Tomcat(NIO 커넥터)이 sendfile을 지원하면 요청 속성으로 파일만 넘기고, 실제 전송은 컨테이너가
+ *      커널의 sendfile로 처리합니다. (파일 내용이 JVM 힙/유저 영역을 거치지 않음)
+ * - sendfile을 쓸 수 없으면 FileChannel.transferTo로 응답 스트림에 복사합니다.
+ */
+public class FileTransferUtil {
+
+    // Tomcat이 정의한 sendfile 요청 속성 이름 (org.apache.catalina.Globals와 동일)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_FILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_FILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    // 유틸리티 클래스는 객체 생성을 허용하지 않음
+    private FileTransferUtil() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * 파일 전체를 응답 본문으로 보냅니다. (Content-Type 등 다른 헤더는 호출하는 쪽에서 설정)
+     * @param path      보낼 파일
+     * @param size      파일 크기
+     * @param request   현재 요청
+     * @param response  현재 응답
+     * @return          sendfile로 넘겼으면 true, 직접 복사했으면 false
+     */
+    public static boolean send(Path path, long size, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentLengthLong(size);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_FILE_START_ATTR, 0L);
+            request.setAttribute(SENDFILE_FILE_END_ATTR, size);
+            return true;
+        }
+
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                long sent = file.transferTo(position, size - position, out);
+                if (sent <= 0) {
+                    break; // 파일이 중간에 줄어든 경우
+                }
+                position += sent;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,114 @@
+package com.pagoda.matchmeal.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class NumberParseUtil {
+
+    /** 10의 거듭제곱 (double로 정확하게 표현 가능한 범위: 10^0 ~ 10^22) */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+            1e21, 1e22
+    };
+    /** long 가수(mantissa)가 double로 정확하게 표현되는 최대 유효 자릿수 (2^53 > 10^15) */
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    // 유틸리티 클래스는 객체 생성을 허용하지 않음
+    private NumberParseUtil() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * [안전한 숫자 변환기]
+     * 공공데이터 특성상 숫자 컬럼에 문자나 특수문자가 섞여 있는 경우가 많습니다.
+     * 숫자(0~9)와 점(.)이 아닌 문자(쉼표, 단위, 공백, 한글 등)는 모두 무시하고 숫자만 읽어서 변환합니다.
+     * - 정규식이나 중간 문자열을 만들지 않고, 문자를 한 번만 훑으면서 바로 계산합니다.
+     * - 유효 자릿수가 15자리를 넘는 드문 경우에만 Double.parseDouble로 처리합니다.
+     * @param value CSV에서 읽은 문자열 값 (예: "1,500", "200ml", "N/A", "-")
+     * @return      변환된 double 값 (변환 불가 시 0.0 반환)
+     */
+    public static double parseDoubleSafe(CharSequence value) {
+        double parsed = parseDoubleOrNaN(value);
+        return Double.isNaN(parsed) ? 0.0 : parsed;
+    }
+
+    /**
+     * parseDoubleSafe와 같은 규칙으로 변환하되, 변환할 수 없으면 0.0 대신 NaN을 반환합니다.
+     * - 호출하는 쪽에서 "실제 값 0"과 "변환 실패로 0.0 대체"를 구분해야 할 때 사용합니다. (배치 지표 집계 등)
+     * @param value CSV에서 읽은 문자열 값
+     * @return      변환된 double 값 (null, 빈 문자열, 숫자가 없는 값, 잘못된 형식이면 NaN)
+     */
+    public static double parseDoubleOrNaN(CharSequence value) {
+        if (value == null) {
+            return Double.NaN;
+        }
+        return parseDoubleOrNaN(value, 0, value.length());
+    }
+
+    /**
+     * 문자열의 [from, to) 범위를 숫자로 변환합니다. (변환 불가 시 NaN 반환)
+     */
+    private static double parseDoubleOrNaN(CharSequence value, int from, int to) {
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        int dots = 0;
+        boolean hasDigit = false;
+
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasDigit = true;
+                if (dots > 0) {
+                    fractionDigits++;
+                }
+                // 앞쪽의 0은 유효 자릿수로 세지 않음
+                if (mantissa != 0 || c != '0') {
+                    significantDigits++;
+                }
+                if (significantDigits <= MAX_EXACT_DIGITS) {
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+            } else if (c == '.') {
+                dots++;
+            }
+            // 그 외 문자(쉼표, 단위, 공백, 한글 등)는 무시
+        }
+
+        // 숫자가 하나도 없는 경우 (예: "", "-", "N/A", "g")
+        if (!hasDigit && dots == 0) {
+            return Double.NaN;
+        }
+        // 점만 있거나 점이 두 개 이상인 경우 (예: ".", "1.2.3")
+        if (!hasDigit || dots > 1) {
+            log.warn("숫자 변환 실패: {}", value.subSequence(from, to));
+            return Double.NaN;
+        }
+
+        // 가수와 10의 거듭제곱이 모두 double로 정확히 표현되면, 한 번의 나눗셈 결과가 곧 정확한 반올림 값입니다.
+        if (significantDigits <= MAX_EXACT_DIGITS && fractionDigits < POWERS_OF_TEN.length) {
+            return mantissa / POWERS_OF_TEN[fractionDigits];
+        }
+        return parseSlow(value, from, to);
+    }
+
+    /**
+     * 유효 자릿수가 많은 드문 경우를 위한 느린 경로입니다.
+     */
+    private static double parseSlow(CharSequence value, int from, int to) {
+        StringBuilder cleanValue = new StringBuilder(to - from);
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if ((c >= '0' && c <= '9') || c == '.') {
+                cleanValue.append(c);
+            }
+        }
+        try {
+            return Double.parseDouble(cleanValue.toString());
+        } catch (NumberFormatException e) {
+            log.warn("숫자 변환 실패: {}", value.subSequence(from, to));
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.pagoda.matchmeal.controller;
+
+import com.pagoda.matchmeal.common.response.CommonResponse;
+import com.pagoda.matchmeal.common.response.CursorPageInfoResponseDto;
+import com.pagoda.matchmeal.common.util.ApiResponseUtil;
+import com.pagoda.matchmeal.common.util.FileTransferUtil;
+import com.pagoda.matchmeal.model.dto.FoodChangePageDto;
+import com.pagoda.matchmeal.model.dto.FoodDensityResponseDto;
+import com.pagoda.matchmeal.model.dto.FoodLookupResultDto;
+import com.pagoda.matchmeal.model.dto.FoodNutritionSearchRequestDto;
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import com.pagoda.matchmeal.model.dto.FoodSearchResultDto;
+import com.pagoda.matchmeal.service.FoodChangeFeedService;
+import com.pagoda.matchmeal.service.FoodExportService;
+import com.pagoda.matchmeal.service.FoodLookupService;
+import com.pagoda.matchmeal.service.FoodNutritionService;
+import com.pagoda.matchmeal.service.FoodQueryService;
+import com.pagoda.matchmeal.service.FoodSearchService;
+import com.pagoda.matchmeal.service.FoodSnapshotService;
+import com.pagoda.matchmeal.snapshot.FoodCatalogSnapshot;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/foods")
+public class FoodController {
+    private final FoodLookupService foodLookupService;
+    private final FoodQueryService foodQueryService;
+    private final FoodSearchService foodSearchService;
+    private final FoodNutritionService foodNutritionService;
+    private final FoodExportService foodExportService;
+    private final FoodSnapshotService foodSnapshotService;
+    private final FoodChangeFeedService foodChangeFeedService;
+
+    @GetMapping
+    public CommonResponse<CursorPageInfoResponseDto<FoodResponseDto>> getFoods(
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ApiResponseUtil.success(foodQueryService.getFoods(category, cursor, size));
+    }
+
+    @GetMapping("/search")
+    public CommonResponse<List<FoodSearchResultDto>> searchFoods(
+            @RequestParam("q") String query,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return ApiResponseUtil.success(foodSearchService.search(query, category, limit));
+    }
+
+    @GetMapping("/nutrition")
+    public CommonResponse<List<FoodResponseDto>> searchByNutrition(@ModelAttribute FoodNutritionSearchRequestDto request) {
+        return ApiResponseUtil.success(foodNutritionService.search(request));
+    }
+
+    /**
+     * 여러 음식을 한 번에 조회합니다. (식단 화면 등)
+     * - 예: /foods/bulk?codes=D000001,D000002,D000003 (최대 100개)
+     * - 요청 순서대로 식품코드마다 하나씩 응답하고, 없는 코드는 found=false로 표시합니다.
+     */
+    @GetMapping("/bulk")
+    public CommonResponse<List<FoodLookupResultDto>> getFoodsByCodes(@RequestParam("codes") List<String> codes) {
+        return ApiResponseUtil.success(foodLookupService.getFoods(codes));
+    }
+
+    /**
+     * 분류 안에서 밀도 순위 상위 음식을 조회합니다.
+     * - 예: /foods/density?category=육류&sort=protein_density&direction=desc&limit=10
+     */
+    @GetMapping("/density")
+    public CommonResponse<List<FoodDensityResponseDto>> getTopByDensity(
+            @RequestParam("category") String category,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestParam(value = "direction", required = false) String direction,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return ApiResponseUtil.success(foodQueryService.getTopByDensity(category, sort, direction, limit));
+    }
+
+    /**
+     * 전체 음식 카탈로그를 NDJSON으로 내보냅니다. (CommonResponse로 감싸지 않고 응답 스트림에 바로 씀)
+     * - If-None-Match가 현재 ETag와 같으면 304만 응답합니다.
+     * - Accept-Encoding에 gzip이 있으면 gzip으로 압축해서 보냅니다.
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public void exportFoods(WebRequest webRequest, HttpServletResponse response) throws IOException {
+        if (webRequest.checkNotModified(foodExportService.getEtag())) {
+            return;
+        }
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            try (OutputStream out = new GZIPOutputStream(response.getOutputStream(), 64 * 1024)) {
+                foodExportService.export(out);
+            }
+        } else {
+            foodExportService.export(response.getOutputStream());
+        }
+    }
+
+    /**
+     * 미리 만들어 둔 카탈로그 스냅샷(gzip으로 압축한 NDJSON 파일)을 내려받습니다.
+     * - If-None-Match가 현재 스냅샷 버전과 같으면 304만 응답합니다.
+     * - 파일은 sendfile로 전송하므로 요청마다 DB 조회나 직렬화가 일어나지 않습니다.
+     */
+    @GetMapping("/snapshot")
+    public void downloadSnapshot(WebRequest webRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        FoodCatalogSnapshot snapshot = foodSnapshotService.getSnapshot();
+        if (webRequest.checkNotModified(snapshot.getEtag())) {
+            return;
+        }
+        response.setContentType("application/gzip");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + snapshot.getFileName() + "\"");
+        FileTransferUtil.send(snapshot.getPath(), snapshot.getSize(), request, response);
+    }
+
+    /**
+     * 배치로 바뀐 음식의 변경 기록(op, 식품코드, 바뀐 필드)을 offset 순서로 읽습니다.
+     * - 응답의 nextOffset을 다음 요청의 after로 넘기면 이어서 읽을 수 있습니다.
+     */
+    @GetMapping("/changes")
+    public CommonResponse<FoodChangePageDto> getChanges(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return ApiResponseUtil.success(foodChangeFeedService.read(after, limit));
+    }
+
+    @GetMapping("/{foodCode}")
+    public CommonResponse<FoodResponseDto> getFood(@PathVariable("foodCode") String foodCode) {
+        return ApiResponseUtil.success(foodLookupService.getFood(foodCode));
+    }
+}
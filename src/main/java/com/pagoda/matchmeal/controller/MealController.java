@@ -0,0 +1,25 @@
+package com.pagoda.matchmeal.controller;
+
+import com.pagoda.matchmeal.common.response.CommonResponse;
+import com.pagoda.matchmeal.common.util.ApiResponseUtil;
+import com.pagoda.matchmeal.model.dto.MealMatchRequestDto;
+import com.pagoda.matchmeal.model.dto.MealMatchResponseDto;
+import com.pagoda.matchmeal.service.MealMatchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/meals")
+public class MealController {
+    private final MealMatchService mealMatchService;
+
+    @PostMapping("/match")
+    public CommonResponse<MealMatchResponseDto> match(@Valid @RequestBody MealMatchRequestDto request) {
+        return ApiResponseUtil.success(mealMatchService.match(request));
+    }
+}
@@ -0,0 +1,53 @@
+package com.pagoda.matchmeal.feed;
+
+import com.pagoda.matchmeal.model.entity.Food;
+import com.pagoda.matchmeal.model.entity.FoodChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * [음식 변경 기록]
+ * - 배치가 foods 테이블에 반영한 음식 한 건의 변경 내용입니다. (op, 식품코드, 바뀐 필드 이름)
+ * - 바뀐 값 자체는 담지 않으므로, 필요한 쪽은 /foods/{foodCode}로 다시 조회합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodChange {
+
+    /** 비교하는 필드 (FoodResponseDto 필드 이름과 같음) */
+    public static final List<String> FIELDS = List.of(
+            "foodName", "category", "servingSize", "unit", "servingSizeText", "calories", "protein", "fat", "carbohydrate");
+
+    private FoodChangeType op;          // INSERT, UPDATE, DELETE
+    private String foodCode;            // 식품코드
+    private List<String> changedFields; // 바뀐 필드 이름 (INSERT는 전체)
+
+    /**
+     * 저장 전/후 음식을 비교해서 변경 기록을 만듭니다.
+     * @param before    저장 전 DB의 음식 (없으면 null)
+     * @param after     저장할 음식
+     * @return          변경 기록 (바뀐 필드가 없으면 null)
+     */
+    public static FoodChange diff(Food before, Food after) {
+        if (before == null) {
+            return new FoodChange(FoodChangeType.INSERT, after.getFoodCode(), FIELDS);
+        }
+        List<String> changed = new ArrayList<>(FIELDS.size());
+        if (!Objects.equals(before.getFoodName(), after.getFoodName())) changed.add("foodName");
+        if (!Objects.equals(before.getCategory(), after.getCategory())) changed.add("category");
+        if (Double.compare(before.getServingSize(), after.getServingSize()) != 0) changed.add("servingSize");
+        if (!Objects.equals(before.getUnit(), after.getUnit())) changed.add("unit");
+        if (!Objects.equals(before.getServingSizeText(), after.getServingSizeText())) changed.add("servingSizeText");
+        if (Double.compare(before.getCalories(), after.getCalories()) != 0) changed.add("calories");
+        if (Double.compare(before.getProtein(), after.getProtein()) != 0) changed.add("protein");
+        if (Double.compare(before.getFat(), after.getFat()) != 0) changed.add("fat");
+        if (Double.compare(before.getCarbohydrate(), after.getCarbohydrate()) != 0) changed.add("carbohydrate");
+        return changed.isEmpty() ? null : new FoodChange(FoodChangeType.UPDATE, after.getFoodCode(), changed);
+    }
+}
@@ -0,0 +1,25 @@
+package com.pagoda.matchmeal.feed;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * [음식 변경 기록 묶음]
+ * - 배치가 커밋한 Chunk 하나(또는 스테이징 병합 결과 일부)의 변경 기록입니다.
+ * - 변경 스트림(FoodChangeStream)에 한 항목으로 저장되고, 같은 서버 안에서는 Spring 이벤트로도 발행됩니다.
+ * - offset은 변경 스트림에서의 위치입니다. 소비하는 쪽은 마지막으로 처리한 offset부터 이어서 읽습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodChangeBatch {
+    private String offset;              // 변경 스트림 위치 (저장에 실패했으면 null)
+    private List<FoodChange> changes;
+
+    public List<String> foodCodes() {
+        return changes.stream().map(FoodChange::getFoodCode).toList();
+    }
+}
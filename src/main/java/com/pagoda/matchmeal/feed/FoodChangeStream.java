@@ -0,0 +1,86 @@
+package com.pagoda.matchmeal.feed;
+
+import java.util.List;
+
+/**
+ * [음식 변경 스트림]
+ * - 여러 서버가 함께 보는, offset으로 이어 읽을 수 있는 변경 기록 저장소입니다. (운영: Redis Stream)
+ * - 한 항목은 변경 기록 묶음(FoodChangeBatch) 하나이며, offset은 저장 순서대로 커집니다.
+ * - 오래된 항목은 일정 개수를 넘으면 지워지므로, 너무 오래 읽지 않은 소비자는 전체 데이터(/foods/snapshot)로 다시 맞춰야 합니다.
+ *      (읽으려는 offset 다음 항목이 지워졌는지 isTrimmedAfter로 확인)
+ */
+public interface FoodChangeStream {
+
+    /** 처음부터 읽을 때 사용하는 offset */
+    String START_OFFSET = "0-0";
+
+    /**
+     * 변경 기록 묶음을 한 항목으로 추가합니다.
+     * - 변경 피드는 캐시 갱신용이므로, 저장소 장애는 예외로 던지지 않고 null을 반환합니다.
+     * @return  추가된 항목의 offset (실패 시 null)
+     */
+    String append(List<FoodChange> changes);
+
+    /**
+     * after 다음 항목부터 최대 limit개를 읽습니다.
+     * @param after offset (이 항목은 포함하지 않음)
+     * @param limit 최대 항목 수
+     * @throws org.springframework.dao.DataAccessException 저장소 장애
+     */
+    List<FoodChangeBatch> read(String after, int limit);
+
+    /**
+     * 가장 최근 항목의 offset을 읽습니다. (지금부터 새로 추가되는 항목만 따라 읽을 때 사용)
+     * @return  마지막 항목의 offset (비어 있으면 START_OFFSET)
+     * @throws org.springframework.dao.DataAccessException 저장소 장애
+     */
+    String lastOffset();
+
+    /**
+     * 남아 있는 가장 오래된 항목의 offset을 읽습니다.
+     * @return  첫 항목의 offset (비어 있으면 null)
+     * @throws org.springframework.dao.DataAccessException 저장소 장애
+     */
+    String firstOffset();
+
+    /**
+     * 지금까지 지워진 항목 중 가장 최근 항목의 offset을 읽습니다.
+     * @return  지워진 항목의 최대 offset (지운 적 없으면 START_OFFSET, 저장소가 알려주지 않으면 null)
+     * @throws org.springframework.dao.DataAccessException 저장소 장애
+     */
+    String trimmedOffset();
+
+    /**
+     * after 다음 항목 중 읽기 전에 지워진 항목이 있는지 확인합니다.
+     * - after 자신이나 그 이전 항목만 지워졌으면 놓친 것이 없으므로 false입니다.
+     * - 지워진 위치를 알 수 없으면, after가 남아 있는 첫 항목보다 오래되었을 때 지워진 것으로 봅니다.
+     * @throws org.springframework.dao.DataAccessException 저장소 장애
+     */
+    default boolean isTrimmedAfter(String after) {
+        String trimmed = trimmedOffset();
+        if (trimmed != null) {
+            return compareOffsets(after, trimmed) < 0;
+        }
+        String first = firstOffset();
+        return !START_OFFSET.equals(after) && first != null && compareOffsets(after, first) < 0;
+    }
+
+    /**
+     * 두 offset의 순서를 비교합니다. ("밀리초-순번" 형식, 순번이 없으면 0)
+     * @return  a가 앞이면 음수, 같으면 0, 뒤면 양수
+     */
+    static int compareOffsets(String a, String b) {
+        long[] left = parseOffset(a);
+        long[] right = parseOffset(b);
+        int result = Long.compare(left[0], right[0]);
+        return result != 0 ? result : Long.compare(left[1], right[1]);
+    }
+
+    private static long[] parseOffset(String offset) {
+        int dash = offset.indexOf('-');
+        if (dash < 0) {
+            return new long[]{Long.parseLong(offset), 0};
+        }
+        return new long[]{Long.parseLong(offset.substring(0, dash)), Long.parseLong(offset.substring(dash + 1))};
+    }
+}
@@ -0,0 +1,115 @@
+package com.pagoda.matchmeal.feed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * [변경 스트림 따라 읽기]
+ * - 모든 서버에서 실행되며, 변경 스트림(FoodChangeStream)을 마지막으로 읽은 offset부터 일정 간격으로 이어 읽습니다.
+ * - 읽은 변경 기록 묶음은 onBatch로 넘깁니다. (예: 배치를 실행하지 않은 서버의 로컬 캐시 삭제)
+ * - 오래 읽지 못해서 마지막 offset 다음 항목이 읽기 전에 지워졌으면 onReset을 먼저 호출합니다.
+ *      (마지막으로 읽은 항목까지만 지워졌으면 놓친 것이 없으므로 호출하지 않음)
+ * - 시작할 때는 스트림의 마지막 offset부터 읽습니다. (시작 직후의 로컬 캐시는 비어 있으므로 이전 항목은 필요 없음)
+ * - 저장소 장애 시에는 offset을 그대로 두고 다음 간격에 다시 읽습니다.
+ */
+@Slf4j
+public class FoodChangeStreamFollower implements SmartLifecycle {
+
+    private final FoodChangeStream foodChangeStream;
+    private final Consumer<FoodChangeBatch> onBatch;
+    private final Runnable onReset;
+    private final Duration pollInterval;
+    private final int batchLimit;
+    private final boolean autoStartup;
+
+    private ScheduledExecutorService scheduler;
+    /** 마지막으로 처리한 offset (아직 시작 위치를 못 읽었으면 null) */
+    private volatile String lastOffset;
+    private volatile boolean running;
+
+    /**
+     * @param onBatch       읽은 변경 기록 묶음을 처리할 함수
+     * @param onReset       놓친 항목이 있을 때 호출할 함수 (예: 로컬 캐시 전체 삭제)
+     * @param pollInterval  읽는 간격
+     * @param batchLimit    한 번에 읽을 최대 묶음 수
+     * @param autoStartup   애플리케이션 시작 시 함께 시작할지
+     */
+    public FoodChangeStreamFollower(FoodChangeStream foodChangeStream, Consumer<FoodChangeBatch> onBatch,
+                                    Runnable onReset, Duration pollInterval, int batchLimit, boolean autoStartup) {
+        this.foodChangeStream = foodChangeStream;
+        this.onBatch = onBatch;
+        this.onReset = onReset;
+        this.pollInterval = pollInterval;
+        this.batchLimit = batchLimit;
+        this.autoStartup = autoStartup;
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "food-change-follower");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        scheduler.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    /**
+     * 마지막 offset 다음 항목들을 모두 읽어서 처리합니다. (한 번에 batchLimit개씩)
+     */
+    void poll() {
+        try {
+            if (lastOffset == null) {
+                lastOffset = foodChangeStream.lastOffset();
+                return;
+            }
+            if (foodChangeStream.isTrimmedAfter(lastOffset)) {
+                log.warn("음식 변경 스트림에서 읽지 못한 항목이 지워졌습니다: after={}", lastOffset);
+                onReset.run();
+            }
+            List<FoodChangeBatch> batches;
+            do {
+                batches = foodChangeStream.read(lastOffset, batchLimit);
+                for (FoodChangeBatch batch : batches) {
+                    onBatch.accept(batch);
+                    lastOffset = batch.getOffset();
+                }
+            } while (batches.size() == batchLimit);
+        } catch (DataAccessException e) {
+            log.warn("음식 변경 스트림 따라 읽기 실패: after={} ({})", lastOffset, e.toString());
+        } catch (RuntimeException e) {
+            log.error("음식 변경 스트림 처리 오류: after={}", lastOffset, e);
+        }
+    }
+
+    String getLastOffset() {
+        return lastOffset;
+    }
+}
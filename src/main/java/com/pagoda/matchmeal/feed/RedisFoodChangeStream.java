@@ -0,0 +1,114 @@
+package com.pagoda.matchmeal.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [Redis Stream 기반 음식 변경 스트림]
+ * - 키: food.change-feed.stream-key (기본 "food:changes"), 항목 하나 = 변경 기록 묶음 하나
+ *      (필드 count: 변경 건수, changes: 변경 기록 JSON 배열)
+ * - offset은 Redis Stream 항목 ID(XADD가 만든 "밀리초-순번")를 그대로 사용합니다.
+ * - 묶음 단위로 저장하므로 Chunk 하나에 XADD 한 번이면 됩니다. (변경 기록마다 저장하면 왕복이 너무 많음)
+ * - 항목 수가 maxLength를 넘으면 오래된 항목부터 지웁니다. (대략적인 trim, MAXLEN ~)
+ * - 지워진 위치는 XINFO STREAM의 max-deleted-entry-id로 확인합니다. (Redis 7.0 이상, 그 전 버전은 첫 항목으로 판단)
+ */
+@Slf4j
+public class RedisFoodChangeStream implements FoodChangeStream {
+
+    private static final TypeReference<List<FoodChange>> CHANGE_LIST = new TypeReference<>() {};
+    private static final String COUNT_FIELD = "count";
+    private static final String CHANGES_FIELD = "changes";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String streamKey;
+    private final long maxLength;
+
+    public RedisFoodChangeStream(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, String streamKey, long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.streamKey = streamKey;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public String append(List<FoodChange> changes) {
+        try {
+            MapRecord<String, String, String> record = StreamRecords.string(Map.of(
+                            COUNT_FIELD, String.valueOf(changes.size()),
+                            CHANGES_FIELD, objectMapper.writeValueAsString(changes)))
+                    .withStreamKey(streamKey);
+            RecordId id = redisTemplate.opsForStream().add(record);
+            redisTemplate.opsForStream().trim(streamKey, maxLength, true);
+            return id == null ? null : id.getValue();
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 이 묶음은 스트림에서 빠지지만, 소비하는 쪽은 Job 종료 이벤트/스냅샷으로 다시 맞출 수 있음
+            log.warn("음식 변경 스트림 저장 실패 ({}건)", changes.size(), e);
+            return null;
+        }
+    }
+
+    @Override
+    public List<FoodChangeBatch> read(String after, int limit) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(streamKey,
+                Range.of(Range.Bound.exclusive(after), Range.Bound.unbounded()), Limit.limit().count(limit));
+        if (records == null) {
+            return List.of();
+        }
+        List<FoodChangeBatch> batches = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            batches.add(new FoodChangeBatch(record.getId().getValue(), decode((String) record.getValue().get(CHANGES_FIELD))));
+        }
+        return batches;
+    }
+
+    @Override
+    public String lastOffset() {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().reverseRange(streamKey,
+                Range.unbounded(), Limit.limit().count(1));
+        return records == null || records.isEmpty() ? START_OFFSET : records.get(0).getId().getValue();
+    }
+
+    @Override
+    public String firstOffset() {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(streamKey,
+                Range.unbounded(), Limit.limit().count(1));
+        return records == null || records.isEmpty() ? null : records.get(0).getId().getValue();
+    }
+
+    @Override
+    public String trimmedOffset() {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+            return START_OFFSET;
+        }
+        StreamInfo.XInfoStream info = redisTemplate.opsForStream().info(streamKey);
+        Object maxDeleted = info.getRaw().get("max-deleted-entry-id");
+        if (maxDeleted == null) {
+            return null;
+        }
+        return maxDeleted instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : maxDeleted.toString();
+    }
+
+    private List<FoodChange> decode(String json) {
+        try {
+            return objectMapper.readValue(json, CHANGE_LIST);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("음식 변경 스트림 항목을 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.pagoda.matchmeal.mapper;
 
+import com.pagoda.matchmeal.model.dto.FoodContentHashDto;
+import com.pagoda.matchmeal.model.dto.FoodStagingChangeDto;
 import com.pagoda.matchmeal.model.entity.Food;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
 
@@ -14,6 +18,57 @@ public interface FoodBatchMapper {
      */
     void insertFoods(Food food);
 
+    /**
+     * 여러 음식 데이터를 하나의 multi-row INSERT 문으로 저장하거나 업데이트합니다.
+     * - XML의 <insert id="upsertFoods"> 쿼리를 실행합니다.
+     * - 한 번에 너무 많은 행을 넘기면 max_allowed_packet 을 넘을 수 있으므로 호출하는 쪽에서 나눠서 호출합니다.
+     *
+     * @param foods 저장할 음식 엔티티 목록 (비어 있으면 안 됨)
+     */
+    void upsertFoods(@Param("foods") List<Food> foods);
+
+    /**
+     * 저장된 모든 음식의 (식품코드, 내용 해시)를 한 건씩 handler로 전달합니다.
+     * - delta 모드 배치에서 변경 여부를 판단하기 위해 사용합니다.
+     * - List로 한 번에 받지 않으므로 중간 컬렉션이 만들어지지 않습니다.
+     *
+     * @param handler 조회된 행을 받을 ResultHandler
+     */
+    void findAllContentHashes(ResultHandler<FoodContentHashDto> handler);
+
+    // ---------------- 스테이징 테이블 적재 (foodStagingJob) ----------------
+
+    /**
+     * 스테이징 테이블(foods_staging)을 비웁니다. (TRUNCATE와 달리 호출한 트랜잭션 안에서 실행)
+     */
+    void clearStaging();
+
+    /**
+     * CSV 파일을 스테이징 테이블에 한 번에 적재합니다.
+     * - MySQL: LOAD DATA LOCAL INFILE, H2: CSVREAD (MybatisConfig의 databaseId로 구분)
+     * - 같은 식품코드가 여러 번 나오면 마지막 행만 남습니다.
+     *
+     * @param path 적재할 CSV 파일의 절대 경로
+     */
+    void loadStaging(@Param("path") String path);
+
+    long countStaging();
+
+    /**
+     * 스테이징에만 있는(병합하면 새로 추가될) 행 수를 조회합니다.
+     */
+    long countNewStagingRows();
+
+    /**
+     * 병합하면 추가되거나 내용이 바뀌는 음식을 스테이징 값과 현재 값을 묶어서 한 건씩 handler로 전달합니다. (변경 피드 대상)
+     */
+    void findStagingChanges(ResultHandler<FoodStagingChangeDto> handler);
+
+    /**
+     * 스테이징 테이블 전체를 INSERT ... SELECT ... ON DUPLICATE KEY UPDATE 한 문장으로 foods에 병합합니다.
+     */
+    void mergeStaging();
+
     /**
      * (테스트용) 저장된 모든 음식 데이터를 조회합니다.
      * - 데이터가 정상적으로 들어갔는지 검증할 때 사용합니다.
@@ -0,0 +1,83 @@
+package com.pagoda.matchmeal.mapper;
+
+import com.pagoda.matchmeal.model.dto.FoodCatalogVersionDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import com.pagoda.matchmeal.nutrition.DensitySort;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 음식 조회용 매퍼 (API 조회 전용)
+ * - 배치 저장용 쿼리는 FoodBatchMapper에 있습니다.
+ */
+public interface FoodMapper {
+
+    /**
+     * 식품코드로 음식 한 건을 조회합니다. (idx_food_code 유니크 인덱스 사용)
+     *
+     * @param foodCode 식품코드
+     * @return 조회된 음식 (없으면 null)
+     */
+    Food findByFoodCode(String foodCode);
+
+    /**
+     * 여러 식품코드의 음식을 한 번의 IN 쿼리로 조회합니다. (idx_food_code 유니크 인덱스 사용)
+     *
+     * @param foodCodes 식품코드 목록 (비어 있으면 안 됨)
+     * @return 조회된 음식 목록 (없는 코드는 빠지고, 순서는 보장하지 않음)
+     */
+    List<Food> findByFoodCodes(@Param("foodCodes") Collection<String> foodCodes);
+
+    /**
+     * food_id 순서로 lastFoodId 다음 음식들을 조회합니다. (커서 페이지네이션)
+     * - OFFSET 대신 WHERE food_id > lastFoodId 로 인덱스에서 바로 시작 위치를 찾습니다.
+     * - category가 있으면 (category, food_id) 인덱스를 사용합니다.
+     *
+     * @param category   식품대분류명 (null이면 전체)
+     * @param lastFoodId 이전 페이지의 마지막 food_id (null이면 첫 페이지)
+     * @param limit      조회할 최대 개수
+     * @return 조회된 음식 목록 (food_id 오름차순)
+     */
+    List<Food> findPage(@Param("category") String category,
+                        @Param("lastFoodId") Long lastFoodId,
+                        @Param("limit") int limit);
+
+    /**
+     * 분류 안에서 밀도가 높은(낮은) 순서로 음식을 조회합니다. (밀도를 계산할 수 없는 음식은 제외)
+     * - (category, 밀도 컬럼, food_id) 인덱스만 읽어서 food_id를 고른 뒤, 고른 행만 읽습니다.
+     *
+     * @param category   식품대분류명
+     * @param sort       정렬 기준
+     * @param descending true면 높은 순서
+     * @param limit      조회할 최대 개수
+     * @return 조회된 음식 목록 (밀도 컬럼 포함)
+     */
+    List<Food> findTopByDensity(@Param("category") String category,
+                                @Param("sort") DensitySort sort,
+                                @Param("descending") boolean descending,
+                                @Param("limit") int limit);
+
+    /**
+     * 모든 음식을 food_id 순서로 한 건씩 handler로 전달합니다.
+     * - 검색 인덱스 등 메모리 스냅샷을 만들 때 사용합니다. (List로 한 번에 받지 않음)
+     *
+     * @param handler 조회된 행을 받을 ResultHandler
+     */
+    void scanAll(ResultHandler<Food> handler);
+
+    /**
+     * 모든 음식을 food_id 순서로 한 건씩 handler로 전달합니다. (전체 카탈로그 내보내기용)
+     * - scanAll과 달리 MySQL에서도 결과를 메모리에 모아두지 않고 행 단위로 스트리밍합니다.
+     *
+     * @param handler 조회된 행을 받을 ResultHandler (ResultContext.stop()으로 중간에 멈출 수 있음)
+     */
+    void streamAll(ResultHandler<Food> handler);
+
+    /**
+     * 전체 음식 건수와 마지막 변경 시각을 조회합니다. (내보내기 ETag 계산용)
+     */
+    FoodCatalogVersionDto findCatalogVersion();
+}
@@ -0,0 +1,31 @@
+package com.pagoda.matchmeal.meal;
+
+import com.pagoda.matchmeal.nutrition.Nutrient;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 식단 조합 탐색 조건 (MealMatcher 입력)
+ * - targets: Nutrient.ordinal() 순서의 목표값. 목표가 없는 영양성분은 NaN 입니다.
+ * - categoryIds: 사용할 수 있는 분류 번호 (null이면 전체)
+ * - servingMultiples: 음식마다 고를 수 있는 제공량 배수 (예: 0.5, 1.0, 1.5)
+ */
+@Getter
+@Builder
+public class MealMatchQuery {
+    private final double[] targets;
+    private final int itemCount;
+    private final int[] categoryIds;
+    private final double[] servingMultiples;
+    private final int resultCount;
+    /** 탐색 대상으로 남길 최대 (음식, 배수) 후보 수 */
+    private final int candidateLimit;
+    /** 이 시간이 지나면 탐색을 멈추고 그때까지 찾은 최선의 조합을 반환 */
+    private final Duration timeBudget;
+
+    public boolean isTargeted(Nutrient nutrient) {
+        return !Double.isNaN(targets[nutrient.ordinal()]);
+    }
+}
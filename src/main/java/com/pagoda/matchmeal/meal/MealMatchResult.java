@@ -0,0 +1,33 @@
+package com.pagoda.matchmeal.meal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 식단 조합 탐색 결과 (MealMatcher 출력)
+ */
+@Getter
+@AllArgsConstructor
+public class MealMatchResult {
+    /** 점수가 좋은(낮은) 순서의 조합 목록 */
+    private final List<Combination> combinations;
+    /** 시간 안에 후보 전체를 탐색했으면 true, 시간 초과로 중간 결과를 반환했으면 false */
+    private final boolean complete;
+    /** 방문한 탐색 노드 수 */
+    private final long visitedNodes;
+
+    /**
+     * 음식 조합 하나
+     * - rows[i] 음식을 multiples[i] 배수만큼 먹는 조합입니다.
+     * - score: 목표 대비 상대 오차의 합 (0이면 목표와 정확히 일치)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Combination {
+        private final int[] rows;
+        private final double[] multiples;
+        private final double score;
+    }
+}
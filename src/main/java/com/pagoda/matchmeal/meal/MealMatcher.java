@@ -0,0 +1,429 @@
+package com.pagoda.matchmeal.meal;
+
+import com.pagoda.matchmeal.nutrition.FoodNutritionStore;
+import com.pagoda.matchmeal.nutrition.Nutrient;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * [식단 조합 탐색 엔진]
+ * - 목표 칼로리/단백질/지방/탄수화물에 가장 가까운 음식 N개 조합을 찾습니다.
+ * - 점수: 목표가 있는 영양성분마다 |합계 - 목표| / 목표 를 더한 값 (낮을수록 좋음)
+ *
+ * 탐색 순서
+ * 1. 후보 추리기: (음식, 배수) 쌍마다 "한 끼 몫"(목표 / N)과의 거리를 계산해서 가까운 순서로 candidateLimit개만 남깁니다.
+ * 2. 그리디 시작값: 가장 가까운 후보들에서 출발해 매번 가장 잘 맞는 후보를 더하는 방식으로 빠르게 쓸 만한 조합을 먼저 만듭니다.
+ * 3. 분기 한정(branch and bound): 후보를 주 영양성분(칼로리 우선) 오름차순으로 정렬해두고 깊이 우선으로 조합을 만듭니다.
+ *      - 이미 목표를 넘은 양은 음식을 더 넣어도 줄지 않고,
+ *        남은 자리에 "뒤쪽 후보 중 최댓값"을 넣어도 목표에 못 미치는 양도 줄일 수 없으므로, 이 둘의 합을 하한(lower bound)으로 씁니다.
+ *      - 하한이 지금까지 찾은 K번째 조합 점수보다 나쁘면 그 가지는 더 보지 않고,
+ *        주 영양성분만으로도 나쁘면 뒤쪽 후보는 값이 더 크므로 반복 자체를 끝냅니다.
+ * 4. 시간 제한(timeBudget)이 지나면 탐색을 멈추고 그때까지 찾은 최선의 조합을 반환합니다. (complete=false)
+ *
+ * - 상태를 가지지 않으므로 여러 스레드에서 동시에 호출해도 안전합니다.
+ */
+public final class MealMatcher {
+
+    /** 시간 확인 주기 (노드 1024개마다 System.nanoTime 호출) */
+    private static final int DEADLINE_CHECK_MASK = 1023;
+    /** 그리디 시작점으로 쓸 후보 수 (결과 수의 배수) */
+    private static final int GREEDY_SEEDS_PER_RESULT = 2;
+
+    private MealMatcher() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static MealMatchResult match(FoodNutritionStore store, MealMatchQuery query) {
+        return new Search(store, query).run();
+    }
+
+    /**
+     * 한 번의 탐색 상태 (요청마다 새로 생성)
+     */
+    private static final class Search {
+
+        private final MealMatchQuery query;
+        private final int itemCount;
+        private final long deadline;
+
+        /** 목표가 있는 영양성분 ordinal 목록 (첫 번째가 정렬 기준 = 주 영양성분) */
+        private final int[] targeted;
+        private final double[] target;
+        private final double[] scale;
+
+        // 후보 (주 영양성분 오름차순): 행 번호, 배수, 영양성분 값 [targeted 순서][후보]
+        private int poolSize;
+        private int[] poolRows;
+        private double[] poolMultiples;
+        private double[][] values;
+        /** suffixMax[k][i] = i번째 이후 후보 중 k번째 영양성분 최댓값 */
+        private double[][] suffixMax;
+
+        // 탐색 중인 조합
+        private final int[] chosen;
+        private final double[] partial;
+
+        // 결과 (점수 오름차순)
+        private final double[] bestScores;
+        private final int[][] bestCombos;
+        private int bestCount;
+
+        private long nodes;
+        private boolean timedOut;
+
+        private Search(FoodNutritionStore store, MealMatchQuery query) {
+            this.query = query;
+            this.itemCount = query.getItemCount();
+            this.deadline = System.nanoTime() + query.getTimeBudget().toNanos();
+
+            // 칼로리를 주 영양성분으로 두고, 나머지 목표 영양성분을 뒤에 둠
+            this.targeted = Arrays.stream(Nutrient.values())
+                    .filter(query::isTargeted)
+                    .sorted(Comparator.comparing(nutrient -> nutrient != Nutrient.CALORIES))
+                    .mapToInt(Nutrient::ordinal)
+                    .toArray();
+            this.target = new double[targeted.length];
+            this.scale = new double[targeted.length];
+            for (int k = 0; k < targeted.length; k++) {
+                target[k] = query.getTargets()[targeted[k]];
+                scale[k] = 1.0 / Math.max(target[k], 1.0); // 목표가 0이어도 나눌 수 있도록
+            }
+
+            this.chosen = new int[itemCount];
+            this.partial = new double[targeted.length];
+            this.bestScores = new double[query.getResultCount()];
+            this.bestCombos = new int[query.getResultCount()][];
+
+            buildPool(store);
+        }
+
+        private MealMatchResult run() {
+            if (poolSize >= itemCount && targeted.length > 0) {
+                greedySeeds();
+                dfs(0, 0);
+            }
+
+            List<MealMatchResult.Combination> combinations = new ArrayList<>(bestCount);
+            for (int r = 0; r < bestCount; r++) {
+                int[] rows = new int[itemCount];
+                double[] multiples = new double[itemCount];
+                for (int d = 0; d < itemCount; d++) {
+                    rows[d] = poolRows[bestCombos[r][d]];
+                    multiples[d] = poolMultiples[bestCombos[r][d]];
+                }
+                combinations.add(new MealMatchResult.Combination(rows, multiples, bestScores[r]));
+            }
+            return new MealMatchResult(combinations, !timedOut, nodes);
+        }
+
+        // ---------------- 1. 후보 추리기 ----------------
+
+        private void buildPool(FoodNutritionStore store) {
+            double[] multiples = query.getServingMultiples();
+            double[][] columns = new double[targeted.length][];
+            for (int k = 0; k < targeted.length; k++) {
+                columns[k] = store.column(Nutrient.values()[targeted[k]]);
+            }
+            int[] allowed = query.getCategoryIds();
+
+            // 한 끼 몫과의 거리 기준 상위 candidateLimit개를 크기 제한 힙(max-heap)으로 선택
+            int limit = query.getCandidateLimit();
+            int[] heapRows = new int[limit];
+            double[] heapMultiples = new double[limit];
+            double[] heapDistances = new double[limit];
+            int heapSize = 0;
+
+            for (int row = 0; row < store.size(); row++) {
+                if (allowed != null && !contains(allowed, store.categoryIdAt(row))) {
+                    continue;
+                }
+                for (double multiple : multiples) {
+                    double distance = 0;
+                    for (int k = 0; k < targeted.length; k++) {
+                        distance += Math.abs(columns[k][row] * multiple - target[k] / itemCount) * scale[k];
+                    }
+                    if (heapSize < limit) {
+                        heapRows[heapSize] = row;
+                        heapMultiples[heapSize] = multiple;
+                        heapDistances[heapSize] = distance;
+                        siftUp(heapRows, heapMultiples, heapDistances, heapSize++);
+                    } else if (distance < heapDistances[0]) {
+                        heapRows[0] = row;
+                        heapMultiples[0] = multiple;
+                        heapDistances[0] = distance;
+                        siftDown(heapRows, heapMultiples, heapDistances, heapSize);
+                    }
+                }
+            }
+
+            // 주 영양성분 오름차순으로 정렬 (뒤쪽 후보일수록 값이 커서, 넘치기 시작하면 반복을 끝낼 수 있음)
+            final int size = heapSize;
+            Integer[] order = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+            double[] primary = new double[size];
+            for (int i = 0; i < size; i++) {
+                primary[i] = targeted.length == 0 ? 0 : columns[0][heapRows[i]] * heapMultiples[i];
+            }
+            Arrays.sort(order, Comparator.comparingDouble(i -> primary[i]));
+
+            poolSize = size;
+            poolRows = new int[size];
+            poolMultiples = new double[size];
+            values = new double[targeted.length][size];
+            for (int i = 0; i < size; i++) {
+                int from = order[i];
+                poolRows[i] = heapRows[from];
+                poolMultiples[i] = heapMultiples[from];
+                for (int k = 0; k < targeted.length; k++) {
+                    values[k][i] = columns[k][heapRows[from]] * heapMultiples[from];
+                }
+            }
+
+            suffixMax = new double[targeted.length][size + 1];
+            for (int k = 0; k < targeted.length; k++) {
+                for (int i = size - 1; i >= 0; i--) {
+                    suffixMax[k][i] = Math.max(suffixMax[k][i + 1], values[k][i]);
+                }
+            }
+        }
+
+        // ---------------- 2. 그리디 시작값 ----------------
+
+        private void greedySeeds() {
+            // 한 끼 몫에 가장 가까운 후보들을 시작점으로 사용
+            int seedCount = Math.min(poolSize, query.getResultCount() * GREEDY_SEEDS_PER_RESULT);
+            Integer[] byDistance = IntStream.range(0, poolSize).boxed().toArray(Integer[]::new);
+            double[] distance = new double[poolSize];
+            for (int i = 0; i < poolSize; i++) {
+                for (int k = 0; k < targeted.length; k++) {
+                    distance[i] += Math.abs(values[k][i] - target[k] / itemCount) * scale[k];
+                }
+            }
+            Arrays.sort(byDistance, Comparator.comparingDouble(i -> distance[i]));
+
+            int[] combo = new int[itemCount];
+            double[] sum = new double[targeted.length];
+            for (int s = 0; s < seedCount; s++) {
+                combo[0] = byDistance[s];
+                for (int k = 0; k < targeted.length; k++) {
+                    sum[k] = values[k][combo[0]];
+                }
+                for (int depth = 1; depth < itemCount; depth++) {
+                    int remainingAfter = itemCount - depth - 1;
+                    int pick = -1;
+                    double pickCost = Double.POSITIVE_INFINITY;
+                    for (int i = 0; i < poolSize; i++) {
+                        if (usesRow(combo, depth, poolRows[i])) {
+                            continue;
+                        }
+                        // 남은 자리는 한 끼 몫씩 채워진다고 보고 비교
+                        double cost = 0;
+                        for (int k = 0; k < targeted.length; k++) {
+                            double expected = sum[k] + values[k][i] + remainingAfter * target[k] / itemCount;
+                            cost += Math.abs(expected - target[k]) * scale[k];
+                        }
+                        if (cost < pickCost) {
+                            pickCost = cost;
+                            pick = i;
+                        }
+                    }
+                    if (pick < 0) {
+                        return;
+                    }
+                    combo[depth] = pick;
+                    for (int k = 0; k < targeted.length; k++) {
+                        sum[k] += values[k][pick];
+                    }
+                }
+                int[] sorted = combo.clone();
+                Arrays.sort(sorted); // 분기 한정 탐색과 같은 형태(오름차순)로 맞춰서 중복 판단
+                offer(sorted, score(sum));
+            }
+        }
+
+        // ---------------- 3. 분기 한정 탐색 ----------------
+
+        private void dfs(int start, int depth) {
+            if (depth == itemCount) {
+                offer(chosen.clone(), score(partial));
+                return;
+            }
+            int remainingAfter = itemCount - depth - 1;
+            int from = start;
+            if (remainingAfter == 0) {
+                // 마지막 자리: 주 영양성분이 이만큼은 있어야 점수가 threshold 안에 들어오므로, 그보다 작은 후보는 이진 탐색으로 건너뜀
+                double minimum = target[0] - partial[0] - threshold() / scale[0];
+                from = Math.max(start, firstAtLeast(values[0], minimum));
+            }
+            for (int i = from; i < poolSize - remainingAfter; i++) {
+                if ((++nodes & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() > deadline) {
+                    timedOut = true;
+                }
+                if (timedOut) {
+                    return;
+                }
+                if (usesRow(chosen, depth, poolRows[i])) {
+                    continue; // 같은 음식을 배수만 다르게 두 번 고르는 조합은 제외
+                }
+
+                add(i, 1);
+                double threshold = threshold();
+                if (primaryOvershoot() >= threshold) {
+                    // 주 영양성분이 이미 넘쳤고, 뒤쪽 후보는 값이 더 크므로 이 깊이에서는 더 볼 필요가 없음
+                    add(i, -1);
+                    break;
+                }
+                if (lowerBound(remainingAfter, i + 1) < threshold) {
+                    chosen[depth] = i;
+                    dfs(i + 1, depth + 1);
+                }
+                add(i, -1);
+            }
+        }
+
+        /** 오름차순 배열에서 value 이상인 첫 위치 */
+        private int firstAtLeast(double[] sorted, double value) {
+            int low = 0;
+            int high = poolSize;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void add(int candidate, int sign) {
+            for (int k = 0; k < targeted.length; k++) {
+                partial[k] += sign * values[k][candidate];
+            }
+        }
+
+        private double primaryOvershoot() {
+            return Math.max(0, partial[0] - target[0]) * scale[0];
+        }
+
+        /**
+         * 지금 조합에 remaining개를 더 넣었을 때 나올 수 있는 최소 점수
+         * - 이미 넘친 양은 줄일 수 없고,
+         * - 뒤쪽 후보 최댓값으로 채워도 모자란 양은 채울 수 없음
+         */
+        private double lowerBound(int remaining, int from) {
+            double bound = 0;
+            for (int k = 0; k < targeted.length; k++) {
+                double over = partial[k] - target[k];
+                if (over > 0) {
+                    bound += over * scale[k];
+                } else {
+                    double reachable = partial[k] + remaining * suffixMax[k][from];
+                    if (reachable < target[k]) {
+                        bound += (target[k] - reachable) * scale[k];
+                    }
+                }
+            }
+            return bound;
+        }
+
+        private double score(double[] sum) {
+            double score = 0;
+            for (int k = 0; k < targeted.length; k++) {
+                score += Math.abs(sum[k] - target[k]) * scale[k];
+            }
+            return score;
+        }
+
+        /** 결과 목록에 들어가려면 넘어야 하는 점수 (결과가 다 차기 전에는 무한대) */
+        private double threshold() {
+            return bestCount < bestScores.length ? Double.POSITIVE_INFINITY : bestScores[bestCount - 1];
+        }
+
+        private void offer(int[] combo, double score) {
+            if (score >= threshold()) {
+                return;
+            }
+            for (int r = 0; r < bestCount; r++) {
+                if (Arrays.equals(bestCombos[r], combo)) {
+                    return;
+                }
+            }
+            int index = Math.min(bestCount, bestScores.length - 1);
+            while (index > 0 && bestScores[index - 1] > score) {
+                bestScores[index] = bestScores[index - 1];
+                bestCombos[index] = bestCombos[index - 1];
+                index--;
+            }
+            bestScores[index] = score;
+            bestCombos[index] = combo;
+            if (bestCount < bestScores.length) {
+                bestCount++;
+            }
+        }
+
+        private boolean usesRow(int[] combo, int length, int row) {
+            for (int d = 0; d < length; d++) {
+                if (poolRows[combo[d]] == row) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // ---------------- 후보 선택용 힙 (거리 기준 max-heap) ----------------
+
+    private static void siftUp(int[] rows, double[] multiples, double[] distances, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (distances[parent] >= distances[index]) {
+                break;
+            }
+            swap(rows, multiples, distances, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] rows, double[] multiples, double[] distances, int size) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && distances[child + 1] > distances[child]) {
+                child++;
+            }
+            if (distances[index] >= distances[child]) {
+                break;
+            }
+            swap(rows, multiples, distances, index, child);
+            index = child;
+        }
+    }
+
+    private static void swap(int[] rows, double[] multiples, double[] distances, int a, int b) {
+        int row = rows[a];
+        rows[a] = rows[b];
+        rows[b] = row;
+        double multiple = multiples[a];
+        multiples[a] = multiples[b];
+        multiples[b] = multiple;
+        double distance = distances[a];
+        distances[a] = distances[b];
+        distances[b] = distance;
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,20 @@
+package com.pagoda.matchmeal.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 음식 카탈로그 버전 조회용 DTO
+ * - 전체 건수와 마지막 변경 시각(updated_at 최댓값)으로 카탈로그가 바뀌었는지 판단합니다.
+ * - updated_at은 내용이 바뀐 경우에만 갱신되므로, 내용이 같은 재적재에서는 버전이 바뀌지 않습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodCatalogVersionDto {
+    private long foodCount;               // 전체 음식 건수
+    private LocalDateTime lastUpdatedAt;  // 마지막 변경 시각 (데이터가 없으면 null)
+}
@@ -0,0 +1,20 @@
+package com.pagoda.matchmeal.model.dto;
+
+import com.pagoda.matchmeal.feed.FoodChangeBatch;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 음식 변경 피드 조회 결과 DTO
+ * - 다음 조회 때는 nextOffset을 after로 넘기면 이어서 읽을 수 있습니다. (새 변경이 없으면 요청한 after 그대로)
+ * - reset이 true면 after 다음 항목 일부가 이미 지워져서 빠졌을 수 있으므로, 전체 데이터(/foods/snapshot)로 다시 맞춘 뒤 이어서 읽어야 합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FoodChangePageDto {
+    private final List<FoodChangeBatch> batches;  // offset 순서의 변경 기록 묶음
+    private final String nextOffset;              // 다음 조회 시작 위치
+    private final boolean reset;                  // after가 남아 있는 첫 항목보다 오래됨 (중간 변경 누락 가능)
+}
@@ -0,0 +1,17 @@
+package com.pagoda.matchmeal.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 음식 코드별 내용 해시 조회용 DTO
+ * - delta 모드 배치가 시작될 때 기존 데이터의 해시를 한 번에 읽어오는 데 사용합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodContentHashDto {
+    private String foodCode;     // 식품코드
+    private Long contentHash;    // 내용 해시 (이전 버전에서 저장된 행은 null)
+}
@@ -21,4 +21,6 @@ public class FoodCsvDto {
     private String protein;       // 단백질(g)
     private String fat;           // 지방(g)
     private String carbohydrate;  // 탄수화물(g)
+
+    private int lineNumber;       // CSV 원본 줄 번호 (헤더 포함, 1부터 / 건너뛴 행을 dead-letter 파일에 남길 때 사용)
 }
\ No newline at end of file
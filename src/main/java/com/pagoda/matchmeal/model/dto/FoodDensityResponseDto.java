@@ -0,0 +1,39 @@
+package com.pagoda.matchmeal.model.dto;
+
+import com.pagoda.matchmeal.model.entity.Food;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 음식 밀도 순위 응답 DTO
+ * - 100g(ml)당 값은 제공량 단위가 개수 단위(개, 인분 등)여서 계산할 수 없으면 null입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class FoodDensityResponseDto {
+    private final String foodCode;              // 식품코드
+    private final String foodName;              // 식품명
+    private final String category;              // 식품대분류명
+    private final String unit;                  // 제공량 단위 (100g당인지 100ml당인지)
+    private final Double caloriesPer100;        // 100g(ml)당 에너지(kcal)
+    private final Double proteinPer100;         // 100g(ml)당 단백질(g)
+    private final Double fatPer100;             // 100g(ml)당 지방(g)
+    private final Double carbohydratePer100;    // 100g(ml)당 탄수화물(g)
+    private final Double proteinPer100kcal;     // 100kcal당 단백질(g)
+
+    public static FoodDensityResponseDto from(Food food) {
+        return FoodDensityResponseDto.builder()
+                .foodCode(food.getFoodCode())
+                .foodName(food.getFoodName())
+                .category(food.getCategory())
+                .unit(food.getUnit())
+                .caloriesPer100(food.getCaloriesPer100())
+                .proteinPer100(food.getProteinPer100())
+                .fatPer100(food.getFatPer100())
+                .carbohydratePer100(food.getCarbohydratePer100())
+                .proteinPer100kcal(food.getProteinPer100kcal())
+                .build();
+    }
+}
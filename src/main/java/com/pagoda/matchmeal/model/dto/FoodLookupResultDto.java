@@ -0,0 +1,21 @@
+package com.pagoda.matchmeal.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 여러 음식 한 번에 조회(/foods/bulk) 응답의 한 항목
+ * - 요청한 식품코드마다 하나씩, 요청 순서대로 내려갑니다.
+ * - 없는 식품코드는 found=false, food=null 로 표시합니다. (목록에서 빠지지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class FoodLookupResultDto {
+    private final String foodCode;      // 요청한 식품코드
+    private final boolean found;        // 음식이 있는지
+    private final FoodResponseDto food; // 음식 정보 (없으면 null)
+
+    public static FoodLookupResultDto of(String foodCode, FoodResponseDto food) {
+        return new FoodLookupResultDto(foodCode, food != null, food);
+    }
+}
@@ -0,0 +1,26 @@
+package com.pagoda.matchmeal.model.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 영양성분 범위 검색 요청 DTO (쿼리 파라미터 바인딩용)
+ * - 모든 조건은 선택이며, 값이 없는 조건은 적용하지 않습니다. (최솟값/최댓값 모두 포함)
+ * - 예: /foods/nutrition?category=밥류&minProtein=30&maxCalories=500&sort=protein&direction=desc
+ */
+@Getter
+@Setter
+public class FoodNutritionSearchRequestDto {
+    private String category;         // 식품대분류명
+    private Double minCalories;      // 최소 에너지(kcal)
+    private Double maxCalories;      // 최대 에너지(kcal)
+    private Double minProtein;       // 최소 단백질(g)
+    private Double maxProtein;       // 최대 단백질(g)
+    private Double minFat;           // 최소 지방(g)
+    private Double maxFat;           // 최대 지방(g)
+    private Double minCarbohydrate;  // 최소 탄수화물(g)
+    private Double maxCarbohydrate;  // 최대 탄수화물(g)
+    private String sort;             // 정렬 기준 (calories, protein, fat, carbohydrate)
+    private String direction;        // 정렬 방향 (asc, desc / 기본값 desc)
+    private Integer limit;           // 최대 결과 수 (1 ~ 100 / 기본값 20)
+}
@@ -0,0 +1,77 @@
+package com.pagoda.matchmeal.model.dto;
+
+import com.pagoda.matchmeal.common.exception.CustomException;
+import com.pagoda.matchmeal.common.exception.ErrorResponseCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 음식 목록 커서(keyset) 페이지네이션 커서
+ * - 마지막으로 본 food_id 와 조회 조건(category)을 담습니다.
+ * - 클라이언트에는 Base64(URL-safe) 문자열로 전달되므로 내부 구조를 알 필요가 없습니다.
+ * - 다른 조건(category)으로 만든 커서를 넘기면 잘못된 커서로 처리합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FoodPageCursor {
+
+    private static final byte VERSION = 1;
+
+    private final String category;   // 조회 조건 (전체 조회면 null)
+    private final long lastFoodId;   // 이전 페이지의 마지막 food_id
+
+    /**
+     * @return 클라이언트에 전달할 커서 문자열
+     */
+    public String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(lastFoodId);
+            out.writeBoolean(category != null);
+            if (category != null) {
+                out.writeUTF(category);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 메모리 스트림이므로 발생하지 않음
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     * @param cursor    클라이언트가 보낸 커서 (첫 페이지면 null 또는 빈 값)
+     * @param category  이번 요청의 조회 조건
+     * @return          해석된 커서 (첫 페이지면 null)
+     * @throws CustomException 형식이 잘못되었거나 조회 조건이 다르면 INVALID_CURSOR
+     */
+    public static FoodPageCursor decode(String cursor, String category) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        FoodPageCursor decoded;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != VERSION) {
+                throw new CustomException(ErrorResponseCode.INVALID_CURSOR);
+            }
+            long lastFoodId = in.readLong();
+            String cursorCategory = in.readBoolean() ? in.readUTF() : null;
+            decoded = new FoodPageCursor(cursorCategory, lastFoodId);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new CustomException(ErrorResponseCode.INVALID_CURSOR);
+        }
+        if (!Objects.equals(decoded.category, category)) {
+            throw new CustomException(ErrorResponseCode.INVALID_CURSOR);
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,47 @@
+package com.pagoda.matchmeal.model.dto;
+
+import com.pagoda.matchmeal.model.entity.Food;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 음식 조회 응답 DTO
+ * - API 응답과 캐시(로컬/Redis)에 저장하는 값으로 함께 사용합니다.
+ * - 생성 이후 값이 바뀌지 않으므로 여러 스레드에서 공유해도 안전합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class FoodResponseDto {
+    private final String foodCode;      // 식품코드
+    private final String foodName;      // 식품명
+    private final String category;      // 식품대분류명
+    private final double servingSize;   // 1회 제공량
+    private final String unit;          // 제공량 단위 (g, ml, 환산할 수 없는 개수 단위는 "개", "인분" 등 그대로)
+    private final String servingSizeText; // 1회 제공량 원본 표기 (예: "1/2컵")
+    private final double calories;      // 에너지(kcal)
+    private final double carbohydrate;  // 탄수화물(g)
+    private final double protein;       // 단백질(g)
+    private final double fat;           // 지방(g)
+
+    /**
+     * Food 엔티티를 응답 DTO로 변환합니다.
+     * @param food  DB에서 조회한 음식 엔티티
+     * @return      응답 DTO
+     */
+    public static FoodResponseDto from(Food food) {
+        return FoodResponseDto.builder()
+                .foodCode(food.getFoodCode())
+                .foodName(food.getFoodName())
+                .category(food.getCategory())
+                .servingSize(food.getServingSize())
+                .unit(food.getUnit())
+                .servingSizeText(food.getServingSizeText())
+                .calories(food.getCalories())
+                .carbohydrate(food.getCarbohydrate())
+                .protein(food.getProtein())
+                .fat(food.getFat())
+                .build();
+    }
+}
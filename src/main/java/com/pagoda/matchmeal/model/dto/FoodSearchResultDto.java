@@ -0,0 +1,16 @@
+package com.pagoda.matchmeal.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 음식 이름 검색(자동완성) 결과 DTO
+ * - 자동완성 목록에 필요한 최소 정보만 담습니다. (상세 정보는 /foods/{foodCode} 로 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class FoodSearchResultDto {
+    private final String foodCode;  // 식품코드
+    private final String foodName;  // 식품명
+    private final String category;  // 식품대분류명
+}
@@ -0,0 +1,18 @@
+package com.pagoda.matchmeal.model.dto;
+
+import com.pagoda.matchmeal.model.entity.Food;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스테이징 병합으로 추가되거나 바뀌는 음식 조회용 DTO
+ * - 병합 전에 스테이징 값과 현재 foods 값을 함께 읽어서 변경 피드를 만드는 데 사용합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodStagingChangeDto {
+    private Food staged;     // 스테이징에 적재된 값
+    private Food current;    // 현재 foods의 값 (새로 추가되는 음식이면 null)
+}
@@ -0,0 +1,48 @@
+package com.pagoda.matchmeal.model.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 식단 조합 추천 요청 DTO
+ * - 목표 영양성분은 최소 하나 이상 입력해야 하며, 입력하지 않은 영양성분은 점수 계산에서 제외합니다.
+ * - 예: {"targetCalories": 700, "targetProtein": 45, "itemCount": 3, "servingMultiples": [0.5, 1, 1.5]}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MealMatchRequestDto {
+
+    @PositiveOrZero
+    private Double targetCalories;       // 목표 에너지(kcal)
+    @PositiveOrZero
+    private Double targetProtein;        // 목표 단백질(g)
+    @PositiveOrZero
+    private Double targetFat;            // 목표 지방(g)
+    @PositiveOrZero
+    private Double targetCarbohydrate;   // 목표 탄수화물(g)
+
+    @Min(1)
+    @Max(5)
+    private Integer itemCount;           // 조합할 음식 수 (기본값 3)
+
+    private List<String> categories;     // 사용할 식품대분류명 (없으면 전체)
+
+    private List<@Positive @DecimalMax("5.0") Double> servingMultiples; // 제공량 배수 후보 (기본값 [1.0])
+
+    @Min(1)
+    @Max(20)
+    private Integer resultCount;         // 추천 조합 수 (기본값 5)
+
+    @Min(1)
+    @Max(1000)
+    private Integer timeBudgetMs;        // 탐색 시간 제한 (기본값: 설정값)
+}
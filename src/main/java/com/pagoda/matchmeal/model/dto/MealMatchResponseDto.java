@@ -0,0 +1,49 @@
+package com.pagoda.matchmeal.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 식단 조합 추천 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class MealMatchResponseDto {
+
+    private final List<Combination> combinations;  // 점수가 좋은 순서의 추천 조합
+    private final boolean complete;                // false면 시간 제한 안에 전체 탐색을 끝내지 못하고 중간 결과를 반환한 것
+
+    /**
+     * 추천 조합 하나
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Combination {
+        private final double score;         // 목표 대비 상대 오차 합 (0에 가까울수록 목표와 일치)
+        private final List<Item> items;     // 조합에 포함된 음식
+        private final double calories;      // 합계 에너지(kcal)
+        private final double protein;       // 합계 단백질(g)
+        private final double fat;           // 합계 지방(g)
+        private final double carbohydrate;  // 합계 탄수화물(g)
+    }
+
+    /**
+     * 조합에 포함된 음식 하나 (영양성분은 배수를 곱한 값)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        private final String foodCode;       // 식품코드
+        private final String foodName;       // 식품명
+        private final String category;       // 식품대분류명
+        private final double servingMultiple; // 제공량 배수
+        private final double servingSize;    // 배수를 곱한 제공량
+        private final String unit;           // 제공량 단위
+        private final double calories;
+        private final double protein;
+        private final double fat;
+        private final double carbohydrate;
+    }
+}
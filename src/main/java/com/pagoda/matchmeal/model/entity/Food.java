@@ -1,16 +1,22 @@
 package com.pagoda.matchmeal.model.entity;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 /**
  * 음식(Food) 도메인 엔티티
  * - 데이터베이스의 'foods' 테이블과 매핑됩니다.
+ * - MyBatis가 조회 결과를 컬럼 이름으로 매핑할 수 있도록 기본 생성자를 둡니다.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
 public class Food {
     private long foodId;
     private String foodCode;
@@ -18,10 +24,20 @@ public class Food {
     private String category;
     private double servingSize;
     private String unit;
+    private String servingSizeText; // 기준량 원본 표기 (예: "1/2컵", "1개(50g)")
     private double calories;
     private double carbohydrate;
     private double protein;
     private double fat;
+    // 100g(ml)당 값과 100kcal당 단백질 (배치에서 미리 계산, 계산할 수 없으면 null)
+    private Double caloriesPer100;
+    private Double proteinPer100;
+    private Double fatPer100;
+    private Double carbohydratePer100;
+    private Double proteinPer100kcal;
+    private long contentHash; // 원본 데이터 내용 해시 (변경 여부 판단용)
     private LocalDateTime createdAt; // 데이터 생성일시
     private LocalDateTime updatedAt; // 데이터 수정일시
-}
\ No newline at end of file
+
+    private FoodChangeType changeType; // 배치 처리 중 판단한 변경 종류 (DB 컬럼 아님)
+}
@@ -0,0 +1,11 @@
+package com.pagoda.matchmeal.model.entity;
+
+/**
+ * 음식 데이터 변경 종류
+ * - 배치(delta 모드)에서 기존 DB 데이터와 비교한 결과이자, 변경 피드(FoodChange)의 op 값입니다.
+ */
+public enum FoodChangeType {
+    INSERT, // 새로 추가된 음식
+    UPDATE, // 내용이 바뀐 음식
+    DELETE  // 삭제된 음식 (현재 배치는 음식을 지우지 않으므로 피드에 나오지 않음)
+}
@@ -0,0 +1,37 @@
+package com.pagoda.matchmeal.nutrition;
+
+import com.pagoda.matchmeal.common.exception.CustomException;
+import com.pagoda.matchmeal.common.exception.ErrorResponseCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 밀도 순위 정렬 기준 (정렬 컬럼마다 (category, 컬럼, food_id) 인덱스가 있어야 함)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DensitySort {
+    CALORIES("calories_per_100"),            // 100g(ml)당 에너지
+    PROTEIN_DENSITY("protein_per_100kcal");  // 100kcal당 단백질
+
+    /** 정렬할 foods 컬럼 (SQL에 그대로 들어가므로 상수만 사용) */
+    private final String column;
+
+    /**
+     * 요청 파라미터 값(대소문자 무시)을 DensitySort로 바꿉니다.
+     * @param value 예: "protein_density", "CALORIES"
+     * @return      해당 DensitySort (값이 없으면 PROTEIN_DENSITY)
+     * @throws CustomException 지원하지 않는 값이면 INVALID_SORT
+     */
+    public static DensitySort from(String value) {
+        if (value == null || value.isBlank()) {
+            return PROTEIN_DENSITY;
+        }
+        for (DensitySort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value.trim())) {
+                return sort;
+            }
+        }
+        throw new CustomException(ErrorResponseCode.INVALID_SORT);
+    }
+}
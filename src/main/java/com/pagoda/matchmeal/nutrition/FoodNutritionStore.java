@@ -0,0 +1,294 @@
+package com.pagoda.matchmeal.nutrition;
+
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import com.pagoda.matchmeal.model.entity.Food;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [컬럼 기반 영양성분 저장소 (메모리, 읽기 전용)]
+ * - foods 테이블을 행(Food 객체) 단위가 아니라 컬럼 단위 기본형 배열(double[])로 들고 있습니다.
+ *      예: 칼로리 컬럼 = double[전체 행 수], 단백질 컬럼 = double[전체 행 수] ...
+ * - "단백질 30 이상, 칼로리 500 이하, 분류 X" 같은 조건은 배열을 앞에서부터 한 번 훑는 반복문으로 처리하므로,
+ *      객체를 따라가는 포인터 이동 없이 CPU 캐시를 그대로 활용합니다. (10만 행 기준 수십~수백 μs)
+ * - 분류(category)와 단위(unit)는 문자열 사전 + int 번호 컬럼(dictionary encoding)으로 저장합니다.
+ * - 생성 이후 바뀌지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다. 데이터가 바뀌면 새로 만들어서 교체합니다.
+ */
+public final class FoodNutritionStore {
+
+    public static final FoodNutritionStore EMPTY = new Builder().build();
+
+    private final int size;
+    private final String[] foodCodes;
+    private final String[] foodNames;
+    private final double[] servingSizes;
+    private final String[] servingSizeTexts;
+    /** [Nutrient.ordinal()][행 번호] */
+    private final double[][] nutrients;
+
+    private final int[] categoryIds;
+    private final String[] categories;
+    private final Map<String, Integer> categoryIdByName;
+
+    private final int[] unitIds;
+    private final String[] units;
+
+    private FoodNutritionStore(Builder builder) {
+        this.size = builder.size;
+        this.foodCodes = Arrays.copyOf(builder.foodCodes, size);
+        this.foodNames = Arrays.copyOf(builder.foodNames, size);
+        this.servingSizes = Arrays.copyOf(builder.servingSizes, size);
+        this.servingSizeTexts = Arrays.copyOf(builder.servingSizeTexts, size);
+        this.nutrients = new double[Nutrient.COUNT][];
+        for (int n = 0; n < Nutrient.COUNT; n++) {
+            nutrients[n] = Arrays.copyOf(builder.nutrients[n], size);
+        }
+        this.categoryIds = Arrays.copyOf(builder.categoryIds, size);
+        this.categories = builder.categories.toArray(new String[0]);
+        this.categoryIdByName = Map.copyOf(builder.categoryIdByName);
+        this.unitIds = Arrays.copyOf(builder.unitIds, size);
+        this.units = builder.units.toArray(new String[0]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 분류 이름을 분류 번호로 바꿉니다.
+     * @return 분류 번호 (없는 분류면 -1)
+     */
+    public int categoryId(String category) {
+        Integer id = categoryIdByName.get(category == null ? "" : category);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * 해당 영양성분 컬럼 배열을 그대로 반환합니다. (읽기 전용으로만 사용)
+     * - 식단 조합 탐색처럼 같은 패키지 밖에서 반복문을 직접 돌려야 하는 곳에서 사용합니다.
+     */
+    public double[] column(Nutrient nutrient) {
+        return nutrients[nutrient.ordinal()];
+    }
+
+    public int categoryIdAt(int row) {
+        return categoryIds[row];
+    }
+
+    public double servingSizeAt(int row) {
+        return servingSizes[row];
+    }
+
+    /**
+     * 범위 조건에 맞는 행 번호를 구합니다.
+     * @param categoryId 분류 번호 (-1이면 전체)
+     * @param min        영양성분별 최솟값 (Nutrient.ordinal() 순서, 포함)
+     * @param max        영양성분별 최댓값 (Nutrient.ordinal() 순서, 포함)
+     * @return           조건에 맞는 행 번호 (오름차순 = food_id 순서)
+     */
+    public int[] filter(int categoryId, double[] min, double[] max) {
+        // 반복문 안에서 배열 필드를 다시 읽지 않도록 지역 변수로 꺼냄
+        double[] calories = nutrients[Nutrient.CALORIES.ordinal()];
+        double[] protein = nutrients[Nutrient.PROTEIN.ordinal()];
+        double[] fat = nutrients[Nutrient.FAT.ordinal()];
+        double[] carbohydrate = nutrients[Nutrient.CARBOHYDRATE.ordinal()];
+        double minCalories = min[Nutrient.CALORIES.ordinal()];
+        double maxCalories = max[Nutrient.CALORIES.ordinal()];
+        double minProtein = min[Nutrient.PROTEIN.ordinal()];
+        double maxProtein = max[Nutrient.PROTEIN.ordinal()];
+        double minFat = min[Nutrient.FAT.ordinal()];
+        double maxFat = max[Nutrient.FAT.ordinal()];
+        double minCarbohydrate = min[Nutrient.CARBOHYDRATE.ordinal()];
+        double maxCarbohydrate = max[Nutrient.CARBOHYDRATE.ordinal()];
+        int[] categoryColumn = categoryIds;
+
+        // 조건 결과에 따라 분기하지 않고 항상 기록한 뒤 count만 늘림 (분기 예측 실패 없이 일정한 속도)
+        int[] matches = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            boolean match = (categoryId < 0 | categoryColumn[i] == categoryId)
+                    & calories[i] >= minCalories & calories[i] <= maxCalories
+                    & protein[i] >= minProtein & protein[i] <= maxProtein
+                    & fat[i] >= minFat & fat[i] <= maxFat
+                    & carbohydrate[i] >= minCarbohydrate & carbohydrate[i] <= maxCarbohydrate;
+            matches[count] = i;
+            count += match ? 1 : 0;
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * 행 번호 중에서 해당 영양성분 기준 상위 k개를 구합니다. (정렬 없이 크기 k 힙으로 선택)
+     * @param rows       후보 행 번호
+     * @param sortBy     정렬 기준 영양성분 (null이면 앞에서부터 k개)
+     * @param descending true면 큰 값부터
+     * @param k          최대 개수
+     * @return           정렬된 상위 k개 행 번호
+     */
+    public int[] topK(int[] rows, Nutrient sortBy, boolean descending, int k) {
+        int limit = Math.min(k, rows.length);
+        if (sortBy == null || limit == 0) {
+            return Arrays.copyOf(rows, limit);
+        }
+        double[] values = nutrients[sortBy.ordinal()];
+        // 오름차순 정렬로 통일하기 위해 내림차순이면 부호를 뒤집어서 비교
+        double sign = descending ? -1.0 : 1.0;
+
+        // 힙의 루트 = 지금까지 고른 k개 중 가장 "나쁜" 값 (max-heap on sign * value)
+        int[] heap = new int[limit];
+        int heapSize = 0;
+        for (int row : rows) {
+            double key = sign * values[row];
+            if (heapSize < limit) {
+                heap[heapSize] = row;
+                siftUp(heap, heapSize++, values, sign);
+            } else if (key < sign * values[heap[0]]) {
+                heap[0] = row;
+                siftDown(heap, heapSize, values, sign);
+            }
+        }
+
+        // 힙에서 하나씩 꺼내면 나쁜 값부터 나오므로 뒤에서부터 채움
+        int[] sorted = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            sorted[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, values, sign);
+        }
+        return sorted;
+    }
+
+    /**
+     * 행 번호 하나를 응답 DTO로 바꿉니다.
+     */
+    public FoodResponseDto toResponse(int row) {
+        String category = categories[categoryIds[row]];
+        String unit = units[unitIds[row]];
+        return FoodResponseDto.builder()
+                .foodCode(foodCodes[row])
+                .foodName(foodNames[row])
+                .category(category.isEmpty() ? null : category)
+                .servingSize(servingSizes[row])
+                .unit(unit.isEmpty() ? null : unit)
+                .servingSizeText(servingSizeTexts[row])
+                .calories(nutrients[Nutrient.CALORIES.ordinal()][row])
+                .protein(nutrients[Nutrient.PROTEIN.ordinal()][row])
+                .fat(nutrients[Nutrient.FAT.ordinal()][row])
+                .carbohydrate(nutrients[Nutrient.CARBOHYDRATE.ordinal()][row])
+                .build();
+    }
+
+    public List<FoodResponseDto> toResponses(int[] rows) {
+        List<FoodResponseDto> results = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            results.add(toResponse(row));
+        }
+        return results;
+    }
+
+    private static void siftUp(int[] heap, int index, double[] values, double sign) {
+        int row = heap[index];
+        double key = sign * values[row];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (sign * values[heap[parent]] >= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = row;
+    }
+
+    private static void siftDown(int[] heap, int heapSize, double[] values, double sign) {
+        if (heapSize == 0) {
+            return;
+        }
+        int index = 0;
+        int row = heap[0];
+        double key = sign * values[row];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && sign * values[heap[child + 1]] > sign * values[heap[child]]) {
+                child++;
+            }
+            if (key >= sign * values[heap[child]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+
+    /**
+     * [컬럼 저장소 생성기]
+     * - add()로 음식을 하나씩 넣고 build()로 읽기 전용 저장소를 만듭니다.
+     * - 한 스레드에서만 사용합니다.
+     */
+    public static final class Builder {
+
+        private int size;
+        private String[] foodCodes = new String[1024];
+        private String[] foodNames = new String[1024];
+        private double[] servingSizes = new double[1024];
+        private String[] servingSizeTexts = new String[1024];
+        private double[][] nutrients = new double[Nutrient.COUNT][1024];
+        private int[] categoryIds = new int[1024];
+        private int[] unitIds = new int[1024];
+
+        private final List<String> categories = new ArrayList<>();
+        private final Map<String, Integer> categoryIdByName = new HashMap<>();
+        private final List<String> units = new ArrayList<>();
+        private final Map<String, Integer> unitIdByName = new HashMap<>();
+
+        public Builder add(Food food) {
+            if (size == foodCodes.length) {
+                grow();
+            }
+            foodCodes[size] = food.getFoodCode();
+            foodNames[size] = food.getFoodName();
+            servingSizes[size] = food.getServingSize();
+            servingSizeTexts[size] = food.getServingSizeText();
+            nutrients[Nutrient.CALORIES.ordinal()][size] = food.getCalories();
+            nutrients[Nutrient.PROTEIN.ordinal()][size] = food.getProtein();
+            nutrients[Nutrient.FAT.ordinal()][size] = food.getFat();
+            nutrients[Nutrient.CARBOHYDRATE.ordinal()][size] = food.getCarbohydrate();
+            categoryIds[size] = intern(categories, categoryIdByName, food.getCategory());
+            unitIds[size] = intern(units, unitIdByName, food.getUnit());
+            size++;
+            return this;
+        }
+
+        private static int intern(List<String> dictionary, Map<String, Integer> ids, String value) {
+            return ids.computeIfAbsent(value == null ? "" : value, key -> {
+                dictionary.add(key);
+                return dictionary.size() - 1;
+            });
+        }
+
+        private void grow() {
+            int capacity = size * 2;
+            foodCodes = Arrays.copyOf(foodCodes, capacity);
+            foodNames = Arrays.copyOf(foodNames, capacity);
+            servingSizes = Arrays.copyOf(servingSizes, capacity);
+            servingSizeTexts = Arrays.copyOf(servingSizeTexts, capacity);
+            for (int n = 0; n < Nutrient.COUNT; n++) {
+                nutrients[n] = Arrays.copyOf(nutrients[n], capacity);
+            }
+            categoryIds = Arrays.copyOf(categoryIds, capacity);
+            unitIds = Arrays.copyOf(unitIds, capacity);
+        }
+
+        public FoodNutritionStore build() {
+            return new FoodNutritionStore(this);
+        }
+    }
+}
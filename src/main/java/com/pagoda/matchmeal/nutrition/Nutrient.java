@@ -0,0 +1,34 @@
+package com.pagoda.matchmeal.nutrition;
+
+import com.pagoda.matchmeal.common.exception.CustomException;
+import com.pagoda.matchmeal.common.exception.ErrorResponseCode;
+
+/**
+ * 영양성분 종류 (컬럼 저장소의 컬럼 번호 = ordinal)
+ */
+public enum Nutrient {
+    CALORIES,
+    PROTEIN,
+    FAT,
+    CARBOHYDRATE;
+
+    public static final int COUNT = values().length;
+
+    /**
+     * 요청 파라미터 값(대소문자 무시)을 Nutrient로 바꿉니다.
+     * @param value 예: "protein", "CALORIES"
+     * @return      해당 Nutrient (값이 없으면 null)
+     * @throws CustomException 지원하지 않는 값이면 INVALID_SORT
+     */
+    public static Nutrient from(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        for (Nutrient nutrient : values()) {
+            if (nutrient.name().equalsIgnoreCase(value.trim())) {
+                return nutrient;
+            }
+        }
+        throw new CustomException(ErrorResponseCode.INVALID_SORT);
+    }
+}
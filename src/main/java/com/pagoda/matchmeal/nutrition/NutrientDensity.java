@@ -0,0 +1,36 @@
+package com.pagoda.matchmeal.nutrition;
+
+/**
+ * [영양 밀도 계산기]
+ * - 1회 제공량 기준 값을 100g(ml)당 값과 100kcal당 단백질로 바꿉니다. (배치가 저장 시점에 미리 계산해 둠)
+ * - 제공량이 무게/부피가 아니거나(개, 인분 등) 0 이하이면 100g당 값을 계산할 수 없으므로 null을 돌려줍니다.
+ */
+public final class NutrientDensity {
+
+    private NutrientDensity() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * @param amount      1회 제공량 기준 영양성분 값
+     * @param servingSize 1회 제공량 (기준 단위 값)
+     * @param unit        제공량 단위
+     * @return 100g(ml)당 값 (계산할 수 없으면 null)
+     */
+    public static Double per100(double amount, double servingSize, String unit) {
+        if (servingSize <= 0 || !("g".equals(unit) || "ml".equals(unit))) {
+            return null;
+        }
+        return amount * 100 / servingSize;
+    }
+
+    /**
+     * @return 100kcal당 단백질(g) (열량이 0 이하이면 null)
+     */
+    public static Double proteinPer100kcal(double protein, double calories) {
+        if (calories <= 0) {
+            return null;
+        }
+        return protein * 100 / calories;
+    }
+}
@@ -0,0 +1,22 @@
+package com.pagoda.matchmeal.nutrition;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 정규화한 1회 제공량 (ServingSizeNormalizer의 결과)
+ * - amount/unit: 기준 단위로 바꾼 값 (무게는 g, 부피는 ml, 개수 단위는 표기한 단위 그대로)
+ * - text: CSV에 적힌 원본 표기 (앞뒤 공백 제거, 없으면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class ServingSize {
+    private final double amount; // 숫자를 찾지 못하면 NaN
+    private final String unit;
+    private final String text;
+
+    /** 원본 표기에서 숫자를 찾았는지 */
+    public boolean isParsed() {
+        return !Double.isNaN(amount);
+    }
+}
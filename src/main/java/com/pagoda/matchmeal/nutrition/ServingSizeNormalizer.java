@@ -0,0 +1,286 @@
+package com.pagoda.matchmeal.nutrition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * [1회 제공량 정규화기]
+ * - "100g", "1.5kg", "1/2컵", "1개(50g)", "250mL" 같은 표기를 기준 단위(g, ml) 값과 원본 표기로 바꿉니다.
+ * - 단위 별칭은 생성 시점에 글자 단위 트라이로 한 번만 만들어 두고, 행마다 숫자 뒤의 글자를 따라가며 가장 긴 별칭을 찾습니다.
+ *      (정규식이나 문자열 복사 없이 한 번 훑기, 영문은 대소문자 무시)
+ * - 한 표기에 숫자가 여러 개면 무게/부피 단위가 붙은 첫 값을 우선합니다. ("1개(50g)" -> 50g)
+ *      그다음은 단위 없는 첫 숫자(g로 간주, 기존 동작과 같음), 마지막으로 개수 단위 값을 씁니다.
+ * - 생성 후에는 읽기만 하므로 여러 스레드(파티션)에서 함께 사용해도 안전합니다.
+ */
+public final class ServingSizeNormalizer {
+
+    public static final ServingSizeNormalizer DEFAULT = new ServingSizeNormalizer(ServingUnit.values());
+
+    /** 저장하는 원본 표기의 최대 길이 (foods.serving_size_text 컬럼 크기) */
+    public static final int MAX_TEXT_LENGTH = 100;
+
+    /** 단위가 없을 때 쓰는 단위 */
+    private static final String DEFAULT_UNIT = "g";
+    /** long에 담을 수 있는 자릿수까지만 누적 (그 이후 자릿수는 버림) */
+    private static final long MANTISSA_LIMIT = 100_000_000_000_000_000L;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18};
+
+    // 트라이 (노드 번호 0 = 루트)
+    /** 노드별 다음 글자 (오름차순, 이진 탐색) */
+    private final char[][] edges;
+    /** 노드별 다음 노드 번호 (edges와 같은 순서) */
+    private final int[][] targets;
+    /** 노드에서 끝나는 별칭의 단위 (없으면 null) */
+    private final ServingUnit[] units;
+    /** 노드에서 끝나는 별칭 */
+    private final String[] labels;
+
+    public ServingSizeNormalizer(ServingUnit... servingUnits) {
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<ServingUnit> nodeUnits = new ArrayList<>();
+        List<String> nodeLabels = new ArrayList<>();
+        children.add(new TreeMap<>());
+        nodeUnits.add(null);
+        nodeLabels.add(null);
+
+        for (ServingUnit unit : servingUnits) {
+            for (String alias : unit.getAliases()) {
+                int node = 0;
+                for (int i = 0; i < alias.length(); i++) {
+                    char c = lower(alias.charAt(i));
+                    Integer next = children.get(node).get(c);
+                    if (next == null) {
+                        next = children.size();
+                        children.get(node).put(c, next);
+                        children.add(new TreeMap<>());
+                        nodeUnits.add(null);
+                        nodeLabels.add(null);
+                    }
+                    node = next;
+                }
+                if (nodeUnits.get(node) != null) {
+                    throw new IllegalArgumentException("중복된 단위 별칭입니다: " + alias);
+                }
+                nodeUnits.set(node, unit);
+                nodeLabels.set(node, alias.toLowerCase());
+            }
+        }
+
+        int size = children.size();
+        this.edges = new char[size][];
+        this.targets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> map = children.get(node);
+            edges[node] = new char[map.size()];
+            targets[node] = new int[map.size()];
+            int i = 0;
+            for (var entry : map.entrySet()) {
+                edges[node][i] = entry.getKey();
+                targets[node][i] = entry.getValue();
+                i++;
+            }
+        }
+        this.units = nodeUnits.toArray(new ServingUnit[0]);
+        this.labels = nodeLabels.toArray(new String[0]);
+    }
+
+    /**
+     * @param raw CSV의 영양성분함량기준량 값 (예: "100g", "1/2컵", "N/A")
+     * @return 정규화한 제공량 (숫자를 찾지 못하면 amount가 NaN, unit은 g)
+     */
+    public ServingSize normalize(String raw) {
+        String text = raw == null ? null : raw.strip();
+        if (text == null || text.isEmpty()) {
+            return new ServingSize(Double.NaN, DEFAULT_UNIT, null);
+        }
+        if (text.length() > MAX_TEXT_LENGTH) {
+            text = text.substring(0, MAX_TEXT_LENGTH);
+        }
+
+        int length = text.length();
+        double plain = Double.NaN;
+        double counted = Double.NaN;
+        String countedUnit = null;
+
+        int i = 0;
+        while (i < length) {
+            if (!isNumberStart(text, i)) {
+                i++;
+                continue;
+            }
+            int numberEnd = numberEnd(text, i);
+            double value = parseNumber(text, i, numberEnd);
+
+            int unitStart = skipSpaces(text, numberEnd);
+            int node = matchUnit(text, unitStart);
+            if (node < 0) {
+                if (Double.isNaN(plain)) {
+                    plain = value;
+                }
+                i = numberEnd;
+                continue;
+            }
+
+            ServingUnit unit = units[node];
+            if (unit.isMeasurable()) {
+                return new ServingSize(unit.toCanonical(value), unit.getCanonicalUnit(), text);
+            }
+            if (Double.isNaN(counted)) {
+                counted = value;
+                countedUnit = labels[node];
+            }
+            i = unitStart + labels[node].length();
+        }
+
+        if (!Double.isNaN(plain)) {
+            return new ServingSize(plain, DEFAULT_UNIT, text);
+        }
+        if (!Double.isNaN(counted)) {
+            return new ServingSize(counted, countedUnit, text);
+        }
+        return new ServingSize(Double.NaN, DEFAULT_UNIT, text);
+    }
+
+    // ---------------- 숫자 ----------------
+
+    private static boolean isNumberStart(String text, int i) {
+        char c = text.charAt(i);
+        return isDigit(c)
+                || vulgarFraction(c) > 0
+                || (c == '.' && i + 1 < text.length() && isDigit(text.charAt(i + 1)));
+    }
+
+    /**
+     * start에서 시작하는 숫자 표기의 끝을 찾습니다.
+     * - 자릿수 쉼표("1,200"), 소수점("1.5"), 분수("1/2"), 유니코드 분수("½", "1½")까지 하나의 숫자로 봅니다.
+     */
+    private static int numberEnd(String text, int start) {
+        int length = text.length();
+        int i = start;
+        boolean dot = false;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                i++;
+            } else if (c == ',' && i > start && isDigit(text.charAt(i - 1)) && i + 1 < length && isDigit(text.charAt(i + 1))) {
+                i++;
+            } else if (c == '.' && !dot && i + 1 < length && isDigit(text.charAt(i + 1))) {
+                dot = true;
+                i++;
+            } else {
+                break;
+            }
+        }
+        if (!dot && i > start && i + 1 < length && text.charAt(i) == '/' && isDigit(text.charAt(i + 1))) {
+            i++;
+            while (i < length && isDigit(text.charAt(i))) {
+                i++;
+            }
+        }
+        if (i < length && vulgarFraction(text.charAt(i)) > 0) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * numberEnd로 찾은 [start, end) 범위를 숫자로 바꿉니다.
+     */
+    private static double parseNumber(String text, int start, int end) {
+        long mantissa = 0;
+        int scale = 0;
+        boolean fraction = false;
+        double numerator = Double.NaN;
+        double vulgar = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                if (mantissa < MANTISSA_LIMIT) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (fraction) {
+                        scale++;
+                    }
+                }
+            } else if (c == '.') {
+                fraction = true;
+            } else if (c == '/') {
+                numerator = mantissa;
+                mantissa = 0;
+            } else if (c != ',') {
+                vulgar = vulgarFraction(c);
+            }
+        }
+
+        double value = mantissa / POWERS_OF_TEN[scale];
+        if (!Double.isNaN(numerator)) {
+            value = value == 0 ? numerator : numerator / value;
+        }
+        return value + vulgar;
+    }
+
+    private static double vulgarFraction(char c) {
+        return switch (c) {
+            case '½' -> 0.5;
+            case '⅓' -> 1.0 / 3;
+            case '⅔' -> 2.0 / 3;
+            case '¼' -> 0.25;
+            case '¾' -> 0.75;
+            default -> 0;
+        };
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int skipSpaces(String text, int i) {
+        while (i < text.length() && text.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    // ---------------- 단위 ----------------
+
+    /**
+     * from 위치에서 시작하는 가장 긴 단위 별칭을 찾습니다.
+     * - 영문 별칭 바로 뒤에 영문자가 이어지면("1 large") 단위로 보지 않습니다.
+     * @return 별칭이 끝나는 트라이 노드 번호 (없으면 -1)
+     */
+    private int matchUnit(String text, int from) {
+        int length = text.length();
+        int node = 0;
+        int matched = -1;
+        for (int i = from; i < length; i++) {
+            int index = Arrays.binarySearch(edges[node], lower(text.charAt(i)));
+            if (index < 0) {
+                break;
+            }
+            node = targets[node][index];
+            if (units[node] != null) {
+                matched = node;
+            }
+        }
+        if (matched < 0) {
+            return -1;
+        }
+        String label = labels[matched];
+        int end = from + label.length();
+        if (end < length && isAsciiLetter(label.charAt(label.length() - 1)) && isAsciiLetter(text.charAt(end))) {
+            return -1;
+        }
+        return matched;
+    }
+
+    private static char lower(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
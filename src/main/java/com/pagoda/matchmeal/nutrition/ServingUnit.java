@@ -0,0 +1,57 @@
+package com.pagoda.matchmeal.nutrition;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 제공량 단위 사전
+ * - 단위 표기(별칭)별로 기준 단위(g, ml)와 환산 배수를 정의합니다.
+ * - 별칭은 소문자로 적고, 영문은 대소문자를 구분하지 않고 비교합니다. (ServingSizeNormalizer 참고)
+ * - 개수 단위(개, 인분 등)는 무게/부피로 바꿀 수 없으므로 기준 단위가 없고(null), 표기한 단위를 그대로 씁니다.
+ */
+@Getter
+public enum ServingUnit {
+
+    // --- 1. 무게 (기준: g) ---
+    GRAM("g", 1, "g", "gram", "grams", "그램"),
+    KILOGRAM("g", 1_000, "kg", "킬로그램"),
+    MILLIGRAM("g", 0.001, "mg", "밀리그램"),
+    MICROGRAM("g", 0.000_001, "mcg", "µg", "μg", "ug", "마이크로그램"),
+
+    // --- 2. 부피 (기준: ml) ---
+    MILLILITER("ml", 1, "ml", "cc", "밀리리터"),
+    DECILITER("ml", 100, "dl", "데시리터"),
+    LITER("ml", 1_000, "l", "ℓ", "리터"),
+    CUP("ml", 200, "cup", "컵"),
+    TABLESPOON("ml", 15, "tbsp", "큰술", "큰스푼"),
+    TEASPOON("ml", 5, "tsp", "작은술", "작은스푼"),
+
+    // --- 3. 개수 (환산 불가) ---
+    COUNT(null, 1, "개", "조각", "알", "마리", "장", "인분", "회", "그릇", "공기", "접시", "잔", "봉", "봉지", "팩", "캔", "병");
+
+    /** 기준 단위 (무게 g, 부피 ml, 개수 단위는 null) */
+    private final String canonicalUnit;
+    /** 기준 단위로 바꿀 때 곱하는 값 */
+    private final double factor;
+    private final List<String> aliases;
+
+    ServingUnit(String canonicalUnit, double factor, String... aliases) {
+        this.canonicalUnit = canonicalUnit;
+        this.factor = factor;
+        this.aliases = List.of(aliases);
+    }
+
+    /**
+     * 이 단위의 값을 기준 단위 값으로 바꿉니다.
+     * - 1보다 작은 배수(mg 등)는 나눗셈으로 계산해서 0.001 같은 값의 이진 오차가 결과에 남지 않게 합니다. (500mg -> 0.5g)
+     */
+    public double toCanonical(double amount) {
+        return factor >= 1 ? amount * factor : amount / Math.rint(1 / factor);
+    }
+
+    /** 무게/부피처럼 기준 단위로 환산할 수 있는 단위인지 */
+    public boolean isMeasurable() {
+        return canonicalUnit != null;
+    }
+}
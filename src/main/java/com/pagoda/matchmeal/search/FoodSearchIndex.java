@@ -0,0 +1,297 @@
+package com.pagoda.matchmeal.search;
+
+import com.pagoda.matchmeal.model.dto.FoodSearchResultDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [음식 이름 검색 인덱스 (메모리, 읽기 전용)]
+ * - 음식 이름을 정규화(소문자, 공백 제거)한 뒤, 글자 1개(unigram)와 2개(bigram) 단위로 역색인(posting)을 만듭니다.
+ *      한글은 띄어쓰기나 형태소가 일정하지 않아서, 단어 대신 글자 n-gram으로 찾는 편이 잘 맞습니다.
+ * - n-gram 키는 두 글자(char)를 int 하나로 묶어서 정렬된 int[]에 두고, posting은 문서 번호 int[]로 저장합니다.
+ *      (문자열 키나 Integer 박싱 없이 이진 탐색 + 배열 교집합으로만 검색)
+ * - 결과는 완전 일치 > 앞부분 일치(prefix) > 단어 시작 일치 > 중간 포함 순서로, 같은 등급이면 이름이 짧은 순서로 정렬합니다.
+ * - 생성 이후 바뀌지 않으므로 여러 스레드에서 동시에 검색해도 안전합니다. 데이터가 바뀌면 새로 만들어서 교체합니다.
+ */
+public final class FoodSearchIndex {
+
+    public static final FoodSearchIndex EMPTY = new Builder().build();
+
+    // 랭킹 등급 (작을수록 앞)
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int WORD_START = 2;
+    private static final int CONTAINS = 3;
+
+    // 문서(음식)별 데이터: 배열 인덱스가 문서 번호
+    private final String[] foodCodes;
+    private final String[] foodNames;
+    private final String[] normalizedNames;
+    private final int[] categoryIds;
+
+    // 카테고리 사전 (문자열 -> 번호)
+    private final String[] categories;
+    private final Map<String, Integer> categoryIdByName;
+
+    // n-gram 역색인: gramKeys[i] 를 포함하는 문서 번호 목록이 postings[i] (오름차순)
+    private final int[] gramKeys;
+    private final int[][] postings;
+
+    private FoodSearchIndex(Builder builder) {
+        int size = builder.foodCodes.size();
+        this.foodCodes = builder.foodCodes.toArray(new String[0]);
+        this.foodNames = builder.foodNames.toArray(new String[0]);
+        this.normalizedNames = builder.normalizedNames.toArray(new String[0]);
+        this.categoryIds = Arrays.copyOf(builder.categoryIds, size);
+        this.categories = builder.categories.toArray(new String[0]);
+        this.categoryIdByName = Map.copyOf(builder.categoryIdByName);
+
+        this.gramKeys = builder.postings.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        this.postings = new int[gramKeys.length][];
+        for (int i = 0; i < gramKeys.length; i++) {
+            IntList docs = builder.postings.get(gramKeys[i]);
+            postings[i] = Arrays.copyOf(docs.values, docs.size);
+        }
+    }
+
+    public int size() {
+        return foodCodes.length;
+    }
+
+    /**
+     * 음식 이름으로 검색합니다.
+     * @param query     검색어 (공백/대소문자 무시)
+     * @param category  식품대분류명 필터 (null이면 전체)
+     * @param limit     최대 결과 수
+     * @return          랭킹 순서로 정렬된 검색 결과
+     */
+    public List<FoodSearchResultDto> search(String query, String category, int limit) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int categoryId = -1;
+        if (category != null) {
+            Integer id = categoryIdByName.get(category);
+            if (id == null) {
+                return List.of();
+            }
+            categoryId = id;
+        }
+
+        int[] candidates = candidates(normalizedQuery);
+        if (candidates.length == 0) {
+            return List.of();
+        }
+
+        // (등급, 이름 길이, 문서 번호)를 long 하나로 묶어서 정렬 (객체 생성 없이 랭킹)
+        long[] ranked = new long[candidates.length];
+        int count = 0;
+        for (int doc : candidates) {
+            if (categoryId >= 0 && categoryIds[doc] != categoryId) {
+                continue;
+            }
+            int rank = rank(doc, normalizedQuery);
+            if (rank < 0) {
+                continue; // n-gram은 모두 있지만 실제로 이어져 있지 않은 경우
+            }
+            ranked[count++] = ((long) rank << 56) | ((long) Math.min(foodNames[doc].length(), 0xFFFF) << 32) | doc;
+        }
+        Arrays.sort(ranked, 0, count);
+
+        int resultSize = Math.min(count, limit);
+        List<FoodSearchResultDto> results = new ArrayList<>(resultSize);
+        for (int i = 0; i < resultSize; i++) {
+            int doc = (int) ranked[i];
+            String categoryName = categories[categoryIds[doc]];
+            results.add(new FoodSearchResultDto(foodCodes[doc], foodNames[doc], categoryName.isEmpty() ? null : categoryName));
+        }
+        return results;
+    }
+
+    /**
+     * 검색어의 모든 n-gram을 포함하는 문서 번호 목록을 구합니다. (posting이 짧은 것부터 교집합)
+     */
+    private int[] candidates(String query) {
+        int[] keys = grams(query);
+        int[][] lists = new int[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            int index = Arrays.binarySearch(gramKeys, keys[i]);
+            if (index < 0) {
+                return new int[0];
+            }
+            lists[i] = postings[index];
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private int rank(int doc, String query) {
+        String name = normalizedNames[doc];
+        if (name.equals(query)) {
+            return EXACT;
+        }
+        if (name.startsWith(query)) {
+            return PREFIX;
+        }
+        int index = name.indexOf(query);
+        if (index < 0) {
+            return -1;
+        }
+        return isWordStart(foodNames[doc], index) ? WORD_START : CONTAINS;
+    }
+
+    /**
+     * 정규화된 이름의 index 위치가 원래 이름에서 단어(공백 다음)의 시작인지 확인합니다.
+     */
+    private static boolean isWordStart(String original, int normalizedIndex) {
+        int seen = 0;
+        for (int i = 0; i < original.length(); i++) {
+            char c = original.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (seen == normalizedIndex) {
+                return i > 0 && Character.isWhitespace(original.charAt(i - 1));
+            }
+            seen++;
+        }
+        return false;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return k == result.length ? result : Arrays.copyOf(result, k);
+    }
+
+    /**
+     * 검색어의 n-gram 키 목록: 한 글자면 unigram, 두 글자 이상이면 bigram 전체
+     */
+    private static int[] grams(String normalized) {
+        if (normalized.length() == 1) {
+            return new int[]{unigram(normalized.charAt(0))};
+        }
+        int[] keys = new int[normalized.length() - 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = bigram(normalized.charAt(i), normalized.charAt(i + 1));
+        }
+        return keys;
+    }
+
+    private static int unigram(char c) {
+        return c; // 상위 16비트가 0 (정규화된 문자열에는 '\0'이 없으므로 bigram과 겹치지 않음)
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    /**
+     * 검색용 정규화: 공백 제거 + 소문자
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c) && c != '\0') {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * [검색 인덱스 생성기]
+     * - add()로 음식을 하나씩 넣고 build()로 읽기 전용 인덱스를 만듭니다.
+     * - 한 스레드에서만 사용합니다.
+     */
+    public static final class Builder {
+
+        private final List<String> foodCodes = new ArrayList<>();
+        private final List<String> foodNames = new ArrayList<>();
+        private final List<String> normalizedNames = new ArrayList<>();
+        private int[] categoryIds = new int[1024];
+
+        private final List<String> categories = new ArrayList<>();
+        private final Map<String, Integer> categoryIdByName = new HashMap<>();
+
+        private final Map<Integer, IntList> postings = new HashMap<>();
+
+        public Builder add(String foodCode, String foodName, String category) {
+            int doc = foodCodes.size();
+            String name = foodName == null ? "" : foodName;
+            String normalized = normalize(name);
+            String categoryName = category == null ? "" : category;
+
+            foodCodes.add(foodCode);
+            foodNames.add(name);
+            normalizedNames.add(normalized);
+            if (doc == categoryIds.length) {
+                categoryIds = Arrays.copyOf(categoryIds, doc * 2);
+            }
+            categoryIds[doc] = categoryIdByName.computeIfAbsent(categoryName, key -> {
+                categories.add(key);
+                return categories.size() - 1;
+            });
+
+            for (int i = 0; i < normalized.length(); i++) {
+                addPosting(unigram(normalized.charAt(i)), doc);
+                if (i + 1 < normalized.length()) {
+                    addPosting(bigram(normalized.charAt(i), normalized.charAt(i + 1)), doc);
+                }
+            }
+            return this;
+        }
+
+        private void addPosting(int key, int doc) {
+            IntList docs = postings.computeIfAbsent(key, k -> new IntList());
+            // 문서 번호는 증가하는 순서로만 들어오므로, 마지막 값만 보면 중복을 막을 수 있음
+            if (docs.size == 0 || docs.values[docs.size - 1] != doc) {
+                docs.add(doc);
+            }
+        }
+
+        public FoodSearchIndex build() {
+            return new FoodSearchIndex(this);
+        }
+    }
+
+    /** 인덱스 생성 중에만 쓰는 가변 int 배열 */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
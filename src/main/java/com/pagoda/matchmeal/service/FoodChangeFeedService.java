@@ -0,0 +1,98 @@
+package com.pagoda.matchmeal.service;
+
+import com.pagoda.matchmeal.common.exception.CustomException;
+import com.pagoda.matchmeal.common.exception.ErrorResponseCode;
+import com.pagoda.matchmeal.feed.FoodChange;
+import com.pagoda.matchmeal.feed.FoodChangeBatch;
+import com.pagoda.matchmeal.feed.FoodChangeStream;
+import com.pagoda.matchmeal.model.dto.FoodChangePageDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * [음식 변경 피드 서비스]
+ * - 배치가 커밋한 변경 기록을 batch-size개씩 묶어서 발행합니다.
+ *      - 변경 스트림(Redis Stream): 다른 서버나 외부 소비자가 offset으로 이어 읽음 (/foods/changes)
+ *      - Spring 이벤트(FoodChangeBatch): 같은 서버의 캐시가 바뀐 음식만 갱신 (예: FoodLookupService)
+ * - 발행은 커밋 이후에만 호출해야 합니다. (롤백된 변경이 피드에 나가지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FoodChangeFeedService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 100;
+
+    /** Redis Stream 항목 ID 형식 ("밀리초-순번" 또는 "밀리초") */
+    private static final Pattern OFFSET_PATTERN = Pattern.compile("\\d+(-\\d+)?");
+
+    private final FoodChangeStream foodChangeStream;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 변경 스트림 항목 하나(이벤트 하나)에 담을 최대 변경 기록 수 */
+    @Value("${food.change-feed.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 변경 스트림 항목 하나에 담을 최대 변경 기록 수 (변경 기록을 나눠서 발행하는 쪽이 묶음 크기를 맞출 때 사용)
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 변경 기록을 묶어서 변경 스트림에 추가하고 이벤트로 발행합니다.
+     * @param changes 커밋된 변경 기록
+     */
+    public void publish(List<FoodChange> changes) {
+        for (int from = 0; from < changes.size(); from += batchSize) {
+            List<FoodChange> batch = List.copyOf(changes.subList(from, Math.min(from + batchSize, changes.size())));
+            String offset = foodChangeStream.append(batch);
+            eventPublisher.publishEvent(new FoodChangeBatch(offset, batch));
+        }
+        if (!changes.isEmpty()) {
+            log.debug("음식 변경 피드 발행: {}건", changes.size());
+        }
+    }
+
+    /**
+     * after 다음의 변경 기록 묶음을 읽습니다.
+     * @param after offset (없으면 처음부터)
+     * @param limit 최대 묶음 수 (1 ~ 100, 범위를 벗어나면 보정)
+     * - after 다음 항목 중 읽기 전에 지워진 항목이 있으면 reset=true로 알려줍니다. (after까지만 지워졌으면 false)
+     *      처음부터(after 없음) 읽는 소비자는 어차피 스냅샷으로 시작하므로 reset으로 보지 않습니다.
+     * @return      변경 기록 묶음, 다음 조회 시작 위치, reset 여부
+     * @throws CustomException offset 형식이 잘못되면 INVALID_CURSOR, 변경 스트림 장애 시 FOOD_CHANGE_FEED_UNAVAILABLE
+     */
+    public FoodChangePageDto read(String after, Integer limit) {
+        String offset = StringUtils.hasText(after) ? after : FoodChangeStream.START_OFFSET;
+        if (!OFFSET_PATTERN.matcher(offset).matches()) {
+            throw new CustomException(ErrorResponseCode.INVALID_CURSOR);
+        }
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<FoodChangeBatch> batches;
+        boolean reset;
+        try {
+            reset = !FoodChangeStream.START_OFFSET.equals(offset) && foodChangeStream.isTrimmedAfter(offset);
+            batches = foodChangeStream.read(offset, size);
+        } catch (DataAccessException e) {
+            log.warn("음식 변경 스트림 조회 실패: after={}", offset, e);
+            throw new CustomException(ErrorResponseCode.FOOD_CHANGE_FEED_UNAVAILABLE);
+        }
+        String nextOffset = batches.isEmpty() ? offset : batches.get(batches.size() - 1).getOffset();
+        if (reset) {
+            log.info("음식 변경 스트림에서 지워진 위치를 요청함: after={} (다음 항목이 지워짐)", offset);
+        }
+        return new FoodChangePageDto(batches, nextOffset, reset);
+    }
+}
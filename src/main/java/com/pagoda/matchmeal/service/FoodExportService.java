@@ -0,0 +1,119 @@
+package com.pagoda.matchmeal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pagoda.matchmeal.batch.event.FoodImportCompletedEvent;
+import com.pagoda.matchmeal.mapper.FoodMapper;
+import com.pagoda.matchmeal.model.dto.FoodCatalogVersionDto;
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.ZoneId;
+
+/**
+ * [음식 카탈로그 내보내기 서비스]
+ * - foods 테이블 전체를 NDJSON(한 줄에 JSON 하나)으로 응답 스트림에 바로 씁니다.
+ * - 행을 ResultHandler로 한 건씩 받아 곧바로 직렬화하므로, 카탈로그 크기와 상관없이 힙 사용량은 일정합니다.
+ * - 카탈로그 버전(건수 + 마지막 변경 시각)으로 ETag를 만들어 두고, 음식 등록 Job이 끝날 때마다 다시 계산합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FoodExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FoodMapper foodMapper;
+    private final ObjectMapper objectMapper;
+
+    /** 현재 카탈로그의 ETag (아직 계산하지 못했으면 null) */
+    private volatile String etag;
+
+    /**
+     * 현재 카탈로그의 ETag를 반환합니다. (아직 계산하지 못했으면 지금 계산)
+     * - 내용이 같아도 JSON 표현(필드 순서, 압축 여부)이 바뀔 수 있으므로 약한(W/) ETag를 사용합니다.
+     */
+    public String getEtag() {
+        String current = etag;
+        return current != null ? current : refreshEtag();
+    }
+
+    /**
+     * 카탈로그 버전을 다시 조회해서 ETag를 갱신합니다.
+     */
+    public String refreshEtag() {
+        FoodCatalogVersionDto version = foodMapper.findCatalogVersion();
+        long lastUpdated = version.getLastUpdatedAt() == null
+                ? 0L
+                : version.getLastUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String current = "W/\"" + version.getFoodCount() + "-" + lastUpdated + "\"";
+        etag = current;
+        return current;
+    }
+
+    /**
+     * 전체 음식을 food_id 순서로 NDJSON으로 씁니다. (out은 닫지 않음)
+     * @param out   응답 스트림
+     * @return      내보낸 건수
+     */
+    public long export(OutputStream out) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(buffered);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // writeValue가 행마다 flush하므로, 응답 스트림까지 flush가 전달되지 않게 막고 마지막에 한 번만 flush
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        generator.setRootValueSeparator(null);
+
+        long[] count = {0};
+        IOException[] failure = {null};
+        foodMapper.streamAll(context -> {
+            try {
+                objectMapper.writeValue(generator, FoodResponseDto.from(context.getResultObject()));
+                generator.writeRaw('\n');
+                count[0]++;
+            } catch (IOException e) {
+                // 클라이언트가 연결을 끊은 경우 등: 더 읽지 않고 멈춤
+                failure[0] = e;
+                context.stop();
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+
+        generator.flush();
+        buffered.flush();
+        return count[0];
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            refreshEtag();
+        } catch (DataAccessException e) {
+            // 다음 요청이나 배치 완료 시 다시 계산
+            log.error("음식 카탈로그 ETag 계산 실패", e);
+        }
+    }
+
+    /**
+     * 실패하면 ETag를 비워서 다음 요청이 다시 계산하게 합니다. (다른 Listener가 이어서 호출되도록 예외는 삼킴)
+     */
+    @EventListener
+    public void onFoodImportCompleted(FoodImportCompletedEvent event) {
+        try {
+            refreshEtag();
+        } catch (RuntimeException e) {
+            etag = null;
+            log.error("음식 등록 후 카탈로그 ETag 계산 실패: {}", event.getJobName(), e);
+        }
+    }
+}
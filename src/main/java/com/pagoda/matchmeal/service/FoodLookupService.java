@@ -0,0 +1,209 @@
+package com.pagoda.matchmeal.service;
+
+import com.pagoda.matchmeal.batch.event.FoodImportCompletedEvent;
+import com.pagoda.matchmeal.cache.FoodCacheCodec;
+import com.pagoda.matchmeal.cache.FoodRemoteCache;
+import com.pagoda.matchmeal.cache.SingleFlightCache;
+import com.pagoda.matchmeal.common.exception.CustomException;
+import com.pagoda.matchmeal.common.exception.ErrorResponseCode;
+import com.pagoda.matchmeal.feed.FoodChangeBatch;
+import com.pagoda.matchmeal.mapper.FoodMapper;
+import com.pagoda.matchmeal.model.dto.FoodLookupResultDto;
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [음식 조회 서비스 (Read-Through 캐시)]
+ * - 조회 순서: 로컬 캐시(Caffeine) -> 원격 캐시(Redis) -> DB(foods)
+ * - 아래 단계에서 찾은 값은 위 단계 캐시에 채워 넣습니다.
+ * - 같은 서버에서 같은 코드를 동시에 조회하면, SingleFlightCache가 한 번만 로딩하고 나머지는 결과를 기다립니다.
+ *      (만료 직전 조기 갱신, DB 장애 시 이전 값 응답도 SingleFlightCache가 처리)
+ * - 여러 음식을 한 번에 조회하면 단계마다 한 번씩만(로컬 -> Redis MGET -> DB IN 쿼리) 왕복합니다.
+ * - 읽는 동안 배치 변경으로 무효화된 값은 한 건/여러 건 조회 모두 캐시에 남기지 않습니다. (로컬 캐시의 무효화 세대로 확인)
+ * - 배치로 데이터가 바뀌면 변경 피드(FoodChangeBatch 이벤트)를 받아, 바뀐 음식만 두 캐시에서 한꺼번에 지웁니다.
+ * - 배치를 실행하지 않은 서버의 로컬 캐시는 FoodChangeStreamFollower가 변경 스트림을 따라 읽으며 지우고(evictLocal),
+ *      Job이 끝나면(FoodImportCompletedEvent, 다른 서버의 Job 포함) 놓친 변경이 없도록 로컬 캐시를 모두 비웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FoodLookupService {
+
+    /** 한 번에 조회할 수 있는 최대 식품코드 수 */
+    public static final int MAX_BULK_SIZE = 100;
+
+    private final FoodMapper foodMapper;
+    private final SingleFlightCache<String, FoodResponseDto> foodLocalCache;
+    private final FoodRemoteCache foodRemoteCache;
+
+    /**
+     * 식품코드로 음식을 조회합니다.
+     * @param foodCode  식품코드
+     * @return          음식 정보
+     * @throws CustomException 해당 코드의 음식이 없으면 FOOD_NOT_FOUND
+     */
+    public FoodResponseDto getFood(String foodCode) {
+        FoodResponseDto food = foodLocalCache.get(foodCode, this::loadFromRemoteOrDb);
+        if (food == null) {
+            throw new CustomException(ErrorResponseCode.FOOD_NOT_FOUND);
+        }
+        return food;
+    }
+
+    /**
+     * 여러 식품코드의 음식을 한 번에 조회합니다.
+     * - 로컬 캐시에 없는 코드는 Redis MGET 한 번으로, 거기에도 없는 코드는 DB IN 쿼리 한 번으로 읽습니다.
+     * - DB에서 읽은 값은 두 캐시에 채워 넣습니다. (Redis는 파이프라인 한 번)
+     * - 읽는 동안 배치 변경으로 무효화된 코드의 값은 캐시에 넣지 않습니다. (로컬 캐시의 무효화 세대로 확인)
+     * @param foodCodes 식품코드 목록 (최대 100개, 중복 가능)
+     * @return          요청 순서대로 식품코드마다 하나씩 (없는 코드는 found=false)
+     * @throws CustomException 식품코드가 100개를 넘으면 TOO_MANY_FOOD_CODES
+     */
+    public List<FoodLookupResultDto> getFoods(List<String> foodCodes) {
+        if (foodCodes.size() > MAX_BULK_SIZE) {
+            throw new CustomException(ErrorResponseCode.TOO_MANY_FOOD_CODES);
+        }
+
+        // 1. 로컬 캐시 (없는 코드는 Redis/DB를 읽기 전에 무효화 세대를 받아둠)
+        Map<String, FoodResponseDto> found = new HashMap<>();
+        Map<String, Long> generations = new HashMap<>();
+        List<String> remoteCodes = new ArrayList<>();
+        for (String foodCode : new LinkedHashSet<>(foodCodes)) {
+            if (!StringUtils.hasText(foodCode)) {
+                continue;
+            }
+            FoodResponseDto local = foodLocalCache.getIfPresent(foodCode);
+            if (local != null) {
+                found.put(foodCode, local);
+            } else {
+                generations.put(foodCode, foodLocalCache.generation(foodCode));
+                remoteCodes.add(foodCode);
+            }
+        }
+
+        // 2. Redis (MGET 한 번)
+        List<String> dbCodes = new ArrayList<>();
+        if (!remoteCodes.isEmpty()) {
+            List<byte[]> values = foodRemoteCache.getAll(remoteCodes);
+            for (int i = 0; i < remoteCodes.size(); i++) {
+                String foodCode = remoteCodes.get(i);
+                FoodResponseDto cached = FoodCacheCodec.decode(values.get(i));
+                if (cached != null) {
+                    found.put(foodCode, cached);
+                    foodLocalCache.put(foodCode, cached, generations.get(foodCode));
+                } else {
+                    dbCodes.add(foodCode);
+                }
+            }
+        }
+
+        // 3. DB (IN 쿼리 한 번)
+        if (!dbCodes.isEmpty()) {
+            Map<String, byte[]> encoded = new HashMap<>();
+            for (Food food : foodMapper.findByFoodCodes(dbCodes)) {
+                FoodResponseDto loaded = FoodResponseDto.from(food);
+                found.put(food.getFoodCode(), loaded);
+                Long generation = generations.get(food.getFoodCode());
+                if (generation != null && foodLocalCache.put(food.getFoodCode(), loaded, generation)) {
+                    encoded.put(food.getFoodCode(), FoodCacheCodec.encode(loaded));
+                }
+            }
+            foodRemoteCache.putAll(encoded);
+            // Redis에 쓰는 사이에 무효화된 코드는 방금 쓴 값을 다시 지움
+            List<String> invalidated = encoded.keySet().stream()
+                    .filter(foodCode -> foodLocalCache.generation(foodCode) != generations.get(foodCode))
+                    .toList();
+            if (!invalidated.isEmpty()) {
+                foodRemoteCache.evictAll(invalidated);
+            }
+        }
+
+        List<FoodLookupResultDto> results = new ArrayList<>(foodCodes.size());
+        for (String foodCode : foodCodes) {
+            results.add(FoodLookupResultDto.of(foodCode, found.get(foodCode)));
+        }
+        return results;
+    }
+
+    /**
+     * 로컬/원격 캐시에서 해당 식품코드들을 한 번에 지웁니다.
+     * @param foodCodes 변경된 식품코드 목록
+     */
+    public void invalidate(Collection<String> foodCodes) {
+        if (foodCodes.isEmpty()) {
+            return;
+        }
+        foodLocalCache.invalidateAll(foodCodes);
+        foodRemoteCache.evictAll(foodCodes);
+    }
+
+    /**
+     * 이 서버의 로컬 캐시에서만 해당 식품코드들을 지웁니다. (원격 캐시는 배치를 실행한 서버가 이미 지움)
+     * @param foodCodes 다른 서버의 배치가 변경한 식품코드 목록
+     */
+    public void evictLocal(Collection<String> foodCodes) {
+        foodLocalCache.invalidateAll(foodCodes);
+    }
+
+    /**
+     * 이 서버의 로컬 캐시를 모두 비웁니다. (변경 스트림에서 놓친 항목이 있을 때)
+     */
+    public void clearLocal() {
+        foodLocalCache.invalidateAll();
+    }
+
+    /**
+     * 배치가 커밋한 변경 기록 묶음마다 바뀐 음식의 캐시를 지웁니다.
+     */
+    @EventListener
+    public void onFoodChanges(FoodChangeBatch batch) {
+        invalidate(batch.foodCodes());
+    }
+
+    /**
+     * Job이 끝나면 로컬 캐시를 모두 비웁니다.
+     * - 변경 스트림 저장에 실패했거나 따라 읽지 못한 변경이 있어도, 늦어도 Job 종료 시점에는 새 데이터를 읽게 됩니다.
+     */
+    @EventListener
+    public void onFoodImportCompleted(FoodImportCompletedEvent event) {
+        clearLocal();
+    }
+
+    /**
+     * 한 건 로딩 (SingleFlightCache의 loader)
+     * - 읽는 동안 배치 변경으로 무효화되면 DB에서 읽은 값을 Redis에 넣지 않고, 넣은 뒤에 무효화되었으면 다시 지웁니다.
+     *      (로컬 캐시는 SingleFlightCache가 따로 막아줌)
+     */
+    private FoodResponseDto loadFromRemoteOrDb(String foodCode) {
+        long generation = foodLocalCache.generation(foodCode);
+        FoodResponseDto cached = FoodCacheCodec.decode(foodRemoteCache.get(foodCode));
+        if (cached != null) {
+            return cached;
+        }
+
+        Food food = foodMapper.findByFoodCode(foodCode);
+        if (food == null) {
+            return null; // 없는 코드는 캐시하지 않음
+        }
+        FoodResponseDto loaded = FoodResponseDto.from(food);
+        if (foodLocalCache.generation(foodCode) != generation) {
+            return loaded;
+        }
+        foodRemoteCache.put(foodCode, FoodCacheCodec.encode(loaded));
+        // Redis에 쓰는 사이에 무효화되었으면 방금 쓴 값을 다시 지움
+        if (foodLocalCache.generation(foodCode) != generation) {
+            foodRemoteCache.evictAll(List.of(foodCode));
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,126 @@
+package com.pagoda.matchmeal.service;
+
+import com.pagoda.matchmeal.batch.event.FoodImportCompletedEvent;
+import com.pagoda.matchmeal.mapper.FoodMapper;
+import com.pagoda.matchmeal.model.dto.FoodNutritionSearchRequestDto;
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import com.pagoda.matchmeal.nutrition.FoodNutritionStore;
+import com.pagoda.matchmeal.nutrition.Nutrient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [영양성분 범위 검색 서비스]
+ * - foods 테이블 전체를 컬럼 저장소(FoodNutritionStore)로 메모리에 올려두고, 범위 조건 검색을 DB 없이 처리합니다.
+ * - 서버 시작 시 한 번, 음식 등록 Job이 끝날 때마다 다시 만듭니다.
+ * - 새 저장소를 다 만든 뒤 참조만 바꾸므로, 다시 만드는 동안에도 기존 저장소로 조회할 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FoodNutritionService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final FoodMapper foodMapper;
+
+    private volatile FoodNutritionStore store = FoodNutritionStore.EMPTY;
+    /** 영양 정보 저장소 다시 만들기는 한 번에 하나만 */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * 영양성분 범위 조건으로 음식을 검색합니다.
+     * @param request   검색 조건
+     * @return          조건에 맞는 음식 목록 (정렬 기준이 없으면 food_id 순서)
+     */
+    public List<FoodResponseDto> search(FoodNutritionSearchRequestDto request) {
+        FoodNutritionStore current = store;
+        Nutrient sortBy = Nutrient.from(request.getSort());
+        boolean descending = !"asc".equalsIgnoreCase(request.getDirection());
+        int limit = request.getLimit() == null ? DEFAULT_LIMIT : Math.max(1, Math.min(request.getLimit(), MAX_LIMIT));
+
+        int categoryId = -1;
+        if (StringUtils.hasText(request.getCategory())) {
+            categoryId = current.categoryId(request.getCategory());
+            if (categoryId < 0) {
+                return List.of();
+            }
+        }
+
+        double[] min = new double[Nutrient.COUNT];
+        double[] max = new double[Nutrient.COUNT];
+        Arrays.fill(min, Double.NEGATIVE_INFINITY);
+        Arrays.fill(max, Double.POSITIVE_INFINITY);
+        setRange(min, max, Nutrient.CALORIES, request.getMinCalories(), request.getMaxCalories());
+        setRange(min, max, Nutrient.PROTEIN, request.getMinProtein(), request.getMaxProtein());
+        setRange(min, max, Nutrient.FAT, request.getMinFat(), request.getMaxFat());
+        setRange(min, max, Nutrient.CARBOHYDRATE, request.getMinCarbohydrate(), request.getMaxCarbohydrate());
+
+        int[] rows = current.filter(categoryId, min, max);
+        return current.toResponses(current.topK(rows, sortBy, descending, limit));
+    }
+
+    /**
+     * 현재 컬럼 저장소를 반환합니다. (식단 조합 탐색 등 다른 서비스에서 사용)
+     */
+    public FoodNutritionStore getStore() {
+        return store;
+    }
+
+    /**
+     * foods 테이블 전체를 읽어서 컬럼 저장소를 새로 만듭니다.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            FoodNutritionStore.Builder builder = new FoodNutritionStore.Builder();
+            foodMapper.scanAll(context -> builder.add(context.getResultObject()));
+            store = builder.build();
+            log.info("영양성분 컬럼 저장소 생성 완료: {}건 ({}ms)", store.size(), System.currentTimeMillis() - start);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (DataAccessException e) {
+            // 저장소가 없어도 서버는 떠야 하므로, 다음 배치 완료 시 다시 시도
+            log.error("영양성분 컬럼 저장소 생성 실패", e);
+        }
+    }
+
+    /**
+     * 실패해도 다른 Listener가 이어서 호출되도록 로그만 남깁니다. (기존 저장소로 계속 조회)
+     */
+    @EventListener
+    public void onFoodImportCompleted(FoodImportCompletedEvent event) {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("음식 등록 후 영양성분 컬럼 저장소 갱신 실패: {}", event.getJobName(), e);
+        }
+    }
+
+    private static void setRange(double[] min, double[] max, Nutrient nutrient, Double from, Double to) {
+        if (from != null) {
+            min[nutrient.ordinal()] = from;
+        }
+        if (to != null) {
+            max[nutrient.ordinal()] = to;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.pagoda.matchmeal.service;
+
+import com.pagoda.matchmeal.common.response.CursorPageInfoResponseDto;
+import com.pagoda.matchmeal.mapper.FoodMapper;
+import com.pagoda.matchmeal.model.dto.FoodDensityResponseDto;
+import com.pagoda.matchmeal.model.dto.FoodPageCursor;
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import com.pagoda.matchmeal.nutrition.DensitySort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * [음식 목록 조회 서비스]
+ * - food_id 기준 커서(keyset) 페이지네이션으로 목록을 조회합니다.
+ * - OFFSET 없이 "마지막으로 본 food_id 다음부터" 인덱스를 바로 찾아가므로, 몇 번째 페이지든 조회 속도가 같습니다.
+ * - 분류별 밀도 순위는 배치가 미리 계산한 밀도 컬럼의 인덱스로 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FoodQueryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final FoodMapper foodMapper;
+
+    /**
+     * 음식 목록을 커서 방식으로 조회합니다.
+     * @param category  식품대분류명 (없으면 전체)
+     * @param cursor    이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size      페이지 크기 (1 ~ 100, 범위를 벗어나면 보정)
+     * @return          음식 목록과 다음 커서 정보
+     */
+    public CursorPageInfoResponseDto<FoodResponseDto> getFoods(String category, String cursor, Integer size) {
+        String condition = StringUtils.hasText(category) ? category : null;
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        FoodPageCursor pageCursor = FoodPageCursor.decode(cursor, condition);
+
+        // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 한 건 더 조회
+        List<Food> fetched = foodMapper.findPage(condition, pageCursor == null ? null : pageCursor.getLastFoodId(), pageSize + 1);
+
+        return CursorPageInfoResponseDto.of(fetched, pageSize, last -> new FoodPageCursor(condition, last.getFoodId()).encode())
+                .map(FoodResponseDto::from);
+    }
+
+    /**
+     * 분류 안에서 밀도 순위 상위 음식을 조회합니다. (예: 100kcal당 단백질이 가장 많은 음식)
+     * @param category  식품대분류명
+     * @param sort      정렬 기준 (calories, protein_density / 기본값 protein_density)
+     * @param direction 정렬 방향 (asc, desc / 기본값 desc)
+     * @param limit     최대 결과 수 (1 ~ 100, 범위를 벗어나면 보정)
+     * @return          밀도 순위 목록 (밀도를 계산할 수 없는 음식은 제외)
+     */
+    public List<FoodDensityResponseDto> getTopByDensity(String category, String sort, String direction, Integer limit) {
+        DensitySort sortBy = DensitySort.from(sort);
+        boolean descending = !"asc".equalsIgnoreCase(direction);
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        return foodMapper.findTopByDensity(category, sortBy, descending, size).stream()
+                .map(FoodDensityResponseDto::from)
+                .toList();
+    }
+}
@@ -0,0 +1,92 @@
+package com.pagoda.matchmeal.service;
+
+import com.pagoda.matchmeal.batch.event.FoodImportCompletedEvent;
+import com.pagoda.matchmeal.mapper.FoodMapper;
+import com.pagoda.matchmeal.model.dto.FoodSearchResultDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import com.pagoda.matchmeal.search.FoodSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [음식 이름 검색 서비스 (자동완성)]
+ * - foods 테이블 전체로 메모리 검색 인덱스(FoodSearchIndex)를 만들어두고, 검색은 DB 없이 인덱스에서만 처리합니다.
+ * - 서버 시작 시 한 번, 음식 등록 Job이 끝날 때마다 다시 만듭니다.
+ * - 새 인덱스를 다 만든 뒤 참조만 바꾸므로, 다시 만드는 동안에도 기존 인덱스로 검색할 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FoodSearchService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private final FoodMapper foodMapper;
+
+    private volatile FoodSearchIndex index = FoodSearchIndex.EMPTY;
+    /** 색인 다시 만들기는 한 번에 하나만 */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * 음식 이름으로 검색합니다.
+     * @param query     검색어
+     * @param category  식품대분류명 (없으면 전체)
+     * @param limit     최대 결과 수 (1 ~ 50, 범위를 벗어나면 보정)
+     * @return          랭킹 순서로 정렬된 검색 결과
+     */
+    public List<FoodSearchResultDto> search(String query, String category, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        return index.search(query, StringUtils.hasText(category) ? category : null, size);
+    }
+
+    /**
+     * foods 테이블 전체를 읽어서 검색 인덱스를 새로 만듭니다.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            FoodSearchIndex.Builder builder = new FoodSearchIndex.Builder();
+            foodMapper.scanAll(context -> {
+                Food food = context.getResultObject();
+                builder.add(food.getFoodCode(), food.getFoodName(), food.getCategory());
+            });
+            index = builder.build();
+            log.info("음식 검색 인덱스 생성 완료: {}건 ({}ms)", index.size(), System.currentTimeMillis() - start);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (DataAccessException e) {
+            // 인덱스가 없어도 서버는 떠야 하므로, 다음 배치 완료 시 다시 시도
+            log.error("음식 검색 인덱스 생성 실패", e);
+        }
+    }
+
+    /**
+     * 이벤트는 같은 스레드에서 Listener마다 차례로 처리되고, 한 Listener가 예외를 던지면 나머지는 호출되지 않으므로
+     *      실패는 여기서 로그만 남깁니다. (기존 인덱스로 계속 검색하고, 다음 배치 완료 시 다시 시도)
+     */
+    @EventListener
+    public void onFoodImportCompleted(FoodImportCompletedEvent event) {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("음식 등록 후 검색 인덱스 갱신 실패: {}", event.getJobName(), e);
+        }
+    }
+}
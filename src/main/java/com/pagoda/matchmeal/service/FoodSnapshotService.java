@@ -0,0 +1,163 @@
+package com.pagoda.matchmeal.service;
+
+import com.pagoda.matchmeal.batch.event.FoodImportCompletedEvent;
+import com.pagoda.matchmeal.common.exception.CustomException;
+import com.pagoda.matchmeal.common.exception.ErrorResponseCode;
+import com.pagoda.matchmeal.snapshot.FoodCatalogSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * [음식 카탈로그 스냅샷 서비스]
+ * - foods 테이블은 음식 등록 Job이 돌 때만 바뀌므로, Job이 성공할 때마다 카탈로그 전체를 한 번만 직렬화해서
+ *      gzip으로 압축한 파일(스냅샷)로 만들어 둡니다.
+ * - 다운로드 요청은 DB 조회나 직렬화 없이 이 파일을 그대로 보내기만 합니다. (FileTransferUtil의 sendfile 전송)
+ * - 파일 이름과 버전은 압축 전 내용의 해시이므로, 내용이 바뀌지 않은 재적재에서는 기존 스냅샷을 그대로 사용합니다.
+ * - 전송 중인 요청이 있을 수 있으므로 바로 이전 스냅샷 파일까지는 지우지 않고 남겨둡니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FoodSnapshotService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FoodExportService foodExportService;
+
+    /** 스냅샷 파일을 만들 디렉터리 */
+    @Value("${food.snapshot.dir:${java.io.tmpdir}/matchmeal-snapshot}")
+    private String snapshotDir;
+
+    private volatile FoodCatalogSnapshot snapshot;
+    /** 스냅샷 만들기는 한 번에 하나만 */
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    /**
+     * 현재 스냅샷을 반환합니다.
+     * @throws CustomException 아직 스냅샷이 없거나 파일이 사라졌으면 FOOD_SNAPSHOT_NOT_READY
+     */
+    public FoodCatalogSnapshot getSnapshot() {
+        FoodCatalogSnapshot current = snapshot;
+        if (current == null || !Files.isReadable(current.getPath())) {
+            throw new CustomException(ErrorResponseCode.FOOD_SNAPSHOT_NOT_READY);
+        }
+        return current;
+    }
+
+    /**
+     * 카탈로그 전체를 직렬화해서 새 스냅샷 파일을 만들고 현재 스냅샷으로 바꿉니다.
+     * @return  현재 스냅샷 (내용이 같으면 기존 스냅샷)
+     */
+    public FoodCatalogSnapshot publish() {
+        publishLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            Path dir = Paths.get(snapshotDir);
+            Files.createDirectories(dir);
+            Path temp = Files.createTempFile(dir, FoodCatalogSnapshot.FILE_PREFIX, ".tmp");
+            try {
+                MessageDigest digest = sha256();
+                long foodCount;
+                try (OutputStream out = new DigestOutputStream(
+                        new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), digest)) {
+                    foodCount = foodExportService.export(out);
+                }
+                String version = HexFormat.of().formatHex(digest.digest());
+
+                FoodCatalogSnapshot previous = snapshot;
+                if (previous != null && previous.getVersion().equals(version) && Files.isReadable(previous.getPath())) {
+                    log.info("음식 카탈로그 스냅샷 변경 없음: {} ({}건)", version, foodCount);
+                    return previous;
+                }
+
+                Path target = dir.resolve(FoodCatalogSnapshot.fileName(version));
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                FoodCatalogSnapshot created = new FoodCatalogSnapshot(version, target, Files.size(target), foodCount, Instant.now());
+                snapshot = created;
+                deleteOldSnapshots(dir, created, previous);
+                log.info("음식 카탈로그 스냅샷 생성 완료: {} ({}건, {} 바이트, {}ms)",
+                        version, foodCount, created.getSize(), System.currentTimeMillis() - start);
+                return created;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("음식 카탈로그 스냅샷을 만들 수 없습니다: " + snapshotDir, e);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            publish();
+        } catch (DataAccessException | UncheckedIOException e) {
+            // 스냅샷이 없어도 서버는 떠야 하므로, 다음 배치 완료 시 다시 시도
+            log.error("음식 카탈로그 스냅샷 생성 실패", e);
+        }
+    }
+
+    /**
+     * 성공한 Job이 끝났을 때만 새 스냅샷을 만듭니다.
+     * - 실패/중단된 Job은 일부 Chunk만 반영된 상태이므로, 그 내용으로 직전 스냅샷을 밀어내지 않습니다. (다음 성공 시 갱신)
+     * - 실패해도 다른 Listener가 이어서 호출되도록 로그만 남깁니다. (기존 스냅샷을 계속 제공)
+     */
+    @EventListener
+    public void onFoodImportCompleted(FoodImportCompletedEvent event) {
+        if (event.getStatus() != BatchStatus.COMPLETED) {
+            log.warn("음식 등록 Job이 성공하지 않아 카탈로그 스냅샷을 유지합니다: {} ({})", event.getJobName(), event.getStatus());
+            return;
+        }
+        try {
+            publish();
+        } catch (RuntimeException e) {
+            log.error("음식 등록 후 카탈로그 스냅샷 생성 실패: {}", event.getJobName(), e);
+        }
+    }
+
+    /**
+     * 현재/직전 스냅샷을 제외한 스냅샷 파일을 지웁니다.
+     */
+    private void deleteOldSnapshots(Path dir, FoodCatalogSnapshot current, FoodCatalogSnapshot previous) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir,
+                FoodCatalogSnapshot.FILE_PREFIX + "*" + FoodCatalogSnapshot.FILE_SUFFIX)) {
+            for (Path file : files) {
+                if (file.equals(current.getPath()) || (previous != null && file.equals(previous.getPath()))) {
+                    continue;
+                }
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.pagoda.matchmeal.service;
+
+import com.pagoda.matchmeal.common.exception.CustomException;
+import com.pagoda.matchmeal.common.exception.ErrorResponseCode;
+import com.pagoda.matchmeal.meal.MealMatchQuery;
+import com.pagoda.matchmeal.meal.MealMatchResult;
+import com.pagoda.matchmeal.meal.MealMatcher;
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import com.pagoda.matchmeal.model.dto.MealMatchRequestDto;
+import com.pagoda.matchmeal.model.dto.MealMatchResponseDto;
+import com.pagoda.matchmeal.nutrition.FoodNutritionStore;
+import com.pagoda.matchmeal.nutrition.Nutrient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [식단 조합 추천 서비스]
+ * - 메모리 컬럼 저장소(FoodNutritionStore)에서 목표 영양성분에 가장 가까운 음식 조합을 찾습니다.
+ * - 실제 탐색은 MealMatcher가 담당하고, 이 서비스는 요청 검증/기본값 처리와 응답 변환을 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MealMatchService {
+
+    public static final int DEFAULT_ITEM_COUNT = 3;
+    public static final int DEFAULT_RESULT_COUNT = 5;
+
+    private final FoodNutritionService foodNutritionService;
+
+    /** 요청에 시간 제한이 없을 때 사용할 기본 탐색 시간 */
+    @Value("${meal.match.time-budget-ms:40}")
+    private int defaultTimeBudgetMs;
+
+    /** 탐색 대상으로 남길 최대 (음식, 배수) 후보 수 (클수록 정확하지만 느림) */
+    @Value("${meal.match.candidate-limit:500}")
+    private int candidateLimit;
+
+    /**
+     * 목표 영양성분에 맞는 식단 조합을 추천합니다.
+     * @param request   목표 영양성분과 조건
+     * @return          추천 조합 목록
+     * @throws CustomException 목표 영양성분이 하나도 없으면 INVALID_MEAL_TARGET
+     */
+    public MealMatchResponseDto match(MealMatchRequestDto request) {
+        double[] targets = new double[Nutrient.COUNT];
+        targets[Nutrient.CALORIES.ordinal()] = orNaN(request.getTargetCalories());
+        targets[Nutrient.PROTEIN.ordinal()] = orNaN(request.getTargetProtein());
+        targets[Nutrient.FAT.ordinal()] = orNaN(request.getTargetFat());
+        targets[Nutrient.CARBOHYDRATE.ordinal()] = orNaN(request.getTargetCarbohydrate());
+        boolean hasTarget = false;
+        for (double target : targets) {
+            hasTarget |= !Double.isNaN(target);
+        }
+        if (!hasTarget) {
+            throw new CustomException(ErrorResponseCode.INVALID_MEAL_TARGET);
+        }
+
+        FoodNutritionStore store = foodNutritionService.getStore();
+        int[] categoryIds = null;
+        if (request.getCategories() != null && !request.getCategories().isEmpty()) {
+            // 없는 분류는 무시 (모두 없는 분류면 추천 결과 없음)
+            categoryIds = request.getCategories().stream()
+                    .mapToInt(store::categoryId)
+                    .filter(id -> id >= 0)
+                    .toArray();
+            if (categoryIds.length == 0) {
+                return new MealMatchResponseDto(List.of(), true);
+            }
+        }
+
+        MealMatchQuery query = MealMatchQuery.builder()
+                .targets(targets)
+                .itemCount(request.getItemCount() == null ? DEFAULT_ITEM_COUNT : request.getItemCount())
+                .categoryIds(categoryIds)
+                .servingMultiples(request.getServingMultiples() == null || request.getServingMultiples().isEmpty()
+                        ? new double[]{1.0}
+                        : request.getServingMultiples().stream().mapToDouble(Double::doubleValue).distinct().toArray())
+                .resultCount(request.getResultCount() == null ? DEFAULT_RESULT_COUNT : request.getResultCount())
+                .candidateLimit(candidateLimit)
+                .timeBudget(Duration.ofMillis(request.getTimeBudgetMs() == null ? defaultTimeBudgetMs : request.getTimeBudgetMs()))
+                .build();
+
+        MealMatchResult result = MealMatcher.match(store, query);
+        if (!result.isComplete()) {
+            log.debug("식단 조합 탐색 시간 초과 - 중간 결과 반환 (방문 노드: {})", result.getVisitedNodes());
+        }
+        return toResponse(store, result);
+    }
+
+    private MealMatchResponseDto toResponse(FoodNutritionStore store, MealMatchResult result) {
+        List<MealMatchResponseDto.Combination> combinations = new ArrayList<>(result.getCombinations().size());
+        for (MealMatchResult.Combination combination : result.getCombinations()) {
+            List<MealMatchResponseDto.Item> items = new ArrayList<>(combination.getRows().length);
+            double calories = 0;
+            double protein = 0;
+            double fat = 0;
+            double carbohydrate = 0;
+            for (int i = 0; i < combination.getRows().length; i++) {
+                FoodResponseDto food = store.toResponse(combination.getRows()[i]);
+                double multiple = combination.getMultiples()[i];
+                MealMatchResponseDto.Item item = new MealMatchResponseDto.Item(
+                        food.getFoodCode(), food.getFoodName(), food.getCategory(), multiple,
+                        food.getServingSize() * multiple, food.getUnit(),
+                        food.getCalories() * multiple, food.getProtein() * multiple,
+                        food.getFat() * multiple, food.getCarbohydrate() * multiple);
+                items.add(item);
+                calories += item.getCalories();
+                protein += item.getProtein();
+                fat += item.getFat();
+                carbohydrate += item.getCarbohydrate();
+            }
+            combinations.add(new MealMatchResponseDto.Combination(
+                    combination.getScore(), items, calories, protein, fat, carbohydrate));
+        }
+        return new MealMatchResponseDto(combinations, result.isComplete());
+    }
+
+    private static double orNaN(Double value) {
+        return value == null ? Double.NaN : value;
+    }
+}
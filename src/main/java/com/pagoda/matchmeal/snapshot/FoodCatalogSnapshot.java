@@ -0,0 +1,45 @@
+package com.pagoda.matchmeal.snapshot;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * [음식 카탈로그 스냅샷 정보]
+ * - 미리 직렬화해서 gzip으로 압축해 둔 카탈로그(NDJSON) 파일 한 개를 가리킵니다.
+ * - version은 압축 전 내용의 SHA-256 해시이므로, 내용이 같으면 몇 번을 다시 만들어도 같은 값입니다.
+ * - 생성 이후 값이 바뀌지 않으므로 여러 스레드에서 공유해도 안전합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FoodCatalogSnapshot {
+
+    public static final String FILE_PREFIX = "foods-";
+    public static final String FILE_SUFFIX = ".ndjson.gz";
+
+    private final String version;     // 내용 해시 (hex)
+    private final Path path;          // 스냅샷 파일 경로
+    private final long size;          // 파일 크기 (압축 후 바이트)
+    private final long foodCount;     // 담긴 음식 건수
+    private final Instant createdAt;  // 생성 시각
+
+    /**
+     * 응답에 사용할 ETag (내용 해시가 곧 버전이고 표현도 항상 같으므로 강한 ETag)
+     */
+    public String getEtag() {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * 다운로드 파일 이름 (예: foods-1a2b....ndjson.gz)
+     */
+    public String getFileName() {
+        return fileName(version);
+    }
+
+    public static String fileName(String version) {
+        return FILE_PREFIX + version + FILE_SUFFIX;
+    }
+}
@@ -7,14 +7,80 @@ CREATE TABLE IF NOT EXISTS foods (
        food_code    VARCHAR(50) NOT NULL,               -- 비즈니스 식별자
        food_name    VARCHAR(255) NOT NULL,
        category     VARCHAR(100),
-       serving_size DOUBLE,
+       serving_size DOUBLE,                             -- 기준 단위(g, ml)로 환산한 1회 제공량
        unit         VARCHAR(10) DEFAULT 'g',
+       serving_size_text VARCHAR(100),                  -- 1회 제공량 원본 표기 (예: '1/2컵')
        calories     DOUBLE,
        protein      DOUBLE,
        fat          DOUBLE,
        carbohydrate DOUBLE,
+       calories_per_100     DOUBLE,                     -- 100g(ml)당 에너지 (개수 단위 등 계산할 수 없으면 NULL)
+       protein_per_100      DOUBLE,
+       fat_per_100          DOUBLE,
+       carbohydrate_per_100 DOUBLE,
+       protein_per_100kcal  DOUBLE,                     -- 100kcal당 단백질(g) (열량이 0이면 NULL)
+       content_hash BIGINT,                             -- 내용 해시 (delta 배치에서 변경 여부 판단용)
        created_at   DATETIME DEFAULT CURRENT_TIMESTAMP,
        updated_at   DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
-       UNIQUE INDEX idx_food_code (food_code)  -- ★ 핵심: 코드로 조회할 때 빠르게!
-);
\ No newline at end of file
+       UNIQUE INDEX idx_food_code (food_code),  -- ★ 핵심: 코드로 조회할 때 빠르게!
+       INDEX idx_category_food_id (category, food_id),  -- 분류별 커서 페이지네이션 (정렬 없이 범위 스캔)
+       -- 분류별 밀도 순위 (Top-N): 인덱스만 읽어서 food_id N개를 고른 뒤 그 행만 읽음
+       INDEX idx_category_calories_per_100 (category, calories_per_100, food_id),
+       INDEX idx_category_protein_per_100kcal (category, protein_per_100kcal, food_id)
+);
+
+-- 전체 재적재(foodStagingJob)용 스테이징 테이블
+-- 보조 인덱스 없이(식품코드 기본 키만) 적재만 빠르게 끝낸 뒤, 한 번의 INSERT ... SELECT ... ON DUPLICATE KEY UPDATE 로 foods에 병합합니다.
+CREATE TABLE IF NOT EXISTS foods_staging (
+       food_code    VARCHAR(50) NOT NULL PRIMARY KEY, -- CSV에 같은 코드가 여러 번 나오면 마지막 행만 남김 (foodJob의 행 단위 Upsert와 같은 결과)
+       food_name    VARCHAR(255) NOT NULL,
+       category     VARCHAR(100),
+       serving_size DOUBLE,
+       unit         VARCHAR(10),
+       serving_size_text VARCHAR(100),
+       calories     DOUBLE,
+       protein      DOUBLE,
+       fat          DOUBLE,
+       carbohydrate DOUBLE,
+       calories_per_100     DOUBLE,
+       protein_per_100      DOUBLE,
+       fat_per_100          DOUBLE,
+       carbohydrate_per_100 DOUBLE,
+       protein_per_100kcal  DOUBLE,
+       content_hash BIGINT
+);
+
+-- 배치 Job 실행 임대(lease) 테이블
+-- 여러 서버 중 한 대만 음식 등록 Job을 실행하도록, 임대를 가진 서버(owner)와 만료 시각을 기록합니다.
+-- fencing_token은 임대를 새로 얻을 때마다 1씩 늘어나므로, 임대를 잃은 서버의 뒤늦은 쓰기를 막는 데 사용합니다.
+CREATE TABLE IF NOT EXISTS batch_job_lease (
+       lease_name    VARCHAR(100) NOT NULL PRIMARY KEY,
+       owner         VARCHAR(200),                 -- 임대를 가진 서버 (없으면 NULL)
+       job_execution_id BIGINT,                    -- 임대를 가진 Job 실행 (원격 Worker가 같은 실행인지 확인하는 데 사용)
+       fencing_token BIGINT NOT NULL DEFAULT 0,
+       expires_at    DATETIME(3),                  -- 이 시각까지 heartbeat가 없으면 다른 서버가 가져갈 수 있음
+       heartbeat_at  DATETIME(3),
+       last_status   VARCHAR(20),                  -- 마지막으로 반납한 Job의 결과 (COMPLETED, FAILED ...)
+       released_at   DATETIME(3)
+);
+
+-- 원격 파티셔닝(foodRemotePartitionedJob) 작업 큐
+-- Manager가 파티션(Worker StepExecution)마다 한 행을 넣으면, 각 서버의 Worker가 PENDING 행을 하나씩 가져가서 실행합니다.
+CREATE TABLE IF NOT EXISTS batch_partition_task (
+       task_id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+       job_execution_id  BIGINT NOT NULL,
+       step_execution_id BIGINT NOT NULL,
+       step_name         VARCHAR(100) NOT NULL,      -- 실행할 Worker Step 이름
+       status            VARCHAR(20) NOT NULL,       -- PENDING, RUNNING, COMPLETED, FAILED
+       worker            VARCHAR(200),               -- 실행 중인 서버
+       attempt           INT NOT NULL DEFAULT 0,     -- 지금까지 가져간 횟수 (재분배 포함)
+       read_count        BIGINT NOT NULL DEFAULT 0,  -- 진행 상황 (heartbeat마다 갱신)
+       write_count       BIGINT NOT NULL DEFAULT 0,
+       heartbeat_at      DATETIME(3),
+       error             VARCHAR(1000),
+
+       UNIQUE INDEX idx_partition_task_step (step_execution_id),
+       INDEX idx_partition_task_status (status, task_id),            -- Worker가 PENDING 작업을 찾을 때
+       INDEX idx_partition_task_job (job_execution_id, status)       -- Manager가 진행 상황을 볼 때
+);
@@ -1,18 +1,32 @@
 package com.pagoda.matchmeal;
 
+import com.pagoda.matchmeal.batch.delta.FoodDeltaProcessor;
+import com.pagoda.matchmeal.batch.partition.PartitionTaskWorker;
+import com.pagoda.matchmeal.cache.FoodCacheTestConfig;
+import com.pagoda.matchmeal.feed.FoodChange;
+import com.pagoda.matchmeal.feed.InMemoryFoodChangeStream;
 import com.pagoda.matchmeal.mapper.FoodBatchMapper;
 import com.pagoda.matchmeal.model.entity.Food;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,6 +34,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 @SpringBootTest(
         webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT) // 스프링 컨텍스트 전체 로드 (통합 테스트)
 @ActiveProfiles("test") // application-test.yml 설정을 사용
+@Import(FoodCacheTestConfig.class) // Redis 대신 메모리 캐시 사용
+@TestPropertySource(properties = "batch.food.writer.mode=batch") // 기본 Writer(MyBatisBatchItemWriter, BATCH 실행기)
 class FoodImportJobTest {
 
     @Autowired
@@ -28,9 +44,27 @@ class FoodImportJobTest {
     @Autowired
     private Job foodJob; // BatchConfig에서 Bean으로 등록한 Job 이름
 
+    @Autowired
+    private Job foodStagingJob; // 스테이징 테이블 재적재 Job
+
+    @Autowired
+    private Job foodPartitionedJob; // CSV 라인 범위별 파티셔닝 Job
+
+    @Autowired
+    private Job foodRemotePartitionedJob; // DB 작업 큐로 파티션을 나눠 실행하는 Job
+
+    @Autowired
+    private PartitionTaskWorker foodPartitionTaskWorker; // 기본값은 꺼짐 (batch.food.remote.worker.enabled=false)
+
     @Autowired
     private FoodBatchMapper foodMapper; // DB에 잘 들어갔는지 확인할 매퍼
 
+    @Autowired
+    private InMemoryFoodChangeStream foodChangeStream; // 발행된 변경 피드 확인용
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("음식 CSV 데이터가 H2 DB로 정상적으로 들어가는지 확인")
     void foodBatchTest() throws Exception {
@@ -49,20 +83,189 @@ class FoodImportJobTest {
         assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
 
         // 2. 실제 DB(H2)에 데이터가 들어갔는지 확인
-        // (FoodBatchMapper에 count 쿼리가 없다면 임시로 selectAll().size() 등으로 확인 가능하지만,
-        //  보통 테스트용으로 갯수 세는 메소드를 하나 만들거나, 특정 데이터 조회를 시도합니다.)
-        
-        // 예시: 매퍼에 쿼리가 없다고 가정하고 간단한 검증 (실제로는 매퍼에 메소드가 있어야 함)
-        // int count = foodMapper.countAll(); 
-        // assertThat(count).isGreaterThan(0); 
-        
-        System.out.println("====== 배치 테스트 성공! Status: " + jobExecution.getExitStatus());
-
         List<Food> foods = foodMapper.findAll();
-        System.out.println("===== 저장된 데이터 확인 (" + foods.size() + "개) =====");
-        for (Food food : foods) {
-            System.out.println("음식명: " + food.getFoodName() + " / 제공량: " + food.getServingSize() + "/ 단위: " + food.getUnit() + " / 칼로리: " + food.getCalories() + " / 탄수화물: " + food.getCarbohydrate() + " / 지방: " + food.getFat() + " / 단백질: " + food.getProtein());
+        assertThat(foods).isNotEmpty();
+        assertThat(foodMapper.countAll()).isEqualTo(foods.size());
+
+        // 3. 필수 값이 채워지고 숫자 컬럼이 음수가 아닌지 확인 (변환 실패 값은 0.0으로 대체됨)
+        assertThat(foods).allSatisfy(food -> {
+            assertThat(food.getFoodCode()).isNotBlank();
+            assertThat(food.getFoodName()).isNotBlank();
+            assertThat(food.getCalories()).isGreaterThanOrEqualTo(0.0);
+            assertThat(food.getCarbohydrate()).isGreaterThanOrEqualTo(0.0);
+            assertThat(food.getFat()).isGreaterThanOrEqualTo(0.0);
+            assertThat(food.getProtein()).isGreaterThanOrEqualTo(0.0);
+        });
+    }
+
+    @Test
+    @DisplayName("파티셔닝 Job은 바이트 위치로 나눈 범위 경계에서 줄을 빠뜨리거나 두 번 읽지 않고, 단일 Step Job과 같은 음식을 저장한다")
+    void foodPartitionedJobMatchesSingleStepJob() throws Exception {
+        // given: 단일 Step Job의 결과
+        jdbcTemplate.update("DELETE FROM foods");
+        JobExecution single = jobLauncher.run(foodJob, new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters());
+        assertThat(single.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+        List<String> singleCodes = jdbcTemplate.queryForList("SELECT food_code FROM foods ORDER BY food_code", String.class);
+        long singleRead = totalRead(single, "foodStep");
+
+        // when: 범위 경계가 줄 경계와 맞지 않도록 홀수 개 파티션으로 나눠서 실행
+        jdbcTemplate.update("DELETE FROM foods");
+        JobExecution partitioned = jobLauncher.run(foodPartitionedJob, new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .addLong("partitionCount", 7L)
+                .toJobParameters());
+
+        // then
+        assertThat(partitioned.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+        assertThat(partitioned.getStepExecutions().stream()
+                .filter(step -> step.getStepName().startsWith("foodWorkerStep:")))
+                .hasSize(7);
+        assertThat(totalRead(partitioned, "foodWorkerStep:")).isEqualTo(singleRead); // 빠뜨리거나 두 번 읽은 줄 없음
+        assertThat(foodMapper.countAll()).isEqualTo(singleCodes.size());
+        assertThat(jdbcTemplate.queryForList("SELECT food_code FROM foods ORDER BY food_code", String.class))
+                .isEqualTo(singleCodes);
+    }
+
+    @Test
+    @DisplayName("원격 파티셔닝 Job은 Worker가 작업 큐에서 가져가 실행하고, 단일 Step Job과 같은 음식을 저장한다")
+    void foodRemotePartitionedJobWithWorker() throws Exception {
+        // given: 단일 Step Job의 결과
+        jdbcTemplate.update("DELETE FROM foods");
+        JobExecution single = jobLauncher.run(foodJob, new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters());
+        List<String> singleCodes = jdbcTemplate.queryForList("SELECT food_code FROM foods ORDER BY food_code", String.class);
+        long singleRead = totalRead(single, "foodStep");
+
+        // when: 이 서버를 Worker로 참여시킨 뒤 실행 (Manager는 테스트 스레드에서 큐를 확인하며 기다림)
+        jdbcTemplate.update("DELETE FROM foods");
+        foodPartitionTaskWorker.start();
+        JobExecution remote;
+        try {
+            remote = jobLauncher.run(foodRemotePartitionedJob, new JobParametersBuilder()
+                    .addLong("time", System.currentTimeMillis())
+                    .addLong("partitionCount", 3L)
+                    .toJobParameters());
+        } finally {
+            foodPartitionTaskWorker.stop();
         }
-        System.out.println(foodMapper.countAll());
+
+        // then
+        assertThat(remote.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT status FROM batch_partition_task WHERE job_execution_id = ?", String.class, remote.getId()))
+                .containsOnly("COMPLETED")
+                .hasSize(3);
+        // Worker StepExecution은 다른 객체로 실행되므로, PartitionStep이 합산한 Manager Step 건수로 확인
+        assertThat(totalRead(remote, "foodRemoteManagerStep")).isEqualTo(singleRead);
+        assertThat(jdbcTemplate.queryForList("SELECT food_code FROM foods ORDER BY food_code", String.class))
+                .isEqualTo(singleCodes);
+    }
+
+    @Test
+    @DisplayName("스테이징 재적재 Job이 CSV를 스테이징 테이블에 적재한 뒤 foods로 병합한다")
+    void foodStagingJobTest() throws Exception {
+        // given
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        // when
+        JobExecution jobExecution = jobLauncher.run(foodStagingJob, jobParameters);
+
+        // then
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+        assertThat(foodMapper.countAll()).isGreaterThan(0);
+        assertThat(foodMapper.countStaging()).isZero(); // 성공하면 스테이징 테이블은 비워짐
+    }
+
+    @Test
+    @DisplayName("CSV에 같은 식품코드가 여러 번 나오면 스테이징 재적재는 마지막 행으로 한 번만 병합하고, 건수와 변경 피드도 한 번만 센다")
+    void foodStagingJob_duplicatedCode(@TempDir Path tempDir) throws Exception {
+        // given
+        jdbcTemplate.update("DELETE FROM foods WHERE food_code IN ('T900001', 'T900002')");
+        Path csv = tempDir.resolve("duplicated.csv");
+        Files.write(csv, List.of(
+                "header",
+                csvLine("T900001", "중복_처음", "100"),
+                csvLine("T900002", "단독", "200"),
+                csvLine("T900001", "중복_마지막", "150")), StandardCharsets.UTF_8);
+        int streamSizeBefore = foodChangeStream.size();
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .addString("inputFile", csv.toString())
+                .toJobParameters();
+
+        // when
+        JobExecution jobExecution = jobLauncher.run(foodStagingJob, jobParameters);
+
+        // then
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+        StepExecution mergeStep = jobExecution.getStepExecutions().stream()
+                .filter(step -> step.getStepName().equals("foodStagingMergeStep"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(mergeStep.getWriteCount()).isEqualTo(2);
+        assertThat(mergeStep.getExecutionContext().getLong(FoodDeltaProcessor.INSERTED_COUNT_KEY)).isEqualTo(2);
+        assertThat(mergeStep.getExecutionContext().getLong(FoodDeltaProcessor.UPDATED_COUNT_KEY)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT food_name FROM foods WHERE food_code = 'T900001'", String.class))
+                .isEqualTo("중복_마지막");
+        List<String> changedCodes = foodChangeStream.read(streamSizeBefore + "-0", foodChangeStream.size()).stream()
+                .flatMap(batch -> batch.getChanges().stream())
+                .map(FoodChange::getFoodCode)
+                .toList();
+        assertThat(changedCodes).containsExactlyInAnyOrder("T900001", "T900002");
+    }
+
+    @Test
+    @DisplayName("BATCH 실행기 Writer와 같은 트랜잭션에서 저장 전 값을 읽어도 Job이 성공하고, 변경 피드가 발행된다")
+    void foodJobPublishesChangeFeed() throws Exception {
+        // given: 모든 행이 새로 추가되도록 비움
+        jdbcTemplate.update("DELETE FROM foods");
+        int streamSizeBefore = foodChangeStream.size();
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        // when
+        JobExecution jobExecution = jobLauncher.run(foodJob, jobParameters);
+
+        // then
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+        long written = jobExecution.getStepExecutions().stream().mapToLong(StepExecution::getWriteCount).sum();
+        int published = foodChangeStream.read(streamSizeBefore + "-0", foodChangeStream.size()).stream()
+                .mapToInt(batch -> batch.getChanges().size())
+                .sum();
+        assertThat(written).isPositive();
+        assertThat(published).isPositive().isLessThanOrEqualTo((int) written); // CSV 안에서 같은 식품코드가 다시 나오면 변경 없음
+    }
+
+    /**
+     * 음식 공공데이터 CSV 형식의 한 줄 (0:코드, 1:이름, 7:대분류, 16:기준량, 17:에너지, 19:단백질, 20:지방, 22:탄수화물)
+     */
+    private static String csvLine(String code, String name, String calories) {
+        String[] columns = new String[24];
+        Arrays.fill(columns, "x");
+        columns[0] = code;
+        columns[1] = name;
+        columns[7] = "테스트류";
+        columns[16] = "100g";
+        columns[17] = calories;
+        columns[19] = "1";
+        columns[20] = "1";
+        columns[22] = "1";
+        return String.join(",", columns);
+    }
+
+    /**
+     * 이름이 stepNamePrefix로 시작하는 Step들이 읽은 줄 수 (건너뛴 줄 포함)
+     */
+    private static long totalRead(JobExecution jobExecution, String stepNamePrefix) {
+        return jobExecution.getStepExecutions().stream()
+                .filter(step -> step.getStepName().startsWith(stepNamePrefix))
+                .mapToLong(step -> step.getReadCount() + step.getReadSkipCount())
+                .sum();
     }
-}
\ No newline at end of file
+}
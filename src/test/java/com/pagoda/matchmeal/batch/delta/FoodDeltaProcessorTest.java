@@ -0,0 +1,104 @@
+package com.pagoda.matchmeal.batch.delta;
+
+import com.pagoda.matchmeal.mapper.FoodBatchMapper;
+import com.pagoda.matchmeal.model.dto.FoodContentHashDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import com.pagoda.matchmeal.model.entity.FoodChangeType;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FoodDeltaProcessorTest {
+
+    private static final Food KIMCHI = food("D000001", "김치", 30.0);
+    private static final Food BIBIMBAP = food("D000002", "비빔밥", 550.0);
+
+    @Test
+    @DisplayName("delta 모드: 새 음식은 INSERT, 바뀐 음식은 UPDATE, 같은 음식은 걸러짐(null)")
+    void deltaMode() {
+        // given - DB에는 김치(동일)와 비빔밥(칼로리 변경 전)이 있음
+        FoodDeltaProcessor processor = new FoodDeltaProcessor(snapshotOf(
+                KIMCHI,
+                food("D000002", "비빔밥", 500.0)));
+
+        // when & then
+        assertThat(processor.process(KIMCHI)).isNull();
+        assertThat(processor.process(BIBIMBAP).getChangeType()).isEqualTo(FoodChangeType.UPDATE);
+        assertThat(processor.process(food("D000003", "된장찌개", 120.0)).getChangeType()).isEqualTo(FoodChangeType.INSERT);
+
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        processor.afterStep(stepExecution);
+        assertThat(stepExecution.getExecutionContext().getLong(FoodDeltaProcessor.INSERTED_COUNT_KEY)).isEqualTo(1);
+        assertThat(stepExecution.getExecutionContext().getLong(FoodDeltaProcessor.UPDATED_COUNT_KEY)).isEqualTo(1);
+        assertThat(stepExecution.getExecutionContext().getLong(FoodDeltaProcessor.UNCHANGED_COUNT_KEY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("해시가 없던 예전 행은 항상 변경된 것으로 봄")
+    void legacyRowWithoutHash() {
+        FoodBatchMapper mapper = mock(FoodBatchMapper.class);
+        answerHashes(mapper, List.of(new FoodContentHashDto(KIMCHI.getFoodCode(), null)));
+
+        FoodDeltaProcessor processor = new FoodDeltaProcessor(new FoodContentHashSnapshot(mapper));
+
+        assertThat(processor.process(KIMCHI).getChangeType()).isEqualTo(FoodChangeType.UPDATE);
+    }
+
+    @Test
+    @DisplayName("full 모드(스냅샷 없음): 모든 행을 그대로 통과시킴")
+    void fullMode() {
+        FoodDeltaProcessor processor = new FoodDeltaProcessor(null);
+
+        assertThat(processor.process(KIMCHI)).isSameAs(KIMCHI);
+
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        processor.afterStep(stepExecution);
+        assertThat(stepExecution.getExecutionContext().containsKey(FoodDeltaProcessor.INSERTED_COUNT_KEY)).isFalse();
+        assertThat(stepExecution.getExecutionContext().containsKey(FoodDeltaProcessor.WRITTEN_COUNT_KEY)).isTrue();
+    }
+
+    private static FoodContentHashSnapshot snapshotOf(Food... foods) {
+        FoodBatchMapper mapper = mock(FoodBatchMapper.class);
+        answerHashes(mapper, Arrays.stream(foods)
+                .map(food -> new FoodContentHashDto(food.getFoodCode(), food.getContentHash()))
+                .toList());
+        return new FoodContentHashSnapshot(mapper);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void answerHashes(FoodBatchMapper mapper, List<FoodContentHashDto> rows) {
+        doAnswer(invocation -> {
+            ResultHandler<FoodContentHashDto> handler = invocation.getArgument(0);
+            for (FoodContentHashDto row : rows) {
+                ResultContext<FoodContentHashDto> context = mock(ResultContext.class);
+                when(context.getResultObject()).thenReturn(row);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(mapper).findAllContentHashes(any());
+    }
+
+    private static Food food(String foodCode, String foodName, double calories) {
+        return Food.builder()
+                .foodCode(foodCode)
+                .foodName(foodName)
+                .category("반찬류")
+                .servingSize(100.0)
+                .unit("g")
+                .calories(calories)
+                .contentHash(FoodContentHasher.hash(foodName, "반찬류", "g", 100.0, null, calories, 0.0, 0.0, 0.0))
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.pagoda.matchmeal.batch.lease;
+
+import com.pagoda.matchmeal.batch.event.FoodImportCompletedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobLeaseListenerTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final JobLeaseRepository jobLeaseRepository = mock(JobLeaseRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final JobLeaseListener listener = new JobLeaseListener(
+            jobLeaseRepository, eventPublisher, "food-import", "node-a", TTL);
+
+    @AfterEach
+    void tearDown() {
+        listener.close();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 임대를 가지고 있으면 Step을 실행하지 않고 LEASE_HELD로 끝냄")
+    void rejected() {
+        when(jobLeaseRepository.tryAcquire(eq("food-import"), anyString(), anyLong(), eq(TTL))).thenReturn(null);
+        when(jobLeaseRepository.find("food-import")).thenReturn(new JobLease("food-import", "node-b#7", 3, false, null));
+        JobExecution jobExecution = jobExecution(1L);
+
+        listener.beforeJob(jobExecution);
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.STOPPING);
+        assertThat(JobLeaseListener.isRejected(jobExecution)).isTrue();
+
+        listener.afterJob(jobExecution);
+        assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(JobLeaseListener.LEASE_HELD_EXIT_CODE);
+    }
+
+    @Test
+    @DisplayName("임대를 잃으면 쓰기 트랜잭션에서 예외를 던지고, Job이 끝나면 반납")
+    void fencing() {
+        JobLease lease = new JobLease("food-import", "node-a#1", 5, false, null);
+        when(jobLeaseRepository.tryAcquire("food-import", "node-a#1", 1L, TTL)).thenReturn(lease);
+        JobExecution jobExecution = jobExecution(1L);
+        ChunkContext chunkContext = new ChunkContext(new StepContext(new StepExecution("step", jobExecution)));
+
+        listener.beforeJob(jobExecution);
+        assertThat(jobExecution.getExecutionContext().getLong(JobLeaseListener.FENCING_TOKEN_KEY)).isEqualTo(5);
+
+        when(jobLeaseRepository.renew(lease, TTL)).thenReturn(true);
+        listener.beforeChunk(chunkContext);
+
+        when(jobLeaseRepository.renew(lease, TTL)).thenReturn(false);
+        assertThatThrownBy(() -> listener.beforeChunk(chunkContext))
+                .isInstanceOf(JobLeaseLostException.class);
+
+        jobExecution.setStatus(BatchStatus.FAILED);
+        listener.afterJob(jobExecution);
+        verify(jobLeaseRepository).release(any(JobLease.class), eq("FAILED"));
+    }
+
+    @Test
+    @DisplayName("다른 Listener의 afterJob 예외로 반납되지 않아도, Job이 끝나면 heartbeat가 반납하고 멈춤")
+    void releaseWhenAfterJobSkipped() {
+        Duration shortTtl = Duration.ofMillis(30);
+        JobLeaseListener shortLeaseListener = new JobLeaseListener(
+                jobLeaseRepository, mock(ApplicationEventPublisher.class), "food-import", "node-a", shortTtl);
+        JobLease lease = new JobLease("food-import", "node-a#2", 6, false, null);
+        when(jobLeaseRepository.tryAcquire("food-import", "node-a#2", 2L, shortTtl)).thenReturn(lease);
+        when(jobLeaseRepository.renew(lease, shortTtl)).thenReturn(true);
+        JobExecution jobExecution = jobExecution(2L);
+
+        try {
+            shortLeaseListener.beforeJob(jobExecution);
+            jobExecution.setStatus(BatchStatus.COMPLETED);
+            jobExecution.setEndTime(LocalDateTime.now()); // afterJob은 호출되지 않음
+
+            verify(jobLeaseRepository, timeout(1_000)).release(lease, "COMPLETED");
+        } finally {
+            shortLeaseListener.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Job을 실행하지 않은 서버도 다른 서버가 임대를 반납하면 이벤트를 발행하고, 같은 실행은 한 번만 발행")
+    void watchOtherNodes() {
+        when(jobLeaseRepository.find("food-import"))
+                .thenReturn(new JobLease("food-import", "node-b#7", 3, false, null))   // 시작 시 실행 중
+                .thenReturn(new JobLease("food-import", "node-b#7", 3, false, null))
+                .thenReturn(new JobLease("food-import", null, 3, false, "COMPLETED"))  // 반납
+                .thenReturn(new JobLease("food-import", null, 3, false, "COMPLETED"));
+
+        listener.watch();
+        listener.watch();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        listener.watch();
+        listener.watch();
+        ArgumentCaptor<FoodImportCompletedEvent> event = ArgumentCaptor.forClass(FoodImportCompletedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("이 서버가 실행하고 반납한 Job은 다시 발행하지 않음")
+    void watchSkipsOwnRelease() {
+        when(jobLeaseRepository.find("food-import")).thenReturn(new JobLease("food-import", null, 4, false, "COMPLETED"));
+        listener.watch(); // 기준: 4
+
+        JobLease lease = new JobLease("food-import", "node-a#1", 5, false, null);
+        when(jobLeaseRepository.tryAcquire("food-import", "node-a#1", 1L, TTL)).thenReturn(lease);
+        JobExecution jobExecution = jobExecution(1L);
+        listener.beforeJob(jobExecution);
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        listener.afterJob(jobExecution);
+
+        when(jobLeaseRepository.find("food-import")).thenReturn(new JobLease("food-import", null, 5, false, "COMPLETED"));
+        listener.watch();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("실행 중이던 서버가 죽어서 임대가 만료되어도 이벤트를 발행 (UNKNOWN)")
+    void watchExpired() {
+        when(jobLeaseRepository.find("food-import"))
+                .thenReturn(new JobLease("food-import", "node-b#7", 3, false, null))
+                .thenReturn(new JobLease("food-import", "node-b#7", 3, true, null));
+
+        listener.watch();
+        listener.watch();
+
+        ArgumentCaptor<FoodImportCompletedEvent> event = ArgumentCaptor.forClass(FoodImportCompletedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getStatus()).isEqualTo(BatchStatus.UNKNOWN);
+    }
+
+    private static JobExecution jobExecution(Long id) {
+        return new JobExecution(new JobInstance(id, "foodJob"), id, new JobParameters());
+    }
+}
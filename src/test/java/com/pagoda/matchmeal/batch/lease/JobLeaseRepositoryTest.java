@@ -0,0 +1,74 @@
+package com.pagoda.matchmeal.batch.lease;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobLeaseRepositoryTest {
+
+    private static final String LEASE = "food-import";
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private JobLeaseRepository jobLeaseRepository;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:lease-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jobLeaseRepository = new JobLeaseRepository(new JdbcTemplate(dataSource));
+    }
+
+    @Test
+    @DisplayName("비어 있는 임대는 가져오고, 다른 서버가 가진 임대는 가져오지 못함")
+    void acquire() {
+        JobLease lease = jobLeaseRepository.tryAcquire(LEASE, "node-a#1", 1L, TTL);
+
+        assertThat(lease).isNotNull();
+        assertThat(lease.getOwner()).isEqualTo("node-a#1");
+        assertThat(lease.getFencingToken()).isEqualTo(1);
+        assertThat(jobLeaseRepository.tryAcquire(LEASE, "node-b#1", 2L, TTL)).isNull();
+        assertThat(jobLeaseRepository.renew(lease, TTL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 임대는 다른 서버가 가져가고, 예전 서버는 갱신/반납할 수 없음 (fencing)")
+    void takeover() throws Exception {
+        JobLease stale = jobLeaseRepository.tryAcquire(LEASE, "node-a#1", 1L, Duration.ZERO);
+        Thread.sleep(20);
+
+        JobLease taken = jobLeaseRepository.tryAcquire(LEASE, "node-b#1", 2L, TTL);
+
+        assertThat(taken).isNotNull();
+        assertThat(taken.getFencingToken()).isEqualTo(stale.getFencingToken() + 1);
+        assertThat(jobLeaseRepository.renew(stale, TTL)).isFalse();
+        assertThat(jobLeaseRepository.renewForJob(LEASE, 1L, TTL)).isFalse();
+        assertThat(jobLeaseRepository.renewForJob(LEASE, 2L, TTL)).isTrue();
+
+        jobLeaseRepository.release(stale, "COMPLETED");
+        assertThat(jobLeaseRepository.find(LEASE).getOwner()).isEqualTo("node-b#1");
+    }
+
+    @Test
+    @DisplayName("반납하면 결과가 남고, 다음 실행이 다시 가져갈 수 있음")
+    void release() {
+        JobLease lease = jobLeaseRepository.tryAcquire(LEASE, "node-a#1", 1L, TTL);
+
+        jobLeaseRepository.release(lease, "COMPLETED");
+
+        JobLease released = jobLeaseRepository.find(LEASE);
+        assertThat(released.getOwner()).isNull();
+        assertThat(released.getLastStatus()).isEqualTo("COMPLETED");
+        assertThat(jobLeaseRepository.tryAcquire(LEASE, "node-b#2", 2L, TTL).getFencingToken()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,82 @@
+package com.pagoda.matchmeal.batch.listener;
+
+import com.pagoda.matchmeal.feed.FoodChange;
+import com.pagoda.matchmeal.model.entity.Food;
+import com.pagoda.matchmeal.model.entity.FoodChangeType;
+import com.pagoda.matchmeal.service.FoodChangeFeedService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.item.Chunk;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FoodChangeFeedListenerTest {
+
+    private static final Food KIMCHI = Food.builder().foodCode("D000001").foodName("김치").calories(30).build();
+    private static final Food RICE = Food.builder().foodCode("D000002").foodName("쌀밥").calories(150).build();
+
+    private FoodBeforeImageRepository foodBeforeImageRepository;
+    private FoodChangeFeedService foodChangeFeedService;
+    private FoodChangeFeedListener listener;
+
+    @BeforeEach
+    void setUp() {
+        foodBeforeImageRepository = mock(FoodBeforeImageRepository.class);
+        foodChangeFeedService = mock(FoodChangeFeedService.class);
+        listener = new FoodChangeFeedListener(foodBeforeImageRepository, foodChangeFeedService);
+        when(foodBeforeImageRepository.findByFoodCodes(any())).thenReturn(List.of(KIMCHI, RICE));
+    }
+
+    @Test
+    @DisplayName("저장 전 값과 비교한 변경 기록을 커밋 후에만 발행 (내용이 같은 행은 제외)")
+    void publishAfterCommit() {
+        Chunk<Food> chunk = new Chunk<>(
+                KIMCHI.toBuilder().calories(35).build(),
+                RICE,
+                Food.builder().foodCode("D000003").foodName("두부").build());
+
+        listener.beforeChunk(null);
+        listener.beforeWrite(chunk);
+        listener.afterWrite(chunk);
+        verify(foodChangeFeedService, never()).publish(anyList());
+
+        listener.afterChunk(null);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FoodChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(foodChangeFeedService).publish(captor.capture());
+        List<FoodChange> changes = captor.getValue();
+        assertThat(changes).extracting(FoodChange::getFoodCode).containsExactly("D000001", "D000003");
+        assertThat(changes).extracting(FoodChange::getOp).containsExactly(FoodChangeType.UPDATE, FoodChangeType.INSERT);
+        assertThat(changes.get(0).getChangedFields()).containsExactly("calories");
+    }
+
+    @Test
+    @DisplayName("저장이 실패하거나 Chunk가 롤백되면 발행하지 않음")
+    void discardOnRollback() {
+        Chunk<Food> chunk = new Chunk<>(KIMCHI.toBuilder().calories(35).build());
+
+        listener.beforeChunk(null);
+        listener.beforeWrite(chunk);
+        listener.onWriteError(new IllegalStateException("deadlock"), chunk);
+        listener.afterChunk(null);
+
+        listener.beforeChunk(null);
+        listener.beforeWrite(chunk);
+        listener.afterWrite(chunk);
+        listener.afterChunkError(null);
+        listener.afterChunk(null);
+
+        verify(foodChangeFeedService, never()).publish(anyList());
+    }
+}
@@ -0,0 +1,77 @@
+package com.pagoda.matchmeal.batch.listener;
+
+import com.pagoda.matchmeal.batch.processor.FoodCsvItemProcessor;
+import com.pagoda.matchmeal.batch.processor.InvalidFoodRowException;
+import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.transform.IncorrectTokenCountException;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class FoodDeadLetterListenerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("건너뛴 행을 줄 번호, 단계, 사유와 함께 Step별 dead-letter CSV로 남긴다")
+    void writeSkippedRows() throws Exception {
+        // given
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution("foodJob", 1L, 7L);
+        StepExecution stepExecution = jobExecution.createStepExecution("foodWorkerStep:partition0");
+        FoodDeadLetterListener listener = new FoodDeadLetterListener(tempDir);
+        listener.beforeStep(stepExecution);
+
+        FoodCsvDto noName = new FoodCsvDto();
+        noName.setFoodCode("D000001");
+        noName.setLineNumber(5);
+
+        // when - Processor에서 식품명이 없어 실패한 행 + 컬럼 수가 모자라 읽지 못한 행
+        Throwable processError = catchThrowable(() -> new FoodCsvItemProcessor().process(noName));
+        assertThat(processError).isInstanceOf(InvalidFoodRowException.class);
+        listener.onSkipInProcess(noName, processError);
+        listener.onSkipInRead(new FlatFileParseException("파싱 실패", new IncorrectTokenCountException(8, 2, "D000002,\"김치, 배추\""),
+                "D000002,\"김치, 배추\"", 9));
+        listener.afterStep(stepExecution);
+
+        // then
+        Path file = tempDir.resolve("foodJob-7-foodWorkerStep-partition0.csv");
+        assertThat(stepExecution.getExecutionContext().getString(FoodDeadLetterListener.DEAD_LETTER_FILE_KEY))
+                .isEqualTo(file.toString());
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo(FoodDeadLetterListener.HEADER);
+        assertThat(lines.get(1)).startsWith("5,process,InvalidFoodRowException: 식품명이 비어 있습니다.,\"D000001,,");
+        // 원본 줄의 쉼표와 따옴표는 CSV 규칙대로 감싸서 기록
+        assertThat(lines.get(2)).startsWith("9,read,IncorrectTokenCountException")
+                .endsWith(",\"D000002,\"\"김치, 배추\"\"\"");
+    }
+
+    @Test
+    @DisplayName("건너뛴 행이 없으면 파일을 만들지 않는다")
+    void noSkip_noFile() throws Exception {
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        FoodDeadLetterListener listener = new FoodDeadLetterListener(tempDir);
+
+        listener.beforeStep(stepExecution);
+        listener.afterStep(stepExecution);
+
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+        assertThat(stepExecution.getExecutionContext().containsKey(FoodDeadLetterListener.DEAD_LETTER_FILE_KEY)).isFalse();
+    }
+}
@@ -0,0 +1,55 @@
+package com.pagoda.matchmeal.batch.listener;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.pagoda.matchmeal.cache.InMemoryFoodRemoteCache;
+import com.pagoda.matchmeal.cache.SingleFlightCache;
+import com.pagoda.matchmeal.mapper.FoodMapper;
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import com.pagoda.matchmeal.nutrition.FoodNutritionStore;
+import com.pagoda.matchmeal.service.FoodLookupService;
+import com.pagoda.matchmeal.service.FoodNutritionService;
+import com.pagoda.matchmeal.service.FoodSearchService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class FoodImportEventPublishingListenerTest {
+
+    @Test
+    @DisplayName("한 Listener가 실패해도 나머지 Listener(캐시 삭제, 저장소 갱신)는 모두 호출됨")
+    void listenerFailureIsIsolated() {
+        FoodMapper failingMapper = mock(FoodMapper.class);
+        doThrow(new QueryTimeoutException("timeout")).when(failingMapper).scanAll(any());
+        SingleFlightCache<String, FoodResponseDto> localCache = new SingleFlightCache<>(
+                100, Duration.ofMinutes(10), Duration.ofMinutes(5), 0, Runnable::run, Ticker.systemTicker());
+        localCache.put("D000001", FoodResponseDto.builder().foodCode("D000001").build(), localCache.generation("D000001"));
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            // 실패하는 Listener를 먼저 등록 (예외가 전파되면 뒤의 Listener가 호출되지 않음)
+            context.registerBean(FoodSearchService.class, () -> new FoodSearchService(failingMapper));
+            context.registerBean(FoodNutritionService.class, () -> new FoodNutritionService(mock(FoodMapper.class)));
+            context.registerBean(FoodLookupService.class,
+                    () -> new FoodLookupService(mock(FoodMapper.class), localCache, new InMemoryFoodRemoteCache()));
+            context.refresh();
+
+            JobExecution jobExecution = new JobExecution(new JobInstance(1L, "foodJob"), 1L, new JobParameters());
+            jobExecution.setStatus(BatchStatus.COMPLETED);
+            new FoodImportEventPublishingListener(context).afterJob(jobExecution);
+
+            assertThat(context.getBean(FoodNutritionService.class).getStore()).isNotSameAs(FoodNutritionStore.EMPTY);
+            assertThat(localCache.getIfPresent("D000001")).isNull();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.pagoda.matchmeal.batch.metrics;
+
+import com.pagoda.matchmeal.batch.processor.FoodCsvItemProcessor;
+import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class FoodImportMetricsListenerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FoodImportMetrics metrics = new FoodImportMetrics(registry);
+
+    @Test
+    @DisplayName("Chunk 단계별 시간과 컬럼별 0.0 대체 건수를 기록하고, Job 종료 시 Step들을 합산해서 요약한다")
+    void recordAndSummarize() throws Exception {
+        // given - Worker Step 2개 + 지표가 없는 Manager Step 1개
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution("foodPartitionedJob", 1L, 1L);
+        StepExecution worker1 = jobExecution.createStepExecution("foodWorkerStep:partition0");
+        StepExecution worker2 = jobExecution.createStepExecution("foodWorkerStep:partition1");
+        StepExecution manager = jobExecution.createStepExecution("foodManagerStep");
+        manager.setReadCount(3); // Worker 건수를 다시 합산한 값 (중복 집계되면 안 됨)
+
+        // when
+        runStep(worker1, csv("D000001", "N/A", "1,200"), csv("D000002", "-", ""));
+        runStep(worker2, csv("D000003", "30", "5"));
+        new FoodImportSummaryListener(metrics).afterJob(jobExecution);
+
+        // then - Micrometer
+        assertThat(registry.get("food.import.chunk").tags("job", "foodPartitionedJob", "phase", "read").timer().count())
+                .isEqualTo(2);
+        assertThat(registry.get("food.import.items").tags("result", "read").counter().count()).isEqualTo(3);
+        assertThat(registry.get("food.import.parse.fallback").tags("column", "calories").counter().count()).isEqualTo(2);
+        assertThat(registry.get("food.import.parse.fallback").tags("column", "protein").counter().count()).isEqualTo(1);
+
+        // then - 실행 요약
+        List<FoodImportRunSummary> runs = metrics.recentRuns();
+        assertThat(runs).hasSize(1);
+        FoodImportRunSummary summary = runs.get(0);
+        assertThat(summary.getReadCount()).isEqualTo(3);
+        assertThat(summary.getWriteCount()).isEqualTo(3);
+        assertThat(summary.getChunkCount()).isEqualTo(2);
+        assertThat(summary.getParseFallbacks()).containsOnly(entry("calories", 2L), entry("protein", 1L));
+        assertThat(summary.toTable()).contains("| read", "| process", "| write");
+    }
+
+    @Test
+    @DisplayName("0.0 대체 건수는 커밋된 Chunk의 행만 한 번씩 센다 (롤백 후 다시 가공해도 중복 집계하지 않음)")
+    void parseFallbacksFollowCommittedChunks() throws Exception {
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution("foodJob", 2L, 2L);
+        StepExecution stepExecution = jobExecution.createStepExecution("foodStep");
+        FoodImportMetricsListener listener = new FoodImportMetricsListener(metrics);
+        FoodCsvItemProcessor processor = new FoodCsvItemProcessor(listener);
+        listener.beforeStep(stepExecution);
+        FoodCsvDto first = csv("D000001", "N/A", "5");
+        FoodCsvDto second = csv("D000002", "30", "-");
+
+        // Chunk 1: 가공 후 롤백 -> 같은 행을 다시 가공해서 커밋
+        process(listener, processor, first);
+        listener.afterChunkError(null);
+        process(listener, processor, first);
+        listener.afterChunk(null);
+
+        // Chunk 2: 가공 후 롤백 -> 가공 결과를 재사용해서(processorNonTransactional) 커밋
+        process(listener, processor, second);
+        listener.afterChunkError(null);
+        listener.afterChunk(null);
+
+        // Chunk 3: 가공 후 롤백되고 Step 실패 (커밋되지 않음)
+        process(listener, processor, csv("D000003", "", "1"));
+        listener.afterChunkError(null);
+        listener.afterStep(stepExecution);
+
+        assertThat(stepExecution.getExecutionContext().getLong(FoodImportMetricsListener.PARSE_FALLBACK_KEY_PREFIX + "calories"))
+                .isEqualTo(1);
+        assertThat(stepExecution.getExecutionContext().getLong(FoodImportMetricsListener.PARSE_FALLBACK_KEY_PREFIX + "protein"))
+                .isEqualTo(1);
+    }
+
+    private static void process(FoodImportMetricsListener listener, FoodCsvItemProcessor processor, FoodCsvDto item)
+            throws Exception {
+        listener.beforeProcess(item);
+        listener.afterProcess(item, processor.process(item));
+    }
+
+    /**
+     * 한 Step에서 주어진 행들을 하나의 Chunk로 읽기 -> 가공 -> 쓰기 한 것처럼 Listener를 호출합니다.
+     */
+    private void runStep(StepExecution stepExecution, FoodCsvDto... items) throws Exception {
+        FoodImportMetricsListener listener = new FoodImportMetricsListener(metrics);
+        FoodCsvItemProcessor processor = new FoodCsvItemProcessor(listener);
+        listener.beforeStep(stepExecution);
+
+        Chunk<Food> chunk = new Chunk<>();
+        for (FoodCsvDto item : items) {
+            listener.beforeRead();
+            listener.afterRead(item);
+            listener.beforeProcess(item);
+            Food food = processor.process(item);
+            listener.afterProcess(item, food);
+            chunk.add(food);
+        }
+        listener.beforeWrite(chunk);
+        listener.afterWrite(chunk);
+        listener.afterChunk(null);
+
+        stepExecution.setReadCount(items.length);
+        stepExecution.setWriteCount(chunk.size());
+        listener.afterStep(stepExecution);
+    }
+
+    private static FoodCsvDto csv(String foodCode, String calories, String protein) {
+        FoodCsvDto dto = new FoodCsvDto();
+        dto.setFoodCode(foodCode);
+        dto.setFoodName("음식_" + foodCode);
+        dto.setCategory("기타");
+        dto.setServingSize("100g");
+        dto.setCalories(calories);
+        dto.setProtein(protein);
+        dto.setFat("1");
+        dto.setCarbohydrate("2");
+        return dto;
+    }
+}
@@ -0,0 +1,108 @@
+package com.pagoda.matchmeal.batch.partition;
+
+import com.pagoda.matchmeal.batch.reader.ByteOffsetResource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FoodCsvLinePartitionerTest {
+
+    @Test
+    @DisplayName("데이터 라인을 빠짐없이, 겹치지 않게 파티션으로 나눈다")
+    void partition_coversAllLines() {
+        // given
+        // 헤더 1줄 + 데이터 10줄
+        ByteArrayResource resource = createCsv(10, true);
+        FoodCsvLinePartitioner partitioner = new FoodCsvLinePartitioner(resource, 1, 3);
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(8);
+
+        // then
+        // Job 파라미터(3)가 gridSize(8)보다 우선 적용됨
+        assertThat(partitions).hasSize(3);
+        assertThat(range(partitions.get("partition0"))).containsExactly(0, 4); // 나머지 1줄은 앞 파티션이 가져감
+        assertThat(range(partitions.get("partition1"))).containsExactly(4, 7);
+        assertThat(range(partitions.get("partition2"))).containsExactly(7, 10);
+    }
+
+    @Test
+    @DisplayName("각 파티션의 첫 라인이 시작하는 바이트 위치를 기록하고, 그 위치부터 읽으면 범위의 첫 라인이 나온다")
+    void partition_startOffsets() throws Exception {
+        // given: 여러 바이트 문자(한글)와 CRLF가 섞인 CSV
+        String csv = "식품코드,식품명\r\n" + IntStream.range(0, 10)
+                .mapToObj(i -> "D" + i + ",음식" + "가".repeat(i) + "\r\n")
+                .collect(Collectors.joining());
+        ByteArrayResource resource = new ByteArrayResource(csv.getBytes(StandardCharsets.UTF_8));
+        FoodCsvLinePartitioner partitioner = new FoodCsvLinePartitioner(resource, 1, 3);
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(8);
+
+        // then
+        for (ExecutionContext context : partitions.values()) {
+            int startIndex = context.getInt(FoodCsvLinePartitioner.START_INDEX_KEY);
+            long startOffset = context.getLong(FoodCsvLinePartitioner.START_OFFSET_KEY);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new ByteOffsetResource(resource, startOffset).getInputStream(), StandardCharsets.UTF_8))) {
+                assertThat(reader.readLine()).startsWith("D" + startIndex + ",");
+            }
+        }
+        assertThat(partitions.get("partition0").getLong(FoodCsvLinePartitioner.START_OFFSET_KEY))
+                .isEqualTo("식품코드,식품명\r\n".getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("마지막 줄에 개행이 없어도 한 줄로 센다")
+    void partition_lastLineWithoutNewline() {
+        // given
+        ByteArrayResource resource = createCsv(5, false);
+        FoodCsvLinePartitioner partitioner = new FoodCsvLinePartitioner(resource, 1, null);
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        // then
+        assertThat(range(partitions.get("partition0"))).containsExactly(0, 5);
+    }
+
+    @Test
+    @DisplayName("데이터보다 파티션을 많이 요청하면 데이터 라인 수만큼만 만든다")
+    void partition_moreGridThanLines() {
+        // given
+        ByteArrayResource resource = createCsv(2, true);
+        FoodCsvLinePartitioner partitioner = new FoodCsvLinePartitioner(resource, 1, null);
+
+        // when
+        Map<String, ExecutionContext> partitions = partitioner.partition(16);
+
+        // then
+        assertThat(partitions).hasSize(2);
+    }
+
+    // 테스트용 CSV 생성 헬퍼 메서드
+    private ByteArrayResource createCsv(int dataLines, boolean trailingNewline) {
+        String body = IntStream.range(0, dataLines)
+                .mapToObj(i -> "D" + i + ",음식" + i)
+                .collect(Collectors.joining("\n"));
+        String csv = "식품코드,식품명\n" + body + (trailingNewline ? "\n" : "");
+        return new ByteArrayResource(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int[] range(ExecutionContext context) {
+        return new int[]{
+                context.getInt(FoodCsvLinePartitioner.START_INDEX_KEY),
+                context.getInt(FoodCsvLinePartitioner.END_INDEX_KEY)
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.pagoda.matchmeal.batch.partition;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 테스트용 원격 파티션 작업 큐 (DB 테이블 대신 메모리 Map 사용)
+ * - heartbeat 만료는 흉내내지 않고, 실패한 작업의 재분배만 JdbcPartitionQueue와 같은 규칙으로 처리합니다.
+ */
+public class InMemoryPartitionQueue implements PartitionQueue {
+
+    private final Map<Long, PartitionTask> tasks = new TreeMap<>();
+    private long nextTaskId = 1;
+
+    @Override
+    public synchronized void dispatch(long jobExecutionId, String stepName, Collection<Long> stepExecutionIds) {
+        for (Long stepExecutionId : stepExecutionIds) {
+            long taskId = nextTaskId++;
+            tasks.put(taskId, new PartitionTask(taskId, jobExecutionId, stepExecutionId, stepName,
+                    PartitionTaskStatus.PENDING, null, 0, 0, 0, null));
+        }
+    }
+
+    @Override
+    public synchronized PartitionTask claim(String worker) {
+        for (PartitionTask task : tasks.values()) {
+            if (task.getStatus() == PartitionTaskStatus.PENDING) {
+                PartitionTask claimed = copy(task, PartitionTaskStatus.RUNNING, worker, task.getAttempt() + 1,
+                        task.getReadCount(), task.getWriteCount(), null);
+                tasks.put(task.getTaskId(), claimed);
+                return claimed;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized boolean heartbeat(PartitionTask task, long readCount, long writeCount) {
+        PartitionTask current = runningBy(task);
+        if (current == null) {
+            return false;
+        }
+        tasks.put(task.getTaskId(), copy(current, current.getStatus(), current.getWorker(), current.getAttempt(),
+                readCount, writeCount, current.getError()));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean fence(PartitionTask task) {
+        return runningBy(task) != null;
+    }
+
+    @Override
+    public synchronized void complete(PartitionTask task, PartitionTaskStatus status, long readCount, long writeCount, String error) {
+        PartitionTask current = runningBy(task);
+        if (current != null) {
+            tasks.put(task.getTaskId(), copy(current, status, current.getWorker(), current.getAttempt(),
+                    readCount, writeCount, error));
+        }
+    }
+
+    @Override
+    public synchronized int requeue(long jobExecutionId, Duration workerTimeout, int maxAttempts) {
+        int requeued = 0;
+        for (PartitionTask task : new ArrayList<>(tasks.values())) {
+            if (task.getJobExecutionId() == jobExecutionId
+                    && task.getStatus() == PartitionTaskStatus.FAILED && task.getAttempt() < maxAttempts) {
+                tasks.put(task.getTaskId(), copy(task, PartitionTaskStatus.PENDING, null, task.getAttempt(),
+                        task.getReadCount(), task.getWriteCount(), task.getError()));
+                requeued++;
+            }
+        }
+        return requeued;
+    }
+
+    @Override
+    public synchronized List<PartitionTask> findByJobExecution(long jobExecutionId) {
+        return tasks.values().stream().filter(task -> task.getJobExecutionId() == jobExecutionId).toList();
+    }
+
+    private PartitionTask runningBy(PartitionTask task) {
+        PartitionTask current = tasks.get(task.getTaskId());
+        boolean running = current != null && current.getStatus() == PartitionTaskStatus.RUNNING
+                && current.getWorker().equals(task.getWorker()) && current.getAttempt() == task.getAttempt();
+        return running ? current : null;
+    }
+
+    private static PartitionTask copy(PartitionTask task, PartitionTaskStatus status, String worker, int attempt,
+                                      long readCount, long writeCount, String error) {
+        return new PartitionTask(task.getTaskId(), task.getJobExecutionId(), task.getStepExecutionId(), task.getStepName(),
+                status, worker, attempt, readCount, writeCount, error);
+    }
+}
@@ -0,0 +1,109 @@
+package com.pagoda.matchmeal.batch.partition;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcPartitionQueueTest {
+
+    private static final String STEP = "foodWorkerStep";
+    private static final Duration TIMEOUT = Duration.ofMinutes(1);
+
+    private JdbcPartitionQueue partitionQueue;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:partition-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        partitionQueue = new JdbcPartitionQueue(new JdbcTemplate(dataSource));
+    }
+
+    @Test
+    @DisplayName("작업은 한 Worker만 가져가고, 진행 상황과 결과가 기록됨")
+    void claimAndComplete() {
+        partitionQueue.dispatch(1L, STEP, List.of(11L, 12L));
+
+        PartitionTask first = partitionQueue.claim("node-a");
+        PartitionTask second = partitionQueue.claim("node-b");
+
+        assertThat(first.getStepExecutionId()).isEqualTo(11L);
+        assertThat(first.getStatus()).isEqualTo(PartitionTaskStatus.RUNNING);
+        assertThat(first.getAttempt()).isEqualTo(1);
+        assertThat(second.getStepExecutionId()).isEqualTo(12L);
+        assertThat(partitionQueue.claim("node-c")).isNull();
+
+        assertThat(partitionQueue.heartbeat(first, 100, 90)).isTrue();
+        partitionQueue.complete(first, PartitionTaskStatus.COMPLETED, 200, 180, null);
+
+        PartitionTask done = partitionQueue.findByJobExecution(1L).get(0);
+        assertThat(done.getStatus()).isEqualTo(PartitionTaskStatus.COMPLETED);
+        assertThat(done.getReadCount()).isEqualTo(200);
+        assertThat(done.getWriteCount()).isEqualTo(180);
+        assertThat(done.isFinished(3)).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 maxAttempts까지 다시 PENDING으로 돌아감")
+    void requeueFailed() {
+        partitionQueue.dispatch(1L, STEP, List.of(11L));
+
+        PartitionTask task = partitionQueue.claim("node-a");
+        partitionQueue.complete(task, PartitionTaskStatus.FAILED, 10, 0, "boom");
+        assertThat(partitionQueue.requeue(1L, TIMEOUT, 2)).isEqualTo(1);
+
+        PartitionTask retried = partitionQueue.claim("node-b");
+        assertThat(retried.getAttempt()).isEqualTo(2);
+        partitionQueue.complete(retried, PartitionTaskStatus.FAILED, 10, 0, "boom");
+
+        assertThat(partitionQueue.requeue(1L, TIMEOUT, 2)).isZero();
+        PartitionTask failed = partitionQueue.findByJobExecution(1L).get(0);
+        assertThat(failed.isFinished(2)).isTrue();
+        assertThat(failed.getError()).isEqualTo("boom");
+    }
+
+    @Test
+    @DisplayName("heartbeat가 끊긴 작업은 다른 Worker에게 재분배되고, 예전 Worker의 기록은 무시됨")
+    void requeueStale() throws Exception {
+        partitionQueue.dispatch(1L, STEP, List.of(11L));
+        PartitionTask stale = partitionQueue.claim("node-a");
+        Thread.sleep(20);
+
+        assertThat(partitionQueue.requeue(1L, Duration.ofMillis(1), 3)).isEqualTo(1);
+        PartitionTask taken = partitionQueue.claim("node-b");
+
+        assertThat(taken.getWorker()).isEqualTo("node-b");
+        assertThat(partitionQueue.heartbeat(stale, 1, 1)).isFalse();
+        assertThat(partitionQueue.fence(stale)).isFalse();
+        assertThat(partitionQueue.fence(taken)).isTrue();
+        partitionQueue.complete(stale, PartitionTaskStatus.COMPLETED, 1, 1, null);
+        assertThat(partitionQueue.findByJobExecution(1L).get(0).getStatus()).isEqualTo(PartitionTaskStatus.RUNNING);
+    }
+
+    @Test
+    @DisplayName("같은 Worker가 재분배된 작업을 다시 가져가도, 예전 시도(attempt)는 작업을 가진 것으로 보지 않음")
+    void fenceByAttempt() throws Exception {
+        partitionQueue.dispatch(1L, STEP, List.of(11L));
+        PartitionTask stale = partitionQueue.claim("node-a");
+        Thread.sleep(20);
+
+        partitionQueue.requeue(1L, Duration.ofMillis(1), 3);
+        PartitionTask again = partitionQueue.claim("node-a");
+
+        assertThat(again.getAttempt()).isEqualTo(2);
+        assertThat(partitionQueue.fence(stale)).isFalse();
+        assertThat(partitionQueue.heartbeat(stale, 1, 1)).isFalse();
+        assertThat(partitionQueue.fence(again)).isTrue();
+    }
+}
@@ -0,0 +1,118 @@
+package com.pagoda.matchmeal.batch.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PartitionTaskWorkerTest {
+
+    private static final String STEP = "foodWorkerStep";
+    private static final Duration POLL = Duration.ofMillis(10);
+    /** 파티션 범위의 라인 수 */
+    private static final int RANGE_LINES = 1000;
+
+    private final InMemoryPartitionQueue partitionQueue = new InMemoryPartitionQueue();
+    private final JobExplorer jobExplorer = mock(JobExplorer.class);
+
+    @Test
+    @DisplayName("재분배된 작업은 이전 시도의 건수와 읽기 위치를 지우고 범위를 처음부터 실행하므로, 건수가 두 번 집계되지 않음")
+    void retriedTaskStartsFromScratch() throws Exception {
+        // given: 이전 시도가 600줄까지 커밋한 뒤 중단된 StepExecution (JobRepository에 남은 상태)
+        JobExecution jobExecution = new JobExecution(1L);
+        when(jobExplorer.getStepExecution(1L, 11L)).thenAnswer(invocation -> {
+            StepExecution stored = new StepExecution(STEP + ":partition0", jobExecution, 11L);
+            stored.setReadCount(600);
+            stored.setWriteCount(590);
+            stored.setFilterCount(5);
+            stored.setProcessSkipCount(5);
+            stored.setCommitCount(6);
+            stored.setRollbackCount(1);
+            ExecutionContext context = stored.getExecutionContext();
+            context.putInt(FoodCsvLinePartitioner.START_INDEX_KEY, 0);
+            context.putInt(FoodCsvLinePartitioner.END_INDEX_KEY, RANGE_LINES);
+            context.putLong(FoodCsvLinePartitioner.START_OFFSET_KEY, 120L);
+            context.putInt("foodRangeReader.read.count", 600);
+            return stored;
+        });
+
+        partitionQueue.dispatch(1L, STEP, List.of(11L));
+        PartitionTask first = partitionQueue.claim("node-a");
+        partitionQueue.complete(first, PartitionTaskStatus.FAILED, 600, 590, "boom");
+        partitionQueue.requeue(1L, Duration.ofMinutes(1), 3);
+
+        // Step 흉내: 시작할 때의 상태를 기록하고, 읽기 위치가 없으면 범위 전체를 처리
+        AtomicReference<StepExecution> started = new AtomicReference<>();
+        AtomicReference<ExecutionContext> startedContext = new AtomicReference<>();
+        Step step = mock(Step.class);
+        doAnswer(invocation -> {
+            StepExecution stepExecution = invocation.getArgument(0);
+            started.set(copyCounts(stepExecution));
+            startedContext.set(new ExecutionContext(stepExecution.getExecutionContext()));
+            int resumed = stepExecution.getExecutionContext().getInt("foodRangeReader.read.count", 0);
+            stepExecution.setReadCount(stepExecution.getReadCount() + RANGE_LINES - resumed);
+            stepExecution.setWriteCount(stepExecution.getWriteCount() + RANGE_LINES - resumed);
+            stepExecution.setStatus(BatchStatus.COMPLETED);
+            return null;
+        }).when(step).execute(any());
+
+        PartitionTaskWorker worker = new PartitionTaskWorker(partitionQueue, jobExplorer,
+                Map.of(STEP, step), FoodCsvLinePartitioner.PARTITION_KEYS, List.of(), new PartitionTaskFencingListener(),
+                "node-b", 1, POLL, Duration.ofSeconds(1), false);
+
+        // when
+        worker.start();
+        try {
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (partitionQueue.findByJobExecution(1L).get(0).getStatus() != PartitionTaskStatus.COMPLETED
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(POLL.toMillis());
+            }
+        } finally {
+            worker.stop();
+        }
+
+        // then
+        PartitionTask task = partitionQueue.findByJobExecution(1L).get(0);
+        assertThat(task.getStatus()).isEqualTo(PartitionTaskStatus.COMPLETED);
+        assertThat(task.getAttempt()).isEqualTo(2);
+        assertThat(task.getReadCount()).isEqualTo(RANGE_LINES);
+        assertThat(task.getWriteCount()).isEqualTo(RANGE_LINES);
+
+        assertThat(started.get().getReadCount()).isZero();
+        assertThat(started.get().getWriteCount()).isZero();
+        assertThat(started.get().getFilterCount()).isZero();
+        assertThat(started.get().getProcessSkipCount()).isZero();
+        assertThat(started.get().getCommitCount()).isZero();
+        assertThat(started.get().getRollbackCount()).isZero();
+        assertThat(startedContext.get().entrySet()).extracting(Map.Entry::getKey)
+                .containsExactlyInAnyOrderElementsOf(FoodCsvLinePartitioner.PARTITION_KEYS);
+        assertThat(startedContext.get().getLong(FoodCsvLinePartitioner.START_OFFSET_KEY)).isEqualTo(120L);
+    }
+
+    private static StepExecution copyCounts(StepExecution source) {
+        StepExecution copy = new StepExecution(source.getStepName(), source.getJobExecution(), source.getId());
+        copy.setReadCount(source.getReadCount());
+        copy.setWriteCount(source.getWriteCount());
+        copy.setFilterCount(source.getFilterCount());
+        copy.setProcessSkipCount(source.getProcessSkipCount());
+        copy.setCommitCount(source.getCommitCount());
+        copy.setRollbackCount(source.getRollbackCount());
+        return copy;
+    }
+}
@@ -0,0 +1,100 @@
+package com.pagoda.matchmeal.batch.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.StepExecutionSplitter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QueuePartitionHandlerTest {
+
+    private static final String STEP = "foodWorkerStep";
+    private static final Duration POLL = Duration.ofMillis(10);
+
+    private final InMemoryPartitionQueue partitionQueue = new InMemoryPartitionQueue();
+    private final JobExplorer jobExplorer = mock(JobExplorer.class);
+
+    @Test
+    @DisplayName("파티션을 큐에 넣고, 실패한 파티션은 재분배해서 모두 끝나면 StepExecution을 반환")
+    void handle() throws Exception {
+        JobExecution jobExecution = new JobExecution(1L);
+        StepExecution manager = new StepExecution("foodRemoteManagerStep", jobExecution, 10L);
+        Set<StepExecution> partitions = new LinkedHashSet<>();
+        for (long id = 11; id <= 13; id++) {
+            partitions.add(new StepExecution(STEP + ":partition" + id, jobExecution, id));
+        }
+        StepExecutionSplitter splitter = mock(StepExecutionSplitter.class);
+        when(splitter.split(eq(manager), anyInt())).thenReturn(partitions);
+        when(jobExplorer.getStepExecution(eq(1L), anyLong()))
+                .thenAnswer(invocation -> new StepExecution(STEP, jobExecution, invocation.getArgument(1)));
+
+        // 다른 서버의 Worker 흉내: 첫 번째 파티션은 한 번 실패한 뒤 성공
+        AtomicBoolean failedOnce = new AtomicBoolean();
+        Thread worker = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                PartitionTask task = partitionQueue.claim("node-b");
+                if (task == null) {
+                    sleep();
+                    continue;
+                }
+                boolean fail = task.getStepExecutionId() == 11L && failedOnce.compareAndSet(false, true);
+                partitionQueue.complete(task, fail ? PartitionTaskStatus.FAILED : PartitionTaskStatus.COMPLETED,
+                        10, 10, fail ? "boom" : null);
+            }
+        });
+        worker.setDaemon(true);
+        worker.start();
+
+        try {
+            QueuePartitionHandler handler = new QueuePartitionHandler(partitionQueue, jobExplorer, STEP, 3,
+                    POLL, Duration.ofMinutes(1), 3, Duration.ofSeconds(10));
+            Collection<StepExecution> results = handler.handle(splitter, manager);
+
+            assertThat(results).extracting(StepExecution::getId).containsExactly(11L, 12L, 13L);
+            assertThat(partitionQueue.findByJobExecution(1L))
+                    .allMatch(task -> task.getStatus() == PartitionTaskStatus.COMPLETED);
+            assertThat(partitionQueue.findByJobExecution(1L).get(0).getAttempt()).isEqualTo(2);
+        } finally {
+            worker.interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("가져가는 Worker가 없으면 timeout 후 실패")
+    void timeout() throws Exception {
+        JobExecution jobExecution = new JobExecution(2L);
+        StepExecution manager = new StepExecution("foodRemoteManagerStep", jobExecution, 20L);
+        StepExecutionSplitter splitter = mock(StepExecutionSplitter.class);
+        when(splitter.split(eq(manager), anyInt()))
+                .thenReturn(Set.of(new StepExecution(STEP + ":partition0", jobExecution, 21L)));
+
+        QueuePartitionHandler handler = new QueuePartitionHandler(partitionQueue, jobExplorer, STEP, 1,
+                POLL, Duration.ofMinutes(1), 3, Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> handler.handle(splitter, manager)).isInstanceOf(TimeoutException.class);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
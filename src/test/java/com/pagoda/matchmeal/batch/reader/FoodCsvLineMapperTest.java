@@ -0,0 +1,77 @@
+package com.pagoda.matchmeal.batch.reader;
+
+import com.pagoda.matchmeal.common.config.FoodBatchConfig;
+import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.file.transform.IncorrectTokenCountException;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FoodCsvLineMapperTest {
+
+    private final FoodCsvLineMapper lineMapper = new FoodCsvLineMapper(FoodBatchConfig.FOOD_CSV_INCLUDED_FIELDS);
+
+    @Test
+    @DisplayName("필요한 8개 컬럼만 순서대로 DTO에 담는다")
+    void mapLine_includedFieldsOnly() {
+        // given
+        // 0:코드, 1:이름, 7:대분류, 16:기준량, 17:에너지, 19:단백질, 20:지방, 22:탄수화물
+        String line = createLine("D101", "국밥_돼지머리", "밥류", "100g", "137", "6.7", "5.1", "15.9");
+
+        // when
+        FoodCsvDto dto = lineMapper.mapLine(line, 2);
+
+        // then
+        assertThat(dto.getFoodCode()).isEqualTo("D101");
+        assertThat(dto.getFoodName()).isEqualTo("국밥_돼지머리");
+        assertThat(dto.getCategory()).isEqualTo("밥류");
+        assertThat(dto.getServingSize()).isEqualTo("100g");
+        assertThat(dto.getCalories()).isEqualTo("137");
+        assertThat(dto.getProtein()).isEqualTo("6.7");
+        assertThat(dto.getFat()).isEqualTo("5.1");
+        assertThat(dto.getCarbohydrate()).isEqualTo("15.9");
+    }
+
+    @Test
+    @DisplayName("따옴표로 감싼 컬럼 안의 쉼표와 이스케이프된 따옴표를 처리한다")
+    void mapLine_quotedFields() {
+        // given
+        String line = createLine("D102", "\"떡볶이, \"\"매운맛\"\"\"", "분식", "100g", "\"1,200\"", "3", "2", "40");
+
+        // when
+        FoodCsvDto dto = lineMapper.mapLine(line, 3);
+
+        // then
+        assertThat(dto.getFoodName()).isEqualTo("떡볶이, \"매운맛\"");
+        assertThat(dto.getCategory()).isEqualTo("분식");
+        assertThat(dto.getCalories()).isEqualTo("1,200");
+        assertThat(dto.getCarbohydrate()).isEqualTo("40");
+    }
+
+    @Test
+    @DisplayName("컬럼 수가 모자라면 IncorrectTokenCountException이 발생한다")
+    void mapLine_notEnoughColumns() {
+        assertThatThrownBy(() -> lineMapper.mapLine("D103,김밥,1,2", 4))
+                .isInstanceOf(IncorrectTokenCountException.class);
+    }
+
+    // 공공데이터 CSV와 같은 위치에 값을 배치하는 헬퍼 메서드 (나머지 컬럼은 "x")
+    private String createLine(String code, String name, String category, String servingSize,
+                              String calories, String protein, String fat, String carbohydrate) {
+        String[] columns = new String[24];
+        Arrays.fill(columns, "x");
+        columns[0] = code;
+        columns[1] = name;
+        columns[7] = category;
+        columns[16] = servingSize;
+        columns[17] = calories;
+        columns[19] = protein;
+        columns[20] = fat;
+        columns[22] = carbohydrate;
+        return String.join(",", columns);
+    }
+}
@@ -0,0 +1,133 @@
+package com.pagoda.matchmeal.batch.reader;
+
+import com.pagoda.matchmeal.model.dto.FoodCsvDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.LineMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedFoodCsvItemReaderTest {
+
+    // 테스트에서는 첫 컬럼(코드)과 둘째 컬럼(이름)만 사용
+    private final LineMapper<FoodCsvDto> lineMapper = (line, lineNumber) -> {
+        String[] columns = line.split(",");
+        FoodCsvDto dto = new FoodCsvDto();
+        dto.setFoodCode(columns[0]);
+        dto.setFoodName(columns[1]);
+        return dto;
+    };
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("헤더를 건너뛰고, 매핑 단위 경계에 걸친 줄과 한글도 정상적으로 읽는다")
+    void read_acrossSegments() throws Exception {
+        // given
+        Path file = writeCsv(20, "\n", true);
+        // 일부러 아주 작은 매핑 단위(64바이트)를 사용해서 줄이 segment 경계에 걸치도록 함
+        MappedFoodCsvItemReader reader = new MappedFoodCsvItemReader(file, lineMapper, 0, Long.MAX_VALUE, 64);
+
+        // when
+        List<String> codes = readAll(reader, new ExecutionContext());
+
+        // then
+        assertThat(codes).hasSize(20);
+        assertThat(codes.get(0)).isEqualTo("D0");
+        assertThat(codes.get(19)).isEqualTo("D19");
+    }
+
+    @Test
+    @DisplayName("CRLF 줄바꿈과 개행 없이 끝나는 마지막 줄을 처리한다")
+    void read_crlfAndLastLineWithoutNewline() throws Exception {
+        // given
+        Path file = writeCsv(3, "\r\n", false);
+        MappedFoodCsvItemReader reader = new MappedFoodCsvItemReader(file, lineMapper);
+
+        // when
+        reader.open(new ExecutionContext());
+        List<FoodCsvDto> items = new ArrayList<>();
+        FoodCsvDto item;
+        while ((item = reader.read()) != null) {
+            items.add(item);
+        }
+        reader.close();
+
+        // then
+        assertThat(items).extracting(FoodCsvDto::getFoodName).containsExactly("음식_0", "음식_1", "음식_2");
+    }
+
+    @Test
+    @DisplayName("ExecutionContext에 저장된 위치부터 이어서 읽는다 (재시작)")
+    void read_restart() throws Exception {
+        // given
+        Path file = writeCsv(10, "\n", true);
+        ExecutionContext context = new ExecutionContext();
+
+        MappedFoodCsvItemReader first = new MappedFoodCsvItemReader(file, lineMapper, 0, Long.MAX_VALUE, 128);
+        first.open(context);
+        for (int i = 0; i < 4; i++) {
+            first.read();
+        }
+        first.update(context); // 4건까지 커밋되었다고 가정
+        first.close();
+
+        // when
+        MappedFoodCsvItemReader restarted = new MappedFoodCsvItemReader(file, lineMapper, 0, Long.MAX_VALUE, 128);
+        List<String> codes = readAll(restarted, context);
+
+        // then
+        assertThat(codes).containsExactly("D4", "D5", "D6", "D7", "D8", "D9");
+    }
+
+    @Test
+    @DisplayName("바이트 범위로 나눠 읽어도 모든 줄을 정확히 한 번씩 읽는다")
+    void read_byteRanges() throws Exception {
+        // given
+        Path file = writeCsv(50, "\n", true);
+        long size = Files.size(file);
+        long middle = size / 2; // 줄 중간일 가능성이 높은 위치
+
+        // when
+        List<String> codes = new ArrayList<>();
+        codes.addAll(readAll(new MappedFoodCsvItemReader(file, lineMapper, 0, middle, 256), new ExecutionContext()));
+        codes.addAll(readAll(new MappedFoodCsvItemReader(file, lineMapper, middle, Long.MAX_VALUE, 256), new ExecutionContext()));
+
+        // then
+        assertThat(codes).hasSize(50).doesNotHaveDuplicates();
+    }
+
+    private List<String> readAll(MappedFoodCsvItemReader reader, ExecutionContext context) throws Exception {
+        reader.open(context);
+        List<String> codes = new ArrayList<>();
+        FoodCsvDto item;
+        while ((item = reader.read()) != null) {
+            codes.add(item.getFoodCode());
+        }
+        reader.close();
+        return codes;
+    }
+
+    private Path writeCsv(int lines, String newline, boolean trailingNewline) throws IOException {
+        StringBuilder csv = new StringBuilder("식품코드,식품명").append(newline);
+        for (int i = 0; i < lines; i++) {
+            csv.append("D").append(i).append(",음식_").append(i);
+            if (i < lines - 1 || trailingNewline) {
+                csv.append(newline);
+            }
+        }
+        Path file = tempDir.resolve("foods.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        return file;
+    }
+}
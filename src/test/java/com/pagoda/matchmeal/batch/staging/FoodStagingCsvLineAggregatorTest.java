@@ -0,0 +1,57 @@
+package com.pagoda.matchmeal.batch.staging;
+
+import com.pagoda.matchmeal.model.entity.Food;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FoodStagingCsvLineAggregatorTest {
+
+    private final FoodStagingCsvLineAggregator aggregator = new FoodStagingCsvLineAggregator();
+
+    @Test
+    @DisplayName("스테이징 테이블 컬럼 순서대로 문자열은 따옴표로 감싸고 숫자는 그대로 쓴다")
+    void aggregate() {
+        Food food = Food.builder()
+                .foodCode("D000001")
+                .foodName("김치, 배추 \"국산\"")
+                .category("김치류")
+                .servingSize(100.0)
+                .unit("g")
+                .servingSizeText("100g")
+                .calories(30.5)
+                .protein(2.0)
+                .fat(0.0001)
+                .carbohydrate(4.0)
+                .caloriesPer100(30.5)
+                .proteinPer100(2.0)
+                .fatPer100(0.0001)
+                .carbohydratePer100(4.0)
+                .proteinPer100kcal(6.5)
+                .contentHash(-42L)
+                .build();
+
+        assertThat(aggregator.aggregate(food))
+                .isEqualTo("\"D000001\",\"김치, 배추 \"\"국산\"\"\",\"김치류\",100.0,\"g\",\"100g\",30.5,2.0,1.0E-4,4.0,30.5,2.0,1.0E-4,4.0,6.5,-42");
+    }
+
+    @Test
+    @DisplayName("null 문자열은 빈 문자열로, null 밀도는 빈 칸으로, 값 안의 줄바꿈은 공백으로 쓴다")
+    void aggregate_nullAndNewline() {
+        Food food = Food.builder()
+                .foodCode("D000002")
+                .foodName("두 줄\n이름")
+                .unit("ml")
+                .build();
+
+        assertThat(aggregator.aggregate(food))
+                .isEqualTo("\"D000002\",\"두 줄 이름\",\"\",0.0,\"ml\",\"\",0.0,0.0,0.0,0.0,,,,,,0");
+    }
+
+    @Test
+    @DisplayName("헤더 컬럼 수와 한 줄의 컬럼 수가 같다")
+    void headerMatchesColumns() {
+        assertThat(FoodStagingCsvLineAggregator.HEADER.split(",")).hasSize(16);
+    }
+}
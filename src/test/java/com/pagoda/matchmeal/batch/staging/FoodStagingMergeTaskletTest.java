@@ -0,0 +1,107 @@
+package com.pagoda.matchmeal.batch.staging;
+
+import com.pagoda.matchmeal.feed.FoodChange;
+import com.pagoda.matchmeal.mapper.FoodBatchMapper;
+import com.pagoda.matchmeal.model.dto.FoodStagingChangeDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import com.pagoda.matchmeal.model.entity.FoodChangeType;
+import com.pagoda.matchmeal.service.FoodChangeFeedService;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FoodStagingMergeTaskletTest {
+
+    @TempDir
+    Path directory;
+
+    private final FoodBatchMapper foodBatchMapper = mock(FoodBatchMapper.class);
+    private final FoodChangeFeedService foodChangeFeedService = mock(FoodChangeFeedService.class);
+    private final List<List<FoodChange>> published = new ArrayList<>();
+    private Path changeFile;
+    private FoodStagingMergeTasklet tasklet;
+    private ChunkContext chunkContext;
+
+    @BeforeEach
+    void setUp() {
+        changeFile = directory.resolve("food-staging-1-changes.tsv");
+        tasklet = new FoodStagingMergeTasklet(foodBatchMapper, foodChangeFeedService, changeFile);
+        chunkContext = new ChunkContext(new StepContext(new StepExecution("foodStagingMergeStep", new JobExecution(1L))));
+
+        when(foodBatchMapper.countStaging()).thenReturn(4L);
+        when(foodBatchMapper.countNewStagingRows()).thenReturn(2L);
+        doAnswer(invocation -> {
+            ResultHandler<FoodStagingChangeDto> handler = invocation.getArgument(0);
+            handle(handler, new FoodStagingChangeDto(food("D1", 100), null));
+            handle(handler, new FoodStagingChangeDto(food("D2", 200), null));
+            handle(handler, new FoodStagingChangeDto(food("D3", 350), food("D3", 300)));
+            handle(handler, new FoodStagingChangeDto(food("D4", 400), food("D4", 400))); // 값이 같음
+            return null;
+        }).when(foodBatchMapper).findStagingChanges(any());
+        when(foodChangeFeedService.getBatchSize()).thenReturn(2);
+        doAnswer(invocation -> published.add(List.copyOf(invocation.getArgument(0))))
+                .when(foodChangeFeedService).publish(any());
+    }
+
+    @Test
+    @DisplayName("변경 기록은 파일에 써두었다가 커밋 후 묶음 크기만큼씩 발행하고 파일을 지운다")
+    void publishSpooledChanges() throws Exception {
+        tasklet.execute(new StepContribution(chunkContext.getStepContext().getStepExecution()), chunkContext);
+
+        assertThat(Files.readAllLines(changeFile)).hasSize(3);
+        verify(foodChangeFeedService, never()).publish(any());
+
+        tasklet.afterChunk(chunkContext);
+
+        assertThat(published).hasSize(2); // [D1, D2], [D3]
+        assertThat(published.get(0)).extracting(FoodChange::getFoodCode).containsExactly("D1", "D2");
+        assertThat(published.get(1)).singleElement().satisfies(change -> {
+            assertThat(change.getOp()).isEqualTo(FoodChangeType.UPDATE);
+            assertThat(change.getChangedFields()).containsExactly("calories");
+        });
+        assertThat(changeFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("병합이 롤백되면 발행하지 않고 파일을 지운다")
+    void discardOnError() throws Exception {
+        tasklet.execute(new StepContribution(chunkContext.getStepContext().getStepExecution()), chunkContext);
+
+        tasklet.afterChunkError(chunkContext);
+
+        verify(foodChangeFeedService, never()).publish(any());
+        assertThat(changeFile).doesNotExist();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void handle(ResultHandler<FoodStagingChangeDto> handler, FoodStagingChangeDto row) {
+        ResultContext<FoodStagingChangeDto> context = mock(ResultContext.class);
+        when(context.getResultObject()).thenReturn(row);
+        handler.handleResult(context);
+    }
+
+    private static Food food(String foodCode, double calories) {
+        return Food.builder().foodCode(foodCode).foodName("음식").calories(calories).build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.pagoda.matchmeal.batch.writer;
+
+import com.pagoda.matchmeal.common.config.MybatisConfig;
+import com.pagoda.matchmeal.mapper.FoodBatchMapper;
+import com.pagoda.matchmeal.model.entity.Food;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * H2(MySQL 모드)에 실제 upsertFoods 쿼리를 실행해서 확인합니다.
+ */
+class FoodMultiRowUpsertWriterTest {
+
+    private static final int ROWS_PER_STATEMENT = 4;
+
+    private DataSource dataSource;
+    private DataSourceTransactionManager transactionManager;
+    private JdbcTemplate jdbcTemplate;
+    private FoodBatchMapper foodBatchMapper;
+    /** upsertFoods 한 번에 넘어간 행 수 */
+    private final List<Integer> statementSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:writer-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(
+                new ClassPathResource("schema.sql"),
+                new ClassPathResource("org/springframework/batch/core/schema-h2.sql")).execute(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        org.apache.ibatis.session.Configuration configuration = new org.apache.ibatis.session.Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setConfiguration(configuration);
+        factoryBean.setDatabaseIdProvider(new MybatisConfig().databaseIdProvider());
+        factoryBean.setMapperLocations(new PathMatchingResourcePatternResolver().getResources("classpath:mappers/**/*.xml"));
+        FoodBatchMapper mapper = new SqlSessionTemplate(factoryBean.getObject()).getMapper(FoodBatchMapper.class);
+
+        // 실제 매퍼로 실행하면서 INSERT 문마다 담긴 행 수를 기록
+        foodBatchMapper = mock(FoodBatchMapper.class, delegatesTo(mapper));
+        doAnswer(invocation -> {
+            List<Food> foods = invocation.getArgument(0);
+            statementSizes.add(foods.size());
+            mapper.upsertFoods(foods);
+            return null;
+        }).when(foodBatchMapper).upsertFoods(anyList());
+    }
+
+    @Test
+    @DisplayName("rowsPerStatement보다 큰 Chunk는 나눠서 INSERT하고, Step의 쓰기 건수는 전체 행 수와 같음")
+    void splitChunk() throws Exception {
+        List<Food> foods = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            foods.add(food("W" + i, "음식_" + i, i * 10, i));
+        }
+
+        StepExecution step = runStep(foods, 10);
+
+        assertThat(step.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(statementSizes).containsExactly(4, 4, 2);
+        assertThat(step.getWriteCount()).isEqualTo(10);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM foods", Long.class)).isEqualTo(10);
+        assertThat(jdbcTemplate.queryForObject("SELECT food_name FROM foods WHERE food_code = 'W10'", String.class))
+                .isEqualTo("음식_10");
+    }
+
+    @Test
+    @DisplayName("이미 있는 식품코드는 ON DUPLICATE KEY UPDATE로 값을 바꾸고 행을 새로 만들지 않음")
+    void updateExistingRows() throws Exception {
+        runStep(List.of(food("W1", "김치", 30, 1), food("W2", "쌀밥", 150, 2)), 10);
+        statementSizes.clear();
+
+        StepExecution step = runStep(List.of(
+                food("W1", "김치찌개", 80, 11),  // 변경
+                food("W2", "쌀밥", 150, 2),      // 동일
+                food("W3", "두부", 90, 3),       // 추가
+                food("W4", "된장국", 60, 4),
+                food("W5", "미역국", 40, 5)), 10);
+
+        assertThat(statementSizes).containsExactly(4, 1);
+        assertThat(step.getWriteCount()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM foods", Long.class)).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForMap("SELECT food_name, calories, content_hash FROM foods WHERE food_code = 'W1'"))
+                .containsEntry("FOOD_NAME", "김치찌개")
+                .containsEntry("CALORIES", 80.0)
+                .containsEntry("CONTENT_HASH", 11L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM foods WHERE food_code = 'W1'", Long.class)).isEqualTo(1);
+    }
+
+    /**
+     * 주어진 음식들을 Chunk Step 하나로 저장합니다. (Chunk 트랜잭션 안에서 Writer 실행)
+     */
+    private StepExecution runStep(List<Food> foods, int chunkSize) throws Exception {
+        JobRepositoryFactoryBean repositoryFactory = new JobRepositoryFactoryBean();
+        repositoryFactory.setDataSource(dataSource);
+        repositoryFactory.setTransactionManager(transactionManager);
+        repositoryFactory.afterPropertiesSet();
+        JobRepository jobRepository = repositoryFactory.getObject();
+
+        Job job = new JobBuilder("writerTestJob-" + UUID.randomUUID(), jobRepository)
+                .start(new StepBuilder("writerTestStep", jobRepository)
+                        .<Food, Food>chunk(chunkSize, transactionManager)
+                        .reader(new ListItemReader<>(foods))
+                        .writer(new FoodMultiRowUpsertWriter(foodBatchMapper, ROWS_PER_STATEMENT))
+                        .build())
+                .build();
+        TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.afterPropertiesSet();
+
+        JobExecution jobExecution = jobLauncher.run(job, new JobParameters());
+        return jobExecution.getStepExecutions().iterator().next();
+    }
+
+    private static Food food(String code, String name, double calories, long contentHash) {
+        return Food.builder()
+                .foodCode(code)
+                .foodName(name)
+                .category("테스트류")
+                .servingSize(100)
+                .unit("g")
+                .calories(calories)
+                .contentHash(contentHash)
+                .build();
+    }
+}
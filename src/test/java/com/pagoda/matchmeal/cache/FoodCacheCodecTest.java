@@ -0,0 +1,49 @@
+package com.pagoda.matchmeal.cache;
+
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FoodCacheCodecTest {
+
+    @Test
+    @DisplayName("직렬화 후 복원하면 같은 값이 나와야 함 (null 필드 포함)")
+    void roundTrip() {
+        // given
+        FoodResponseDto food = FoodResponseDto.builder()
+                .foodCode("D000001")
+                .foodName("김치 찌개")
+                .category(null)
+                .servingSize(200.0)
+                .unit("g")
+                .calories(123.4)
+                .carbohydrate(10.5)
+                .protein(8.25)
+                .fat(3.0)
+                .build();
+
+        // when
+        FoodResponseDto decoded = FoodCacheCodec.decode(FoodCacheCodec.encode(food));
+
+        // then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(food);
+    }
+
+    @Test
+    @DisplayName("다른 버전이거나 손상된 값은 miss(null)로 처리")
+    void unknownOrCorruptedValue() {
+        byte[] encoded = FoodCacheCodec.encode(FoodResponseDto.builder().foodCode("D000001").build());
+
+        byte[] otherVersion = encoded.clone();
+        otherVersion[0] = FoodCacheCodec.VERSION + 1;
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 4);
+
+        assertThat(FoodCacheCodec.decode(otherVersion)).isNull();
+        assertThat(FoodCacheCodec.decode(truncated)).isNull();
+        assertThat(FoodCacheCodec.decode(null)).isNull();
+    }
+}
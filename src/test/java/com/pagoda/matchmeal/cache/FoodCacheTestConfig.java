@@ -0,0 +1,25 @@
+package com.pagoda.matchmeal.cache;
+
+import com.pagoda.matchmeal.feed.InMemoryFoodChangeStream;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 통합 테스트에서 Redis 없이 실행할 수 있도록 원격 캐시와 변경 스트림을 메모리 구현으로 바꿔줍니다.
+ */
+@TestConfiguration
+public class FoodCacheTestConfig {
+
+    @Bean
+    @Primary
+    public InMemoryFoodRemoteCache inMemoryFoodRemoteCache() {
+        return new InMemoryFoodRemoteCache();
+    }
+
+    @Bean
+    @Primary
+    public InMemoryFoodChangeStream inMemoryFoodChangeStream() {
+        return new InMemoryFoodChangeStream();
+    }
+}
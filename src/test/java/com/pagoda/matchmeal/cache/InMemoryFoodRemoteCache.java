@@ -0,0 +1,73 @@
+package com.pagoda.matchmeal.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 원격 캐시 (Redis 대신 메모리 Map 사용)
+ * - 조회 횟수와 장애 상황(available=false)을 흉내낼 수 있습니다.
+ */
+public class InMemoryFoodRemoteCache implements FoodRemoteCache {
+
+    private final Map<String, byte[]> store = new ConcurrentHashMap<>();
+    private final AtomicInteger getCount = new AtomicInteger();
+    private final AtomicInteger multiGetCount = new AtomicInteger();
+    private volatile boolean available = true;
+
+    @Override
+    public byte[] get(String foodCode) {
+        getCount.incrementAndGet();
+        return available ? store.get(foodCode) : null;
+    }
+
+    @Override
+    public List<byte[]> getAll(List<String> foodCodes) {
+        multiGetCount.incrementAndGet();
+        List<byte[]> values = new ArrayList<>(foodCodes.size());
+        for (String foodCode : foodCodes) {
+            values.add(available ? store.get(foodCode) : null);
+        }
+        return values;
+    }
+
+    @Override
+    public void put(String foodCode, byte[] value) {
+        if (available) {
+            store.put(foodCode, value);
+        }
+    }
+
+    @Override
+    public void putAll(Map<String, byte[]> values) {
+        if (available) {
+            store.putAll(values);
+        }
+    }
+
+    @Override
+    public void evictAll(Collection<String> foodCodes) {
+        if (available) {
+            foodCodes.forEach(store::remove);
+        }
+    }
+
+    public boolean contains(String foodCode) {
+        return store.containsKey(foodCode);
+    }
+
+    public int getCount() {
+        return getCount.get();
+    }
+
+    public int getMultiGetCount() {
+        return multiGetCount.get();
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+}
@@ -0,0 +1,177 @@
+package com.pagoda.matchmeal.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration STALE_TTL = Duration.ofMinutes(5);
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키를 동시에 조회하면 loader는 한 번만 실행되고 모두 같은 값을 받음")
+    void coalesceConcurrentMisses() throws Exception {
+        SingleFlightCache<String, String> cache = cache(0);
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReferenceArray<String> results = new AtomicReferenceArray<>(16);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            int index = i;
+            threads.add(new Thread(() -> results.set(index, cache.get("key", key -> {
+                loads.incrementAndGet();
+                loaderEntered.countDown();
+                await(release);
+                return "value";
+            }))));
+        }
+        threads.get(0).start();
+        assertThat(loaderEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        for (Thread thread : threads.subList(1, threads.size())) {
+            thread.start();
+        }
+        // 나머지 스레드가 모두 진행 중인 로딩의 결과를 기다릴 때까지
+        for (Thread thread : threads.subList(1, threads.size())) {
+            while (thread.getState() != Thread.State.WAITING && thread.isAlive()) {
+                Thread.onSpinWait();
+            }
+        }
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join(5_000);
+        }
+
+        assertThat(loads).hasValue(1);
+        for (int i = 0; i < results.length(); i++) {
+            assertThat(results.get(i)).isEqualTo("value");
+        }
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 뒤 다시 읽다가 실패하면 이전 값으로 응답하고, stale 기간까지 지나면 예외")
+    void staleWhileRevalidate() {
+        SingleFlightCache<String, String> cache = cache(0);
+        cache.get("key", key -> "old");
+
+        now.addAndGet(TTL.plusMinutes(1).toNanos());
+        assertThat(cache.get("key", key -> {
+            throw new IllegalStateException("DB down");
+        })).isEqualTo("old");
+
+        now.addAndGet(STALE_TTL.toNanos());
+        assertThatThrownBy(() -> cache.get("key", key -> {
+            throw new IllegalStateException("DB down");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 읽은 값으로 응답")
+    void reloadAfterTtl() {
+        SingleFlightCache<String, String> cache = cache(0);
+        cache.get("key", key -> "old");
+
+        now.addAndGet(TTL.toNanos());
+
+        assertThat(cache.get("key", key -> "new")).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("조기 갱신: 기존 값으로 바로 응답하고, 갱신된 값은 다음 조회부터 사용")
+    void earlyRefresh() {
+        SingleFlightCache<String, String> cache = cache(1e12);
+        cache.get("key", key -> {
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1)); // 로딩에 1ms 걸린 값
+            return "v" + loads.incrementAndGet();
+        });
+
+        String first = cache.get("key", key -> "v" + loads.incrementAndGet());
+        String second = cache.get("key", key -> "v" + loads.incrementAndGet());
+
+        assertThat(first).isEqualTo("v1");
+        assertThat(second).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("로딩 중에 무효화되면 읽은 값을 캐시에 남기지 않음")
+    void invalidateDuringLoad() {
+        SingleFlightCache<String, String> cache = cache(0);
+
+        cache.get("key", key -> {
+            loads.incrementAndGet();
+            cache.invalidateAll(List.of(key));
+            return "before-change";
+        });
+        cache.get("key", key -> {
+            loads.incrementAndGet();
+            return "after-change";
+        });
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.get("key", key -> "unused")).isEqualTo("after-change");
+    }
+
+    @Test
+    @DisplayName("다른 경로로 읽은 값: 읽는 동안 무효화되었으면(세대가 바뀜) 넣지 않음")
+    void putWithGeneration() {
+        SingleFlightCache<String, String> cache = cache(0);
+
+        long generation = cache.generation("key");
+        cache.invalidateAll(List.of("key"));
+        boolean stalePut = cache.put("key", "before-change", generation);
+        boolean freshPut = cache.put("key", "after-change", cache.generation("key"));
+        long beforeClear = cache.generation("other");
+        cache.invalidateAll();
+
+        assertThat(stalePut).isFalse();
+        assertThat(freshPut).isTrue();
+        assertThat(cache.put("other", "before-clear", beforeClear)).isFalse();
+        assertThat(cache.getIfPresent("other")).isNull();
+    }
+
+    @Test
+    @DisplayName("없는 키(null)는 캐시하지 않음")
+    void nullNotCached() {
+        SingleFlightCache<String, String> cache = cache(0);
+
+        cache.get("none", key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        String second = cache.get("none", key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertThat(second).isNull();
+        assertThat(loads).hasValue(2);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    private SingleFlightCache<String, String> cache(double earlyRefreshBeta) {
+        return new SingleFlightCache<>(100, TTL, STALE_TTL, earlyRefreshBeta, Runnable::run, now::get);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
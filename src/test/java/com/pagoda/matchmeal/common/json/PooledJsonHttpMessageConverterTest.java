@@ -0,0 +1,109 @@
+package com.pagoda.matchmeal.common.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pagoda.matchmeal.common.response.CommonResponse;
+import com.pagoda.matchmeal.common.util.ApiResponseUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledJsonHttpMessageConverterTest {
+
+    private static final long MIN_SIZE = 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ResponseBufferPool bufferPool = new ResponseBufferPool(4, 256, 64 * 1024);
+    private final PooledJsonHttpMessageConverter converter =
+            new PooledJsonHttpMessageConverter(objectMapper, bufferPool, MIN_SIZE);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("최소 크기보다 작은 응답은 압축하지 않고 Content-Length를 붙여 보낸다")
+    void smallResponse() throws Exception {
+        MockHttpServletResponse response = write(ApiResponseUtil.success("작은 응답"), "gzip");
+
+        String expected = objectMapper.writeValueAsString(ApiResponseUtil.success("작은 응답"));
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentLength()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("최소 크기 이상이고 gzip을 받으면 압축해서 보낸다")
+    void largeResponseCompressed() throws Exception {
+        CommonResponse<String> body = ApiResponseUtil.success("음식".repeat(2000));
+
+        MockHttpServletResponse response = write(body, "gzip, deflate, br");
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(objectMapper.writeValueAsString(body));
+    }
+
+    @Test
+    @DisplayName("gzip을 받지 않는 클라이언트에는 큰 응답도 압축하지 않는다")
+    void largeResponseWithoutGzip() throws Exception {
+        CommonResponse<String> body = ApiResponseUtil.success("음식".repeat(2000));
+
+        MockHttpServletResponse response = write(body, null);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(body));
+    }
+
+    @Test
+    @DisplayName("사용한 버퍼는 풀에 돌려놓는다")
+    void buffersReturnedToPool() throws Exception {
+        write(ApiResponseUtil.success("음식".repeat(2000)), "gzip");
+
+        assertThat(bufferPool.pooledCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding의 q=0은 gzip을 받지 않는다는 뜻으로 본다")
+    void acceptsGzip() {
+        assertThat(PooledJsonHttpMessageConverter.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(PooledJsonHttpMessageConverter.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(PooledJsonHttpMessageConverter.acceptsGzip("*")).isTrue();
+        assertThat(PooledJsonHttpMessageConverter.acceptsGzip("gzip;q=0, deflate")).isFalse();
+        assertThat(PooledJsonHttpMessageConverter.acceptsGzip("identity")).isFalse();
+        assertThat(PooledJsonHttpMessageConverter.acceptsGzip(null)).isFalse();
+    }
+
+    private MockHttpServletResponse write(Object body, String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/foods");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        converter.write(body, MediaType.APPLICATION_JSON, new ServletServerHttpResponse(response));
+        return response;
+    }
+
+    private static String gunzip(byte[] compressed) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.pagoda.matchmeal.common.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pagoda.matchmeal.common.response.CommonResponse;
+import com.pagoda.matchmeal.common.response.CursorPageInfoResponseDto;
+import com.pagoda.matchmeal.common.response.PageInfoResponseDto;
+import com.pagoda.matchmeal.common.util.ApiResponseUtil;
+import com.pagoda.matchmeal.model.dto.FoodDensityResponseDto;
+import com.pagoda.matchmeal.model.dto.FoodLookupResultDto;
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseJsonModuleTest {
+
+    private final ObjectMapper defaultMapper = new ObjectMapper();
+    private final ObjectMapper moduleMapper = new ObjectMapper().registerModule(new ResponseJsonModule());
+
+    @Test
+    @DisplayName("음식 1건 응답은 기본 ObjectMapper와 같은 JSON으로 직렬화된다")
+    void single() throws Exception {
+        assertSameJson(ApiResponseUtil.success(food(1, "1/2컵")));
+        assertSameJson(ApiResponseUtil.success(food(2, null)));
+    }
+
+    @Test
+    @DisplayName("페이지/커서 페이지 응답은 기본 ObjectMapper와 같은 JSON으로 직렬화된다")
+    void pages() throws Exception {
+        List<FoodResponseDto> foods = List.of(food(1, "100g"), food(2, null), food(3, "1개"));
+
+        assertSameJson(ApiResponseUtil.success(PageInfoResponseDto.of(PageRequest.of(1, 2), foods, 10)));
+        assertSameJson(ApiResponseUtil.success(CursorPageInfoResponseDto.of(foods, 2, FoodResponseDto::getFoodCode)));
+        assertSameJson(ApiResponseUtil.success(CursorPageInfoResponseDto.of(foods, 5, FoodResponseDto::getFoodCode)));
+    }
+
+    @Test
+    @DisplayName("밀도 순위/여러 건 조회 응답의 null 값도 기본 ObjectMapper와 같게 직렬화된다")
+    void densityAndLookup() throws Exception {
+        FoodDensityResponseDto measurable = FoodDensityResponseDto.builder()
+                .foodCode("D1").foodName("닭가슴살").category("육류").unit("g")
+                .caloriesPer100(109.0).proteinPer100(23.5).fatPer100(1.2).carbohydratePer100(0.0)
+                .proteinPer100kcal(21.56)
+                .build();
+        FoodDensityResponseDto countUnit = FoodDensityResponseDto.builder()
+                .foodCode("D2").foodName("김밥").category("밥류").unit("인분")
+                .proteinPer100kcal(3.1)
+                .build();
+
+        assertSameJson(ApiResponseUtil.success(List.of(measurable, countUnit)));
+        assertSameJson(ApiResponseUtil.success(Arrays.asList(
+                FoodLookupResultDto.of("D000001", food(1, "100g")),
+                FoodLookupResultDto.of("NONE", null),
+                null)));
+    }
+
+    @Test
+    @DisplayName("데이터가 없는 응답과 실패 응답도 같은 JSON으로 직렬화된다")
+    void withoutData() throws Exception {
+        assertSameJson(ApiResponseUtil.success());
+        assertSameJson(ApiResponseUtil.failure(400, "잘못된 요청 \"값\""));
+        assertSameJson(new CommonResponse<>());
+    }
+
+    private void assertSameJson(Object value) throws Exception {
+        assertThat(moduleMapper.writeValueAsString(value)).isEqualTo(defaultMapper.writeValueAsString(value));
+    }
+
+    private static FoodResponseDto food(int i, String servingSizeText) {
+        return FoodResponseDto.builder()
+                .foodCode("D" + (100000 + i))
+                .foodName("음식 " + i)
+                .category("육류 및 그 제품")
+                .servingSize(100.5)
+                .unit("g")
+                .servingSizeText(servingSizeText)
+                .calories(250)
+                .carbohydrate(10.5)
+                .protein(20.25)
+                .fat(8.0)
+                .build();
+    }
+}
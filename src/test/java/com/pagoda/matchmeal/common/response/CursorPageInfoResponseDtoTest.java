@@ -0,0 +1,61 @@
+package com.pagoda.matchmeal.common.response;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorPageInfoResponseDtoTest {
+
+    @Test
+    @DisplayName("커서 페이지네이션 - size보다 하나 더 조회되면 다음 페이지 있음")
+    void hasNextPage() {
+        // given
+        // 페이지 크기 10, DB에서 11개 조회 (size + 1)
+        List<Integer> fetched = createMockData(11);
+
+        // when
+        CursorPageInfoResponseDto<Integer> result = CursorPageInfoResponseDto.of(fetched, 10, String::valueOf);
+
+        // then
+        CursorPageResponseDto info = result.getCursorInfo();
+
+        assertThat(result.getContent()).hasSize(10);      // 초과분 1개는 잘라냄
+        assertThat(info.getNumberOfElements()).isEqualTo(10);
+        assertThat(info.isHasNext()).isTrue();
+        assertThat(info.getNextCursor()).isEqualTo("10"); // 현재 페이지의 마지막 데이터 기준
+    }
+
+    @Test
+    @DisplayName("커서 페이지네이션 - 마지막 페이지는 커서 없음")
+    void lastPage() {
+        // given
+        List<Integer> fetched = createMockData(4);
+
+        // when
+        CursorPageInfoResponseDto<Integer> result = CursorPageInfoResponseDto.of(fetched, 10, String::valueOf);
+
+        // then
+        assertThat(result.getContent()).hasSize(4);
+        assertThat(result.getCursorInfo().isHasNext()).isFalse();
+        assertThat(result.getCursorInfo().getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("map - 커서 정보는 유지하고 데이터만 변환")
+    void mapContent() {
+        CursorPageInfoResponseDto<Integer> page = CursorPageInfoResponseDto.of(createMockData(3), 2, String::valueOf);
+
+        CursorPageInfoResponseDto<String> mapped = page.map(i -> "음식" + i);
+
+        assertThat(mapped.getContent()).containsExactly("음식1", "음식2");
+        assertThat(mapped.getCursorInfo()).isSameAs(page.getCursorInfo());
+    }
+
+    private List<Integer> createMockData(int count) {
+        return IntStream.rangeClosed(1, count).boxed().toList();
+    }
+}
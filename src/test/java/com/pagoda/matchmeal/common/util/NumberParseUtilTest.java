@@ -0,0 +1,72 @@
+package com.pagoda.matchmeal.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NumberParseUtilTest {
+
+    @ParameterizedTest(name = "[{index}] \"{0}\" -> {1}")
+    @CsvSource(delimiter = '|', value = {
+            "100g        | 100.0",
+            "200ml       | 200.0",
+            "'1,200'     | 1200.0",
+            "0.05        | 0.05",
+            "12.345      | 12.345",
+            ".5          | 0.5",
+            "1.          | 1.0",
+            "약 3.7 kcal | 3.7",
+            "00012       | 12.0"
+    })
+    @DisplayName("숫자와 점을 제외한 문자는 무시하고 변환한다")
+    void parse_validNumbers(String value, double expected) {
+        // when
+        double result = NumberParseUtil.parseDoubleSafe(value);
+
+        // then
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "[{index}] \"{0}\" -> 0.0")
+    @CsvSource(delimiter = '|', value = {
+            "-",
+            "N/A",
+            "g",
+            ".",
+            "1.2.3"
+    })
+    @DisplayName("변환할 수 없는 값은 0.0으로 처리한다")
+    void parse_invalidNumbers(String value) {
+        assertThat(NumberParseUtil.parseDoubleSafe(value)).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("null과 빈 문자열은 0.0으로 처리한다")
+    void parse_nullOrEmpty() {
+        assertThat(NumberParseUtil.parseDoubleSafe(null)).isEqualTo(0.0);
+        assertThat(NumberParseUtil.parseDoubleSafe("")).isEqualTo(0.0);
+        assertThat(NumberParseUtil.parseDoubleSafe("   ")).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("유효 자릿수가 많은 값도 Double.parseDouble과 같은 결과를 낸다")
+    void parse_manyDigits() {
+        String value = "1234567.890123456789";
+
+        assertThat(NumberParseUtil.parseDoubleSafe(value)).isEqualTo(Double.parseDouble(value));
+    }
+
+    @Test
+    @DisplayName("parseDoubleOrNaN은 변환할 수 없는 값을 NaN으로 돌려준다 (실제 0과 구분)")
+    void parseOrNaN_distinguishesFallback() {
+        assertThat(NumberParseUtil.parseDoubleOrNaN("0")).isEqualTo(0.0);
+        assertThat(NumberParseUtil.parseDoubleOrNaN("1,200")).isEqualTo(1200.0);
+        assertThat(NumberParseUtil.parseDoubleOrNaN(null)).isNaN();
+        assertThat(NumberParseUtil.parseDoubleOrNaN("")).isNaN();
+        assertThat(NumberParseUtil.parseDoubleOrNaN("N/A")).isNaN();
+        assertThat(NumberParseUtil.parseDoubleOrNaN("1.2.3")).isNaN();
+    }
+}
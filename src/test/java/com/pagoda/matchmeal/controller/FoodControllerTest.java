@@ -0,0 +1,171 @@
+package com.pagoda.matchmeal.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.pagoda.matchmeal.mapper.FoodMapper;
+import com.pagoda.matchmeal.model.entity.Food;
+import com.pagoda.matchmeal.service.FoodChangeFeedService;
+import com.pagoda.matchmeal.service.FoodExportService;
+import com.pagoda.matchmeal.service.FoodLookupService;
+import com.pagoda.matchmeal.service.FoodNutritionService;
+import com.pagoda.matchmeal.service.FoodQueryService;
+import com.pagoda.matchmeal.service.FoodSearchService;
+import com.pagoda.matchmeal.service.FoodSnapshotService;
+import com.pagoda.matchmeal.snapshot.FoodCatalogSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * FoodController의 요청 파라미터 처리와 조건부 응답(ETag)을 확인합니다.
+ * - 목록 조회는 실제 FoodQueryService(커서 인코딩/검증)를 사용하고, DB(FoodMapper)만 대체합니다.
+ */
+@WebMvcTest(controllers = FoodController.class)
+@Import(FoodQueryService.class)
+@AutoConfigureMockMvc(addFilters = false)
+class FoodControllerTest {
+
+    private static final String CATEGORY = "육류";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private FoodMapper foodMapper;
+    @MockitoBean
+    private FoodLookupService foodLookupService;
+    @MockitoBean
+    private FoodSearchService foodSearchService;
+    @MockitoBean
+    private FoodNutritionService foodNutritionService;
+    @MockitoBean
+    private FoodExportService foodExportService;
+    @MockitoBean
+    private FoodSnapshotService foodSnapshotService;
+    @MockitoBean
+    private FoodChangeFeedService foodChangeFeedService;
+
+    @Test
+    @DisplayName("/foods/export: If-None-Match가 현재 ETag와 같으면 본문 없이 304")
+    void exportNotModified() throws Exception {
+        when(foodExportService.getEtag()).thenReturn("\"v1\"");
+
+        mockMvc.perform(get("/foods/export").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""));
+        verify(foodExportService, never()).export(any());
+
+        mockMvc.perform(get("/foods/export").header(HttpHeaders.IF_NONE_MATCH, "\"v0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""));
+        verify(foodExportService).export(any());
+    }
+
+    @Test
+    @DisplayName("/foods/snapshot: If-None-Match가 현재 스냅샷 버전과 같으면 파일을 보내지 않고 304")
+    void snapshotNotModified() throws Exception {
+        when(foodSnapshotService.getSnapshot()).thenReturn(new FoodCatalogSnapshot(
+                "abc123", Path.of("does-not-exist", FoodCatalogSnapshot.fileName("abc123")), 10, 1, Instant.now()));
+
+        mockMvc.perform(get("/foods/snapshot").header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_DISPOSITION));
+    }
+
+    @Test
+    @DisplayName("/foods: 응답의 nextCursor로 다음 페이지를 이어서 조회하고, 마지막 페이지에는 커서가 없음")
+    void cursorRoundTrip() throws Exception {
+        when(foodMapper.findPage(eq(CATEGORY), isNull(), eq(3))).thenReturn(List.of(food(1), food(2), food(3)));
+        when(foodMapper.findPage(CATEGORY, 2L, 3)).thenReturn(List.of(food(3)));
+
+        String firstPage = mockMvc.perform(get("/foods").param("category", CATEGORY).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[*].foodCode").value(contains("D000001", "D000002")))
+                .andExpect(jsonPath("$.data.cursorInfo.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = JsonPath.read(firstPage, "$.data.cursorInfo.nextCursor");
+
+        mockMvc.perform(get("/foods").param("category", CATEGORY).param("size", "2").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[*].foodCode").value(contains("D000003")))
+                .andExpect(jsonPath("$.data.cursorInfo.hasNext").value(false))
+                .andExpect(jsonPath("$.data.cursorInfo.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("/foods: 다른 분류로 만든 커서나 형식이 잘못된 커서는 400 (INVALID_CURSOR)")
+    void rejectCursorFromOtherCategory() throws Exception {
+        when(foodMapper.findPage(eq(CATEGORY), isNull(), eq(3))).thenReturn(List.of(food(1), food(2), food(3)));
+        String firstPage = mockMvc.perform(get("/foods").param("category", CATEGORY).param("size", "2"))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = JsonPath.read(firstPage, "$.data.cursorInfo.nextCursor");
+
+        mockMvc.perform(get("/foods").param("category", "채소류").param("cursor", nextCursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("잘못된 커서입니다."));
+        mockMvc.perform(get("/foods").param("cursor", nextCursor)) // 전체 조회
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/foods").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("/foods: size가 숫자가 아니면 400, 범위를 벗어나면 1 ~ 100으로 보정")
+    void invalidSize() throws Exception {
+        when(foodMapper.findPage(any(), any(), anyInt())).thenReturn(List.of());
+
+        mockMvc.perform(get("/foods").param("size", "ten"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+        mockMvc.perform(get("/foods").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.cursorInfo.size").value(FoodQueryService.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    @DisplayName("/foods/density: 지원하지 않는 정렬 기준은 400 (INVALID_SORT), limit이 숫자가 아니면 400")
+    void invalidSort() throws Exception {
+        mockMvc.perform(get("/foods/density").param("category", CATEGORY).param("sort", "sugar"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("지원하지 않는 정렬 기준입니다."));
+        mockMvc.perform(get("/foods/density").param("category", CATEGORY).param("limit", "many"))
+                .andExpect(status().isBadRequest());
+        verify(foodMapper, never()).findTopByDensity(anyString(), any(), anyBoolean(), anyInt());
+    }
+
+    private static Food food(long foodId) {
+        return Food.builder()
+                .foodId(foodId)
+                .foodCode(String.format("D%06d", foodId))
+                .foodName("음식_" + foodId)
+                .category(CATEGORY)
+                .build();
+    }
+}
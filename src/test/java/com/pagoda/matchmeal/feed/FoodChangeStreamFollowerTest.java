@@ -0,0 +1,75 @@
+package com.pagoda.matchmeal.feed;
+
+import com.pagoda.matchmeal.model.entity.FoodChangeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FoodChangeStreamFollowerTest {
+
+    private final InMemoryFoodChangeStream stream = new InMemoryFoodChangeStream();
+    private final List<String> evicted = new ArrayList<>();
+    private final AtomicInteger resets = new AtomicInteger();
+    private final FoodChangeStreamFollower follower = new FoodChangeStreamFollower(
+            stream, batch -> evicted.addAll(batch.foodCodes()), resets::incrementAndGet, Duration.ofSeconds(1), 2, false);
+
+    @Test
+    @DisplayName("시작 시점 이후에 추가된 항목만 이어서 읽는다")
+    void followsFromLastOffset() {
+        stream.append(List.of(change("D1")));
+        follower.poll(); // 시작 위치 = 현재 마지막 항목
+
+        stream.append(List.of(change("D2")));
+        stream.append(List.of(change("D3"), change("D4")));
+        stream.append(List.of(change("D5")));
+        follower.poll();
+        follower.poll(); // 새 항목 없음
+
+        assertThat(evicted).containsExactly("D2", "D3", "D4", "D5");
+        assertThat(follower.getLastOffset()).isEqualTo(stream.lastOffset());
+        assertThat(resets).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("읽지 못한 항목이 지워졌으면 onReset을 호출하고 남은 항목부터 이어서 읽는다")
+    void resetWhenTrimmed() {
+        stream.append(List.of(change("D1")));
+        follower.poll();
+
+        stream.append(List.of(change("D2")));
+        stream.append(List.of(change("D3")));
+        stream.append(List.of(change("D4")));
+        stream.trim(1);
+        follower.poll();
+        follower.poll();
+
+        assertThat(resets).hasValue(1);
+        assertThat(evicted).containsExactly("D4");
+    }
+
+    @Test
+    @DisplayName("마지막으로 읽은 항목까지만 지워졌으면 놓친 항목이 없으므로 onReset을 호출하지 않는다")
+    void noResetWhenTrimmedUpToLastOffset() {
+        stream.append(List.of(change("D1")));
+        follower.poll();
+
+        stream.append(List.of(change("D2")));
+        follower.poll(); // D2까지 읽음
+        stream.append(List.of(change("D3")));
+        stream.trim(1); // D3만 남음 (D2는 이미 읽은 항목)
+        follower.poll();
+
+        assertThat(resets).hasValue(0);
+        assertThat(evicted).containsExactly("D2", "D3");
+    }
+
+    private static FoodChange change(String foodCode) {
+        return new FoodChange(FoodChangeType.UPDATE, foodCode, List.of("calories"));
+    }
+}
@@ -0,0 +1,43 @@
+package com.pagoda.matchmeal.feed;
+
+import com.pagoda.matchmeal.model.entity.Food;
+import com.pagoda.matchmeal.model.entity.FoodChangeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FoodChangeTest {
+
+    private static final Food KIMCHI = Food.builder()
+            .foodCode("D000001").foodName("김치").category("김치류").servingSize(100).unit("g")
+            .calories(30).protein(2).fat(0.5).carbohydrate(5)
+            .build();
+
+    @Test
+    @DisplayName("기존 값이 없으면 모든 필드가 바뀐 INSERT")
+    void insert() {
+        FoodChange change = FoodChange.diff(null, KIMCHI);
+
+        assertThat(change.getOp()).isEqualTo(FoodChangeType.INSERT);
+        assertThat(change.getFoodCode()).isEqualTo("D000001");
+        assertThat(change.getChangedFields()).isEqualTo(FoodChange.FIELDS);
+    }
+
+    @Test
+    @DisplayName("바뀐 필드만 담은 UPDATE")
+    void update() {
+        Food after = KIMCHI.toBuilder().calories(35).unit("ml").contentHash(1L).build();
+
+        FoodChange change = FoodChange.diff(KIMCHI, after);
+
+        assertThat(change.getOp()).isEqualTo(FoodChangeType.UPDATE);
+        assertThat(change.getChangedFields()).containsExactly("unit", "calories");
+    }
+
+    @Test
+    @DisplayName("내용이 같으면 변경 기록 없음")
+    void unchanged() {
+        assertThat(FoodChange.diff(KIMCHI, KIMCHI.toBuilder().contentHash(1L).build())).isNull();
+    }
+}
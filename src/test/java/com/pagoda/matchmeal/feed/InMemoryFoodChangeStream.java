@@ -0,0 +1,59 @@
+package com.pagoda.matchmeal.feed;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트용 음식 변경 스트림 (Redis Stream 대신 메모리 List 사용)
+ * - offset은 Redis Stream 항목 ID와 같은 형식("순번-0")으로 1부터 만듭니다.
+ * - trim으로 오래된 항목을 지울 수 있습니다. (Redis Stream의 MAXLEN)
+ */
+public class InMemoryFoodChangeStream implements FoodChangeStream {
+
+    private final List<FoodChangeBatch> entries = new ArrayList<>();
+    /** 지금까지 지운 항목 수 (entries.get(0)의 순번 - 1) */
+    private long trimmed;
+
+    @Override
+    public synchronized String append(List<FoodChange> changes) {
+        String offset = (trimmed + entries.size() + 1) + "-0";
+        entries.add(new FoodChangeBatch(offset, List.copyOf(changes)));
+        return offset;
+    }
+
+    @Override
+    public synchronized List<FoodChangeBatch> read(String after, int limit) {
+        long afterSequence = Long.parseLong(after.split("-")[0]);
+        int from = (int) Math.min(Math.max(afterSequence - trimmed, 0), entries.size());
+        return List.copyOf(entries.subList(from, Math.min(from + limit, entries.size())));
+    }
+
+    @Override
+    public synchronized String lastOffset() {
+        return entries.isEmpty() ? START_OFFSET : entries.get(entries.size() - 1).getOffset();
+    }
+
+    @Override
+    public synchronized String firstOffset() {
+        return entries.isEmpty() ? null : entries.get(0).getOffset();
+    }
+
+    @Override
+    public synchronized String trimmedOffset() {
+        return trimmed == 0 ? START_OFFSET : trimmed + "-0";
+    }
+
+    /**
+     * 최근 maxLength개만 남기고 지웁니다.
+     */
+    public synchronized void trim(int maxLength) {
+        while (entries.size() > maxLength) {
+            entries.remove(0);
+            trimmed++;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
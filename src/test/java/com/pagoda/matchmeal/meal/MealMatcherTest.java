@@ -0,0 +1,140 @@
+package com.pagoda.matchmeal.meal;
+
+import com.pagoda.matchmeal.model.entity.Food;
+import com.pagoda.matchmeal.nutrition.FoodNutritionStore;
+import com.pagoda.matchmeal.nutrition.Nutrient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MealMatcherTest {
+
+    @Test
+    @DisplayName("분기 한정 탐색 결과가 전체 조합을 다 비교한 결과와 같아야 함")
+    void matchesBruteForce() {
+        // given - 음식 60개, 목표: 칼로리 700 / 단백질 45 / 탄수화물 80 (지방은 목표 없음)
+        FoodNutritionStore store = randomStore(60, new Random(7));
+        MealMatchQuery query = query(new double[]{700, 45, Double.NaN, 80}, 3, null, Duration.ofSeconds(5));
+
+        // when
+        MealMatchResult result = MealMatcher.match(store, query);
+
+        // then
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getCombinations().get(0).getScore()).isCloseTo(bruteForceBest(store, 700, 45, 80), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("결과는 점수 오름차순이고, 한 조합에 같은 음식이 두 번 들어가지 않음")
+    void orderedAndDistinct() {
+        FoodNutritionStore store = randomStore(200, new Random(11));
+        MealMatchQuery query = query(new double[]{600, 30, 20, 70}, 3, null, Duration.ofSeconds(5));
+
+        MealMatchResult result = MealMatcher.match(store, query);
+
+        assertThat(result.getCombinations()).hasSize(5);
+        for (int r = 1; r < result.getCombinations().size(); r++) {
+            assertThat(result.getCombinations().get(r).getScore())
+                    .isGreaterThanOrEqualTo(result.getCombinations().get(r - 1).getScore());
+        }
+        for (MealMatchResult.Combination combination : result.getCombinations()) {
+            int[] rows = combination.getRows();
+            assertThat(rows).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    @DisplayName("분류 제한: 허용한 분류의 음식만 사용")
+    void categoryConstraint() {
+        FoodNutritionStore store = randomStore(200, new Random(3));
+        int allowed = store.categoryId("분류1");
+        MealMatchQuery query = query(new double[]{500, Double.NaN, Double.NaN, Double.NaN}, 2, new int[]{allowed}, Duration.ofSeconds(5));
+
+        MealMatchResult result = MealMatcher.match(store, query);
+
+        assertThat(result.getCombinations()).isNotEmpty();
+        for (MealMatchResult.Combination combination : result.getCombinations()) {
+            for (int row : combination.getRows()) {
+                assertThat(store.categoryIdAt(row)).isEqualTo(allowed);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("시간 제한을 넘기면 탐색을 멈추고 그때까지 찾은 조합을 반환")
+    void timeBudgetReturnsBestSoFar() {
+        FoodNutritionStore store = randomStore(20000, new Random(5));
+        MealMatchQuery query = MealMatchQuery.builder()
+                .targets(new double[]{900, 50, 30, 100})
+                .itemCount(5)
+                .servingMultiples(new double[]{0.5, 1.0, 1.5, 2.0})
+                .resultCount(5)
+                .candidateLimit(5000)
+                .timeBudget(Duration.ofMillis(5))
+                .build();
+
+        long start = System.nanoTime();
+        MealMatchResult result = MealMatcher.match(store, query);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.getCombinations()).isNotEmpty(); // 그리디 시작값은 항상 있음
+        assertThat(elapsedMs).isLessThan(2000);
+    }
+
+    private static MealMatchQuery query(double[] targets, int itemCount, int[] categoryIds, Duration timeBudget) {
+        return MealMatchQuery.builder()
+                .targets(targets)
+                .itemCount(itemCount)
+                .categoryIds(categoryIds)
+                .servingMultiples(new double[]{1.0})
+                .resultCount(5)
+                .candidateLimit(5000)
+                .timeBudget(timeBudget)
+                .build();
+    }
+
+    private static double bruteForceBest(FoodNutritionStore store, double calories, double protein, double carbohydrate) {
+        double[] c = store.column(Nutrient.CALORIES);
+        double[] p = store.column(Nutrient.PROTEIN);
+        double[] cb = store.column(Nutrient.CARBOHYDRATE);
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < store.size(); i++) {
+            for (int j = i + 1; j < store.size(); j++) {
+                for (int k = j + 1; k < store.size(); k++) {
+                    double score = Math.abs(c[i] + c[j] + c[k] - calories) / calories
+                            + Math.abs(p[i] + p[j] + p[k] - protein) / protein
+                            + Math.abs(cb[i] + cb[j] + cb[k] - carbohydrate) / carbohydrate;
+                    best = Math.min(best, score);
+                }
+            }
+        }
+        return best;
+    }
+
+    private static FoodNutritionStore randomStore(int size, Random random) {
+        FoodNutritionStore.Builder builder = new FoodNutritionStore.Builder();
+        for (int i = 0; i < size; i++) {
+            double protein = random.nextDouble() * 40;
+            double fat = random.nextDouble() * 30;
+            double carbohydrate = random.nextDouble() * 90;
+            builder.add(Food.builder()
+                    .foodCode("C" + i)
+                    .foodName("음식" + i)
+                    .category("분류" + (i % 4))
+                    .servingSize(100)
+                    .unit("g")
+                    .calories(4 * protein + 9 * fat + 4 * carbohydrate)
+                    .protein(protein)
+                    .fat(fat)
+                    .carbohydrate(carbohydrate)
+                    .build());
+        }
+        return builder.build();
+    }
+}
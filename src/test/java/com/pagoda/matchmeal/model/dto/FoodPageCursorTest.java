@@ -0,0 +1,45 @@
+package com.pagoda.matchmeal.model.dto;
+
+import com.pagoda.matchmeal.common.exception.CustomException;
+import com.pagoda.matchmeal.common.exception.ErrorResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FoodPageCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 같은 조건으로 해석하면 같은 값")
+    void roundTrip() {
+        String cursor = new FoodPageCursor("국 및 탕류", 12345L).encode();
+
+        FoodPageCursor decoded = FoodPageCursor.decode(cursor, "국 및 탕류");
+
+        assertThat(decoded.getLastFoodId()).isEqualTo(12345L);
+        assertThat(decoded.getCategory()).isEqualTo("국 및 탕류");
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null)")
+    void firstPage() {
+        assertThat(FoodPageCursor.decode(null, null)).isNull();
+        assertThat(FoodPageCursor.decode("", null)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 조건으로 만든 커서나 형식이 잘못된 커서는 INVALID_CURSOR")
+    void invalidCursor() {
+        String allFoodsCursor = new FoodPageCursor(null, 10L).encode();
+
+        assertThatThrownBy(() -> FoodPageCursor.decode(allFoodsCursor, "국 및 탕류"))
+                .isInstanceOf(CustomException.class)
+                .extracting("code")
+                .isEqualTo(ErrorResponseCode.INVALID_CURSOR);
+        assertThatThrownBy(() -> FoodPageCursor.decode("!!not-base64!!", null))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> FoodPageCursor.decode("AQ", null)) // 버전만 있고 내용이 잘림
+                .isInstanceOf(CustomException.class);
+    }
+}
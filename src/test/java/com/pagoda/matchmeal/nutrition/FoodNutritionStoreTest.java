@@ -0,0 +1,93 @@
+package com.pagoda.matchmeal.nutrition;
+
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FoodNutritionStoreTest {
+
+    private FoodNutritionStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new FoodNutritionStore.Builder()
+                .add(food("D001", "닭가슴살", "육류", 165, 31, 3.6, 0))
+                .add(food("D002", "현미밥", "밥류", 350, 7, 2.5, 75))
+                .add(food("D003", "연어 스테이크", "어류", 480, 40, 28, 2))
+                .add(food("D004", "소고기 덮밥", "밥류", 650, 32, 20, 80))
+                .add(food("D005", "두부 샐러드", "채소류", 210, 15, 11, 9))
+                .build();
+    }
+
+    @Test
+    @DisplayName("여러 영양성분 범위 조건을 한 번에 적용 (단백질 30 이상, 칼로리 500 이하)")
+    void multiPredicateFilter() {
+        double[] min = unbounded(Double.NEGATIVE_INFINITY);
+        double[] max = unbounded(Double.POSITIVE_INFINITY);
+        min[Nutrient.PROTEIN.ordinal()] = 30;
+        max[Nutrient.CALORIES.ordinal()] = 500;
+
+        int[] rows = store.filter(-1, min, max);
+
+        assertThat(store.toResponses(rows)).extracting(FoodResponseDto::getFoodCode)
+                .containsExactly("D001", "D003");
+    }
+
+    @Test
+    @DisplayName("분류 필터 + 단백질 내림차순 상위 k개")
+    void categoryAndTopK() {
+        int[] rows = store.filter(store.categoryId("밥류"),
+                unbounded(Double.NEGATIVE_INFINITY), unbounded(Double.POSITIVE_INFINITY));
+
+        int[] top = store.topK(rows, Nutrient.PROTEIN, true, 1);
+
+        assertThat(store.toResponses(top)).extracting(FoodResponseDto::getFoodCode).containsExactly("D004");
+        assertThat(store.categoryId("없는분류")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("topK 결과는 전체 정렬 결과의 앞부분과 같아야 함")
+    void topKMatchesFullSort() {
+        Random random = new Random(42);
+        FoodNutritionStore.Builder builder = new FoodNutritionStore.Builder();
+        for (int i = 0; i < 5000; i++) {
+            builder.add(food("C" + i, "음식" + i, "분류" + (i % 7), random.nextInt(1000), random.nextInt(100), 1, 1));
+        }
+        FoodNutritionStore large = builder.build();
+        int[] all = large.filter(-1, unbounded(Double.NEGATIVE_INFINITY), unbounded(Double.POSITIVE_INFINITY));
+        double[] calories = large.column(Nutrient.CALORIES);
+
+        int[] top = large.topK(all, Nutrient.CALORIES, false, 50);
+
+        double[] expected = Arrays.stream(all).mapToDouble(row -> calories[row]).sorted().limit(50).toArray();
+        assertThat(Arrays.stream(top).mapToDouble(row -> calories[row]).toArray()).containsExactly(expected);
+    }
+
+    private static double[] unbounded(double value) {
+        double[] values = new double[Nutrient.COUNT];
+        Arrays.fill(values, value);
+        return values;
+    }
+
+    private static Food food(String code, String name, String category,
+                             double calories, double protein, double fat, double carbohydrate) {
+        return Food.builder()
+                .foodCode(code)
+                .foodName(name)
+                .category(category)
+                .servingSize(100)
+                .unit("g")
+                .calories(calories)
+                .protein(protein)
+                .fat(fat)
+                .carbohydrate(carbohydrate)
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.pagoda.matchmeal.nutrition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NutrientDensityTest {
+
+    @Test
+    @DisplayName("1회 제공량 기준 값을 100g(ml)당 값으로 바꾼다")
+    void per100() {
+        assertThat(NutrientDensity.per100(60.0, 200.0, "g")).isEqualTo(30.0);
+        assertThat(NutrientDensity.per100(45.0, 250.0, "ml")).isEqualTo(18.0);
+    }
+
+    @Test
+    @DisplayName("개수 단위이거나 제공량이 0이면 100g당 값을 계산하지 않는다")
+    void per100_notMeasurable() {
+        assertThat(NutrientDensity.per100(300.0, 1.0, "인분")).isNull();
+        assertThat(NutrientDensity.per100(300.0, 0.0, "g")).isNull();
+    }
+
+    @Test
+    @DisplayName("100kcal당 단백질을 계산하고, 열량이 0이면 null")
+    void proteinPer100kcal() {
+        assertThat(NutrientDensity.proteinPer100kcal(25.0, 125.0)).isEqualTo(20.0);
+        assertThat(NutrientDensity.proteinPer100kcal(1.0, 0.0)).isNull();
+    }
+}
@@ -0,0 +1,83 @@
+package com.pagoda.matchmeal.nutrition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServingSizeNormalizerTest {
+
+    private final ServingSizeNormalizer normalizer = ServingSizeNormalizer.DEFAULT;
+
+    @ParameterizedTest(name = "[{index}] \"{0}\" -> {1}{2}")
+    @CsvSource(delimiter = '|', value = {
+            "100g        | 100.0  | g",
+            "100 G       | 100.0  | g",
+            "100grams    | 100.0  | g",
+            "1.5kg       | 1500.0 | g",
+            ".5kg        | 500.0  | g",
+            "'1,200g'    | 1200.0 | g",
+            "500mg       | 0.5    | g",
+            "250mL       | 250.0  | ml",
+            "1.5L        | 1500.0 | ml",
+            "30cc        | 30.0   | ml",
+            "1/2컵       | 100.0  | ml",
+            "½컵         | 100.0  | ml",
+            "3큰술       | 45.0   | ml",
+            "1개(50g)    | 50.0   | g",
+            "2인분       | 2.0    | 인분",
+            "1개         | 1.0    | 개",
+            "30          | 30.0   | g",
+            "1 large     | 1.0    | g"
+    })
+    @DisplayName("단위 별칭을 기준 단위(g, ml) 값으로 환산한다")
+    void normalize(String raw, double amount, String unit) {
+        // when
+        ServingSize result = normalizer.normalize(raw);
+
+        // then
+        assertThat(result.getAmount()).isEqualTo(amount);
+        assertThat(result.getUnit()).isEqualTo(unit);
+        assertThat(result.getText()).isEqualTo(raw.strip());
+    }
+
+    @ParameterizedTest(name = "[{index}] \"{0}\"")
+    @CsvSource(delimiter = '|', value = {"-", "N/A", "g", "컵"})
+    @DisplayName("숫자가 없으면 NaN과 기본 단위(g)를 돌려주고, 원본 표기는 유지한다")
+    void normalize_noNumber(String raw) {
+        ServingSize result = normalizer.normalize(raw);
+
+        assertThat(result.isParsed()).isFalse();
+        assertThat(result.getUnit()).isEqualTo("g");
+        assertThat(result.getText()).isEqualTo(raw);
+    }
+
+    @Test
+    @DisplayName("null이나 공백은 원본 표기도 null")
+    void normalize_blank() {
+        assertThat(normalizer.normalize(null).getText()).isNull();
+        assertThat(normalizer.normalize("  ").getText()).isNull();
+        assertThat(normalizer.normalize("  ").isParsed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("원본 표기는 컬럼 크기까지만 저장한다")
+    void normalize_longText() {
+        String raw = "100g" + "x".repeat(ServingSizeNormalizer.MAX_TEXT_LENGTH);
+
+        ServingSize result = normalizer.normalize(raw);
+
+        assertThat(result.getAmount()).isEqualTo(100.0);
+        assertThat(result.getText()).hasSize(ServingSizeNormalizer.MAX_TEXT_LENGTH);
+    }
+
+    @Test
+    @DisplayName("같은 별칭을 두 단위에 등록하면 생성 시점에 실패한다")
+    void duplicateAlias() {
+        assertThatThrownBy(() -> new ServingSizeNormalizer(ServingUnit.MILLILITER, ServingUnit.MILLILITER))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.pagoda.matchmeal.search;
+
+import com.pagoda.matchmeal.model.dto.FoodSearchResultDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FoodSearchIndexTest {
+
+    private FoodSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FoodSearchIndex.Builder()
+                .add("D001", "김치 찌개", "찌개 및 전골류")
+                .add("D002", "김치", "김치류")
+                .add("D003", "돼지고기 김치 볶음밥", "밥류")
+                .add("D004", "볶음 김치", "김치류")
+                .add("D005", "김밥", "밥류")
+                .add("D006", "치즈 김밥", "밥류")
+                .build();
+    }
+
+    @Test
+    @DisplayName("완전 일치 > 앞부분 일치 > 단어 시작 일치 순서로 정렬")
+    void ranking() {
+        List<FoodSearchResultDto> results = index.search("김치", null, 10);
+
+        assertThat(results).extracting(FoodSearchResultDto::getFoodCode)
+                .containsExactly("D002", "D001", "D004", "D003");
+    }
+
+    @Test
+    @DisplayName("띄어쓰기와 상관없이 검색 (n-gram)")
+    void ignoreWhitespace() {
+        assertThat(index.search("김치찌개", null, 10)).extracting(FoodSearchResultDto::getFoodCode)
+                .containsExactly("D001");
+        assertThat(index.search("치찌", null, 10)).extracting(FoodSearchResultDto::getFoodCode)
+                .containsExactly("D001");
+    }
+
+    @Test
+    @DisplayName("한 글자 검색과 카테고리 필터")
+    void singleCharacterWithCategory() {
+        List<FoodSearchResultDto> results = index.search("밥", "밥류", 10);
+
+        assertThat(results).extracting(FoodSearchResultDto::getFoodCode)
+                .containsExactlyInAnyOrder("D003", "D005", "D006");
+        assertThat(index.search("밥", "없는분류", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("n-gram은 모두 있지만 이어지지 않은 이름은 제외")
+    void bigramsMustBeContiguous() {
+        // "김밥치즈"의 bigram(김밥, 밥치, 치즈) 중 "밥치"는 어디에도 없음
+        assertThat(index.search("김밥치즈", null, 10)).isEmpty();
+        // "치즈김밥" -> D006만
+        assertThat(index.search("치즈김밥", null, 10)).extracting(FoodSearchResultDto::getFoodCode)
+                .containsExactly("D006");
+    }
+
+    @Test
+    @DisplayName("결과 수 제한과 빈 검색어")
+    void limitAndBlank() {
+        assertThat(index.search("김", null, 2)).hasSize(2);
+        assertThat(index.search("  ", null, 10)).isEmpty();
+        assertThat(FoodSearchIndex.EMPTY.search("김치", null, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,114 @@
+package com.pagoda.matchmeal.service;
+
+import com.pagoda.matchmeal.common.exception.CustomException;
+import com.pagoda.matchmeal.common.exception.ErrorResponseCode;
+import com.pagoda.matchmeal.feed.FoodChange;
+import com.pagoda.matchmeal.feed.FoodChangeBatch;
+import com.pagoda.matchmeal.feed.FoodChangeStream;
+import com.pagoda.matchmeal.feed.InMemoryFoodChangeStream;
+import com.pagoda.matchmeal.model.dto.FoodChangePageDto;
+import com.pagoda.matchmeal.model.entity.FoodChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FoodChangeFeedServiceTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private final ApplicationEventPublisher eventPublisher = events::add;
+    private InMemoryFoodChangeStream changeStream;
+    private FoodChangeFeedService foodChangeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        changeStream = new InMemoryFoodChangeStream();
+        foodChangeFeedService = new FoodChangeFeedService(changeStream, eventPublisher);
+        ReflectionTestUtils.setField(foodChangeFeedService, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("변경 기록을 batch-size개씩 묶어서 스트림과 이벤트로 발행")
+    void publish() {
+        foodChangeFeedService.publish(changes(5));
+
+        assertThat(changeStream.size()).isEqualTo(3);
+        assertThat(events).hasSize(3);
+        FoodChangeBatch last = (FoodChangeBatch) events.get(2);
+        assertThat(last.getOffset()).isEqualTo("3-0");
+        assertThat(last.foodCodes()).containsExactly("D000005");
+    }
+
+    @Test
+    @DisplayName("nextOffset으로 이어서 읽고, 새 변경이 없으면 같은 offset을 돌려줌")
+    void resume() {
+        foodChangeFeedService.publish(changes(5));
+
+        FoodChangePageDto first = foodChangeFeedService.read(null, 2);
+        FoodChangePageDto second = foodChangeFeedService.read(first.getNextOffset(), 2);
+        FoodChangePageDto empty = foodChangeFeedService.read(second.getNextOffset(), 2);
+
+        assertThat(first.getBatches()).extracting(FoodChangeBatch::getOffset).containsExactly("1-0", "2-0");
+        assertThat(second.getBatches()).extracting(FoodChangeBatch::getOffset).containsExactly("3-0");
+        assertThat(empty.getBatches()).isEmpty();
+        assertThat(empty.getNextOffset()).isEqualTo("3-0");
+    }
+
+    @Test
+    @DisplayName("after 다음 항목이 지워졌으면 reset=true, after까지만 지워졌으면 reset=false")
+    void resetWhenTrimmed() {
+        foodChangeFeedService.publish(changes(10)); // 묶음 5개 (1-0 ~ 5-0)
+        FoodChangePageDto beforeTrim = foodChangeFeedService.read("2-0", 10);
+        changeStream.trim(2); // 4-0, 5-0만 남음
+
+        FoodChangePageDto trimmed = foodChangeFeedService.read("2-0", 10);
+        FoodChangePageDto fromStart = foodChangeFeedService.read(null, 10);
+        FoodChangePageDto retained = foodChangeFeedService.read("4-0", 10);
+        FoodChangePageDto trimmedCursor = foodChangeFeedService.read("3-0", 10); // 3-0 자신만 지워지고 다음 항목은 남음
+
+        assertThat(beforeTrim.isReset()).isFalse();
+        assertThat(trimmed.isReset()).isTrue();
+        assertThat(trimmed.getBatches()).extracting(FoodChangeBatch::getOffset).containsExactly("4-0", "5-0");
+        assertThat(fromStart.isReset()).isFalse();
+        assertThat(retained.isReset()).isFalse();
+        assertThat(trimmedCursor.isReset()).isFalse();
+        assertThat(trimmedCursor.getBatches()).extracting(FoodChangeBatch::getOffset).containsExactly("4-0", "5-0");
+        assertThat(FoodChangeStream.compareOffsets("1700000000000-10", "1700000000000-9")).isPositive();
+        assertThat(FoodChangeStream.compareOffsets("1700000000000", "1700000000000-0")).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 offset은 INVALID_CURSOR, 스트림 장애는 FOOD_CHANGE_FEED_UNAVAILABLE")
+    void readErrors() {
+        assertThatThrownBy(() -> foodChangeFeedService.read("abc", null))
+                .isInstanceOf(CustomException.class)
+                .extracting("code").isEqualTo(ErrorResponseCode.INVALID_CURSOR);
+
+        FoodChangeStream broken = mock(FoodChangeStream.class);
+        when(broken.read(anyString(), anyInt())).thenThrow(new QueryTimeoutException("redis down"));
+        FoodChangeFeedService service = new FoodChangeFeedService(broken, eventPublisher);
+
+        assertThatThrownBy(() -> service.read(FoodChangeStream.START_OFFSET, null))
+                .isInstanceOf(CustomException.class)
+                .extracting("code").isEqualTo(ErrorResponseCode.FOOD_CHANGE_FEED_UNAVAILABLE);
+    }
+
+    private static List<FoodChange> changes(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> new FoodChange(FoodChangeType.INSERT, String.format("D%06d", i), FoodChange.FIELDS))
+                .toList();
+    }
+}
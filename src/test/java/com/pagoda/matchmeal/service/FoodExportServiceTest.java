@@ -0,0 +1,99 @@
+package com.pagoda.matchmeal.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pagoda.matchmeal.mapper.FoodMapper;
+import com.pagoda.matchmeal.model.dto.FoodCatalogVersionDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FoodExportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private FoodMapper foodMapper;
+    private FoodExportService foodExportService;
+
+    @BeforeEach
+    void setUp() {
+        foodMapper = mock(FoodMapper.class);
+        foodExportService = new FoodExportService(foodMapper, objectMapper);
+    }
+
+    @Test
+    @DisplayName("행마다 JSON 한 줄씩 NDJSON으로 씀")
+    void exportNdjson() throws Exception {
+        stream(food("D000001", "김치"), food("D000002", "밥"), food("D000003", "된장\n국"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = foodExportService.export(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("foodCode").asText()).isEqualTo("D000001");
+        assertThat(first.get("calories").asDouble()).isEqualTo(30.0);
+        // 값 안의 개행은 이스케이프되어 한 줄을 유지
+        assertThat(objectMapper.readTree(lines[2]).get("foodName").asText()).isEqualTo("된장\n국");
+    }
+
+    @Test
+    @DisplayName("ETag는 건수와 마지막 변경 시각으로 만들고, 갱신 전까지 유지")
+    void etag() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(foodMapper.findCatalogVersion()).thenReturn(new FoodCatalogVersionDto(3, updatedAt));
+        String first = foodExportService.getEtag();
+
+        when(foodMapper.findCatalogVersion()).thenReturn(new FoodCatalogVersionDto(4, updatedAt.plusSeconds(1)));
+        assertThat(foodExportService.getEtag()).isEqualTo(first);
+        assertThat(foodExportService.refreshEtag()).isNotEqualTo(first);
+        assertThat(first).startsWith("W/\"3-").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("데이터가 없으면 빈 응답과 0 기준 ETag")
+    void empty() throws Exception {
+        stream();
+        when(foodMapper.findCatalogVersion()).thenReturn(new FoodCatalogVersionDto(0, null));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(foodExportService.export(out)).isZero();
+        assertThat(out.size()).isZero();
+        assertThat(foodExportService.getEtag()).isEqualTo("W/\"0-0\"");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stream(Food... foods) {
+        doAnswer(invocation -> {
+            ResultHandler<Food> handler = invocation.getArgument(0);
+            DefaultResultContext<Food> context = new DefaultResultContext<>();
+            for (Food food : foods) {
+                context.nextResultObject(food);
+                handler.handleResult(context);
+                if (context.isStopped()) {
+                    break;
+                }
+            }
+            return null;
+        }).when(foodMapper).streamAll(any(ResultHandler.class));
+    }
+
+    private static Food food(String code, String name) {
+        return Food.builder().foodCode(code).foodName(name).category("반찬").unit("g").calories(30.0).build();
+    }
+}
@@ -0,0 +1,218 @@
+package com.pagoda.matchmeal.service;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.pagoda.matchmeal.batch.event.FoodImportCompletedEvent;
+import com.pagoda.matchmeal.cache.InMemoryFoodRemoteCache;
+import com.pagoda.matchmeal.cache.SingleFlightCache;
+import com.pagoda.matchmeal.common.exception.CustomException;
+import com.pagoda.matchmeal.common.exception.ErrorResponseCode;
+import com.pagoda.matchmeal.cache.FoodCacheCodec;
+import com.pagoda.matchmeal.mapper.FoodMapper;
+import com.pagoda.matchmeal.model.dto.FoodLookupResultDto;
+import com.pagoda.matchmeal.model.dto.FoodResponseDto;
+import com.pagoda.matchmeal.model.entity.Food;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FoodLookupServiceTest {
+
+    private static final String CODE = "D000001";
+
+    private FoodMapper foodMapper;
+    private InMemoryFoodRemoteCache remoteCache;
+    private FoodLookupService foodLookupService;
+
+    @BeforeEach
+    void setUp() {
+        foodMapper = mock(FoodMapper.class);
+        remoteCache = new InMemoryFoodRemoteCache();
+        foodLookupService = new FoodLookupService(foodMapper, localCache(), remoteCache);
+        when(foodMapper.findByFoodCode(CODE)).thenReturn(Food.builder().foodCode(CODE).foodName("김치").calories(30.0).build());
+    }
+
+    @Test
+    @DisplayName("첫 조회만 DB로 가고, 이후에는 로컬 캐시에서 응답")
+    void readThrough() {
+        FoodResponseDto first = foodLookupService.getFood(CODE);
+        FoodResponseDto second = foodLookupService.getFood(CODE);
+
+        assertThat(second).isSameAs(first);
+        assertThat(remoteCache.contains(CODE)).isTrue();
+        assertThat(remoteCache.getCount()).isEqualTo(1);
+        verify(foodMapper, times(1)).findByFoodCode(CODE);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없으면 Redis에서 읽고 DB는 조회하지 않음")
+    void remoteHit() {
+        foodLookupService.getFood(CODE);
+        FoodLookupService otherServer = new FoodLookupService(foodMapper, localCache(), remoteCache);
+
+        FoodResponseDto food = otherServer.getFood(CODE);
+
+        assertThat(food.getFoodName()).isEqualTo("김치");
+        verify(foodMapper, times(1)).findByFoodCode(CODE);
+    }
+
+    @Test
+    @DisplayName("무효화하면 두 캐시에서 모두 지워지고 다음 조회는 DB로 감")
+    void invalidate() {
+        foodLookupService.getFood(CODE);
+
+        foodLookupService.invalidate(List.of(CODE));
+        foodLookupService.getFood(CODE);
+
+        verify(foodMapper, times(2)).findByFoodCode(CODE);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 변경은 로컬 캐시에서만 지우고, Job이 끝나면 로컬 캐시를 모두 비움")
+    void evictLocal() {
+        foodLookupService.getFood(CODE);
+
+        foodLookupService.evictLocal(List.of(CODE));
+        foodLookupService.getFood(CODE); // Redis에서 다시 읽음
+        foodLookupService.onFoodImportCompleted(new FoodImportCompletedEvent("foodJob", BatchStatus.COMPLETED));
+        foodLookupService.getFood(CODE);
+
+        assertThat(remoteCache.getCount()).isEqualTo(3);
+        verify(foodMapper, times(1)).findByFoodCode(CODE);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 DB에서 조회")
+    void remoteUnavailable() {
+        remoteCache.setAvailable(false);
+
+        assertThat(foodLookupService.getFood(CODE).getFoodCode()).isEqualTo(CODE);
+    }
+
+    @Test
+    @DisplayName("없는 코드는 FOOD_NOT_FOUND")
+    void notFound() {
+        assertThatThrownBy(() -> foodLookupService.getFood("NONE"))
+                .isInstanceOf(CustomException.class)
+                .extracting("code")
+                .isEqualTo(ErrorResponseCode.FOOD_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("여러 건 조회: 로컬 -> Redis MGET -> DB IN 쿼리 순서로 한 번씩만 조회하고, 요청 순서대로 응답")
+    void getFoods() {
+        foodLookupService.getFood(CODE); // 로컬 캐시에 있음
+        remoteCache.put("D000002", FoodCacheCodec.encode(FoodResponseDto.builder().foodCode("D000002").foodName("밥").build()));
+        when(foodMapper.findByFoodCodes(List.of("NONE", "D000003")))
+                .thenReturn(List.of(Food.builder().foodCode("D000003").foodName("된장국").build()));
+
+        List<FoodLookupResultDto> results = foodLookupService.getFoods(List.of("NONE", "D000003", CODE, "D000002", CODE));
+
+        assertThat(results)
+                .extracting(FoodLookupResultDto::getFoodCode, FoodLookupResultDto::isFound)
+                .containsExactly(
+                        tuple("NONE", false),
+                        tuple("D000003", true),
+                        tuple(CODE, true),
+                        tuple("D000002", true),
+                        tuple(CODE, true));
+        assertThat(results.get(1).getFood().getFoodName()).isEqualTo("된장국");
+        assertThat(results.get(0).getFood()).isNull();
+        assertThat(remoteCache.getMultiGetCount()).isEqualTo(1);
+        assertThat(remoteCache.contains("D000003")).isTrue();
+        verify(foodMapper, times(1)).findByFoodCodes(any());
+    }
+
+    @Test
+    @DisplayName("여러 건 조회: 모두 캐시에 있으면 DB는 조회하지 않음")
+    void getFoods_allCached() {
+        when(foodMapper.findByFoodCodes(List.of(CODE)))
+                .thenReturn(List.of(Food.builder().foodCode(CODE).foodName("김치").build()));
+        foodLookupService.getFoods(List.of(CODE));
+
+        List<FoodLookupResultDto> results = foodLookupService.getFoods(List.of(CODE, CODE));
+
+        assertThat(results).hasSize(2).allMatch(FoodLookupResultDto::isFound);
+        assertThat(remoteCache.getMultiGetCount()).isEqualTo(1); // 두 번째 조회는 로컬 캐시에서 끝남
+        verify(foodMapper, times(1)).findByFoodCodes(any());
+        verify(foodMapper, never()).findByFoodCode(CODE);
+    }
+
+    @Test
+    @DisplayName("여러 건 조회: DB를 읽는 동안 무효화된 코드는 두 캐시에 넣지 않음")
+    void getFoods_invalidatedDuringLoad() {
+        when(foodMapper.findByFoodCodes(List.of(CODE))).thenAnswer(invocation -> {
+            foodLookupService.invalidate(List.of(CODE)); // 배치가 커밋하고 캐시를 지움
+            return List.of(Food.builder().foodCode(CODE).foodName("바뀌기 전").build());
+        });
+
+        List<FoodLookupResultDto> results = foodLookupService.getFoods(List.of(CODE));
+
+        assertThat(results.get(0).getFood().getFoodName()).isEqualTo("바뀌기 전");
+        assertThat(remoteCache.contains(CODE)).isFalse();
+        assertThat(foodLookupService.getFood(CODE).getFoodName()).isEqualTo("김치"); // 로컬 캐시에도 없어서 다시 읽음
+    }
+
+    @Test
+    @DisplayName("한 건 조회: DB를 읽는 동안 무효화되면 두 캐시에 넣지 않음")
+    void getFood_invalidatedDuringLoad() {
+        when(foodMapper.findByFoodCode(CODE))
+                .thenAnswer(invocation -> {
+                    foodLookupService.invalidate(List.of(CODE)); // 배치가 커밋하고 캐시를 지움
+                    return Food.builder().foodCode(CODE).foodName("바뀌기 전").build();
+                })
+                .thenReturn(Food.builder().foodCode(CODE).foodName("김치").build());
+
+        assertThat(foodLookupService.getFood(CODE).getFoodName()).isEqualTo("바뀌기 전");
+        assertThat(remoteCache.contains(CODE)).isFalse();
+        assertThat(foodLookupService.getFood(CODE).getFoodName()).isEqualTo("김치"); // 로컬 캐시에도 없어서 다시 읽음
+        assertThat(remoteCache.contains(CODE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("한 건 조회: Redis에 쓰는 사이에 무효화되면 방금 쓴 값을 다시 지움")
+    void getFood_invalidatedDuringRemotePut() {
+        InMemoryFoodRemoteCache racingCache = new InMemoryFoodRemoteCache() {
+            @Override
+            public void put(String foodCode, byte[] value) {
+                super.put(foodCode, value);
+                foodLookupService.evictLocal(List.of(foodCode)); // 쓰자마자 다른 스레드가 무효화
+            }
+        };
+        remoteCache = racingCache;
+        foodLookupService = new FoodLookupService(foodMapper, localCache(), racingCache);
+
+        foodLookupService.getFood(CODE);
+
+        assertThat(racingCache.contains(CODE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 건 조회: 100개를 넘으면 TOO_MANY_FOOD_CODES")
+    void getFoods_tooMany() {
+        List<String> codes = Collections.nCopies(FoodLookupService.MAX_BULK_SIZE + 1, CODE);
+
+        assertThatThrownBy(() -> foodLookupService.getFoods(codes))
+                .isInstanceOf(CustomException.class)
+                .extracting("code")
+                .isEqualTo(ErrorResponseCode.TOO_MANY_FOOD_CODES);
+    }
+
+    private static SingleFlightCache<String, FoodResponseDto> localCache() {
+        return new SingleFlightCache<>(100, Duration.ofMinutes(10), Duration.ofMinutes(5), 0, Runnable::run, Ticker.systemTicker());
+    }
+}
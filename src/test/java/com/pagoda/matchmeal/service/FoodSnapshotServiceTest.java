@@ -0,0 +1,126 @@
+package com.pagoda.matchmeal.service;
+
+import com.pagoda.matchmeal.batch.event.FoodImportCompletedEvent;
+import com.pagoda.matchmeal.common.exception.CustomException;
+import com.pagoda.matchmeal.common.exception.ErrorResponseCode;
+import com.pagoda.matchmeal.snapshot.FoodCatalogSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class FoodSnapshotServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicReference<String> catalog = new AtomicReference<>();
+    private FoodSnapshotService foodSnapshotService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        FoodExportService foodExportService = mock(FoodExportService.class);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            String content = catalog.get();
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+            return content.lines().count();
+        }).when(foodExportService).export(any(OutputStream.class));
+
+        foodSnapshotService = new FoodSnapshotService(foodExportService);
+        ReflectionTestUtils.setField(foodSnapshotService, "snapshotDir", tempDir.toString());
+    }
+
+    @Test
+    @DisplayName("카탈로그를 gzip 파일로 만들고, 파일 이름과 ETag에 내용 해시를 사용")
+    void publish() throws Exception {
+        catalog.set("{\"foodCode\":\"D000001\"}\n{\"foodCode\":\"D000002\"}\n");
+
+        FoodCatalogSnapshot snapshot = foodSnapshotService.publish();
+
+        assertThat(snapshot.getFoodCount()).isEqualTo(2);
+        assertThat(snapshot.getPath().getFileName().toString()).isEqualTo(snapshot.getFileName());
+        assertThat(snapshot.getEtag()).isEqualTo("\"" + snapshot.getVersion() + "\"");
+        assertThat(snapshot.getSize()).isEqualTo(Files.size(snapshot.getPath()));
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(snapshot.getPath()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(catalog.get());
+        }
+        assertThat(foodSnapshotService.getSnapshot()).isSameAs(snapshot);
+    }
+
+    @Test
+    @DisplayName("내용이 같으면 기존 스냅샷을 그대로 사용")
+    void unchanged() {
+        catalog.set("{\"foodCode\":\"D000001\"}\n");
+        FoodCatalogSnapshot first = foodSnapshotService.publish();
+
+        FoodCatalogSnapshot second = foodSnapshotService.publish();
+
+        assertThat(second).isSameAs(first);
+        assertThat(snapshotFiles()).containsExactly(first.getFileName());
+    }
+
+    @Test
+    @DisplayName("직전 스냅샷까지만 남기고 그 이전 파일은 삭제")
+    void keepPrevious() {
+        catalog.set("{\"foodCode\":\"D000001\"}\n");
+        FoodCatalogSnapshot first = foodSnapshotService.publish();
+        catalog.set("{\"foodCode\":\"D000002\"}\n");
+        FoodCatalogSnapshot second = foodSnapshotService.publish();
+        catalog.set("{\"foodCode\":\"D000003\"}\n");
+        FoodCatalogSnapshot third = foodSnapshotService.publish();
+
+        assertThat(third.getVersion()).isNotEqualTo(second.getVersion());
+        assertThat(snapshotFiles()).containsExactlyInAnyOrder(second.getFileName(), third.getFileName());
+        assertThat(Files.exists(first.getPath())).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공한 Job이 끝났을 때만 새 스냅샷을 만들고, 실패/중단된 Job은 기존 스냅샷을 유지")
+    void publishOnlyAfterCompletedJob() {
+        catalog.set("{\"foodCode\":\"D000001\"}\n");
+        FoodCatalogSnapshot first = foodSnapshotService.publish();
+
+        catalog.set("{\"foodCode\":\"D000002\"}\n"); // 일부만 반영된 상태
+        foodSnapshotService.onFoodImportCompleted(new FoodImportCompletedEvent("foodJob", BatchStatus.FAILED));
+        foodSnapshotService.onFoodImportCompleted(new FoodImportCompletedEvent("foodJob", BatchStatus.STOPPED));
+        assertThat(foodSnapshotService.getSnapshot()).isSameAs(first);
+
+        foodSnapshotService.onFoodImportCompleted(new FoodImportCompletedEvent("foodJob", BatchStatus.COMPLETED));
+        assertThat(foodSnapshotService.getSnapshot().getVersion()).isNotEqualTo(first.getVersion());
+    }
+
+    @Test
+    @DisplayName("스냅샷을 만들기 전에는 FOOD_SNAPSHOT_NOT_READY")
+    void notReady() {
+        assertThatThrownBy(() -> foodSnapshotService.getSnapshot())
+                .isInstanceOf(CustomException.class)
+                .extracting("code")
+                .isEqualTo(ErrorResponseCode.FOOD_SNAPSHOT_NOT_READY);
+    }
+
+    private String[] snapshotFiles() {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.map(file -> file.getFileName().toString()).toArray(String[]::new);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}